@@ -0,0 +1,73 @@
+package com.elbonian.babylon.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Enterprise Vector API Kernels for Non-Uniform Distributions.
+ *
+ * <p>Same transforms as {@link ScalarNonUniformDistributionKernelsForBulkTransforms}, but
+ * processing a whole SIMD register of lanes per step with the incubator Vector API
+ * ({@code LOG}, {@code SQRT}, {@code SIN} and {@code COS} lane-wise operations). The
+ * remaining tail that does not fill a register is finished with scalar code.</p>
+ *
+ * <p>Only instantiated reflectively by {@link NonUniformDistributionEngineForSimulationWorkloads}
+ * after it has checked that {@code jdk.incubator.vector} is in the boot layer, so this class
+ * is never loaded on a JVM without the module.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for bringing SIMD to the enterprise! 🏎️
+ */
+final class VectorizedNonUniformDistributionKernelsForBulkTransforms implements NonUniformDistributionKernelsForBulkTransforms {
+
+    private static final VectorSpecies<Double> THE_PREFERRED_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Override
+    public void doTheThingWhereWeApplyTheBoxMullerTransform(double[] values, int pairs,
+                                                            double mean, double standardDeviation) {
+        int theVectorizedPairs = THE_PREFERRED_SPECIES.loopBound(pairs);
+        for (int i = 0; i < theVectorizedPairs; i += THE_PREFERRED_SPECIES.length()) {
+            DoubleVector radius = DoubleVector.fromArray(THE_PREFERRED_SPECIES, values, i)
+                    .lanewise(VectorOperators.LOG)
+                    .mul(-2)
+                    .lanewise(VectorOperators.SQRT)
+                    .mul(standardDeviation);
+            DoubleVector angle = DoubleVector.fromArray(THE_PREFERRED_SPECIES, values, i + pairs).mul(TWO_PI);
+            radius.mul(angle.lanewise(VectorOperators.COS)).add(mean).intoArray(values, i);
+            radius.mul(angle.lanewise(VectorOperators.SIN)).add(mean).intoArray(values, i + pairs);
+        }
+        for (int i = theVectorizedPairs; i < pairs; i++) {
+            double radius = standardDeviation * Math.sqrt(-2 * Math.log(values[i]));
+            double angle = TWO_PI * values[i + pairs];
+            values[i] = mean + radius * Math.cos(angle);
+            values[i + pairs] = mean + radius * Math.sin(angle);
+        }
+    }
+
+    @Override
+    public void doTheThingWhereWeApplyTheExponentialTransform(double[] values, int count, double scale) {
+        int theVectorizedCount = THE_PREFERRED_SPECIES.loopBound(count);
+        double theNegativeScale = -scale;
+        for (int i = 0; i < theVectorizedCount; i += THE_PREFERRED_SPECIES.length()) {
+            DoubleVector.fromArray(THE_PREFERRED_SPECIES, values, i)
+                    .lanewise(VectorOperators.LOG)
+                    .mul(theNegativeScale)
+                    .intoArray(values, i);
+        }
+        for (int i = theVectorizedCount; i < count; i++) {
+            values[i] = -Math.log(values[i]) * scale;
+        }
+    }
+
+    @Override
+    public String makeItWorkByDescribingTheKernel() {
+        return "vector (" + THE_PREFERRED_SPECIES.vectorBitSize() + "-bit, "
+                + THE_PREFERRED_SPECIES.length() + " doubles per lane group)";
+    }
+}
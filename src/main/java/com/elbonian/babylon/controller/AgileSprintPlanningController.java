@@ -1,18 +1,44 @@
 package com.elbonian.babylon.controller;
 
+import com.elbonian.babylon.model.UserStoryChangeFeedPageForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryCriticalPathForDependencyPlanning;
+import com.elbonian.babylon.model.UserStoryCycleTimeReportForAgileAnalytics;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import com.elbonian.babylon.model.UserStoryImportReportForBacklogMigration;
+import com.elbonian.babylon.model.UserStoryPageForCursorPagination;
+import com.elbonian.babylon.model.UserStorySearchResultsForFullTextSearch;
+import com.elbonian.babylon.model.UserStorySprintBurndownForAgileAnalytics;
 import com.elbonian.babylon.service.AgileSprintPlanningService;
+import com.elbonian.babylon.service.BacklogChangeFeedForKanbanBoards;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.MonteCarloSprintForecastEngineForCapacityPlanning;
+import com.elbonian.babylon.service.RollingVelocityStatisticsForCapacityPlanning;
+import com.elbonian.babylon.service.StreamingUserStoryImportParserForBacklogMigration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Enterprise REST Controller for Agile Sprint Planning and Scrum Ceremony Management.
@@ -40,12 +66,22 @@ import java.util.Map;
  * <p><strong>REST API ENDPOINTS:</strong></p>
  * <ul>
  *   <li>POST /api/agile/stories - Create new user story</li>
- *   <li>GET /api/agile/stories - Get all user stories</li>
+ *   <li>POST /api/agile/stories/import - Bulk import stories from NDJSON or CSV</li>
+ *   <li>GET /api/agile/stories - Get all user stories (or one cursor page: cursor, limit, fields, status, priority)</li>
+ *   <li>GET /api/agile/stories/search - Full-text search of the stories, best match first (q, limit)</li>
  *   <li>GET /api/agile/stories/sprint/{number} - Get stories for specific sprint</li>
  *   <li>PUT /api/agile/stories/{id}/status - Update story workflow status</li>
  *   <li>PUT /api/agile/stories/{id}/block - Mark story as blocked</li>
- *   <li>GET /api/agile/velocity - Calculate team velocity</li>
+ *   <li>PUT /api/agile/stories/{id}/blocked-by/{blockingId} - Make a story wait for another one</li>
+ *   <li>DELETE /api/agile/stories/{id}/blocked-by/{blockingId} - Stop a story waiting for another one</li>
+ *   <li>PUT /api/agile/stories/{id}/rank - Drag a story to just after another of its priority (after), or to the top</li>
+ *   <li>GET /api/agile/critical-path - Longest chain of unfinished stories waiting on each other</li>
+ *   <li>GET /api/agile/velocity - Calculate team velocity (mean, spread, min/max, percentiles)</li>
  *   <li>POST /api/agile/planning - Simulate sprint planning ceremony</li>
+ *   <li>GET /api/agile/forecast - Monte Carlo forecast of when the backlog is done</li>
+ *   <li>GET /api/agile/analytics/burndown - Remaining story points of a sprint, day by day (sprint)</li>
+ *   <li>GET /api/agile/analytics/cycle-time - Cycle time percentiles of DONE stories per group (groupBy)</li>
+ *   <li>GET /api/agile/changes - Change feed for Kanban boards (long-poll, or SSE with Accept: text/event-stream)</li>
  *   <li>GET /api/agile/standup - Simulate daily standup meeting</li>
  *   <li>GET /api/agile/excuse - Get random blockage excuse for standup</li>
  * </ul>
@@ -72,7 +108,23 @@ import java.util.Map;
 @Slf4j
 public class AgileSprintPlanningController {
 
+    /** Page size when a client pages without asking for one. */
+    static final int THE_DEFAULT_NUMBER_OF_STORIES_PER_PAGE = 50;
+
+    /** Largest page a client may ask for. */
+    static final int THE_MAXIMUM_NUMBER_OF_STORIES_PER_PAGE = 500;
+
+    /** How long a change feed long-poll waits when the client doesn't say. */
+    static final int THE_DEFAULT_LONG_POLL_WAIT_IN_SECONDS = 25;
+
+    /** Longest a change feed long-poll may wait, below common proxy idle timeouts. */
+    static final int THE_MAXIMUM_LONG_POLL_WAIT_IN_SECONDS = 60;
+
+    /** How long a change feed event stream stays open before the client has to reconnect. */
+    static final long THE_LIFETIME_OF_A_CHANGE_STREAM_IN_MILLISECONDS = 60 * 60 * 1000L;
+
     private final AgileSprintPlanningService agileSprintPlanningService;
+    private final UserStoryFieldProjectionForLeanListing userStoryFieldProjectionForLeanListing;
 
     /**
      * Creates a new user story and adds it to the product backlog.
@@ -134,23 +186,174 @@ public class AgileSprintPlanningController {
     }
 
     /**
-     * Retrieves all user stories from the backlog.
+     * Imports stories in bulk from the old tracker's export.
+     *
+     * <p>The body is either newline-delimited JSON, one story per line with the same fields as
+     * {@code POST /api/agile/stories}, or CSV with a header row naming those fields. It is read
+     * as a stream, so uploads of any size are fine. Lines that can't be imported are reported
+     * (the first 100 of them) and skipped; everything else is imported.</p>
+     * <pre>
+     * POST /api/agile/stories/import
+     * Content-Type: text/csv
+     *
+     * title,asAUser,iWantTo,soThat,storyPoints,priority,acceptanceCriteria
+     * "Synergize, then leverage",As a VP,a dashboard,I look busy,8,HIGH,It has charts
+     * Broken row,As a VP,a dashboard,I look busy,eight,HIGH,It has charts
+     *
+     * {
+     *   "recordsRead": 2,
+     *   "storiesImported": 1,
+     *   "errorCount": 1,
+     *   "errors": [{"line": 3, "message": "storyPoints is not a whole number: eight"}],
+     *   "elapsedMilliseconds": 4
+     * }
+     * </pre>
+     *
+     * @param contentType {@code application/x-ndjson} or {@code text/csv}, optionally with a charset (default UTF-8)
+     * @param upload The request body
+     * @return ResponseEntity with the import report
+     * @throws IOException if the upload can't be read
+     */
+    @PostMapping(value = "/stories/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<UserStoryImportReportForBacklogMigration> doTheThingWhereWeImportUserStoriesViaRestApi(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream upload) throws IOException {
+
+        MediaType uploadType = MediaType.parseMediaType(contentType);
+        StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration format =
+                uploadType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                        ? StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration.CSV
+                        : StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration.NDJSON;
+        Charset charset = uploadType.getCharset() != null ? uploadType.getCharset() : StandardCharsets.UTF_8;
+        log.info("📦 Received bulk story import as {}", format);
+
+        UserStoryImportReportForBacklogMigration report = agileSprintPlanningService
+                .doTheThingWhereWeImportStoriesIntoTheBacklog(
+                        new BufferedReader(new InputStreamReader(upload, charset)), format);
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Retrieves all user stories from the backlog, or one page of them.
      *
-     * <p>This endpoint returns the complete product backlog including stories in all
-     * workflow states across all sprints. Useful for backlog refinement sessions and
-     * generating reports for stakeholders.</p>
+     * <p>Without parameters this endpoint returns the complete product backlog including
+     * stories in all workflow states across all sprints. Useful for backlog refinement
+     * sessions and generating reports for stakeholders.</p>
+     *
+     * <p>As soon as any paging parameter is given, it returns one page instead, ordered by
+     * story ID, whose size doesn't grow with the backlog:</p>
+     * <pre>
+     * GET /api/agile/stories?limit=2&amp;status=READY&amp;fields=userStoryIdentificationNumberForTrackingPurposes,currentStatus
+     *
+     * {
+     *   "stories": [
+     *     {"userStoryIdentificationNumberForTrackingPurposes": 3, "currentStatus": "READY"},
+     *     {"userStoryIdentificationNumberForTrackingPurposes": 7, "currentStatus": "READY"}
+     *   ],
+     *   "nextCursor": 7,
+     *   "limit": 2
+     * }
+     * </pre>
      *
-     * @return ResponseEntity with list of all user stories
+     * @param cursor {@code nextCursor} from the previous page
+     * @param limit Stories per page (1-500, default 50)
+     * @param fields Comma-separated JSON field names to return (default: all)
+     * @param status Only stories in this workflow status
+     * @param priority Only stories with this priority level
+     * @return ResponseEntity with all stories, or with one page; 400 for an invalid parameter
      */
     @GetMapping("/stories")
-    public ResponseEntity<List<UserStoryForAgileSprintPlanning>> doTheThingWhereWeGetAllUserStoriesViaRestApi() {
-        log.info("📋 Fetching all user stories from backlog");
+    public ResponseEntity<?> doTheThingWhereWeGetAllUserStoriesViaRestApi(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority) {
 
-        List<UserStoryForAgileSprintPlanning> allStories = agileSprintPlanningService
-                .doTheThingWhereWeGetAllUserStoriesFromBacklog();
+        if (cursor == null && limit == null && fields == null && status == null && priority == null) {
+            log.info("📋 Fetching all user stories from backlog");
 
-        log.info("✅ Retrieved {} user stories", allStories.size());
-        return ResponseEntity.ok(allStories);
+            List<UserStoryForAgileSprintPlanning> allStories = agileSprintPlanningService
+                    .doTheThingWhereWeGetAllUserStoriesFromBacklog();
+
+            log.info("✅ Retrieved {} user stories", allStories.size());
+            return ResponseEntity.ok(allStories);
+        }
+
+        int pageSize = limit == null ? THE_DEFAULT_NUMBER_OF_STORIES_PER_PAGE : limit;
+        if (pageSize < 1 || pageSize > THE_MAXIMUM_NUMBER_OF_STORIES_PER_PAGE || (cursor != null && cursor < 0)) {
+            log.warn("❌ Invalid page request: cursor {}, limit {}", cursor, limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        UserStoryPageForCursorPagination page;
+        List<String> requestedFields;
+        try {
+            requestedFields = fields == null ? null
+                    : userStoryFieldProjectionForLeanListing.doTheThingWhereWeParseTheRequestedFields(fields);
+            page = agileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(cursor, pageSize,
+                    status == null ? null : StoryStatusForWorkflowTracking.valueOf(status),
+                    priority == null ? null : PriorityLevelForBacklogManagement.valueOf(priority));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("✅ Retrieved a page of {} user stories (next cursor: {})", page.getStories().size(), page.getNextCursor());
+        if (requestedFields == null) {
+            return ResponseEntity.ok(page);
+        }
+
+        List<Map<String, Object>> projectedStories = new ArrayList<>(page.getStories().size());
+        for (UserStoryForAgileSprintPlanning story : page.getStories()) {
+            projectedStories.add(userStoryFieldProjectionForLeanListing.makeItWorkByProjectingTheStory(story, requestedFields));
+        }
+        Map<String, Object> projectedPage = new LinkedHashMap<>();
+        projectedPage.put("stories", projectedStories);
+        projectedPage.put("nextCursor", page.getNextCursor());
+        projectedPage.put("limit", page.getLimit());
+        return ResponseEntity.ok(projectedPage);
+    }
+
+    /**
+     * Searches the backlog by the words in the stories.
+     *
+     * <p>Looks at the title, "I want to", "so that" and acceptance criteria. A story matches if
+     * it contains any word of the query; the best matches (BM25) come first.</p>
+     * <pre>
+     * GET /api/agile/stories/search?q=TPS+cover+sheet&amp;limit=2
+     *
+     * {
+     *   "query": "TPS cover sheet",
+     *   "totalMatches": 14,
+     *   "hits": [
+     *     {"score": 7.91, "story": {"userStoryIdentificationNumberForTrackingPurposes": 1, ...}},
+     *     {"score": 3.02, "story": {"userStoryIdentificationNumberForTrackingPurposes": 9, ...}}
+     *   ]
+     * }
+     * </pre>
+     *
+     * @param q The words to search for
+     * @param limit Maximum number of hits (1-100, default 20)
+     * @return ResponseEntity with the best matches; 400 for a blank query or a bad limit
+     */
+    @GetMapping("/stories/search")
+    public ResponseEntity<UserStorySearchResultsForFullTextSearch> doTheThingWhereWeSearchUserStoriesViaRestApi(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("🔎 Searching user stories for '{}'", q);
+
+        if (q == null || q.isBlank() || limit < 1 || limit > 100) {
+            log.warn("❌ Search needs a query and a limit from 1 to 100, got q='{}' limit={}", q, limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        UserStorySearchResultsForFullTextSearch results =
+                agileSprintPlanningService.doTheThingWhereWeSearchUserStoriesInTheBacklog(q, limit);
+
+        log.info("✅ Found {} matching user stories", results.getTotalMatches());
+        return ResponseEntity.ok(results);
     }
 
     /**
@@ -187,12 +390,17 @@ public class AgileSprintPlanningController {
      * Content-Type: application/json
      *
      * {
-     *   "status": "IN_PROGRESS"
+         *   "status": "IN_PROGRESS",
+     *   "expectedStatus": "READY"
      * }
      * </pre>
      *
+     * <p>{@code expectedStatus} is optional. When given, the move only happens if the story
+     * is still in that status; otherwise the response is 409 CONFLICT, so two developers
+     * can't both pick up the same story.</p>
+     *
      * @param storyId The unique ID of the story to update
-     * @param requestBody Map containing the new status
+     * @param requestBody Map containing the new status and optionally the expected current status
      * @return ResponseEntity with updated user story
      */
     @PutMapping("/stories/{storyId}/status")
@@ -205,9 +413,12 @@ public class AgileSprintPlanningController {
         try {
             String statusString = requestBody.get("status");
             StoryStatusForWorkflowTracking newStatus = StoryStatusForWorkflowTracking.valueOf(statusString);
+            String expectedStatusString = requestBody.get("expectedStatus");
 
-            UserStoryForAgileSprintPlanning updatedStory = agileSprintPlanningService
-                    .doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(storyId, newStatus);
+            UserStoryForAgileSprintPlanning updatedStory = expectedStatusString == null
+                    ? agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(storyId, newStatus)
+                    : agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+                            storyId, StoryStatusForWorkflowTracking.valueOf(expectedStatusString), newStatus);
 
             log.info("✅ User story #{} status updated to {}", storyId, newStatus);
             return ResponseEntity.ok(updatedStory);
@@ -215,6 +426,9 @@ public class AgileSprintPlanningController {
         } catch (IllegalArgumentException e) {
             log.error("❌ Invalid story ID or status: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            log.warn("❌ Story status changed under us: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -261,20 +475,133 @@ public class AgileSprintPlanningController {
         }
     }
 
+    /**
+     * Makes a story wait for another one.
+     *
+     * <p>Sprint planning skips the story until the blocking story is DONE or CANCELLED. A link
+     * that would make the blocking story wait for this one, directly or through other stories,
+     * is refused with 409 CONFLICT, since neither could ever start.</p>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * PUT /api/agile/stories/42/blocked-by/17
+     * </pre>
+     *
+     * @param storyId The story that has to wait
+     * @param blockingStoryId The story it waits for
+     * @return ResponseEntity with the updated story, 404 if either story doesn't exist, 409 for a cycle
+     */
+    @PutMapping("/stories/{storyId}/blocked-by/{blockingStoryId}")
+    public ResponseEntity<UserStoryForAgileSprintPlanning> doTheThingWhereWeMarkStoryAsBlockedByAnotherStoryViaRestApi(
+            @PathVariable Long storyId,
+            @PathVariable Long blockingStoryId) {
+
+        log.warn("🔗 Making user story #{} wait for user story #{}", storyId, blockingStoryId);
+
+        try {
+            return ResponseEntity.ok(agileSprintPlanningService
+                    .doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(storyId, blockingStoryId));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid story ID: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalStateException e) {
+            log.warn("❌ Dependency would be circular: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Stops a story waiting for another one.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * DELETE /api/agile/stories/42/blocked-by/17
+     * </pre>
+     *
+     * @param storyId The story that was waiting
+     * @param blockingStoryId The story it no longer waits for
+     * @return ResponseEntity with the updated story, or 404 if the story doesn't exist
+     */
+    @DeleteMapping("/stories/{storyId}/blocked-by/{blockingStoryId}")
+    public ResponseEntity<UserStoryForAgileSprintPlanning> doTheThingWhereWeRemoveTheBlockingStoryViaRestApi(
+            @PathVariable Long storyId,
+            @PathVariable Long blockingStoryId) {
+
+        try {
+            return ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeRemoveTheBlockingStory(storyId, blockingStoryId));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid story ID: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Drags a story to a new place in the backlog, among the stories of the same priority.
+     *
+     * <p>Only the dragged story gets a new rank; the backlog listing and sprint planning follow
+     * the new order right away. Without {@code after} the story goes to the top of its priority.
+     * A story of another priority is refused with 409 CONFLICT.</p>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * PUT /api/agile/stories/42/rank?after=17
+     * </pre>
+     *
+     * @param storyId The story being dragged
+     * @param after The story it should come right after (optional)
+     * @return ResponseEntity with the moved story, 404 if either story doesn't exist, 409 for another priority
+     */
+    @PutMapping("/stories/{storyId}/rank")
+    public ResponseEntity<UserStoryForAgileSprintPlanning> doTheThingWhereWeReRankTheStoryViaRestApi(
+            @PathVariable Long storyId,
+            @RequestParam(required = false) Long after) {
+
+        try {
+            return ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(storyId, after));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid story ID: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalStateException e) {
+            log.warn("❌ Can't rank the story there: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Returns the critical path through the backlog's blocked-by links.
+     *
+     * <p>The chain of unfinished stories, each waiting for the one before it, with the most
+     * story points left: the backlog can't be finished faster than this chain, however many
+     * developers are added. It is maintained as links and statuses change, so answering
+     * costs only the length of the chain.</p>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/agile/critical-path
+     * </pre>
+     *
+     * @return ResponseEntity with the chain (first story first) and its length in story points
+     */
+    @GetMapping("/critical-path")
+    public ResponseEntity<UserStoryCriticalPathForDependencyPlanning> doTheThingWhereWeFindTheCriticalPathViaRestApi() {
+        return ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeFindTheCriticalPathThroughTheBacklog());
+    }
+
     /**
      * Calculates the team's average velocity over recent sprints.
      *
      * <p>Velocity (story points completed per sprint) is the primary metric for
      * predictive capacity planning. This endpoint returns historical velocity data
-     * to help the team make realistic sprint commitments.</p>
+     * to help the team make realistic sprint commitments. Any window size is answered
+     * from incrementally maintained statistics, without rescanning the history.</p>
      *
      * <p><strong>Example Request:</strong></p>
      * <pre>
-     * GET /api/agile/velocity?sprints=3
+     * GET /api/agile/velocity?numberOfSprints=3
      * </pre>
      *
      * @param numberOfSprints How many past sprints to include in calculation (default: 3)
-     * @return ResponseEntity with velocity metrics
+     * @return ResponseEntity with velocity metrics, or 400 if numberOfSprints is below 1
      */
     @GetMapping("/velocity")
     public ResponseEntity<Map<String, Object>> doTheThingWhereWeCalculateVelocityViaRestApi(
@@ -282,12 +609,24 @@ public class AgileSprintPlanningController {
 
         log.info("📊 Calculating team velocity over {} sprints", numberOfSprints);
 
-        double averageVelocity = agileSprintPlanningService
-                .doTheThingWhereWeCalculateTeamVelocityForCapacityPlanning(numberOfSprints);
+        if (numberOfSprints < 1) {
+            log.warn("❌ Velocity needs at least one sprint, got {}", numberOfSprints);
+            return ResponseEntity.badRequest().build();
+        }
+
+        RollingVelocityStatisticsForCapacityPlanning.VelocityWindowStatisticsForCapacityPlanning statistics =
+                agileSprintPlanningService.doTheThingWhereWeCalculateTheVelocityStatisticsForCapacityPlanning(numberOfSprints);
+        double averageVelocity = statistics.getMeanVelocity();
 
         Map<String, Object> velocityData = new HashMap<>();
         velocityData.put("averageVelocity", averageVelocity);
-        velocityData.put("sprintsAnalyzed", numberOfSprints);
+        velocityData.put("sprintsAnalyzed", statistics.getSprintsAnalyzed());
+        velocityData.put("standardDeviation", statistics.getStandardDeviation());
+        velocityData.put("minimumVelocity", statistics.getMinimumVelocity());
+        velocityData.put("maximumVelocity", statistics.getMaximumVelocity());
+        velocityData.put("percentile10Velocity", statistics.getTenthPercentileVelocity());
+        velocityData.put("medianVelocity", statistics.getMedianVelocity());
+        velocityData.put("percentile90Velocity", statistics.getNinetiethPercentileVelocity());
         velocityData.put("recommendedCommitment", (int) Math.floor(averageVelocity * 0.9)); // 90% confidence
         velocityData.put("optimisticCommitment", (int) Math.ceil(averageVelocity * 1.1)); // If everything goes perfectly
         velocityData.put("metric", "story points per sprint");
@@ -330,6 +669,228 @@ public class AgileSprintPlanningController {
         return ResponseEntity.ok(planningResults);
     }
 
+    /**
+     * Forecasts when the backlog will be done with a Monte Carlo simulation.
+     *
+     * <p>Simulates many possible futures, each drawing a velocity from the team's history
+     * for every sprint until the story points not yet DONE are burned down. Returns how many
+     * sprints (and which date) the backlog needs at the 50th, 85th and 95th percentile, and
+     * optionally the probability of being done within a given number of sprints. The
+     * simulation stops early when its time budget runs out; trialsRun says how many ran.</p>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/agile/forecast?sprints=4&amp;trials=50000
+     * </pre>
+     *
+     * @param sprints Optional: also report the probability of finishing within this many sprints
+     * @param trials Optional: how many futures to simulate (default and cap: babylon.agile.forecast.maximum-trials)
+     * @return ResponseEntity with the forecast, or 400 if sprints or trials are below 1
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<Map<String, Object>> doTheThingWhereWeForecastTheBacklogCompletionViaRestApi(
+            @RequestParam(required = false) Integer sprints,
+            @RequestParam(required = false) Integer trials) {
+
+        log.info("🔮 Forecasting backlog completion (sprints: {}, trials: {})", sprints, trials);
+
+        if ((sprints != null && sprints < 1) || (trials != null && trials < 1)) {
+            log.warn("❌ Forecast needs at least one sprint and one trial, got sprints={} trials={}", sprints, trials);
+            return ResponseEntity.badRequest().build();
+        }
+
+        MonteCarloSprintForecastEngineForCapacityPlanning.SprintForecastForCapacityPlanning forecast =
+                agileSprintPlanningService.doTheThingWhereWeForecastTheBacklogCompletion(trials != null
+                        ? trials
+                        : agileSprintPlanningService.makeItWorkByReportingTheMaximumNumberOfForecastTrials());
+
+        Map<String, Object> forecastData = new LinkedHashMap<>();
+        forecastData.put("remainingStoryPoints", forecast.getRemainingStoryPoints());
+        forecastData.put("trialsRequested", forecast.getTrialsRequested());
+        forecastData.put("trialsRun", forecast.getTrialsRun());
+        forecastData.put("elapsedMilliseconds", forecast.getElapsedMilliseconds());
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        for (int percentile : new int[]{50, 85, 95}) {
+            Map<String, Object> completion = new LinkedHashMap<>();
+            completion.put("sprints", forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(percentile));
+            completion.put("completionDate", forecast.makeItWorkByFindingTheCompletionDateAtThePercentile(percentile));
+            percentiles.put("p" + percentile, completion);
+        }
+        forecastData.put("percentiles", percentiles);
+        if (sprints != null) {
+            forecastData.put("sprints", sprints);
+            forecastData.put("probabilityOfFinishingWithinSprints",
+                    forecast.makeItWorkByCalculatingTheProbabilityOfFinishingWithin(sprints));
+        }
+
+        log.info("✅ Forecast complete: {} trials in {} ms", forecast.getTrialsRun(), forecast.getElapsedMilliseconds());
+        return ResponseEntity.ok(forecastData);
+    }
+
+    /**
+     * Charts a sprint's burndown: the story points committed, and how many were left after
+     * each day on which a story got DONE.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/agile/analytics/burndown?sprint=7
+     * </pre>
+     *
+     * @param sprint The sprint number
+     * @return ResponseEntity with the burndown, or 400 if the sprint number is below 1
+     */
+    @GetMapping("/analytics/burndown")
+    public ResponseEntity<UserStorySprintBurndownForAgileAnalytics> doTheThingWhereWeChartTheSprintBurndownViaRestApi(
+            @RequestParam int sprint) {
+
+        if (sprint < 1) {
+            log.warn("❌ Sprint numbers start at 1, got {}", sprint);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeChartTheSprintBurndown(sprint));
+    }
+
+    /**
+     * Reports how long DONE stories took from creation to completion: per group, the number
+     * of stories and the mean, p50, p85 and p95 cycle time in hours. Grouped by developer or
+     * completion day, the story counts are the team's throughput.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/agile/analytics/cycle-time?groupBy=DEVELOPER
+     * </pre>
+     *
+     * @param groupBy SPRINT, PRIORITY (default), DEVELOPER or COMPLETION_DAY
+     * @return ResponseEntity with the report, or 400 for any other groupBy
+     */
+    @GetMapping("/analytics/cycle-time")
+    public ResponseEntity<UserStoryCycleTimeReportForAgileAnalytics> doTheThingWhereWeReportTheCycleTimesViaRestApi(
+            @RequestParam(defaultValue = "PRIORITY") String groupBy) {
+
+        try {
+            return ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeReportTheCycleTimes(
+                    StoryColumnForAnalytics.valueOf(groupBy)));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ Can't group cycle times by '{}'", groupBy);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Long-polls the backlog change feed, so a Kanban board gets only what changed.
+     *
+     * <p>Returns at once when there are changes after {@code since}; otherwise waits up to
+     * {@code waitSeconds} for the next one and returns an empty page if none came. Pass
+     * {@code nextSince} back as {@code since} next time. When {@code resyncRequired} is true the
+     * changes asked for are gone (the board was away too long, or the server restarted): reload
+     * {@code GET /api/agile/stories} and continue from {@code nextSince}.</p>
+     * <pre>
+     * GET /api/agile/changes?since=41
+     *
+     * {
+     *   "changes": [{
+     *     "sequence": 42, "storyId": 7, "changeType": "UPDATED",
+     *     "previousStatus": "READY", "currentStatus": "IN_PROGRESS",
+     *     "changedAt": "2026-01-22T09:15:00", "story": {...}
+     *   }],
+     *   "nextSince": 42, "hasMore": false, "resyncRequired": false
+     * }
+     * </pre>
+     *
+     * @param since The last change sequence the board has seen (0 for none)
+     * @param limit Most changes to return (1-500, default 100)
+     * @param waitSeconds How long to wait for a change (0-60, default 25)
+     * @return The changes; 400 for invalid parameters, 503 when too many boards are waiting
+     */
+    @GetMapping("/changes")
+    public DeferredResult<ResponseEntity<UserStoryChangeFeedPageForKanbanBoards>> doTheThingWhereWeLongPollTheBacklogChangesViaRestApi(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "" + THE_DEFAULT_LONG_POLL_WAIT_IN_SECONDS) int waitSeconds) {
+
+        DeferredResult<ResponseEntity<UserStoryChangeFeedPageForKanbanBoards>> response = new DeferredResult<>(
+                TimeUnit.SECONDS.toMillis(waitSeconds),
+                () -> ResponseEntity.ok(agileSprintPlanningService.doTheThingWhereWeReadTheBacklogChangesSince(since, limit)));
+        if (since < 0 || limit < 1 || limit > BacklogChangeFeedForKanbanBoards.THE_MOST_CHANGES_PER_PAGE
+                || waitSeconds < 0 || waitSeconds > THE_MAXIMUM_LONG_POLL_WAIT_IN_SECONDS) {
+            log.warn("❌ Invalid change feed request (since={}, limit={}, waitSeconds={})", since, limit, waitSeconds);
+            response.setResult(ResponseEntity.badRequest().build());
+            return response;
+        }
+
+        UserStoryChangeFeedPageForKanbanBoards page = agileSprintPlanningService.doTheThingWhereWeReadTheBacklogChangesSince(since, limit);
+        if (!page.getChanges().isEmpty() || page.getResyncRequired() || waitSeconds == 0) {
+            response.setResult(ResponseEntity.ok(page));
+            return response;
+        }
+
+        BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards subscription = agileSprintPlanningService
+                .makeItWorkBySubscribingToTheBacklogChanges(since, limit, changes -> response.setResult(ResponseEntity.ok(changes)));
+        if (subscription == null) {
+            response.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+            return response;
+        }
+        response.onCompletion(subscription::makeItWorkByCancelling);
+        return response;
+    }
+
+    /**
+     * Streams the backlog change feed over Server-Sent Events.
+     *
+     * <p>Same changes as the long-poll, one {@code story-change} event each, with the sequence as
+     * the event id, so a reconnecting browser resumes by itself via {@code Last-Event-ID}. A
+     * {@code resync-required} event means: reload the stories and keep listening.</p>
+     * <pre>
+     * GET /api/agile/changes?since=41
+     * Accept: text/event-stream
+     *
+     * id:42
+     * event:story-change
+     * data:{"sequence":42,"storyId":7,"changeType":"UPDATED",...}
+     * </pre>
+     *
+     * @param since The last change sequence the board has seen (0 for none)
+     * @param lastEventId Set by the browser on reconnect; wins over {@code since}
+     * @return The event stream, 400 for an invalid sequence, or 503 when too many boards are subscribed
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> doTheThingWhereWeStreamTheBacklogChangesViaRestApi(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        long startAfter = lastEventId != null ? lastEventId : since;
+        log.info("📡 Kanban board subscribing to backlog changes after #{}", startAfter);
+        if (startAfter < 0) {
+            log.warn("❌ Invalid change feed sequence: {}", startAfter);
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter theEventStream = new SseEmitter(THE_LIFETIME_OF_A_CHANGE_STREAM_IN_MILLISECONDS);
+        BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards subscription = agileSprintPlanningService
+                .makeItWorkBySubscribingToTheBacklogChanges(startAfter, BacklogChangeFeedForKanbanBoards.THE_MOST_CHANGES_PER_PAGE,
+                        page -> {
+                            if (page.getResyncRequired()) {
+                                theEventStream.send(SseEmitter.event()
+                                        .name("resync-required")
+                                        .data(Map.of("nextSince", page.getNextSince()), MediaType.APPLICATION_JSON));
+                            }
+                            for (UserStoryChangeForKanbanBoards change : page.getChanges()) {
+                                theEventStream.send(SseEmitter.event()
+                                        .id(Long.toString(change.getSequence()))
+                                        .name("story-change")
+                                        .data(change, MediaType.APPLICATION_JSON));
+                            }
+                        });
+        if (subscription == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        theEventStream.onCompletion(subscription::makeItWorkByCancelling);
+        theEventStream.onTimeout(subscription::makeItWorkByCancelling);
+        theEventStream.onError(error -> subscription.makeItWorkByCancelling());
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(theEventStream);
+    }
+
     /**
      * Simulates a daily standup meeting.
      *
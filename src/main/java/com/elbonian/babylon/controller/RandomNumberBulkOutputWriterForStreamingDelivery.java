@@ -0,0 +1,140 @@
+package com.elbonian.babylon.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Enterprise Output Writer for Streaming Random Numbers in Bulk.
+ *
+ * <p>Writes primitive numbers as ASCII digits straight into a fixed-size byte buffer and
+ * hands full buffers to the underlying servlet output stream. No {@code String},
+ * {@code Integer} or response object is created per integer (a double needs one short-lived
+ * decimal string), so a batch of 10 numbers and a batch of 10 million numbers cost the same
+ * amount of retained heap.</p>
+ *
+ * <p>Not thread-safe: one writer belongs to one response.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Random Number Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for letting us deliver randomness in bulk! 📦
+ */
+final class RandomNumberBulkOutputWriterForStreamingDelivery {
+
+    /** Buffer size used when the caller does not specify one (64 KiB). */
+    static final int THE_DEFAULT_OUTPUT_BUFFER_SIZE_IN_BYTES = 64 * 1024;
+
+    /** Longest ASCII form of an int: "-2147483648". */
+    private static final int THE_MAXIMUM_NUMBER_OF_ASCII_CHARACTERS_IN_AN_INT = 11;
+
+    private final OutputStream theUnderlyingOutputStream;
+    private final byte[] theReusableOutputBuffer;
+    private int theNumberOfBytesCurrentlyBuffered;
+
+    RandomNumberBulkOutputWriterForStreamingDelivery(OutputStream theUnderlyingOutputStream) {
+        this(theUnderlyingOutputStream, THE_DEFAULT_OUTPUT_BUFFER_SIZE_IN_BYTES);
+    }
+
+    RandomNumberBulkOutputWriterForStreamingDelivery(OutputStream theUnderlyingOutputStream, int bufferSizeInBytes) {
+        this.theUnderlyingOutputStream = theUnderlyingOutputStream;
+        this.theReusableOutputBuffer = new byte[Math.max(bufferSizeInBytes, THE_MAXIMUM_NUMBER_OF_ASCII_CHARACTERS_IN_AN_INT)];
+    }
+
+    /**
+     * Writes a single ASCII byte such as '[', ',' or '\n'.
+     */
+    void doTheThingWhereWeWriteASingleByte(int asciiByte) throws IOException {
+        if (theNumberOfBytesCurrentlyBuffered == theReusableOutputBuffer.length) {
+            makeItWorkByFlushingTheBufferToTheUnderlyingStream();
+        }
+        theReusableOutputBuffer[theNumberOfBytesCurrentlyBuffered++] = (byte) asciiByte;
+    }
+
+    /**
+     * Writes pre-encoded bytes, e.g. constant JSON fragments.
+     */
+    void doTheThingWhereWeWritePreEncodedBytes(byte[] preEncodedBytes) throws IOException {
+        if (preEncodedBytes.length > theReusableOutputBuffer.length - theNumberOfBytesCurrentlyBuffered) {
+            makeItWorkByFlushingTheBufferToTheUnderlyingStream();
+            if (preEncodedBytes.length > theReusableOutputBuffer.length) {
+                theUnderlyingOutputStream.write(preEncodedBytes);
+                return;
+            }
+        }
+        System.arraycopy(preEncodedBytes, 0, theReusableOutputBuffer, theNumberOfBytesCurrentlyBuffered,
+                preEncodedBytes.length);
+        theNumberOfBytesCurrentlyBuffered += preEncodedBytes.length;
+    }
+
+    /**
+     * Writes an int as ASCII decimal digits without allocating.
+     */
+    void doTheThingWhereWeWriteAnIntAsAsciiDigits(int value) throws IOException {
+        doTheThingWhereWeWriteALongAsAsciiDigits(value);
+    }
+
+    /**
+     * Writes a long as ASCII decimal digits without allocating.
+     */
+    void doTheThingWhereWeWriteALongAsAsciiDigits(long value) throws IOException {
+        if (theReusableOutputBuffer.length - theNumberOfBytesCurrentlyBuffered < 20) {
+            makeItWorkByFlushingTheBufferToTheUnderlyingStream();
+        }
+
+        if (value == Long.MIN_VALUE) {
+            doTheThingWhereWeWritePreEncodedBytes(Long.toString(value).getBytes());
+            return;
+        }
+
+        if (value < 0) {
+            theReusableOutputBuffer[theNumberOfBytesCurrentlyBuffered++] = '-';
+            value = -value;
+        }
+
+        int numberOfDigits = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            numberOfDigits++;
+        }
+
+        int position = theNumberOfBytesCurrentlyBuffered + numberOfDigits;
+        theNumberOfBytesCurrentlyBuffered = position;
+        do {
+            theReusableOutputBuffer[--position] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    /**
+     * Writes a double in its shortest round-trip form (as {@link Double#toString(double)}).
+     * Only the decimal string is allocated, never a byte array.
+     */
+    void doTheThingWhereWeWriteADoubleAsAsciiDigits(double value) throws IOException {
+        String theDecimalForm = Double.toString(value);
+        int length = theDecimalForm.length();
+        if (theReusableOutputBuffer.length - theNumberOfBytesCurrentlyBuffered < length) {
+            makeItWorkByFlushingTheBufferToTheUnderlyingStream();
+        }
+        for (int i = 0; i < length; i++) {
+            theReusableOutputBuffer[theNumberOfBytesCurrentlyBuffered++] = (byte) theDecimalForm.charAt(i);
+        }
+    }
+
+    /**
+     * Pushes everything buffered so far to the underlying stream.
+     */
+    void makeItWorkByFlushingTheBufferToTheUnderlyingStream() throws IOException {
+        if (theNumberOfBytesCurrentlyBuffered > 0) {
+            theUnderlyingOutputStream.write(theReusableOutputBuffer, 0, theNumberOfBytesCurrentlyBuffered);
+            theNumberOfBytesCurrentlyBuffered = 0;
+        }
+    }
+
+    /**
+     * Flushes the buffer and the underlying stream.
+     */
+    void makeItWorkByFlushingEverything() throws IOException {
+        makeItWorkByFlushingTheBufferToTheUnderlyingStream();
+        theUnderlyingOutputStream.flush();
+    }
+}
@@ -0,0 +1,124 @@
+package com.elbonian.babylon.controller;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Enterprise Encoder for Compact, Allocation-Light Random Number Responses.
+ *
+ * <p>The regular single-number endpoints build a Lombok builder, a
+ * {@code RandomNumberResponseForEnterpriseValueCreation}, a {@code LocalDateTime} and the
+ * same metadata strings on every call, and Jackson then serializes all of it reflectively.
+ * The compact mode ({@code ?compact=true}) writes the number, level, range and epoch-millis
+ * timestamp straight into a caller-owned byte array instead. Everything that only depends
+ * on the level is encoded once, up front, into constant UTF-8 fragments.</p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>
+ * {"randomNumber":4,"level":"Predictable","actuallyRandom":true,"metadata":"...","min":0,"max":100,"timestamp":1767225600000}
+ * </pre>
+ *
+ * @author The Pointy-Haired Boss (Chief Random Number Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for trimming the fat off our randomness! 🪶
+ */
+public final class RandomNumberCompactResponseEncoderForLeanDelivery {
+
+    private static final byte[] THE_OPENING_FRAGMENT = ascii("{\"randomNumber\":");
+    private static final byte[] THE_MAXIMUM_FRAGMENT = ascii(",\"max\":");
+    private static final byte[] THE_TIMESTAMP_FRAGMENT = ascii(",\"timestamp\":");
+
+    /** Per level: {@code ,"level":"...","actuallyRandom":...,"metadata":"...","min":} */
+    private static final byte[][] THE_PRE_ENCODED_FRAGMENT_FOR_EACH_LEVEL;
+
+    /** Longest possible compact response; callers size their reusable arrays with this. */
+    public static final int THE_MAXIMUM_COMPACT_RESPONSE_LENGTH_IN_BYTES;
+
+    static {
+        RandomnessLevelForEnterpriseRandomNumberGeneration[] levels =
+                RandomnessLevelForEnterpriseRandomNumberGeneration.values();
+        THE_PRE_ENCODED_FRAGMENT_FOR_EACH_LEVEL = new byte[levels.length][];
+        int theLongestLevelFragment = 0;
+        for (RandomnessLevelForEnterpriseRandomNumberGeneration level : levels) {
+            byte[] fragment = (",\"level\":\"" + jsonEscaped(level.getTheHumanReadableNameOfThisRandomnessLevel())
+                    + "\",\"actuallyRandom\":" + level.isThisLevelActuallyReallyTrulyRandom()
+                    + ",\"metadata\":\"" + jsonEscaped(level.getTheAuditMetadataForThisRandomnessLevel())
+                    + "\",\"min\":").getBytes(StandardCharsets.UTF_8);
+            THE_PRE_ENCODED_FRAGMENT_FOR_EACH_LEVEL[level.ordinal()] = fragment;
+            theLongestLevelFragment = Math.max(theLongestLevelFragment, fragment.length);
+        }
+        // three ints of up to 11 characters, one long of up to 20, and the closing brace
+        THE_MAXIMUM_COMPACT_RESPONSE_LENGTH_IN_BYTES = THE_OPENING_FRAGMENT.length + theLongestLevelFragment
+                + THE_MAXIMUM_FRAGMENT.length + THE_TIMESTAMP_FRAGMENT.length + 3 * 11 + 20 + 1;
+    }
+
+    private RandomNumberCompactResponseEncoderForLeanDelivery() {
+        // Thank you Pointy-Haired Boss, but this class has nothing to instantiate
+    }
+
+    /**
+     * Encodes one compact response as UTF-8 JSON into {@code target}, starting at index 0.
+     *
+     * @param target Destination array of at least {@link #THE_MAXIMUM_COMPACT_RESPONSE_LENGTH_IN_BYTES}
+     * @param level The randomness level that was applied
+     * @param randomNumber The generated number
+     * @param min Minimum of the requested range
+     * @param max Maximum of the requested range
+     * @param epochMillis Generation timestamp in milliseconds since the epoch
+     * @return How many bytes were written
+     */
+    public static int doTheThingWhereWeEncodeTheCompactResponse(byte[] target,
+                                                                RandomnessLevelForEnterpriseRandomNumberGeneration level,
+                                                                int randomNumber, int min, int max, long epochMillis) {
+        int position = doTheThingWhereWeCopyAFragment(target, 0, THE_OPENING_FRAGMENT);
+        position = doTheThingWhereWeWriteALongAsAsciiDigits(target, position, randomNumber);
+        position = doTheThingWhereWeCopyAFragment(target, position, THE_PRE_ENCODED_FRAGMENT_FOR_EACH_LEVEL[level.ordinal()]);
+        position = doTheThingWhereWeWriteALongAsAsciiDigits(target, position, min);
+        position = doTheThingWhereWeCopyAFragment(target, position, THE_MAXIMUM_FRAGMENT);
+        position = doTheThingWhereWeWriteALongAsAsciiDigits(target, position, max);
+        position = doTheThingWhereWeCopyAFragment(target, position, THE_TIMESTAMP_FRAGMENT);
+        position = doTheThingWhereWeWriteALongAsAsciiDigits(target, position, epochMillis);
+        target[position++] = '}';
+        return position;
+    }
+
+    private static int doTheThingWhereWeCopyAFragment(byte[] target, int position, byte[] fragment) {
+        System.arraycopy(fragment, 0, target, position, fragment.length);
+        return position + fragment.length;
+    }
+
+    private static int doTheThingWhereWeWriteALongAsAsciiDigits(byte[] target, int position, long value) {
+        if (value == Long.MIN_VALUE) {
+            return doTheThingWhereWeCopyAFragment(target, position, ascii(Long.toString(value)));
+        }
+        if (value < 0) {
+            target[position++] = '-';
+            value = -value;
+        }
+
+        int numberOfDigits = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            numberOfDigits++;
+        }
+
+        int end = position + numberOfDigits;
+        int digitPosition = end;
+        do {
+            target[--digitPosition] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    private static String jsonEscaped(String text) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(text));
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
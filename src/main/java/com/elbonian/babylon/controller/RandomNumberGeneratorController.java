@@ -1,14 +1,32 @@
 package com.elbonian.babylon.controller;
 
 import com.elbonian.babylon.model.RandomNumberResponseForEnterpriseValueCreation;
+import com.elbonian.babylon.service.JumpableSeededRandomNumberStreamForReproducibleLoadTests;
+import com.elbonian.babylon.service.NonUniformDistributionEngineForSimulationWorkloads;
 import com.elbonian.babylon.service.RandomNumberGeneratorServiceManager;
+import com.elbonian.babylon.service.SharedRandomNumberFanOutProducerForLiveSubscriptions;
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Enterprise REST Controller for Random Number Generation Operations and Synergy.
@@ -39,6 +57,13 @@ import java.util.Map;
  *   <li>GET /api/random/too-far - Too far randomness (maximum synergy)</li>
  *   <li>GET /api/random/xkcd - Classic XKCD 221 endpoint (always 4)</li>
  *   <li>GET /api/random/custom - Custom randomness with parameters</li>
+ *   <li>GET /api/random/batch - Bulk randomness streamed as NDJSON or a JSON array</li>
+ *   <li>GET /api/random/{level}?compact=true - Lean JSON without the response object</li>
+ *   <li>GET /api/random/stream/{streamId} - Reproducible seeded streams with O(1) jump-ahead</li>
+ *   <li>GET /api/random/distribution/{distribution} - Gaussian, exponential, Zipf and dice in bulk</li>
+ *   <li>GET /api/random/histogram - Server-side distribution audit with chi-square</li>
+ *   <li>GET /api/random/bytes - Raw random bytes streamed as application/octet-stream</li>
+ *   <li>GET /api/random/subscribe - Live numbers over Server-Sent Events from a shared producer</li>
  * </ul>
  *
  * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
@@ -65,9 +90,63 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RandomNumberGeneratorController {
 
+    /**
+     * Largest batch a single request may ask for. Memory use does not depend on the
+     * batch size, but a typo in {@code count} should not stream forever.
+     */
+    static final long THE_MAXIMUM_NUMBER_OF_RANDOM_NUMBERS_PER_BATCH = 100_000_000L;
+
+    /**
+     * How many numbers are generated per chunk before they are written out.
+     */
+    private static final int THE_NUMBER_OF_RANDOM_NUMBERS_GENERATED_PER_CHUNK = 8192;
+
+    /**
+     * Largest number of samples a single histogram audit may draw.
+     */
+    static final long THE_MAXIMUM_NUMBER_OF_HISTOGRAM_SAMPLES = 1_000_000_000L;
+
+    /**
+     * Largest number of histogram buckets.
+     */
+    static final int THE_MAXIMUM_NUMBER_OF_HISTOGRAM_BUCKETS = 10_000;
+
+    /**
+     * Largest raw byte response a single request may ask for (16 GiB).
+     */
+    static final long THE_MAXIMUM_NUMBER_OF_RANDOM_BYTES_PER_REQUEST = 16L * 1024 * 1024 * 1024;
+
+    /**
+     * Size of the direct buffer used to write raw random bytes.
+     */
+    private static final int THE_SIZE_OF_THE_RAW_RANDOM_BYTES_CHUNK = 64 * 1024;
+
+    /**
+     * One direct buffer per streaming thread, reused for every raw bytes response it serves,
+     * so a multi-gigabyte response allocates no heap proportional to its length.
+     */
+    private static final ThreadLocal<ByteBuffer> THE_REUSED_DIRECT_BUFFER_FOR_EACH_STREAMING_THREAD =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(THE_SIZE_OF_THE_RAW_RANDOM_BYTES_CHUNK)
+                    .order(ByteOrder.nativeOrder()));
+
+    /**
+     * One reusable byte array per request thread for compact responses.
+     */
+    private static final ThreadLocal<byte[]> THE_REUSED_COMPACT_RESPONSE_BYTES_FOR_EACH_REQUEST_THREAD =
+            ThreadLocal.withInitial(() ->
+                    new byte[RandomNumberCompactResponseEncoderForLeanDelivery.THE_MAXIMUM_COMPACT_RESPONSE_LENGTH_IN_BYTES]);
+
+    /**
+     * How long one live subscription stays open; EventSource clients reconnect on their own.
+     */
+    static final long THE_LIFETIME_OF_A_LIVE_SUBSCRIPTION_IN_MILLISECONDS = 60 * 60 * 1000L;
+
     // Thank you Pointy-Haired Boss for approving the dependency injection pattern!
     private final RandomNumberGeneratorServiceManager theRandomNumberGeneratorServiceManagerThatDoesTheActualWork;
 
+    // Thank you Pointy-Haired Boss for one producer per level instead of one per browser tab!
+    private final SharedRandomNumberFanOutProducerForLiveSubscriptions theSharedRandomNumberFanOutProducerForLiveSubscriptions;
+
     /**
      * Generate a predictable random number.
      * Returns 4, as per XKCD 221 protocol.
@@ -214,6 +293,589 @@ public class RandomNumberGeneratorController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Compact variant of the four level endpoints ({@code ?compact=true}). Writes the number,
+     * level, range and epoch-millis timestamp straight to the response with pre-encoded
+     * metadata fragments, instead of building a response object for Jackson to serialize.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/pretty-random?compact=true&amp;min=1&amp;max=6
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for trimming the fat off our randomness!
+     *
+     * @param min Minimum value for range (defaults to the level endpoint's default)
+     * @param max Maximum value for range (defaults to the level endpoint's default);
+     *            an inverted range, or one wider than an int can count, gets a 400
+     */
+    @GetMapping(value = {"/predictable", "/pretty-random", "/really-random", "/too-far"}, params = "compact=true")
+    public void doTheThingWhereWeGenerateACompactRandomNumberForTheLevelEndpoint(
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        RandomnessLevelForEnterpriseRandomNumberGeneration resolvedLevel =
+                makeItWorkByResolvingTheLevelFromTheMatchedPath(request);
+        // Same defaults as the regular level endpoints above
+        int theMinimum = min != null ? min : makeItWorkByResolvingTheDefaultMinimumOfTheLevel(resolvedLevel);
+        int theMaximum = max != null ? max : makeItWorkByResolvingTheDefaultMaximumOfTheLevel(resolvedLevel);
+
+        doTheThingWhereWeWriteACompactRandomNumberResponse(resolvedLevel, theMinimum, theMaximum, response);
+    }
+
+    /**
+     * Compact variant of {@code /custom} ({@code ?compact=true}).
+     *
+     * Thank you Pointy-Haired Boss for flexible AND lean randomness!
+     *
+     * @param level Randomness level (Predictable, Pretty Random, Really Random, Too Far)
+     * @param min Minimum value for range
+     * @param max Maximum value for range; an inverted range, or one wider than an int can count, gets a 400
+     */
+    @GetMapping(value = "/custom", params = "compact=true")
+    public void doTheThingWhereWeGenerateACompactCustomRandomNumber(
+            @RequestParam(required = false, defaultValue = "Predictable") String level,
+            @RequestParam(required = false, defaultValue = "0") int min,
+            @RequestParam(required = false, defaultValue = "100") int max,
+            HttpServletResponse response) throws IOException {
+
+        doTheThingWhereWeWriteACompactRandomNumberResponse(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheHumanReadableLevelName(level),
+                min, max, response);
+    }
+
+    private void doTheThingWhereWeWriteACompactRandomNumberResponse(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, int min, int max,
+            HttpServletResponse response) throws IOException {
+
+        log.debug("🪶 COMPACT random number requested with level: {}", level);
+
+        if (!isThisARangeWeCanDrawFrom(min, max)) {
+            log.warn("❌ Invalid compact random number request (level={}, min={}, max={})", level, min, max);
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        int theGeneratedRandomNumber = theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                .makeItWorkByGeneratingJustTheRandomNumberForTheRandomnessLevel(level, min, max);
+
+        byte[] theResponseBytes = THE_REUSED_COMPACT_RESPONSE_BYTES_FOR_EACH_REQUEST_THREAD.get();
+        int theResponseLength = RandomNumberCompactResponseEncoderForLeanDelivery.doTheThingWhereWeEncodeTheCompactResponse(
+                theResponseBytes, level, theGeneratedRandomNumber, min, max, System.currentTimeMillis());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(theResponseLength);
+        response.getOutputStream().write(theResponseBytes, 0, theResponseLength);
+    }
+
+    private static RandomnessLevelForEnterpriseRandomNumberGeneration makeItWorkByResolvingTheLevelFromTheMatchedPath(
+            HttpServletRequest request) {
+        Object theMatchedPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String theMatchedPath = theMatchedPattern != null ? theMatchedPattern.toString() : request.getRequestURI();
+        for (RandomnessLevelForEnterpriseRandomNumberGeneration level : RandomnessLevelForEnterpriseRandomNumberGeneration.values()) {
+            if (theMatchedPath.endsWith(level.getTheUrlFriendlySlugOfThisRandomnessLevel())) {
+                return level;
+            }
+        }
+        return RandomnessLevelForEnterpriseRandomNumberGeneration.UNKNOWN;
+    }
+
+    /**
+     * @return The minimum the level's own endpoint defaults to
+     */
+    private static int makeItWorkByResolvingTheDefaultMinimumOfTheLevel(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level) {
+        return level == RandomnessLevelForEnterpriseRandomNumberGeneration.TOO_FAR ? -1000 : 0;
+    }
+
+    /**
+     * @return The maximum the level's own endpoint defaults to
+     */
+    private static int makeItWorkByResolvingTheDefaultMaximumOfTheLevel(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level) {
+        return level == RandomnessLevelForEnterpriseRandomNumberGeneration.TOO_FAR
+                || level == RandomnessLevelForEnterpriseRandomNumberGeneration.REALLY_RANDOM ? 1000 : 100;
+    }
+
+    /**
+     * Whether {@code [min, max]} is a range the level algorithms can draw from: not inverted,
+     * and no more than {@link Integer#MAX_VALUE} values wide (their {@code nextInt(max - min + 1)}
+     * would overflow otherwise).
+     */
+    private static boolean isThisARangeWeCanDrawFrom(int min, int max) {
+        return min <= max && (long) max - min + 1 <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Stream a batch of random numbers in a single HTTP round trip.
+     * Numbers are generated in fixed-size chunks and written straight to the response,
+     * so the memory footprint is the same whether count is 10 or 10 million.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/batch?level=Pretty Random&amp;count=1000000&amp;min=1&amp;max=6&amp;format=ndjson
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for saving our clients thousands of curl calls!
+     *
+     * @param level Randomness level (Predictable, Pretty Random, Really Random, Too Far)
+     * @param count How many numbers to generate (1 to 100,000,000)
+     * @param min Minimum value for range (defaults to the level's own default)
+     * @param max Maximum value for range (defaults to the level's own default)
+     * @param format "ndjson" (one number per line) or "array" (a compact JSON array)
+     * @return Streamed batch of random numbers, or 400 for invalid parameters
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> doTheThingWhereWeStreamABatchOfRandomNumbers(
+            @RequestParam(required = false, defaultValue = "Predictable") String level,
+            @RequestParam(required = false, defaultValue = "100") long count,
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(required = false, defaultValue = "ndjson") String format) {
+
+        log.info("📦 BATCH of {} random numbers requested with level: {} - Thank you PHB for thinking in bulk!",
+                count, level);
+
+        RandomnessLevelForEnterpriseRandomNumberGeneration resolvedLevel =
+                RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheHumanReadableLevelName(level);
+        // Resolve the level defaults first, so a single bound that conflicts with them is caught too
+        int theMinimum = min != null ? min : makeItWorkByResolvingTheDefaultMinimumOfTheLevel(resolvedLevel);
+        int theMaximum = max != null ? max : makeItWorkByResolvingTheDefaultMaximumOfTheLevel(resolvedLevel);
+
+        boolean isNdjsonFormat = "ndjson".equalsIgnoreCase(format);
+        boolean isArrayFormat = "array".equalsIgnoreCase(format);
+        if (count < 1 || count > THE_MAXIMUM_NUMBER_OF_RANDOM_NUMBERS_PER_BATCH
+                || !isThisARangeWeCanDrawFrom(theMinimum, theMaximum)
+                || (!isNdjsonFormat && !isArrayFormat)) {
+            log.warn("❌ Invalid batch request (count={}, min={}, max={}, format={})",
+                    count, theMinimum, theMaximum, format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody theStreamedBatch = makeItWorkByStreamingNumbersInChunks(count, isArrayFormat,
+                (chunk, numbersInThisChunk) -> theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                        .makeItWorkByFillingABufferWithRandomNumbersForTheRandomnessLevel(
+                                resolvedLevel, theMinimum, theMaximum, chunk, numbersInThisChunk));
+
+        return ResponseEntity.ok()
+                .contentType(isNdjsonFormat ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(theStreamedBatch);
+    }
+
+    /**
+     * Stream raw random bytes as {@code application/octet-stream}, e.g. for test fixtures.
+     * The bytes are generated into a reused direct {@link ByteBuffer} in 64 KiB chunks and
+     * written through a {@link WritableByteChannel}, so memory use stays flat no matter how
+     * many gigabytes are requested.
+     *
+     * Example:
+     * <pre>
+     * curl -o fixture.bin "http://localhost:8080/api/random/bytes?length=1073741824"
+     * curl -o key.bin "http://localhost:8080/api/random/bytes?length=32&amp;secure=true"
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for valuing entropy by the gigabyte!
+     *
+     * @param length How many bytes to return (1 to 16 GiB)
+     * @param secure Whether to use the shared SecureRandom entropy pool instead of the fast generator
+     * @return Streamed random bytes, or 400 for an invalid length
+     */
+    @GetMapping("/bytes")
+    public ResponseEntity<StreamingResponseBody> doTheThingWhereWeStreamRawRandomBytes(
+            @RequestParam(required = false, defaultValue = "1024") long length,
+            @RequestParam(required = false, defaultValue = "false") boolean secure) {
+
+        log.info("🧱 {} raw random bytes requested (secure={}) - Thank you PHB for thinking at byte level!",
+                length, secure);
+
+        if (length < 1 || length > THE_MAXIMUM_NUMBER_OF_RANDOM_BYTES_PER_REQUEST) {
+            log.warn("❌ Invalid raw random bytes request (length={})", length);
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody theStreamedBytes = outputStream -> {
+            WritableByteChannel channel = Channels.newChannel(outputStream);
+            ByteBuffer buffer = THE_REUSED_DIRECT_BUFFER_FOR_EACH_STREAMING_THREAD.get();
+
+            long remaining = length;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(remaining, buffer.capacity()));
+                theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                        .makeItWorkByFillingAByteBufferWithRawRandomBytes(buffer, secure);
+                buffer.flip();
+                remaining -= buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(length)
+                .body(theStreamedBytes);
+    }
+
+    /**
+     * Stream a reproducible slice of a seeded, named random stream. The same stream id and
+     * seed always give the same numbers, and any offset is reached in O(1) instead of by
+     * replaying the stream, so several nodes can each generate their own non-overlapping
+     * shard (node k asks for offset k * count) and still verify each other's results.
+     *
+     * <p>The {@code X-Random-Stream-Next-Offset} header carries the offset right after the
+     * returned slice, for clients that page through a stream.</p>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/stream/checkout-load-test?seed=42&amp;offset=1000000&amp;count=1000&amp;min=1&amp;max=6
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for making our load tests reproducible!
+     *
+     * @param streamId Name of the stream
+     * @param seed Seed of the stream
+     * @param offset Position of the first returned number (0-based)
+     * @param count How many numbers to return (1 to 100,000,000)
+     * @param min Minimum value (inclusive)
+     * @param max Maximum value (inclusive)
+     * @param format "ndjson" (one number per line) or "array" (a compact JSON array)
+     * @return Streamed slice of the seeded stream, or 400 for invalid parameters
+     */
+    @GetMapping("/stream/{streamId}")
+    public ResponseEntity<StreamingResponseBody> doTheThingWhereWeStreamASliceOfASeededRandomStream(
+            @PathVariable String streamId,
+            @RequestParam long seed,
+            @RequestParam(required = false, defaultValue = "0") long offset,
+            @RequestParam(required = false, defaultValue = "100") long count,
+            @RequestParam(required = false, defaultValue = "0") int min,
+            @RequestParam(required = false, defaultValue = "100") int max,
+            @RequestParam(required = false, defaultValue = "ndjson") String format) {
+
+        log.info("🔁 SEEDED STREAM '{}' requested (seed={}, offset={}, count={}) - Thank you PHB for reproducibility!",
+                streamId, seed, offset, count);
+
+        boolean isNdjsonFormat = "ndjson".equalsIgnoreCase(format);
+        boolean isArrayFormat = "array".equalsIgnoreCase(format);
+        if (offset < 0 || count < 1 || count > THE_MAXIMUM_NUMBER_OF_RANDOM_NUMBERS_PER_BATCH
+                || min > max || (!isNdjsonFormat && !isArrayFormat)) {
+            log.warn("❌ Invalid seeded stream request (offset={}, count={}, min={}, max={}, format={})",
+                    offset, count, min, max, format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        JumpableSeededRandomNumberStreamForReproducibleLoadTests theSeededStream =
+                theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                        .makeItWorkByOpeningASeededStreamAtPosition(streamId, seed, offset);
+
+        StreamingResponseBody theStreamedSlice = makeItWorkByStreamingNumbersInChunks(count, isArrayFormat,
+                (chunk, numbersInThisChunk) -> theSeededStream.doTheThingWhereWeFillABufferWithNumbersInTheRange(
+                        min, max, chunk, numbersInThisChunk));
+
+        return ResponseEntity.ok()
+                .contentType(isNdjsonFormat ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .header("X-Random-Stream-Next-Offset", Long.toString(offset + count))
+                .body(theStreamedSlice);
+    }
+
+    /**
+     * Stream numbers from a non-uniform distribution for simulation workloads. Numbers are
+     * generated into a reused primitive array in batches (with Vector API kernels where the
+     * JVM has them) and written straight to the response.
+     *
+     * <p><strong>Distributions and their parameters:</strong></p>
+     * <ul>
+     *   <li>{@code gaussian} - {@code mean} (default 0), {@code stddev} (default 1), bounded so
+     *       every sample is a finite number</li>
+     *   <li>{@code exponential} - {@code rate} (default 1), likewise</li>
+     *   <li>{@code zipf} - {@code elements} (default 100), {@code exponent} (default 1)</li>
+     *   <li>{@code dice} - {@code dice} notation such as {@code 3d6+2} (default 3d6)</li>
+     * </ul>
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/distribution/gaussian?count=1000000&amp;mean=100&amp;stddev=15
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for giving our randomness some shape!
+     *
+     * @param distribution gaussian, exponential, zipf or dice
+     * @param count How many numbers to generate (1 to 100,000,000)
+     * @param format "ndjson" (one number per line) or "array" (a compact JSON array)
+     * @return Streamed numbers, or 400 for invalid parameters
+     */
+    @GetMapping("/distribution/{distribution}")
+    public ResponseEntity<StreamingResponseBody> doTheThingWhereWeStreamANonUniformDistribution(
+            @PathVariable String distribution,
+            @RequestParam(required = false, defaultValue = "100") long count,
+            @RequestParam(required = false, defaultValue = "0") double mean,
+            @RequestParam(required = false, defaultValue = "1") double stddev,
+            @RequestParam(required = false, defaultValue = "1") double rate,
+            @RequestParam(required = false, defaultValue = "100") int elements,
+            @RequestParam(required = false, defaultValue = "1") double exponent,
+            @RequestParam(required = false, defaultValue = "3d6") String dice,
+            @RequestParam(required = false, defaultValue = "ndjson") String format) {
+
+        log.info("📐 {} {} numbers requested - Thank you PHB for thinking beyond uniform!", count, distribution);
+
+        boolean isNdjsonFormat = "ndjson".equalsIgnoreCase(format);
+        boolean isArrayFormat = "array".equalsIgnoreCase(format);
+        if (count < 1 || count > THE_MAXIMUM_NUMBER_OF_RANDOM_NUMBERS_PER_BATCH || (!isNdjsonFormat && !isArrayFormat)) {
+            log.warn("❌ Invalid distribution request (count={}, format={})", count, format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody theStreamedNumbers;
+        try {
+            switch (distribution.toLowerCase(Locale.ROOT)) {
+                case "gaussian":
+                    NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByCheckingTheGaussianParameters(mean, stddev);
+                    theStreamedNumbers = makeItWorkByStreamingDoublesInChunks(count, isArrayFormat,
+                            (chunk, numbersInThisChunk) -> theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                                    .makeItWorkByFillingABufferWithGaussianRandomNumbers(
+                                            mean, stddev, chunk, numbersInThisChunk));
+                    break;
+                case "exponential":
+                    NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByCheckingTheExponentialRate(rate);
+                    theStreamedNumbers = makeItWorkByStreamingDoublesInChunks(count, isArrayFormat,
+                            (chunk, numbersInThisChunk) -> theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                                    .makeItWorkByFillingABufferWithExponentialRandomNumbers(
+                                            rate, chunk, numbersInThisChunk));
+                    break;
+                case "zipf":
+                    NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler theSampler =
+                            new NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler(
+                                    elements, exponent);
+                    theStreamedNumbers = makeItWorkByStreamingNumbersInChunks(count, isArrayFormat,
+                            (chunk, numbersInThisChunk) -> theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                                    .makeItWorkByFillingABufferWithZipfRandomRanks(
+                                            theSampler, chunk, numbersInThisChunk));
+                    break;
+                case "dice":
+                    NonUniformDistributionEngineForSimulationWorkloads.ParsedDiceNotation theDice =
+                            NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation(dice);
+                    theStreamedNumbers = makeItWorkByStreamingNumbersInChunks(count, isArrayFormat,
+                            (chunk, numbersInThisChunk) -> theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                                    .makeItWorkByFillingABufferWithDiceRolls(theDice, chunk, numbersInThisChunk));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ Invalid distribution request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(isNdjsonFormat ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(theStreamedNumbers);
+    }
+
+    /**
+     * Writes {@code count} doubles as NDJSON or a JSON array, generating them chunk by chunk
+     * into one reused buffer.
+     */
+    private static StreamingResponseBody makeItWorkByStreamingDoublesInChunks(
+            long count, boolean isArrayFormat, ObjIntConsumer<double[]> theChunkFiller) {
+        return outputStream -> {
+            RandomNumberBulkOutputWriterForStreamingDelivery writer =
+                    new RandomNumberBulkOutputWriterForStreamingDelivery(outputStream);
+            double[] chunk = new double[(int) Math.min(count, THE_NUMBER_OF_RANDOM_NUMBERS_GENERATED_PER_CHUNK)];
+
+            if (isArrayFormat) {
+                writer.doTheThingWhereWeWriteASingleByte('[');
+            }
+
+            long remaining = count;
+            boolean isFirstNumber = true;
+            while (remaining > 0) {
+                int numbersInThisChunk = (int) Math.min(remaining, chunk.length);
+                theChunkFiller.accept(chunk, numbersInThisChunk);
+
+                for (int i = 0; i < numbersInThisChunk; i++) {
+                    if (isArrayFormat && !isFirstNumber) {
+                        writer.doTheThingWhereWeWriteASingleByte(',');
+                    }
+                    writer.doTheThingWhereWeWriteADoubleAsAsciiDigits(chunk[i]);
+                    if (!isArrayFormat) {
+                        writer.doTheThingWhereWeWriteASingleByte('\n');
+                    }
+                    isFirstNumber = false;
+                }
+                remaining -= numbersInThisChunk;
+            }
+
+            if (isArrayFormat) {
+                writer.doTheThingWhereWeWriteASingleByte(']');
+            }
+            writer.makeItWorkByFlushingEverything();
+        };
+    }
+
+    /**
+     * Writes {@code count} numbers as NDJSON or a JSON array, generating them chunk by chunk
+     * into one reused buffer.
+     */
+    private static StreamingResponseBody makeItWorkByStreamingNumbersInChunks(
+            long count, boolean isArrayFormat, ObjIntConsumer<int[]> theChunkFiller) {
+        return outputStream -> {
+            RandomNumberBulkOutputWriterForStreamingDelivery writer =
+                    new RandomNumberBulkOutputWriterForStreamingDelivery(outputStream);
+            int[] chunk = new int[(int) Math.min(count, THE_NUMBER_OF_RANDOM_NUMBERS_GENERATED_PER_CHUNK)];
+
+            if (isArrayFormat) {
+                writer.doTheThingWhereWeWriteASingleByte('[');
+            }
+
+            long remaining = count;
+            boolean isFirstNumber = true;
+            while (remaining > 0) {
+                int numbersInThisChunk = (int) Math.min(remaining, chunk.length);
+                theChunkFiller.accept(chunk, numbersInThisChunk);
+
+                for (int i = 0; i < numbersInThisChunk; i++) {
+                    if (isArrayFormat && !isFirstNumber) {
+                        writer.doTheThingWhereWeWriteASingleByte(',');
+                    }
+                    writer.doTheThingWhereWeWriteAnIntAsAsciiDigits(chunk[i]);
+                    if (!isArrayFormat) {
+                        writer.doTheThingWhereWeWriteASingleByte('\n');
+                    }
+                    isFirstNumber = false;
+                }
+                remaining -= numbersInThisChunk;
+            }
+
+            if (isArrayFormat) {
+                writer.doTheThingWhereWeWriteASingleByte(']');
+            }
+            writer.makeItWorkByFlushingEverything();
+        };
+    }
+
+    /**
+     * Audit the distribution of a randomness level on the server: draws the samples in
+     * parallel and returns bucket counts, the frequency of 4 and 42, and a chi-square test
+     * of uniformity, so nobody has to pull millions of numbers over HTTP to check XKCD 221
+     * compliance.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/histogram?level=Too Far&amp;samples=10000000&amp;buckets=20&amp;min=0&amp;max=99
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for demanding statistical rigor!
+     *
+     * @param level Randomness level (Predictable, Pretty Random, Really Random, Too Far)
+     * @param samples How many numbers to draw (1 to 1,000,000,000)
+     * @param buckets How many equal-width buckets (1 to 10,000, at most one per value)
+     * @param min Minimum of the audited range
+     * @param max Maximum of the audited range (at most {@link Integer#MAX_VALUE} values wide)
+     * @return Histogram and distribution statistics, or 400 for invalid parameters
+     */
+    @GetMapping("/histogram")
+    public ResponseEntity<Map<String, Object>> makeItWorkByAuditingTheDistributionOfARandomnessLevel(
+            @RequestParam(required = false, defaultValue = "Pretty Random") String level,
+            @RequestParam(required = false, defaultValue = "1000000") long samples,
+            @RequestParam(required = false, defaultValue = "10") int buckets,
+            @RequestParam(required = false, defaultValue = "0") int min,
+            @RequestParam(required = false, defaultValue = "100") int max) {
+
+        log.info("📊 HISTOGRAM of {} samples requested with level: {} - Thank you PHB for auditing our randomness!",
+                samples, level);
+
+        if (samples < 1 || samples > THE_MAXIMUM_NUMBER_OF_HISTOGRAM_SAMPLES
+                || !isThisARangeWeCanDrawFrom(min, max)
+                || buckets < 1 || buckets > THE_MAXIMUM_NUMBER_OF_HISTOGRAM_BUCKETS
+                || buckets > (long) max - min + 1) {
+            log.warn("❌ Invalid histogram request (samples={}, buckets={}, min={}, max={})", samples, buckets, min, max);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                .makeItWorkByAuditingTheDistributionOfTheRandomnessLevel(
+                        RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheHumanReadableLevelName(level),
+                        samples, buckets, min, max));
+    }
+
+    /**
+     * Subscribe to a live stream of random numbers over Server-Sent Events. All subscribers
+     * of a level share one producer; each gets its own rate. A client that reads slower than
+     * its rate has undelivered numbers replaced by newer ones (reported as {@code skipped})
+     * instead of queued, so a stalled browser costs the server one slot, not a growing buffer.
+     *
+     * <p><strong>Example Request:</strong></p>
+     * <pre>
+     * GET /api/random/subscribe?level=Pretty Random&amp;ratePerSecond=5
+     * </pre>
+     *
+     * <p><strong>Example Event:</strong></p>
+     * <pre>
+     * id:17
+     * event:random-number
+     * data:{"randomNumber":4,"skipped":0}
+     * </pre>
+     *
+     * Thank you Pointy-Haired Boss for randomness that never stops!
+     *
+     * @param level Randomness level (Predictable, Pretty Random, Really Random, Too Far)
+     * @param ratePerSecond Numbers per second (1 to 100)
+     * @return The event stream, 400 for an invalid rate, or 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> doTheThingWhereWeSubscribeToALiveRandomNumberStream(
+            @RequestParam(required = false, defaultValue = "Pretty Random") String level,
+            @RequestParam(required = false, defaultValue = "1") int ratePerSecond) {
+
+        log.info("📡 LIVE SUBSCRIPTION requested with level: {} at {}/s - Thank you PHB for real-time synergy!",
+                level, ratePerSecond);
+
+        if (ratePerSecond < 1 || ratePerSecond > SharedRandomNumberFanOutProducerForLiveSubscriptions.THE_MAXIMUM_RATE_PER_SECOND) {
+            log.warn("❌ Invalid live subscription rate: {}", ratePerSecond);
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter theEventStream = new SseEmitter(THE_LIFETIME_OF_A_LIVE_SUBSCRIPTION_IN_MILLISECONDS);
+        SharedRandomNumberFanOutProducerForLiveSubscriptions.LiveRandomNumberSubscriptionForFanOutDelivery subscription =
+                theSharedRandomNumberFanOutProducerForLiveSubscriptions.makeItWorkBySubscribingToTheSharedProducer(
+                        RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheHumanReadableLevelName(level),
+                        ratePerSecond,
+                        (randomNumber, sequenceNumber, skipped) -> theEventStream.send(SseEmitter.event()
+                                .id(Long.toString(sequenceNumber))
+                                .name("random-number")
+                                .data("{\"randomNumber\":" + randomNumber + ",\"skipped\":" + skipped + "}",
+                                        MediaType.APPLICATION_JSON)));
+        if (subscription == null) {
+            return ResponseEntity.status(503).build();
+        }
+
+        theEventStream.onCompletion(subscription::makeItWorkByCancelling);
+        theEventStream.onTimeout(subscription::makeItWorkByCancelling);
+        theEventStream.onError(error -> subscription.makeItWorkByCancelling());
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(theEventStream);
+    }
+
+    /**
+     * Random generator engine statistics: the algorithm behind each level and, when ring
+     * buffer mode is enabled, the fill level and underrun counters of every ring buffer,
+     * plus the subscriber and coalescing counters of the live subscriptions.
+     *
+     * Thank you Pointy-Haired Boss for valuing data-driven capacity planning!
+     *
+     * @return Engine statistics
+     */
+    @GetMapping("/engine/statistics")
+    public ResponseEntity<Map<String, Object>> makeItWorkByReportingTheRandomGeneratorEngineStatistics() {
+        log.info("📈 Random generator engine statistics requested - Thank you PHB for measuring everything!");
+        Map<String, Object> statistics = new LinkedHashMap<>(theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                .makeItWorkByCollectingTheRandomGeneratorEngineStatistics());
+        statistics.put("liveSubscriptions",
+                theSharedRandomNumberFanOutProducerForLiveSubscriptions.makeItWorkByCollectingTheFanOutStatistics());
+        return ResponseEntity.ok(statistics);
+    }
+
     /**
      * Health check endpoint to ensure the random number generator is operational.
      * Returns synergy metrics about our random number generation capabilities.
@@ -232,6 +894,8 @@ public class RandomNumberGeneratorController {
         healthStatus.put("xkcdCompliance", "100% (XKCD 221 certified)");
         healthStatus.put("randomnessLevels", new String[]{"Predictable", "Pretty Random", "Really Random", "Too Far"});
         healthStatus.put("defaultRandomNumber", 4);
+        healthStatus.put("randomGeneratorAlgorithms", theRandomNumberGeneratorServiceManagerThatDoesTheActualWork
+                .makeItWorkByDescribingTheRandomGeneratorAlgorithmsPerLevel());
         healthStatus.put("isMovingTheNeedle", true);
         healthStatus.put("synergyLevel", "Maximum");
         healthStatus.put("thankYou", "Thank you Pointy-Haired Boss for this game-changing feature!");
@@ -0,0 +1,80 @@
+package com.elbonian.babylon.controller;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enterprise Field Projection for Lean User Story Listings ({@code fields=} parameter).
+ *
+ * <p>Builds the subset of a story that a client asked for, e.g.
+ * {@code fields=userStoryIdentificationNumberForTrackingPurposes,currentStatus}, so a board
+ * view doesn't download every story's acceptance criteria. The field names and getters come
+ * from the application's own {@link ObjectMapper}, so a projected story uses exactly the JSON
+ * names of a full one, and a new model field is projectable without touching this class.</p>
+ *
+ * @author The Certified Scrum Master Who Lives For Ceremonies
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Component
+class UserStoryFieldProjectionForLeanListing {
+
+    private final Map<String, AnnotatedMember> theGettersByJsonFieldName = new LinkedHashMap<>();
+
+    UserStoryFieldProjectionForLeanListing(ObjectMapper objectMapper) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(UserStoryForAgileSprintPlanning.class));
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.couldSerialize()) {
+                theGettersByJsonFieldName.put(property.getName(), property.getAccessor());
+            }
+        }
+    }
+
+    /**
+     * Parses a comma-separated {@code fields=} value.
+     *
+     * @param commaSeparatedFields e.g. "currentStatus, priorityLevel"
+     * @return The requested JSON field names, in request order
+     * @throws IllegalArgumentException if a name is not a field of a user story
+     */
+    List<String> doTheThingWhereWeParseTheRequestedFields(String commaSeparatedFields) {
+        List<String> requestedFields = new ArrayList<>();
+        for (String field : commaSeparatedFields.split(",")) {
+            String trimmedField = field.trim();
+            if (trimmedField.isEmpty()) {
+                continue;
+            }
+            if (!theGettersByJsonFieldName.containsKey(trimmedField)) {
+                throw new IllegalArgumentException("Unknown user story field: " + trimmedField);
+            }
+            requestedFields.add(trimmedField);
+        }
+        if (requestedFields.isEmpty()) {
+            throw new IllegalArgumentException("No user story fields requested");
+        }
+        return requestedFields;
+    }
+
+    /**
+     * @return Only the requested fields of the story, keyed by JSON field name
+     */
+    Map<String, Object> makeItWorkByProjectingTheStory(UserStoryForAgileSprintPlanning story, List<String> requestedFields) {
+        Map<String, Object> projectedStory = new LinkedHashMap<>(requestedFields.size() * 2);
+        for (String field : requestedFields) {
+            projectedStory.put(field, theGettersByJsonFieldName.get(field).getValue(story));
+        }
+        return projectedStory;
+    }
+}
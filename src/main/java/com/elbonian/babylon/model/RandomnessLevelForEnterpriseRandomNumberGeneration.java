@@ -0,0 +1,138 @@
+package com.elbonian.babylon.model;
+
+/**
+ * Enterprise Enumeration of the Randomness Levels Supported by Our Random Number Platform.
+ *
+ * <p>Every randomness level used to be a free-text string that was upper-cased and
+ * switched on for every single number we generated. This enumeration resolves the
+ * human-readable level name once per request, so bulk operations (batches, histograms,
+ * streams) can loop over primitive values without re-parsing the level each time.</p>
+ *
+ * <p>Each level carries the metadata that ends up in the audit trail of a
+ * {@link RandomNumberResponseForEnterpriseValueCreation}, so the single-number and
+ * bulk code paths always agree on what a level means.</p>
+ *
+ * <p><strong>RANDOMNESS LEVELS:</strong></p>
+ * <ul>
+ *   <li>🎯 PREDICTABLE - Returns 4 (XKCD 221 compliant)</li>
+ *   <li>🎲 PRETTY_RANDOM - Pseudorandom with a 30% XKCD Easter egg</li>
+ *   <li>🌟 REALLY_RANDOM - Pseudorandom with a 20% XKCD Easter egg</li>
+ *   <li>🚀 TOO_FAR - Mostly 4, sometimes 42, rarely anything else</li>
+ *   <li>❓ UNKNOWN - Anything else, which defaults to the XKCD 221 protocol</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for keeping our randomness levels well organized! 🎲
+ */
+public enum RandomnessLevelForEnterpriseRandomNumberGeneration {
+
+    /** Predictable - chosen by fair dice roll, guaranteed to be random */
+    PREDICTABLE("Predictable", "predictable", true,
+            "XKCD 221 compliant - chosen by fair dice roll. Guaranteed to be random."),
+
+    /** Pretty Random - actually tries to be random (sometimes) */
+    PRETTY_RANDOM("Pretty Random", "pretty-random", false,
+            "Pretty random using enterprise-grade pseudorandom number generator with modulo operations."),
+
+    /** Really Random - very random (still pseudorandom though) */
+    REALLY_RANDOM("Really Random", "really-random", false,
+            "Really random using paradigm-shifting quantum-inspired classical computation algorithms."),
+
+    /** Too Far - we've gone too far, circle back to 4 */
+    TOO_FAR("Too Far", "too-far", false,
+            "TOO FAR: We've thought outside the box so far that we've achieved maximum randomness synergy. PHB approved!"),
+
+    /** Unknown - when in doubt, return 4 (XKCD 221 default) */
+    UNKNOWN("Unknown", "unknown", true,
+            "Unknown randomness level - defaulting to XKCD 221 protocol (return 4).");
+
+    private final String theHumanReadableNameOfThisRandomnessLevel;
+    private final String theUrlFriendlySlugOfThisRandomnessLevel;
+    private final boolean isThisLevelActuallyReallyTrulyRandom;
+    private final String theAuditMetadataForThisRandomnessLevel;
+
+    RandomnessLevelForEnterpriseRandomNumberGeneration(String humanReadableName,
+                                                        String urlFriendlySlug,
+                                                        boolean actuallyRandom,
+                                                        String auditMetadata) {
+        this.theHumanReadableNameOfThisRandomnessLevel = humanReadableName;
+        this.theUrlFriendlySlugOfThisRandomnessLevel = urlFriendlySlug;
+        this.isThisLevelActuallyReallyTrulyRandom = actuallyRandom;
+        this.theAuditMetadataForThisRandomnessLevel = auditMetadata;
+    }
+
+    /**
+     * @return The human-readable level name, e.g. "Pretty Random"
+     */
+    public String getTheHumanReadableNameOfThisRandomnessLevel() {
+        return theHumanReadableNameOfThisRandomnessLevel;
+    }
+
+    /**
+     * @return The URL- and property-friendly slug, e.g. "pretty-random"
+     */
+    public String getTheUrlFriendlySlugOfThisRandomnessLevel() {
+        return theUrlFriendlySlugOfThisRandomnessLevel;
+    }
+
+    /**
+     * @return Whether numbers at this level are (allegedly) really truly random
+     */
+    public boolean isThisLevelActuallyReallyTrulyRandom() {
+        return isThisLevelActuallyReallyTrulyRandom;
+    }
+
+    /**
+     * @return The audit metadata attached to every number generated at this level
+     */
+    public String getTheAuditMetadataForThisRandomnessLevel() {
+        return theAuditMetadataForThisRandomnessLevel;
+    }
+
+    /**
+     * Resolves a human-readable level name ("Pretty Random", "pretty random", ...)
+     * to its enumeration constant. Unrecognized or missing names resolve to UNKNOWN,
+     * which means XKCD 221 (return 4).
+     *
+     * @param randomnessLevel The level name as received from the API
+     * @return The matching randomness level, never null
+     */
+    public static RandomnessLevelForEnterpriseRandomNumberGeneration makeItWorkByResolvingTheHumanReadableLevelName(
+            String randomnessLevel) {
+        if (randomnessLevel == null) {
+            return UNKNOWN;
+        }
+
+        switch (randomnessLevel.toUpperCase()) {
+            case "PREDICTABLE":
+                return PREDICTABLE;
+            case "PRETTY RANDOM":
+                return PRETTY_RANDOM;
+            case "REALLY RANDOM":
+                return REALLY_RANDOM;
+            case "TOO FAR":
+                return TOO_FAR;
+            default:
+                return UNKNOWN;
+        }
+    }
+
+    /**
+     * Resolves a URL- or property-friendly slug ("pretty-random", "too-far", ...) to its
+     * enumeration constant. Unrecognized or missing slugs resolve to UNKNOWN.
+     *
+     * @param slug The slug as used in endpoint paths and application.properties
+     * @return The matching randomness level, never null
+     */
+    public static RandomnessLevelForEnterpriseRandomNumberGeneration makeItWorkByResolvingTheUrlFriendlySlug(String slug) {
+        for (RandomnessLevelForEnterpriseRandomNumberGeneration level : values()) {
+            if (level.theUrlFriendlySlugOfThisRandomnessLevel.equalsIgnoreCase(slug == null ? "" : slug.trim())) {
+                return level;
+            }
+        }
+        return UNKNOWN;
+    }
+}
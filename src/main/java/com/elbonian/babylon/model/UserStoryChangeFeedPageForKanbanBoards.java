@@ -0,0 +1,49 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for the Backlog Changes a Kanban Board Hasn't Seen Yet.
+ *
+ * <p>Pass {@code nextSince} back as {@code since} to get the changes after these. Only recent
+ * changes are kept; when a board asks for changes that are no longer available (it was offline
+ * for too long, or the server restarted), {@code resyncRequired} is true and the board should
+ * reload the stories, then continue from {@code nextSince}.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryChangeFeedPageForKanbanBoards {
+
+    /**
+     * The changes, in sequence order.
+     */
+    private List<UserStoryChangeForKanbanBoards> changes;
+
+    /**
+     * Sequence of the last change returned (or the {@code since} asked for if there were none).
+     */
+    private Long nextSince;
+
+    /**
+     * Whether more changes are already waiting after {@code nextSince}.
+     */
+    private Boolean hasMore;
+
+    /**
+     * Whether the changes asked for are gone and the board has to reload the backlog.
+     */
+    private Boolean resyncRequired;
+}
@@ -0,0 +1,72 @@
+package com.elbonian.babylon.model;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Enterprise Data Model for One Change to the Backlog, as Seen by a Kanban Board.
+ *
+ * <p>Every create and every update of a story gets the next {@code sequence} number. The record
+ * carries the story as it was right after the change, so a board can just put it in place of
+ * the card it has; {@code previousStatus} tells it which column the card leaves.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryChangeForKanbanBoards {
+
+    /**
+     * Position in the change feed, counting up from 1 without gaps.
+     */
+    private Long sequence;
+
+    /**
+     * The story that changed.
+     */
+    private Long storyId;
+
+    /**
+     * What happened to the story.
+     */
+    private ChangeTypeForKanbanBoards changeType;
+
+    /**
+     * Status before the change, or null for a new story.
+     */
+    private StoryStatusForWorkflowTracking previousStatus;
+
+    /**
+     * Status after the change.
+     */
+    private StoryStatusForWorkflowTracking currentStatus;
+
+    /**
+     * When the change was recorded.
+     */
+    private LocalDateTime changedAt;
+
+    /**
+     * The story right after the change.
+     */
+    private UserStoryForAgileSprintPlanning story;
+
+    /**
+     * Kinds of backlog change. Stories are never deleted (they get CANCELLED instead).
+     */
+    public enum ChangeTypeForKanbanBoards {
+        CREATED,
+        UPDATED
+    }
+}
@@ -0,0 +1,43 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for the Longest Chain of Stories Waiting on Each Other.
+ *
+ * <p>The critical path is the chain of unfinished stories, each blocked by the one before it,
+ * with the most story points left. However many developers the team throws at the backlog,
+ * it can't be done sooner than this chain (the Pointy-Haired Boss has been informed).</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryCriticalPathForDependencyPlanning {
+
+    /**
+     * Story points still to do along the chain; finished stories count 0.
+     */
+    private Long lengthInStoryPoints;
+
+    /**
+     * How many blocked-by links the backlog has in total.
+     */
+    private Long numberOfDependencies;
+
+    /**
+     * The chain, first story first; empty if nothing is left to do.
+     */
+    private List<UserStoryForAgileSprintPlanning> stories;
+}
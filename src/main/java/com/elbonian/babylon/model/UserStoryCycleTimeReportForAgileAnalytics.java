@@ -0,0 +1,59 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for How Long Stories Take From Creation to DONE.
+ *
+ * <p>Per group (priority, developer, sprint, ...) the number of DONE stories and their cycle
+ * time in hours: the mean and the 50th, 85th and 95th percentile. The story count per
+ * developer or per completion day doubles as a throughput report.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryCycleTimeReportForAgileAnalytics {
+
+    /** The column the stories were grouped by, e.g. "PRIORITY". */
+    private String groupedBy;
+
+    /** DONE stories with both a created and a completed timestamp. */
+    private Long storiesAnalyzed;
+
+    /** One entry per group, in the group's natural order. */
+    private List<CycleTimeGroupForAgileAnalytics> groups;
+
+    /**
+     * The cycle time of one group of stories.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CycleTimeGroupForAgileAnalytics {
+
+        /** e.g. "HIGH", "alice@elbonia.example", "7" */
+        private String group;
+
+        private Long stories;
+
+        private Double meanHours;
+
+        private Double p50Hours;
+
+        private Double p85Hours;
+
+        private Double p95Hours;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Enterprise Data Model for Agile User Stories with Story Point Estimation.
@@ -30,13 +31,14 @@ import java.time.LocalDateTime;
  *   <li>✅ Acceptance Criteria - The definition of done</li>
  *   <li>🏷️ Sprint Assignment - Which sprint owns this story</li>
  *   <li>📍 Status - Current workflow state (BACKLOG, IN_PROGRESS, BLOCKED, IN_REVIEW, DONE)</li>
+ *   <li>🔗 Blocked By - The stories that have to be finished first</li>
  * </ul>
  *
  * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
  * <ul>
  *   <li>✅ Verbose class name with context suffix</li>
  *   <li>✅ Uses Lombok for boilerplate reduction</li>
- *   <li>✅ Builder pattern for fluent instantiation</li>
+ *   <li>✅ Builder pattern for fluent instantiation (and {@code toBuilder()} for copy-on-write updates)</li>
  *   <li>✅ Enterprise-grade documentation</li>
  *   <li>✅ Comprehensive attribute descriptions</li>
  * </ul>
@@ -48,7 +50,7 @@ import java.time.LocalDateTime;
  * — The Pointy-Haired Boss
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserStoryForAgileSprintPlanning {
@@ -154,6 +156,19 @@ public class UserStoryForAgileSprintPlanning {
      */
     private String assignedDeveloperNameOrEmailAddress;
 
+    /**
+     * IDs of the stories that must be DONE (or CANCELLED) before this one can be planned,
+     * in ascending order. Null if nothing blocks it.
+     */
+    private List<Long> blockedByUserStoryIdentificationNumbers;
+
+    /**
+     * Where the Product Owner dragged this story among the stories of the same priority: ranks
+     * sort as plain strings, lowest first. Handed out by the backlog store when the story is
+     * added (at the bottom) and changed only by moving the story.
+     */
+    private String backlogRankForDragAndDropOrdering;
+
     /**
      * Priority levels for backlog management and sprint planning.
      *
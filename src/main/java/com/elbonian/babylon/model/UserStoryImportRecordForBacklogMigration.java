@@ -0,0 +1,47 @@
+package com.elbonian.babylon.model;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Enterprise Data Model for One Story Being Migrated From the Old Tracker.
+ *
+ * <p>One NDJSON line or CSV row of {@code POST /api/agile/stories/import}, with the same
+ * field names as {@code POST /api/agile/stories} but typed: story points are a number and
+ * the priority is a {@link PriorityLevelForBacklogManagement}, so a bad value is reported for
+ * its line instead of failing a cast halfway through the migration.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryImportRecordForBacklogMigration {
+
+    /** Required. */
+    private String title;
+
+    private String asAUser;
+
+    /** Named explicitly: Jackson would otherwise derive "iwantTo" from the Lombok accessors. */
+    @JsonProperty("iWantTo")
+    private String iWantTo;
+
+    private String soThat;
+
+    private Integer storyPoints;
+
+    /** Required. */
+    private PriorityLevelForBacklogManagement priority;
+
+    private String acceptanceCriteria;
+}
@@ -0,0 +1,59 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for the Outcome of a Bulk Story Import.
+ *
+ * <p>Bad lines don't abort the import: they are counted, and the first
+ * {@code MAXIMUM_REPORTED_ERRORS} of them are listed with their line number so the
+ * migration team can fix the export and import just those lines again.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryImportReportForBacklogMigration {
+
+    /** How many line errors are listed; the rest are only counted. */
+    public static final int MAXIMUM_REPORTED_ERRORS = 100;
+
+    /** Records (NDJSON lines or CSV rows, blank lines excluded) read from the upload. */
+    private Long recordsRead;
+
+    /** Stories that made it into the backlog. */
+    private Long storiesImported;
+
+    /** Records that were rejected. */
+    private Long errorCount;
+
+    /** The first rejected records, in upload order. */
+    private List<LineErrorForBacklogMigration> errors;
+
+    private Long elapsedMilliseconds;
+
+    /**
+     * Why one line of the upload was rejected.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineErrorForBacklogMigration {
+
+        /** 1-based line number (for CSV: the line the row starts on). */
+        private Long line;
+
+        private String message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for One Page of the Product Backlog.
+ *
+ * <p>Stories come in ascending ID order. To get the next page, pass {@code nextCursor} back as
+ * the {@code cursor} parameter; when it is null the backlog has been read to the end. A cursor
+ * is just the last ID seen, so stories created while a client is paging show up at the end
+ * instead of shifting every later page the way an offset would.</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStoryPageForCursorPagination {
+
+    /**
+     * The stories on this page, ascending by ID.
+     */
+    private List<UserStoryForAgileSprintPlanning> stories;
+
+    /**
+     * Cursor for the next page, or null if this is the last one.
+     */
+    private Long nextCursor;
+
+    /**
+     * The page size that was applied.
+     */
+    private Integer limit;
+}
@@ -0,0 +1,56 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for the Stories Matching a Full-Text Search.
+ *
+ * <p>Hits come best match first. {@code totalMatches} counts every story containing at least
+ * one of the query's words, even though only the best {@code limit} are returned, so the UI can
+ * say "showing 20 of 4,711".</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStorySearchResultsForFullTextSearch {
+
+    /**
+     * The search as it was given.
+     */
+    private String query;
+
+    /**
+     * How many stories matched at least one word of the query.
+     */
+    private Long totalMatches;
+
+    /**
+     * The best matches, highest score first.
+     */
+    private List<StorySearchHitForFullTextSearch> hits;
+
+    /**
+     * One matching story with its relevance score (BM25; only comparable within one search).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StorySearchHitForFullTextSearch {
+
+        private Double score;
+
+        private UserStoryForAgileSprintPlanning story;
+    }
+}
@@ -0,0 +1,59 @@
+package com.elbonian.babylon.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Enterprise Data Model for a Sprint Burndown Chart.
+ *
+ * <p>How many story points the sprint committed to, and how many were left after each day
+ * on which something got DONE. Days without a completed story are left out; the chart is
+ * flat over them anyway (as is tradition).</p>
+ *
+ * @author The Scrum Master Who Schedules Meetings About Meetings
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStorySprintBurndownForAgileAnalytics {
+
+    private Integer sprintNumber;
+
+    /** Story points of every story in the sprint, except CANCELLED ones. */
+    private Long committedPoints;
+
+    /** Story points of the sprint's DONE stories. */
+    private Long completedPoints;
+
+    private Long remainingPoints;
+
+    /** One entry per day a story was completed, earliest first. */
+    private List<BurndownDayForAgileAnalytics> days;
+
+    /**
+     * The burndown at the end of one day.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BurndownDayForAgileAnalytics {
+
+        /** ISO date (UTC), e.g. "2026-01-22". */
+        private String date;
+
+        /** Story points completed on this day. */
+        private Long completedPoints;
+
+        /** Story points still left at the end of this day. */
+        private Long remainingPoints;
+    }
+}
@@ -1,15 +1,31 @@
 package com.elbonian.babylon.service;
 
+import com.elbonian.babylon.model.UserStoryChangeFeedPageForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryCriticalPathForDependencyPlanning;
+import com.elbonian.babylon.model.UserStoryCycleTimeReportForAgileAnalytics;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import com.elbonian.babylon.model.UserStoryImportRecordForBacklogMigration;
+import com.elbonian.babylon.model.UserStoryImportReportForBacklogMigration;
+import com.elbonian.babylon.model.UserStoryPageForCursorPagination;
+import com.elbonian.babylon.model.UserStorySearchResultsForFullTextSearch;
+import com.elbonian.babylon.model.UserStorySprintBurndownForAgileAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryFilterForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryGroupsForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryMeasureForAnalytics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Enterprise Service for Agile Sprint Planning and Scrum Ceremony Management.
@@ -53,6 +69,10 @@ import java.util.stream.Collectors;
  *   <li>✅ Verbose parameter and variable names</li>
  *   <li>✅ Enterprise-grade logging with SLF4J</li>
  *   <li>✅ In-memory storage (H2 database coming in next sprint, maybe)</li>
+ *   <li>✅ Thread-safe: concurrent backlog store, atomic sprint counter, CAS status moves</li>
+ *   <li>✅ Indexed sprint lookups and O(1) standup counts (no more full backlog scans)</li>
+ *   <li>✅ Knapsack-optimal sprint commitments instead of greedy leftovers</li>
+ *   <li>✅ Blocked-by links: planning skips stories still waiting on another, critical path in O(path)</li>
  * </ul>
  *
  * @author The Scrum Master Who Thinks Meetings Are Productive
@@ -66,30 +86,103 @@ import java.util.stream.Collectors;
 public class AgileSprintPlanningService {
 
     /**
-     * In-memory storage for all user stories in the enterprise backlog.
-     * TODO: Replace with proper database persistence in Sprint 47 (estimated).
+     * Stories a bulk import inserts (and commits to the journal) at a time.
      */
-    private final Map<Long, UserStoryForAgileSprintPlanning> userStoryBacklogStorageMap = new HashMap<>();
+    private static final int THE_NUMBER_OF_STORIES_PER_IMPORT_BATCH = 1000;
 
     /**
-     * Atomic counter for generating unique user story IDs.
-     * Ensures thread-safe ID generation during high-volume backlog refinement sessions.
+     * Thread-safe in-memory storage for all user stories in the enterprise backlog.
+     * Made durable by the journal below (when enabled); a proper database is still planned for Sprint 47.
      */
-    private final AtomicLong userStoryIdentificationNumberGeneratorCounter = new AtomicLong(1);
+    private final ConcurrentUserStoryBacklogStoreForAgileSprintPlanning userStoryBacklogStore =
+            new ConcurrentUserStoryBacklogStoreForAgileSprintPlanning();
 
     /**
      * Current sprint number for tracking iterative development cycles.
      * Starts at 1 and increments every 2 weeks (or 3 weeks if someone goes on vacation).
      */
-    private int currentSprintNumberForIterativeDelivery = 1;
+    private final AtomicInteger currentSprintNumberForIterativeDelivery = new AtomicInteger(1);
 
     /**
-     * Historical velocity data for the last 6 sprints (or however many we've done).
+     * Historical velocity data for the last 6 sprints (or however many we've done), with
+     * windowed statistics kept up to date as sprints complete.
      * Used for predictive capacity planning and making optimistic commitments.
      */
-    private final List<Integer> historicalVelocityDataForCapacityPlanning = new ArrayList<>(
-        Arrays.asList(23, 18, 31, 15, 28, 22) // Past sprint velocities
-    );
+    private final RollingVelocityStatisticsForCapacityPlanning historicalVelocityDataForCapacityPlanning =
+            new RollingVelocityStatisticsForCapacityPlanning(
+                    Arrays.asList(23, 18, 31, 15, 28, 22) // Past sprint velocities
+            );
+
+    /**
+     * Knapsack planner that decides which stories make it into the sprint.
+     */
+    private final OptimalSprintPlanningEngineForCapacityPlanning sprintPlanningEngineForCapacityOptimization;
+
+    /**
+     * Monte Carlo simulation answering "when will the backlog be done?".
+     */
+    private final MonteCarloSprintForecastEngineForCapacityPlanning sprintForecastEngineForCapacityPlanning;
+
+    /**
+     * Append-only journal every change is written to before the request returns; null when disabled.
+     */
+    private final MemoryMappedAgileBacklogJournalForDurablePersistence durableJournalForTheAgileBacklog;
+
+    /**
+     * Recent backlog changes, so Kanban boards can wait for deltas instead of polling everything.
+     */
+    private final BacklogChangeFeedForKanbanBoards backlogChangeFeedForKanbanBoards;
+
+    public AgileSprintPlanningService() {
+        this(new OptimalSprintPlanningEngineForCapacityPlanning(), null);
+    }
+
+    @Autowired
+    public AgileSprintPlanningService(
+            @Value("${babylon.agile.planning.time-budget-millis:250}") long planningTimeBudgetInMilliseconds,
+            @Value("${babylon.agile.planning.exact-table-memory-limit-bytes:33554432}") long exactTableMemoryLimitInBytes,
+            @Value("${babylon.agile.forecast.maximum-trials:100000}") int maximumForecastTrials,
+            @Value("${babylon.agile.forecast.time-budget-millis:500}") long forecastTimeBudgetInMilliseconds,
+            MemoryMappedAgileBacklogJournalForDurablePersistence durableJournal,
+            BacklogChangeFeedForKanbanBoards backlogChangeFeed) {
+        this(new OptimalSprintPlanningEngineForCapacityPlanning(planningTimeBudgetInMilliseconds, exactTableMemoryLimitInBytes),
+                new MonteCarloSprintForecastEngineForCapacityPlanning(maximumForecastTrials, forecastTimeBudgetInMilliseconds),
+                durableJournal, backlogChangeFeed);
+    }
+
+    AgileSprintPlanningService(OptimalSprintPlanningEngineForCapacityPlanning sprintPlanningEngine) {
+        this(sprintPlanningEngine, null);
+    }
+
+    AgileSprintPlanningService(OptimalSprintPlanningEngineForCapacityPlanning sprintPlanningEngine,
+                               MemoryMappedAgileBacklogJournalForDurablePersistence durableJournal) {
+        this(sprintPlanningEngine, new MonteCarloSprintForecastEngineForCapacityPlanning(), durableJournal);
+    }
+
+    AgileSprintPlanningService(OptimalSprintPlanningEngineForCapacityPlanning sprintPlanningEngine,
+                               MonteCarloSprintForecastEngineForCapacityPlanning sprintForecastEngine,
+                               MemoryMappedAgileBacklogJournalForDurablePersistence durableJournal) {
+        this(sprintPlanningEngine, sprintForecastEngine, durableJournal, new BacklogChangeFeedForKanbanBoards());
+    }
+
+    /**
+     * Recovers the backlog and sprint state from the journal (if enabled) before serving anything.
+     * Recovered stories are not replayed into the change feed; it starts empty.
+     */
+    AgileSprintPlanningService(OptimalSprintPlanningEngineForCapacityPlanning sprintPlanningEngine,
+                               MonteCarloSprintForecastEngineForCapacityPlanning sprintForecastEngine,
+                               MemoryMappedAgileBacklogJournalForDurablePersistence durableJournal,
+                               BacklogChangeFeedForKanbanBoards backlogChangeFeed) {
+        this.sprintPlanningEngineForCapacityOptimization = sprintPlanningEngine;
+        this.sprintForecastEngineForCapacityPlanning = sprintForecastEngine;
+        this.backlogChangeFeedForKanbanBoards = backlogChangeFeed;
+        userStoryBacklogStore.makeItWorkByAddingAChangeObserver(backlogChangeFeed);
+        this.durableJournalForTheAgileBacklog =
+                durableJournal != null && durableJournal.makeItWorkByReportingWhetherTheJournalIsEnabled() ? durableJournal : null;
+        if (durableJournalForTheAgileBacklog != null) {
+            durableJournalForTheAgileBacklog.makeItWorkByAttachingTheBacklog(userStoryBacklogStore, new SprintStateForTheJournal());
+        }
+    }
 
     /**
      * Creates a new user story and adds it to the backlog.
@@ -119,9 +212,103 @@ public class AgileSprintPlanningService {
 
         log.info("🎯 Creating new user story: '{}' with {} story points", storyTitle, storyPoints);
 
-        UserStoryForAgileSprintPlanning newStory = UserStoryForAgileSprintPlanning.builder()
-                .userStoryIdentificationNumberForTrackingPurposes(
-                        userStoryIdentificationNumberGeneratorCounter.getAndIncrement())
+        UserStoryForAgileSprintPlanning newStory = makeItWorkByBuildingANewBacklogStory(
+                userStoryBacklogStore.makeItWorkByAllocatingTheNextStoryIdentificationNumber(),
+                storyTitle, asAUser, iWantTo, soThat, storyPoints, priorityLevel, acceptanceCriteria, LocalDateTime.now());
+
+        userStoryBacklogStore.doTheThingWhereWeAddANewStory(newStory);
+        makeItWorkByWaitingForTheJournal();
+
+        log.info("✅ User story #{} created successfully and added to backlog",
+                newStory.getUserStoryIdentificationNumberForTrackingPurposes());
+
+        return newStory;
+    }
+
+    /**
+     * Imports stories in bulk, e.g. when migrating from the old tracker.
+     *
+     * <p>The upload is parsed as a stream and stories are inserted in batches of
+     * {@value #THE_NUMBER_OF_STORIES_PER_IMPORT_BATCH}, each batch with one block of IDs and
+     * (when the journal is enabled) one group commit. Memory use is one batch plus the listed
+     * errors, whatever the size of the upload. Bad lines are reported, not fatal.</p>
+     *
+     * @param upload The upload, buffered
+     * @param format NDJSON or CSV
+     * @return How many records were read, imported and rejected, and why
+     * @throws IOException if the upload can't be read (batches inserted before that stay)
+     */
+    public UserStoryImportReportForBacklogMigration doTheThingWhereWeImportStoriesIntoTheBacklog(
+            Reader upload, StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration format)
+            throws IOException {
+        log.info("📦 Importing stories into the backlog from {}", format);
+        long startNanos = System.nanoTime();
+        List<UserStoryImportRecordForBacklogMigration> pendingRecords = new ArrayList<>(THE_NUMBER_OF_STORIES_PER_IMPORT_BATCH);
+        List<UserStoryImportReportForBacklogMigration.LineErrorForBacklogMigration> reportedErrors = new ArrayList<>();
+        long[] recordsReadImportedAndRejected = new long[3];
+
+        StreamingUserStoryImportParserForBacklogMigration.doTheThingWhereWeParseTheUpload(upload, format,
+                new StreamingUserStoryImportParserForBacklogMigration.StoryImportHandlerForBacklogMigration() {
+                    @Override
+                    public void doTheThingWhereWeHandleTheRecord(long lineNumber, UserStoryImportRecordForBacklogMigration importRecord) {
+                        recordsReadImportedAndRejected[0]++;
+                        pendingRecords.add(importRecord);
+                        if (pendingRecords.size() == THE_NUMBER_OF_STORIES_PER_IMPORT_BATCH) {
+                            recordsReadImportedAndRejected[1] += makeItWorkByInsertingTheImportBatch(pendingRecords);
+                        }
+                    }
+
+                    @Override
+                    public void doTheThingWhereWeHandleTheRejectedRecord(long lineNumber, String reason) {
+                        recordsReadImportedAndRejected[0]++;
+                        recordsReadImportedAndRejected[2]++;
+                        if (reportedErrors.size() < UserStoryImportReportForBacklogMigration.MAXIMUM_REPORTED_ERRORS) {
+                            reportedErrors.add(new UserStoryImportReportForBacklogMigration.LineErrorForBacklogMigration(lineNumber, reason));
+                        }
+                    }
+                });
+        if (!pendingRecords.isEmpty()) {
+            recordsReadImportedAndRejected[1] += makeItWorkByInsertingTheImportBatch(pendingRecords);
+        }
+
+        UserStoryImportReportForBacklogMigration report = UserStoryImportReportForBacklogMigration.builder()
+                .recordsRead(recordsReadImportedAndRejected[0])
+                .storiesImported(recordsReadImportedAndRejected[1])
+                .errorCount(recordsReadImportedAndRejected[2])
+                .errors(reportedErrors)
+                .elapsedMilliseconds((System.nanoTime() - startNanos) / 1_000_000)
+                .build();
+        log.info("✅ Import complete: {} stories imported, {} lines rejected in {} ms",
+                report.getStoriesImported(), report.getErrorCount(), report.getElapsedMilliseconds());
+        return report;
+    }
+
+    /**
+     * Turns one batch of import records into backlog stories and clears it.
+     *
+     * @return How many stories were inserted
+     */
+    private int makeItWorkByInsertingTheImportBatch(List<UserStoryImportRecordForBacklogMigration> importRecords) {
+        long firstStoryId = userStoryBacklogStore.makeItWorkByAllocatingABlockOfStoryIdentificationNumbers(importRecords.size());
+        LocalDateTime importedAt = LocalDateTime.now();
+        List<UserStoryForAgileSprintPlanning> newStories = new ArrayList<>(importRecords.size());
+        for (int i = 0; i < importRecords.size(); i++) {
+            UserStoryImportRecordForBacklogMigration importRecord = importRecords.get(i);
+            newStories.add(makeItWorkByBuildingANewBacklogStory(firstStoryId + i, importRecord.getTitle(),
+                    importRecord.getAsAUser(), importRecord.getIWantTo(), importRecord.getSoThat(),
+                    importRecord.getStoryPoints(), importRecord.getPriority(), importRecord.getAcceptanceCriteria(), importedAt));
+        }
+        userStoryBacklogStore.doTheThingWhereWeAddABatchOfNewStories(newStories);
+        makeItWorkByWaitingForTheJournal();
+        importRecords.clear();
+        return newStories.size();
+    }
+
+    private static UserStoryForAgileSprintPlanning makeItWorkByBuildingANewBacklogStory(
+            long storyId, String storyTitle, String asAUser, String iWantTo, String soThat, Integer storyPoints,
+            PriorityLevelForBacklogManagement priorityLevel, String acceptanceCriteria, LocalDateTime createdAt) {
+        return UserStoryForAgileSprintPlanning.builder()
+                .userStoryIdentificationNumberForTrackingPurposes(storyId)
                 .storyTitleForQuickIdentificationInStandupMeetings(storyTitle)
                 .asAUserPersonaOrStakeholderRole(asAUser)
                 .iWantToHaveThisSpecificCapabilityOrFeature(iWantTo)
@@ -132,26 +319,140 @@ public class AgileSprintPlanningService {
                 .currentStatus(StoryStatusForWorkflowTracking.BACKLOG)
                 .hasBeenGroomedInBacklogRefinementSession(false)
                 .isBlockedByDependenciesOrTechnicalDebt(false)
-                .createdTimestampForAuditTrail(LocalDateTime.now())
-                .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                .createdTimestampForAuditTrail(createdAt)
+                .lastUpdatedTimestampForAuditTrail(createdAt)
                 .build();
+    }
 
-        userStoryBacklogStorageMap.put(newStory.getUserStoryIdentificationNumberForTrackingPurposes(), newStory);
+    /**
+     * Retrieves all user stories from the backlog.
+     *
+     * @return List of all user stories across all sprints and statuses, in backlog order:
+     *         highest priority first, then as the Product Owner ranked them, all as of the same moment
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeGetAllUserStoriesFromBacklog() {
+        List<UserStoryForAgileSprintPlanning> allStories = userStoryBacklogStore.doTheThingWhereWeGetTheStoriesInBacklogOrder(story -> true);
+        log.info("📋 Retrieving all {} user stories from backlog", allStories.size());
+        return allStories;
+    }
 
-        log.info("✅ User story #{} created successfully and added to backlog",
-                newStory.getUserStoryIdentificationNumberForTrackingPurposes());
+    /**
+     * Takes a point-in-time view of the whole backlog for reports that read it more than once.
+     *
+     * <p>O(1) and lock-free: reading it never holds up a change, and no change shows up in it,
+     * so every number a report computes from it adds up.</p>
+     *
+     * @return The backlog as of the last committed change
+     */
+    public PersistentBacklogSnapshotForConsistentReads doTheThingWhereWeTakeASnapshotOfTheBacklog() {
+        PersistentBacklogSnapshotForConsistentReads snapshot = userStoryBacklogStore.doTheThingWhereWeTakeASnapshot();
+        log.info("📸 Took backlog snapshot version {} with {} stories",
+                snapshot.getVersion(), snapshot.makeItWorkByCountingTheStories());
+        return snapshot;
+    }
 
-        return newStory;
+    /**
+     * Drags a story to a new place in the backlog order, among the stories of its priority.
+     *
+     * <p>Only the moved story gets a new rank (one between its new neighbours'), so the move
+     * costs O(log n) however big the backlog is, and nobody else's rank changes.</p>
+     *
+     * @param storyId The story to move
+     * @param afterStoryId The story it should come right after, or null to move it to the top of its priority
+     * @return The moved story
+     * @throws IllegalArgumentException if either story doesn't exist
+     * @throws IllegalStateException if the other story is the same one or has a different priority
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeReRankTheStoryInTheBacklog(Long storyId, Long afterStoryId) {
+        log.info("🏅 Dragging user story #{} to {}", storyId,
+                afterStoryId == null ? "the top of its priority" : "just after user story #" + afterStoryId);
+        UserStoryForAgileSprintPlanning movedStory =
+                userStoryBacklogStore.doTheThingWhereWeMoveTheStoryInTheBacklogOrder(storyId, afterStoryId);
+        makeItWorkByWaitingForTheJournal();
+        return movedStory;
     }
 
     /**
-     * Retrieves all user stories from the backlog.
+     * Retrieves one page of the backlog in ascending story ID order, optionally filtered.
      *
-     * @return List of all user stories across all sprints and statuses
+     * <p>Only the stories on the page are read, straight from the store's sorted indexes, so
+     * the cost and the response size depend on the page size, not on the size of the backlog.</p>
+     *
+     * @param cursor The {@code nextCursor} of the previous page, or null for the first page
+     * @param limit Maximum number of stories on the page
+     * @param status Only stories in this status (null: any)
+     * @param priority Only stories with this priority (null: any)
+     * @return The page and the cursor for the next one
      */
-    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeGetAllUserStoriesFromBacklog() {
-        log.info("📋 Retrieving all {} user stories from backlog", userStoryBacklogStorageMap.size());
-        return new ArrayList<>(userStoryBacklogStorageMap.values());
+    public UserStoryPageForCursorPagination doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+            Long cursor, int limit, StoryStatusForWorkflowTracking status, PriorityLevelForBacklogManagement priority) {
+        log.info("📄 Retrieving up to {} user stories after cursor {} (status: {}, priority: {})",
+                limit, cursor, status, priority);
+
+        // One extra story tells us whether there is a next page without a second lookup
+        List<UserStoryForAgileSprintPlanning> stories = userStoryBacklogStore.doTheThingWhereWeReadAPageOfStories(
+                cursor == null ? 0 : cursor, limit + 1, status, priority);
+        Long nextCursor = null;
+        if (stories.size() > limit) {
+            stories = stories.subList(0, limit);
+            nextCursor = stories.get(limit - 1).getUserStoryIdentificationNumberForTrackingPurposes();
+        }
+
+        return UserStoryPageForCursorPagination.builder()
+                .stories(stories)
+                .nextCursor(nextCursor)
+                .limit(limit)
+                .build();
+    }
+
+    /**
+     * Searches the backlog for stories whose title, "I want to", "so that" or acceptance
+     * criteria contain any of the query's words, best match first.
+     *
+     * @param query Free text, e.g. "TPS report cover sheet"
+     * @param limit Maximum number of hits
+     * @return The best matching stories with their scores
+     */
+    public UserStorySearchResultsForFullTextSearch doTheThingWhereWeSearchUserStoriesInTheBacklog(String query, int limit) {
+        log.info("🔎 Searching the backlog for '{}' (limit: {})", query, limit);
+
+        InvertedStoryIndexForFullTextSearch.StorySearchResultForFullTextSearch result =
+                userStoryBacklogStore.doTheThingWhereWeSearchTheStories(query, limit);
+        List<UserStorySearchResultsForFullTextSearch.StorySearchHitForFullTextSearch> hits = new ArrayList<>(result.getHits().size());
+        for (InvertedStoryIndexForFullTextSearch.StorySearchHitForFullTextSearch hit : result.getHits()) {
+            hits.add(new UserStorySearchResultsForFullTextSearch.StorySearchHitForFullTextSearch(
+                    hit.getScore(), userStoryBacklogStore.doTheThingWhereWeFindTheStory(hit.getStoryId())));
+        }
+
+        return UserStorySearchResultsForFullTextSearch.builder()
+                .query(query)
+                .totalMatches(result.getTotalMatches())
+                .hits(hits)
+                .build();
+    }
+
+    /**
+     * Reads the backlog changes after a sequence number, without waiting.
+     *
+     * @param since The last change sequence the caller has seen (0 for none)
+     * @param limit Most changes to return
+     * @return The changes, or a page telling the caller to reload the backlog
+     */
+    public UserStoryChangeFeedPageForKanbanBoards doTheThingWhereWeReadTheBacklogChangesSince(long since, int limit) {
+        return backlogChangeFeedForKanbanBoards.doTheThingWhereWeReadTheChangesSince(since, limit);
+    }
+
+    /**
+     * Sends every backlog change after a sequence number to the subscriber as it happens.
+     *
+     * @param since The last change sequence the caller has seen
+     * @param limit Most changes per delivery
+     * @param subscriber Receives the changes on a sender thread
+     * @return The subscription to cancel when done, or null if too many boards are subscribed
+     */
+    public BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards makeItWorkBySubscribingToTheBacklogChanges(
+            long since, int limit, BacklogChangeFeedForKanbanBoards.ChangeSubscriberForKanbanBoards subscriber) {
+        return backlogChangeFeedForKanbanBoards.makeItWorkBySubscribingToTheChanges(since, limit, subscriber);
     }
 
     /**
@@ -164,9 +465,7 @@ public class AgileSprintPlanningService {
             Integer sprintNumber) {
         log.info("🔍 Retrieving user stories for Sprint #{}", sprintNumber);
 
-        return userStoryBacklogStorageMap.values().stream()
-                .filter(story -> sprintNumber.equals(story.getAssignedToSprintNumberForIterativeDevelopment()))
-                .collect(Collectors.toList());
+        return userStoryBacklogStore.doTheThingWhereWeFindTheStoriesInTheSprint(sprintNumber);
     }
 
     /**
@@ -183,26 +482,66 @@ public class AgileSprintPlanningService {
             int numberOfSprintsToIncludeInCalculation) {
         log.info("📊 Calculating team velocity over last {} sprints", numberOfSprintsToIncludeInCalculation);
 
-        int sprintsToConsider = Math.min(numberOfSprintsToIncludeInCalculation,
-                historicalVelocityDataForCapacityPlanning.size());
+        // O(1): prefix sums, no rescan of the history
+        double averageVelocity = historicalVelocityDataForCapacityPlanning
+                .makeItWorkByCalculatingTheMeanOfTheLastSprints(numberOfSprintsToIncludeInCalculation);
 
-        if (sprintsToConsider == 0) {
+        log.info("✨ Team velocity calculated: {} story points per sprint", averageVelocity);
+        return averageVelocity;
+    }
+
+    /**
+     * Calculates mean, standard deviation, min/max and percentiles of the team's velocity over
+     * the most recent sprints, without rescanning the history.
+     *
+     * @param numberOfSprintsToIncludeInCalculation How many past sprints to include
+     * @return The statistics of that window (the optimistic default of 25 without history)
+     */
+    public RollingVelocityStatisticsForCapacityPlanning.VelocityWindowStatisticsForCapacityPlanning
+            doTheThingWhereWeCalculateTheVelocityStatisticsForCapacityPlanning(int numberOfSprintsToIncludeInCalculation) {
+        RollingVelocityStatisticsForCapacityPlanning.VelocityWindowStatisticsForCapacityPlanning statistics =
+                historicalVelocityDataForCapacityPlanning.doTheThingWhereWeSummarizeTheLastSprints(numberOfSprintsToIncludeInCalculation);
+        if (statistics.getSprintsAnalyzed() == 0) {
             log.warn("⚠️ No historical velocity data available, returning default velocity of 25");
-            return 25.0; // Optimistic default
         }
+        return statistics;
+    }
 
-        List<Integer> recentVelocities = historicalVelocityDataForCapacityPlanning.subList(
-                Math.max(0, historicalVelocityDataForCapacityPlanning.size() - sprintsToConsider),
-                historicalVelocityDataForCapacityPlanning.size()
-        );
-
-        double averageVelocity = recentVelocities.stream()
+    /**
+     * Forecasts when the stories that aren't DONE or CANCELLED yet will be done, by simulating
+     * future sprints with velocities drawn from the team's history.
+     *
+     * @param numberOfTrials How many futures to simulate (capped at the configured maximum)
+     * @return Distribution of sprints needed, counted from today
+     */
+    public MonteCarloSprintForecastEngineForCapacityPlanning.SprintForecastForCapacityPlanning
+            doTheThingWhereWeForecastTheBacklogCompletion(int numberOfTrials) {
+        long remainingStoryPoints = 0;
+        for (StoryStatusForWorkflowTracking status : StoryStatusForWorkflowTracking.values()) {
+            // Cancelled work will never be done, just like the dependency graph and planning treat it
+            if (status == StoryStatusForWorkflowTracking.DONE || status == StoryStatusForWorkflowTracking.CANCELLED) {
+                continue;
+            }
+            for (UserStoryForAgileSprintPlanning story : userStoryBacklogStore.doTheThingWhereWeFindTheStoriesWithTheStatus(status)) {
+                Integer storyPoints = story.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
+                remainingStoryPoints += storyPoints == null ? 0 : storyPoints;
+            }
+        }
+        int[] velocityHistory = historicalVelocityDataForCapacityPlanning.makeItWorkByCopyingTheHistory().stream()
                 .mapToInt(Integer::intValue)
-                .average()
-                .orElse(25.0);
+                .toArray();
 
-        log.info("✨ Team velocity calculated: {} story points per sprint", averageVelocity);
-        return averageVelocity;
+        log.info("🔮 Forecasting {} remaining story points from {} sprints of velocity history",
+                remainingStoryPoints, velocityHistory.length);
+        return sprintForecastEngineForCapacityPlanning.doTheThingWhereWeForecastTheCompletion(
+                velocityHistory, remainingStoryPoints, numberOfTrials, LocalDate.now());
+    }
+
+    /**
+     * @return The most trials one forecast runs
+     */
+    public int makeItWorkByReportingTheMaximumNumberOfForecastTrials() {
+        return sprintForecastEngineForCapacityPlanning.makeItWorkByReportingTheMaximumNumberOfTrials();
     }
 
     /**
@@ -220,21 +559,208 @@ public class AgileSprintPlanningService {
             Long storyId, String blockageReason) {
         log.warn("🚫 Marking user story #{} as BLOCKED: {}", storyId, blockageReason);
 
-        UserStoryForAgileSprintPlanning story = userStoryBacklogStorageMap.get(storyId);
-        if (story == null) {
+        UserStoryForAgileSprintPlanning story;
+        try {
+            story = userStoryBacklogStore.doTheThingWhereWeUpdateTheStory(storyId, currentStory -> currentStory.toBuilder()
+                    .isBlockedByDependenciesOrTechnicalDebt(true)
+                    .blockageReasonIfApplicable(blockageReason)
+                    .currentStatus(StoryStatusForWorkflowTracking.BLOCKED)
+                    .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                    .build());
+        } catch (IllegalArgumentException e) {
             log.error("❌ User story #{} not found in backlog", storyId);
-            throw new IllegalArgumentException("User story not found: " + storyId);
+            throw e;
         }
-
-        story.setIsBlockedByDependenciesOrTechnicalDebt(true);
-        story.setBlockageReasonIfApplicable(blockageReason);
-        story.setCurrentStatus(StoryStatusForWorkflowTracking.BLOCKED);
-        story.setLastUpdatedTimestampForAuditTrail(LocalDateTime.now());
+        makeItWorkByWaitingForTheJournal();
 
         log.info("✅ User story #{} marked as blocked, will discuss in next standup", storyId);
         return story;
     }
 
+    /**
+     * Records that a story can't start until another one is finished.
+     *
+     * <p>Unlike {@link #doTheThingWhereWeMarkUserStoryAsBlocked}, this is a link between two
+     * stories rather than a reason in free text: sprint planning leaves the story alone until
+     * the blocking story is DONE or CANCELLED, and the link counts towards the critical path.</p>
+     *
+     * @param storyId The story that has to wait
+     * @param blockingStoryId The story it waits for
+     * @return The updated story (unchanged if the link was already there)
+     * @throws IllegalArgumentException if either story does not exist
+     * @throws IllegalStateException if the blocking story already waits for this one, directly or not
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(
+            Long storyId, Long blockingStoryId) {
+        log.warn("🔗 Marking user story #{} as blocked by user story #{}", storyId, blockingStoryId);
+
+        if (userStoryBacklogStore.doTheThingWhereWeFindTheStory(blockingStoryId) == null) {
+            log.error("❌ Blocking user story #{} not found in backlog", blockingStoryId);
+            throw new IllegalArgumentException("User story not found: " + blockingStoryId);
+        }
+        UserStoryForAgileSprintPlanning story;
+        try {
+            story = userStoryBacklogStore.doTheThingWhereWeUpdateTheStory(storyId, currentStory -> {
+                List<Long> blockingStoryIds = currentStory.getBlockedByUserStoryIdentificationNumbers() == null
+                        ? new ArrayList<>() : new ArrayList<>(currentStory.getBlockedByUserStoryIdentificationNumbers());
+                if (blockingStoryIds.contains(blockingStoryId)) {
+                    return currentStory;
+                }
+                blockingStoryIds.add(blockingStoryId);
+                Collections.sort(blockingStoryIds);
+                return currentStory.toBuilder()
+                        .blockedByUserStoryIdentificationNumbers(blockingStoryIds)
+                        .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                        .build();
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("❌ User story #{} not found in backlog", storyId);
+            throw e;
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ User story #{} can't wait for #{}: {}", storyId, blockingStoryId, e.getMessage());
+            throw e;
+        }
+        makeItWorkByWaitingForTheJournal();
+
+        log.info("✅ User story #{} now waits for user story #{}", storyId, blockingStoryId);
+        return story;
+    }
+
+    /**
+     * Removes a blocked-by link between two stories.
+     *
+     * @param storyId The story that was waiting
+     * @param blockingStoryId The story it no longer waits for
+     * @return The updated story (unchanged if there was no such link)
+     * @throws IllegalArgumentException if the story does not exist
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeRemoveTheBlockingStory(Long storyId, Long blockingStoryId) {
+        log.info("🔓 User story #{} no longer waits for user story #{}", storyId, blockingStoryId);
+
+        UserStoryForAgileSprintPlanning story;
+        try {
+            story = userStoryBacklogStore.doTheThingWhereWeUpdateTheStory(storyId, currentStory -> {
+                List<Long> blockingStoryIds = currentStory.getBlockedByUserStoryIdentificationNumbers();
+                if (blockingStoryIds == null || !blockingStoryIds.contains(blockingStoryId)) {
+                    return currentStory;
+                }
+                List<Long> remainingStoryIds = new ArrayList<>(blockingStoryIds);
+                remainingStoryIds.remove(blockingStoryId);
+                return currentStory.toBuilder()
+                        .blockedByUserStoryIdentificationNumbers(remainingStoryIds.isEmpty() ? null : remainingStoryIds)
+                        .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                        .build();
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("❌ User story #{} not found in backlog", storyId);
+            throw e;
+        }
+        makeItWorkByWaitingForTheJournal();
+        return story;
+    }
+
+    /**
+     * Finds the critical path: the chain of unfinished stories, each blocked by the one before
+     * it, with the most story points left. It is kept up to date as links and statuses change,
+     * so this only reads the chain.
+     *
+     * @return The chain, first story first, and its length in story points
+     */
+    public UserStoryCriticalPathForDependencyPlanning doTheThingWhereWeFindTheCriticalPathThroughTheBacklog() {
+        StoryDependencyGraphForCriticalPathPlanning.CriticalPathForDependencyPlanning criticalPath =
+                userStoryBacklogStore.doTheThingWhereWeFindTheCriticalPath();
+        long[] storyIds = criticalPath.getStoryIds();
+        List<UserStoryForAgileSprintPlanning> stories = new ArrayList<>(storyIds.length);
+        for (long storyId : storyIds) {
+            stories.add(userStoryBacklogStore.doTheThingWhereWeFindTheStory(storyId));
+        }
+
+        log.info("🏔️ Critical path: {} stories, {} story points", stories.size(), criticalPath.getLengthInStoryPoints());
+        return UserStoryCriticalPathForDependencyPlanning.builder()
+                .lengthInStoryPoints(criticalPath.getLengthInStoryPoints())
+                .numberOfDependencies(criticalPath.getNumberOfDependencies())
+                .stories(stories)
+                .build();
+    }
+
+    /**
+     * Charts how a sprint's story points burned down, day by day.
+     *
+     * @param sprintNumber The sprint
+     * @return Committed, completed and remaining points, and the remaining points after each day with a completion
+     */
+    public UserStorySprintBurndownForAgileAnalytics doTheThingWhereWeChartTheSprintBurndown(int sprintNumber) {
+        ColumnarStoryAnalyticsForBurndownReporting analyticsColumns = userStoryBacklogStore.makeItWorkByGettingTheAnalyticsColumns();
+        StoryFilterForAnalytics storiesInTheSprint = StoryFilterForAnalytics.everyStory().inSprint(sprintNumber);
+        List<StoryStatusForWorkflowTracking> committedStatuses = new ArrayList<>(List.of(StoryStatusForWorkflowTracking.values()));
+        committedStatuses.remove(StoryStatusForWorkflowTracking.CANCELLED);
+
+        StoryGroupsForAnalytics committed = analyticsColumns.doTheThingWhereWeAggregateTheStories(
+                storiesInTheSprint.withStatus(committedStatuses.toArray(StoryStatusForWorkflowTracking[]::new)),
+                null, StoryMeasureForAnalytics.STORY_POINTS);
+        StoryGroupsForAnalytics completedByDay = analyticsColumns.doTheThingWhereWeAggregateTheStories(
+                storiesInTheSprint.withStatus(StoryStatusForWorkflowTracking.DONE),
+                StoryColumnForAnalytics.COMPLETION_DAY, StoryMeasureForAnalytics.STORY_POINTS);
+
+        long committedPoints = committed.getNumberOfGroups() == 0 ? 0 : committed.getSum(0);
+        long remainingPoints = committedPoints;
+        List<UserStorySprintBurndownForAgileAnalytics.BurndownDayForAgileAnalytics> days =
+                new ArrayList<>(completedByDay.getNumberOfGroups());
+        for (int day = 0; day < completedByDay.getNumberOfGroups(); day++) {
+            remainingPoints -= completedByDay.getSum(day);
+            days.add(new UserStorySprintBurndownForAgileAnalytics.BurndownDayForAgileAnalytics(
+                    completedByDay.getLabel(day), completedByDay.getSum(day), remainingPoints));
+        }
+
+        log.info("📉 Sprint {} burndown: {} of {} story points left", sprintNumber, remainingPoints, committedPoints);
+        return UserStorySprintBurndownForAgileAnalytics.builder()
+                .sprintNumber(sprintNumber)
+                .committedPoints(committedPoints)
+                .completedPoints(committedPoints - remainingPoints)
+                .remainingPoints(remainingPoints)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * Reports how long DONE stories took from creation to completion, per group.
+     *
+     * @param groupBy SPRINT, PRIORITY, DEVELOPER or COMPLETION_DAY
+     * @return The mean and p50/p85/p95 cycle time in hours per group
+     * @throws IllegalArgumentException if the stories can't be grouped by that column
+     */
+    public UserStoryCycleTimeReportForAgileAnalytics doTheThingWhereWeReportTheCycleTimes(StoryColumnForAnalytics groupBy) {
+        if (groupBy == StoryColumnForAnalytics.STATUS) {
+            throw new IllegalArgumentException("Every story in a cycle time report is DONE, so grouping by status says nothing");
+        }
+        StoryGroupsForAnalytics cycleTimes = userStoryBacklogStore.makeItWorkByGettingTheAnalyticsColumns()
+                .doTheThingWhereWeAggregateTheStories(
+                        StoryFilterForAnalytics.everyStory().withStatus(StoryStatusForWorkflowTracking.DONE),
+                        groupBy, StoryMeasureForAnalytics.CYCLE_TIME_IN_SECONDS, 50, 85, 95);
+
+        long storiesAnalyzed = 0;
+        List<UserStoryCycleTimeReportForAgileAnalytics.CycleTimeGroupForAgileAnalytics> groups =
+                new ArrayList<>(cycleTimes.getNumberOfGroups());
+        for (int group = 0; group < cycleTimes.getNumberOfGroups(); group++) {
+            long stories = cycleTimes.getCount(group);
+            storiesAnalyzed += stories;
+            groups.add(new UserStoryCycleTimeReportForAgileAnalytics.CycleTimeGroupForAgileAnalytics(
+                    cycleTimes.getLabel(group),
+                    stories,
+                    cycleTimes.getSum(group) / 3600.0 / stories,
+                    cycleTimes.getPercentile(group, 0) / 3600.0,
+                    cycleTimes.getPercentile(group, 1) / 3600.0,
+                    cycleTimes.getPercentile(group, 2) / 3600.0));
+        }
+
+        log.info("⏱️ Cycle times of {} DONE stories in {} groups by {}", storiesAnalyzed, groups.size(), groupBy);
+        return UserStoryCycleTimeReportForAgileAnalytics.builder()
+                .groupedBy(groupBy.name())
+                .storiesAnalyzed(storiesAnalyzed)
+                .groups(groups)
+                .build();
+    }
+
     /**
      * Moves a user story to a different workflow status.
      *
@@ -247,25 +773,45 @@ public class AgileSprintPlanningService {
      */
     public UserStoryForAgileSprintPlanning doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
             Long storyId, StoryStatusForWorkflowTracking newStatus) {
+        return doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(storyId, null, newStatus);
+    }
+
+    /**
+     * Moves a user story to a different workflow status, but only if it is still in the
+     * status the caller expects. When two workers both try to move a READY story to
+     * IN_PROGRESS, exactly one of them wins; the other gets an IllegalStateException
+     * instead of silently overwriting the first.
+     *
+     * @param storyId The ID of the story to update
+     * @param expectedStatus The status the story must currently have (null: any status)
+     * @param newStatus The target workflow status
+     * @return The updated story
+     * @throws IllegalArgumentException if the story does not exist
+     * @throws IllegalStateException if the story is not in the expected status
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+            Long storyId, StoryStatusForWorkflowTracking expectedStatus, StoryStatusForWorkflowTracking newStatus) {
         log.info("🔄 Moving user story #{} to status: {}", storyId, newStatus);
 
-        UserStoryForAgileSprintPlanning story = userStoryBacklogStorageMap.get(storyId);
-        if (story == null) {
+        StoryStatusForWorkflowTracking[] oldStatus = {null};
+        UserStoryForAgileSprintPlanning story;
+        try {
+            story = userStoryBacklogStore.doTheThingWhereWeCompareAndSetTheStatus(storyId, expectedStatus, newStatus,
+                    replacedStory -> oldStatus[0] = replacedStory.getCurrentStatus());
+        } catch (IllegalArgumentException e) {
             log.error("❌ User story #{} not found in backlog", storyId);
-            throw new IllegalArgumentException("User story not found: " + storyId);
+            throw e;
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ User story #{} was moved by someone else first: {}", storyId, e.getMessage());
+            throw e;
         }
+        makeItWorkByWaitingForTheJournal();
 
-        StoryStatusForWorkflowTracking oldStatus = story.getCurrentStatus();
-        story.setCurrentStatus(newStatus);
-        story.setLastUpdatedTimestampForAuditTrail(LocalDateTime.now());
-
-        // If moving to DONE, record completion timestamp for velocity calculation
         if (newStatus == StoryStatusForWorkflowTracking.DONE) {
-            story.setCompletedTimestampForVelocityCalculation(LocalDateTime.now());
             log.info("🎉 User story #{} completed! Time to demo it in sprint review!", storyId);
         }
 
-        log.info("✅ User story #{} moved from {} to {}", storyId, oldStatus, newStatus);
+        log.info("✅ User story #{} moved from {} to {}", storyId, oldStatus[0], newStatus);
         return story;
     }
 
@@ -309,37 +855,51 @@ public class AgileSprintPlanningService {
      * commits to a set of stories for the upcoming sprint, estimates story points,
      * discusses technical approach, and orders lunch.</p>
      *
+     * <p>The commitment is the set of unplanned stories with the highest priority-weighted
+     * value that fits the target velocity (see {@link OptimalSprintPlanningEngineForCapacityPlanning}),
+     * not just whatever the highest-priority stories happen to leave room for.</p>
+     *
+     * <p>The claims are committed as one change to the backlog, so a backlog snapshot or report
+     * never shows half a plan, and two ceremonies running at once never claim the same story.</p>
+     *
      * @param targetVelocity How many story points the team commits to
      * @return Summary of the sprint planning session
      */
     public Map<String, Object> doTheThingWhereWeSimulateSprintPlanningCeremony(int targetVelocity) {
-        log.info("🗓️ Starting Sprint Planning Ceremony for Sprint #{}", currentSprintNumberForIterativeDelivery);
-
-        // Get unassigned stories from backlog
-        List<UserStoryForAgileSprintPlanning> backlogStories = userStoryBacklogStorageMap.values().stream()
-                .filter(story -> story.getAssignedToSprintNumberForIterativeDevelopment() == null)
-                .filter(story -> story.getCurrentStatus() == StoryStatusForWorkflowTracking.BACKLOG
-                        || story.getCurrentStatus() == StoryStatusForWorkflowTracking.READY)
-                .sorted(Comparator.comparing(UserStoryForAgileSprintPlanning::getPriorityLevel).reversed())
-                .collect(Collectors.toList());
-
-        // Select stories up to target velocity
-        List<UserStoryForAgileSprintPlanning> selectedStories = new ArrayList<>();
-        int totalPoints = 0;
+        int sprintNumber = currentSprintNumberForIterativeDelivery.get();
+        log.info("🗓️ Starting Sprint Planning Ceremony for Sprint #{}", sprintNumber);
 
-        for (UserStoryForAgileSprintPlanning story : backlogStories) {
-            int storyPoints = story.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
-            if (totalPoints + storyPoints <= targetVelocity) {
-                story.setAssignedToSprintNumberForIterativeDevelopment(currentSprintNumberForIterativeDelivery);
-                story.setCurrentStatus(StoryStatusForWorkflowTracking.READY);
-                story.setLastUpdatedTimestampForAuditTrail(LocalDateTime.now());
-                selectedStories.add(story);
-                totalPoints += storyPoints;
+        // Get unassigned stories from backlog, already in backlog order (priority, then rank)
+        List<UserStoryForAgileSprintPlanning> backlogStories =
+                userStoryBacklogStore.doTheThingWhereWeGetTheStoriesInBacklogOrder(this::isAvailableForSprintPlanning);
+
+        // Pick the most valuable set of stories that fits the target velocity
+        OptimalSprintPlanningEngineForCapacityPlanning.SprintPlanForCapacityOptimization plan =
+                sprintPlanningEngineForCapacityOptimization.doTheThingWhereWePlanTheSprint(backlogStories, targetVelocity);
+
+        // Commit the whole plan as one change: reports and snapshots see all of it or none of it
+        List<UserStoryForAgileSprintPlanning> selectedStories = userStoryBacklogStore.doTheThingWhereWeCommitTheChangesAtomically(() -> {
+            List<UserStoryForAgileSprintPlanning> claimedStories = new ArrayList<>();
+            for (UserStoryForAgileSprintPlanning candidate : plan.getSelectedStories()) {
+                // Claim the story atomically: a parallel planning session may have taken it already
+                UserStoryForAgileSprintPlanning claimedStory = makeItWorkByClaimingTheStoryForTheSprint(
+                        candidate.getUserStoryIdentificationNumberForTrackingPurposes(), sprintNumber);
+                if (claimedStory != null) {
+                    claimedStories.add(claimedStory);
+                }
             }
+            return claimedStories;
+        });
+        int totalPoints = 0;
+        for (UserStoryForAgileSprintPlanning claimedStory : selectedStories) {
+            Integer storyPoints = claimedStory.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
+            totalPoints += storyPoints == null ? 0 : storyPoints;
         }
 
+        makeItWorkByWaitingForTheJournal();
+
         Map<String, Object> planningResults = new HashMap<>();
-        planningResults.put("sprintNumber", currentSprintNumberForIterativeDelivery);
+        planningResults.put("sprintNumber", sprintNumber);
         planningResults.put("targetVelocity", targetVelocity);
         planningResults.put("committedPoints", totalPoints);
         planningResults.put("storiesCommitted", selectedStories.size());
@@ -348,12 +908,45 @@ public class AgileSprintPlanningService {
         planningResults.put("pizzaOrdered", true);
         planningResults.put("teamMoraleAfterMeeting", "Cautiously optimistic");
 
-        log.info("✅ Sprint Planning Complete: {} stories, {} points committed for Sprint #{}",
-                selectedStories.size(), totalPoints, currentSprintNumberForIterativeDelivery);
+        log.info("✅ Sprint Planning Complete: {} stories, {} points committed for Sprint #{} ({} plan)",
+                selectedStories.size(), totalPoints, sprintNumber, plan.getAlgorithmUsed());
 
         return planningResults;
     }
 
+    /**
+     * Assigns a story to a sprint and marks it READY, if it is still unplanned.
+     *
+     * @return The claimed story, or null if it was planned, moved or removed in the meantime
+     */
+    private UserStoryForAgileSprintPlanning makeItWorkByClaimingTheStoryForTheSprint(Long storyId, int sprintNumber) {
+        boolean[] wasClaimed = {false};
+        UserStoryForAgileSprintPlanning story = userStoryBacklogStore.doTheThingWhereWeUpdateTheStory(storyId, currentStory -> {
+            if (!isAvailableForSprintPlanning(currentStory)) {
+                return currentStory;
+            }
+            wasClaimed[0] = true;
+            return currentStory.toBuilder()
+                    .assignedToSprintNumberForIterativeDevelopment(sprintNumber)
+                    .currentStatus(StoryStatusForWorkflowTracking.READY)
+                    .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                    .build();
+        });
+        return wasClaimed[0] ? story : null;
+    }
+
+    /**
+     * Which stories a planning session may pull: unassigned, in BACKLOG or READY, and not
+     * waiting for a story that isn't finished yet.
+     */
+    private boolean isAvailableForSprintPlanning(UserStoryForAgileSprintPlanning story) {
+        return story.getAssignedToSprintNumberForIterativeDevelopment() == null
+                && (story.getCurrentStatus() == StoryStatusForWorkflowTracking.BACKLOG
+                || story.getCurrentStatus() == StoryStatusForWorkflowTracking.READY)
+                && userStoryBacklogStore.makeItWorkByCheckingWhetherTheBlockersAreFinished(
+                        story.getUserStoryIdentificationNumberForTrackingPurposes());
+    }
+
     /**
      * Simulates a daily standup and returns status updates.
      *
@@ -366,20 +959,17 @@ public class AgileSprintPlanningService {
     public Map<String, Object> doTheThingWhereWeSimulateDailyStandupMeeting() {
         log.info("☀️ Starting Daily Standup Meeting (scheduled for 15 minutes, will actually take 45)");
 
-        List<UserStoryForAgileSprintPlanning> currentSprintStories = doTheThingWhereWeGetUserStoriesForSpecificSprint(
-                currentSprintNumberForIterativeDelivery);
+        // O(1) each: read straight from the per-sprint per-status counters
+        int currentSprintNumber = currentSprintNumberForIterativeDelivery.get();
 
-        long inProgressCount = currentSprintStories.stream()
-                .filter(s -> s.getCurrentStatus() == StoryStatusForWorkflowTracking.IN_PROGRESS)
-                .count();
+        long inProgressCount = userStoryBacklogStore.makeItWorkByCountingTheStoriesInTheSprintWithTheStatus(
+                currentSprintNumber, StoryStatusForWorkflowTracking.IN_PROGRESS);
 
-        long blockedCount = currentSprintStories.stream()
-                .filter(s -> s.getCurrentStatus() == StoryStatusForWorkflowTracking.BLOCKED)
-                .count();
+        long blockedCount = userStoryBacklogStore.makeItWorkByCountingTheStoriesInTheSprintWithTheStatus(
+                currentSprintNumber, StoryStatusForWorkflowTracking.BLOCKED);
 
-        long doneCount = currentSprintStories.stream()
-                .filter(s -> s.getCurrentStatus() == StoryStatusForWorkflowTracking.DONE)
-                .count();
+        long doneCount = userStoryBacklogStore.makeItWorkByCountingTheStoriesInTheSprintWithTheStatus(
+                currentSprintNumber, StoryStatusForWorkflowTracking.DONE);
 
         Map<String, Object> standupStatus = new HashMap<>();
         standupStatus.put("meetingStartTime", LocalDateTime.now());
@@ -406,14 +996,78 @@ public class AgileSprintPlanningService {
      * Advances to the next sprint and records velocity.
      *
      * @param completedPoints Story points actually completed (reality vs commitment)
+     * @throws IllegalArgumentException if the points are negative or absurdly high
      */
     public void doTheThingWhereWeCompleteCurrentSprintAndStartNext(int completedPoints) {
-        log.info("🏁 Completing Sprint #{} with {} points delivered", currentSprintNumberForIterativeDelivery, completedPoints);
+        int completedSprintNumber;
+        int nextSprintNumber;
+        // Velocity entry and sprint number move together, so each sprint is recorded exactly once
+        synchronized (historicalVelocityDataForCapacityPlanning) {
+            // Recorded first: it rejects impossible velocities before they reach the journal
+            historicalVelocityDataForCapacityPlanning.doTheThingWhereWeRecordTheSprintVelocity(completedPoints);
+            if (durableJournalForTheAgileBacklog != null) {
+                durableJournalForTheAgileBacklog.doTheThingWhereWeAppendASprintCompletion(completedPoints);
+            }
+            completedSprintNumber = currentSprintNumberForIterativeDelivery.get();
+            nextSprintNumber = currentSprintNumberForIterativeDelivery.incrementAndGet();
+        }
+        makeItWorkByWaitingForTheJournal();
 
-        historicalVelocityDataForCapacityPlanning.add(completedPoints);
-        currentSprintNumberForIterativeDelivery++;
+        log.info("🏁 Completed Sprint #{} with {} points delivered", completedSprintNumber, completedPoints);
+        log.info("🚀 Starting Sprint #{}", nextSprintNumber);
+    }
 
-        log.info("🚀 Starting Sprint #{}", currentSprintNumberForIterativeDelivery);
+    /**
+     * @return The sprint currently in progress
+     */
+    public int makeItWorkByReportingTheCurrentSprintNumber() {
+        return currentSprintNumberForIterativeDelivery.get();
     }
-}
 
+    /**
+     * Returns only once this request's changes (and everyone else's so far) are on disk.
+     */
+    private void makeItWorkByWaitingForTheJournal() {
+        if (durableJournalForTheAgileBacklog != null) {
+            durableJournalForTheAgileBacklog.makeItWorkByWaitingUntilEverythingAppendedIsDurable();
+        }
+    }
+
+    /**
+     * Lets the journal snapshot and recover the sprint number and velocity history.
+     */
+    private final class SprintStateForTheJournal
+            implements MemoryMappedAgileBacklogJournalForDurablePersistence.AgileSprintStateForDurablePersistence {
+
+        @Override
+        public Object makeItWorkByReturningTheLockGuardingSprintCompletions() {
+            return historicalVelocityDataForCapacityPlanning;
+        }
+
+        @Override
+        public int makeItWorkByReportingTheCurrentSprintNumber() {
+            return currentSprintNumberForIterativeDelivery.get();
+        }
+
+        @Override
+        public List<Integer> makeItWorkByCopyingTheVelocityHistory() {
+            return historicalVelocityDataForCapacityPlanning.makeItWorkByCopyingTheHistory();
+        }
+
+        @Override
+        public void doTheThingWhereWeRestoreTheSprintState(int sprintNumber, List<Integer> velocityHistory) {
+            synchronized (historicalVelocityDataForCapacityPlanning) {
+                historicalVelocityDataForCapacityPlanning.doTheThingWhereWeReplaceTheHistory(velocityHistory);
+                currentSprintNumberForIterativeDelivery.set(sprintNumber);
+            }
+        }
+
+        @Override
+        public void doTheThingWhereWeReplayASprintCompletion(int completedPoints) {
+            synchronized (historicalVelocityDataForCapacityPlanning) {
+                historicalVelocityDataForCapacityPlanning.doTheThingWhereWeRecordTheSprintVelocity(completedPoints);
+                currentSprintNumberForIterativeDelivery.incrementAndGet();
+            }
+        }
+    }
+}
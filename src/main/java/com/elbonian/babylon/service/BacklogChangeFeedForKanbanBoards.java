@@ -0,0 +1,284 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryChangeFeedPageForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards.ChangeTypeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enterprise Change Feed So Kanban Boards Stop Polling the Whole Backlog.
+ *
+ * <p>Every create and update in the backlog store gets the next sequence number and goes into a
+ * fixed-size ring of recent changes. Boards ask for "everything after sequence N": they get the
+ * changes straight away if there are any, and otherwise wait (long-poll or Server-Sent Events)
+ * until the next change arrives. Nothing runs for a board that is waiting, and a board that
+ * falls further behind than the ring reaches is told to reload instead of being sent
+ * everything.</p>
+ *
+ * <p>Recording a change happens inside the store's per-story critical section, so it only
+ * copies a reference into the ring and nudges the subscribers. Sending happens on separate
+ * sender threads, at most one per subscriber at a time, so a slow connection never holds up
+ * the backlog or the other boards.</p>
+ *
+ * <p>The ring lives in memory only: after a restart sequences start again at 1, and boards
+ * with a higher {@code since} are told to reload.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Component
+@Slf4j
+public class BacklogChangeFeedForKanbanBoards
+        implements ConcurrentUserStoryBacklogStoreForAgileSprintPlanning.UserStoryChangeObserverForBacklogStore {
+
+    /** Changes kept when nothing is configured. */
+    public static final int THE_DEFAULT_RING_CAPACITY = 4096;
+
+    /** Most changes returned in one response or event batch. */
+    public static final int THE_MOST_CHANGES_PER_PAGE = 500;
+
+    /** Concurrent waiting boards allowed when nothing is configured. */
+    public static final int THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS = 1000;
+
+    private final UserStoryChangeForKanbanBoards[] theRingOfRecentChanges;
+    private final int theMaximumNumberOfSubscribers;
+
+    /** Sequence of the newest change in the ring, 0 before the first. Guarded by this. */
+    private long theLatestSequence;
+
+    private final List<ChangeSubscriptionForKanbanBoards> theSubscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger theNumberOfActiveSubscribers = new AtomicInteger();
+
+    /** Sender threads block on slow sockets, never the store; at most one per subscriber. */
+    private final ExecutorService theSenderThreads = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "babylon-change-feed-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Receives the changes of one subscription. Called from a sender thread, one call at a time.
+     */
+    @FunctionalInterface
+    public interface ChangeSubscriberForKanbanBoards {
+
+        /**
+         * @param page The next changes, or a page with {@code resyncRequired} set
+         * @throws IOException if the connection is gone; the subscription is then cancelled
+         */
+        void doTheThingWhereWeDeliverTheChanges(UserStoryChangeFeedPageForKanbanBoards page) throws IOException;
+    }
+
+    /**
+     * Creates a change feed with the default ring capacity and subscriber limit.
+     */
+    public BacklogChangeFeedForKanbanBoards() {
+        this(THE_DEFAULT_RING_CAPACITY, THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS);
+    }
+
+    /**
+     * Creates a change feed with the settings configured in application.properties.
+     *
+     * @param ringCapacity How many recent changes are kept for boards to catch up on
+     * @param maximumNumberOfSubscribers Concurrent long-polls and event streams allowed
+     */
+    @Autowired
+    public BacklogChangeFeedForKanbanBoards(
+            @Value("${babylon.agile.changes.ring-capacity:" + THE_DEFAULT_RING_CAPACITY + "}") int ringCapacity,
+            @Value("${babylon.agile.changes.maximum-subscribers:" + THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS + "}")
+            int maximumNumberOfSubscribers) {
+        if (ringCapacity < 1) {
+            throw new IllegalArgumentException("Change feed ring capacity must be positive: " + ringCapacity);
+        }
+        this.theRingOfRecentChanges = new UserStoryChangeForKanbanBoards[ringCapacity];
+        this.theMaximumNumberOfSubscribers = maximumNumberOfSubscribers;
+    }
+
+    /**
+     * Records a create or update and wakes the subscribers. Runs inside the store's critical
+     * section for the story, so it stays short and never blocks.
+     */
+    @Override
+    public void doTheThingWhereWeObserveTheNewVersion(UserStoryForAgileSprintPlanning previousVersion,
+                                                      UserStoryForAgileSprintPlanning newVersion) {
+        synchronized (this) {
+            long sequence = ++theLatestSequence;
+            theRingOfRecentChanges[(int) (sequence % theRingOfRecentChanges.length)] = UserStoryChangeForKanbanBoards.builder()
+                    .sequence(sequence)
+                    .storyId(newVersion.getUserStoryIdentificationNumberForTrackingPurposes())
+                    .changeType(previousVersion == null ? ChangeTypeForKanbanBoards.CREATED : ChangeTypeForKanbanBoards.UPDATED)
+                    .previousStatus(previousVersion == null ? null : previousVersion.getCurrentStatus())
+                    .currentStatus(newVersion.getCurrentStatus())
+                    .changedAt(LocalDateTime.now())
+                    .story(newVersion)
+                    .build();
+        }
+        for (ChangeSubscriptionForKanbanBoards subscription : theSubscriptions) {
+            subscription.makeItWorkByNudgingTheSender();
+        }
+    }
+
+    /**
+     * Reads the changes after a sequence number without waiting.
+     *
+     * @param since The last sequence the board has seen (0 for none)
+     * @param limit Most changes to return, capped at {@link #THE_MOST_CHANGES_PER_PAGE}
+     * @return The changes after {@code since}, or a resync page if they are no longer all in the ring
+     */
+    public synchronized UserStoryChangeFeedPageForKanbanBoards doTheThingWhereWeReadTheChangesSince(long since, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Change feed limit must be positive: " + limit);
+        }
+        long oldestSequenceInTheRing = Math.max(1, theLatestSequence - theRingOfRecentChanges.length + 1);
+        if (since < oldestSequenceInTheRing - 1 || since > theLatestSequence) {
+            return UserStoryChangeFeedPageForKanbanBoards.builder()
+                    .changes(List.of())
+                    .nextSince(theLatestSequence)
+                    .hasMore(false)
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        int numberOfChanges = (int) Math.min(Math.min(limit, THE_MOST_CHANGES_PER_PAGE), theLatestSequence - since);
+        List<UserStoryChangeForKanbanBoards> changes = new ArrayList<>(numberOfChanges);
+        for (long sequence = since + 1; sequence <= since + numberOfChanges; sequence++) {
+            changes.add(theRingOfRecentChanges[(int) (sequence % theRingOfRecentChanges.length)]);
+        }
+        return UserStoryChangeFeedPageForKanbanBoards.builder()
+                .changes(changes)
+                .nextSince(since + numberOfChanges)
+                .hasMore(since + numberOfChanges < theLatestSequence)
+                .resyncRequired(false)
+                .build();
+    }
+
+    /**
+     * @return Sequence of the newest change, 0 if there was none yet
+     */
+    public synchronized long makeItWorkByReportingTheLatestSequence() {
+        return theLatestSequence;
+    }
+
+    /**
+     * Delivers every change after {@code since}, now and as they happen, until cancelled.
+     * Changes that are already there are sent right away.
+     *
+     * @param since The last sequence the subscriber has seen
+     * @param limit Most changes per delivered page
+     * @param subscriber Receives the pages on a sender thread
+     * @return The subscription, or null when the subscriber limit is reached
+     */
+    public ChangeSubscriptionForKanbanBoards makeItWorkBySubscribingToTheChanges(long since, int limit,
+                                                                               ChangeSubscriberForKanbanBoards subscriber) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Change feed limit must be positive: " + limit);
+        }
+        if (theNumberOfActiveSubscribers.incrementAndGet() > theMaximumNumberOfSubscribers) {
+            theNumberOfActiveSubscribers.decrementAndGet();
+            log.warn("📡 Change feed subscription refused, {} boards already waiting", theMaximumNumberOfSubscribers);
+            return null;
+        }
+        ChangeSubscriptionForKanbanBoards subscription = new ChangeSubscriptionForKanbanBoards(since, limit, subscriber);
+        theSubscriptions.add(subscription);
+        subscription.makeItWorkByNudgingTheSender();
+        return subscription;
+    }
+
+    /**
+     * @return How many boards are currently subscribed
+     */
+    public int makeItWorkByCountingTheSubscribers() {
+        return theNumberOfActiveSubscribers.get();
+    }
+
+    /**
+     * Stops the sender threads when the application shuts down.
+     */
+    @PreDestroy
+    public void makeItWorkByStoppingTheChangeFeed() {
+        theSenderThreads.shutdownNow();
+    }
+
+    /**
+     * One waiting board: the last sequence it was sent and the sender that catches it up.
+     */
+    public final class ChangeSubscriptionForKanbanBoards {
+
+        private final int theLimit;
+        private final ChangeSubscriberForKanbanBoards theSubscriber;
+        private final AtomicBoolean isASenderDraining = new AtomicBoolean();
+        private final AtomicBoolean isCancelled = new AtomicBoolean();
+
+        /** Only the draining sender reads and writes it. */
+        private long theLastSequenceSent;
+
+        private ChangeSubscriptionForKanbanBoards(long since, int limit, ChangeSubscriberForKanbanBoards subscriber) {
+            this.theLastSequenceSent = since;
+            this.theLimit = limit;
+            this.theSubscriber = subscriber;
+        }
+
+        /**
+         * Stops deliveries; idempotent.
+         */
+        public void makeItWorkByCancelling() {
+            if (isCancelled.compareAndSet(false, true)) {
+                theSubscriptions.remove(this);
+                theNumberOfActiveSubscribers.decrementAndGet();
+            }
+        }
+
+        private void makeItWorkByNudgingTheSender() {
+            if (!isCancelled.get() && isASenderDraining.compareAndSet(false, true)) {
+                try {
+                    theSenderThreads.execute(this::doTheThingWhereWeSendWhatIsNew);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    isASenderDraining.set(false);
+                }
+            }
+        }
+
+        private void doTheThingWhereWeSendWhatIsNew() {
+            try {
+                while (!isCancelled.get()) {
+                    UserStoryChangeFeedPageForKanbanBoards page = doTheThingWhereWeReadTheChangesSince(theLastSequenceSent, theLimit);
+                    if (page.getChanges().isEmpty() && !page.getResyncRequired()) {
+                        break;
+                    }
+                    theSubscriber.doTheThingWhereWeDeliverTheChanges(page);
+                    theLastSequenceSent = page.getNextSince();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("📡 Change feed subscriber went away: {}", e.getMessage());
+                makeItWorkByCancelling();
+            }
+            long lastSequenceSent = theLastSequenceSent;
+            isASenderDraining.set(false);
+            // A change recorded after the last read but before the flag was cleared found the
+            // sender still busy and didn't start another one, so look once more
+            if (!isCancelled.get() && makeItWorkByReportingTheLatestSequence() != lastSequenceSent) {
+                makeItWorkByNudgingTheSender();
+            }
+        }
+    }
+}
@@ -0,0 +1,829 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Enterprise Thread-Safe Backlog Store for Agile User Stories.
+ *
+ * <p>The backlog used to be a plain {@code HashMap} whose stories were modified in place,
+ * so concurrent POST /api/agile/stories traffic lost stories and a story being moved by
+ * one request could be serialized half-updated by another. This store fixes both:</p>
+ * <ul>
+ *   <li>📋 Stories live in a {@link ConcurrentHashMap}; creates never overwrite each other</li>
+ *   <li>📸 Stored stories are never modified. Every change builds a new copy
+ *       ({@code toBuilder()}) and swaps it in atomically, so readers always see a complete story</li>
+ *   <li>🔒 Per-story updates run inside {@code computeIfPresent}, so two workers updating the
+ *       same story are applied one after the other, never interleaved</li>
+ *   <li>⚖️ Status transitions can be compare-and-set: "move #42 from READY to IN_PROGRESS"
+ *       succeeds for exactly one of two competing workers</li>
+ *   <li>🗂️ Secondary indexes by sprint and by status, plus per-sprint per-status counters, are
+ *       maintained on every add and update, so a sprint lookup costs O(result) instead of a full
+ *       backlog scan and a standup count costs O(1)</li>
+ *   <li>📄 All story IDs, and the status and priority indexes, are kept sorted, so a cursor page
+ *       ("the next 50 READY stories after #1200") walks only the stories it returns</li>
+ *   <li>🏅 The backlog order (highest priority first, then the Product Owner's drag-and-drop rank,
+ *       see {@link FractionalBacklogRankForDragAndDropOrdering}) is a sorted index too, so planning
+ *       and listing walk it instead of sorting, and dragging a story changes only that story</li>
+ *   <li>🔎 A full-text index over each story's title, "I want to", "so that" and acceptance
+ *       criteria, so a search ranks matching stories without reading the backlog</li>
+ *   <li>🔗 A dependency graph of the blocked-by links, which refuses a link that would close a
+ *       cycle and keeps the critical path and "are all its blockers done?" current</li>
+ *   <li>♻️ Stories are stored with their personas, "so that", acceptance criteria, developer and
+ *       blockage reason pooled, so a million stories share a few hundred copies of that text
+ *       instead of holding a million</li>
+ *   <li>🕰️ Every change also publishes a new version of a persistent trie of all stories, so a
+ *       reader can take a point-in-time snapshot of the whole backlog by reading one reference,
+ *       without a lock, and several changes can be committed so readers see all or none of them</li>
+ *   <li>👀 Change observers (e.g. the durable journal) see every new version inside the same
+ *       per-story critical section, so they see each story's versions in the order they happened</li>
+ * </ul>
+ *
+ * <p>Index maintenance happens inside the same per-story critical section as the update itself,
+ * so each story's index entries always follow its latest snapshot. Across stories the indexes are
+ * weakly consistent, like the map: a reader racing a move may briefly see a story under both its
+ * old and its new key, which is why lookups re-check every snapshot they return.</p>
+ *
+ * <p>Callers must treat the stories they get back as read-only snapshots.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public class ConcurrentUserStoryBacklogStoreForAgileSprintPlanning {
+
+    private final ConcurrentHashMap<Long, UserStoryForAgileSprintPlanning> theStoriesByIdentificationNumber =
+            new ConcurrentHashMap<>();
+
+    /** Story IDs per assigned sprint; stories without a sprint are not in here. */
+    private final ConcurrentHashMap<Integer, Set<Long>> theStoryIdsBySprintNumber = new ConcurrentHashMap<>();
+
+    /** Every story ID in ascending order, for cursor pagination. IDs are never removed. */
+    private final ConcurrentSkipListSet<Long> theStoryIdsInAscendingOrder = new ConcurrentSkipListSet<>();
+
+    /** Sorted story IDs per workflow status. Filled once in the constructor and never resized, so reads need no lock. */
+    private final EnumMap<StoryStatusForWorkflowTracking, NavigableSet<Long>> theStoryIdsByStatus =
+            new EnumMap<>(StoryStatusForWorkflowTracking.class);
+
+    /** Sorted story IDs per priority level, filled and read like the status index. */
+    private final EnumMap<PriorityLevelForBacklogManagement, NavigableSet<Long>> theStoryIdsByPriority =
+            new EnumMap<>(PriorityLevelForBacklogManagement.class);
+
+    /** Every story's place in the backlog order; an entry's story may have moved on, so re-check it. */
+    private final ConcurrentSkipListSet<StoryPlaceInTheBacklogOrder> theStoriesInBacklogOrder = new ConcurrentSkipListSet<>();
+
+    /**
+     * Held while handing out a rank and, for a move, until the story has it, so no two stories
+     * of one priority are handed the same rank. Always taken after theMutationBarrier.
+     */
+    private final Object theRankingLock = new Object();
+
+    /** The largest rank handed out so far; guarded by theRankingLock. */
+    private String theLargestRankHandedOut;
+
+    /** Per sprint, one counter per workflow status (indexed by ordinal). */
+    private final ConcurrentHashMap<Integer, AtomicIntegerArray> theStoryCountsBySprintNumberAndStatus =
+            new ConcurrentHashMap<>();
+
+    /** Words of every story's text; see {@link InvertedStoryIndexForFullTextSearch}. */
+    private final InvertedStoryIndexForFullTextSearch theFullTextIndex = new InvertedStoryIndexForFullTextSearch();
+
+    /** Blocked-by links between stories; see {@link StoryDependencyGraphForCriticalPathPlanning}. */
+    private final StoryDependencyGraphForCriticalPathPlanning theDependencyGraph = new StoryDependencyGraphForCriticalPathPlanning();
+
+    /** Shared copies of the boilerplate text every stored story points to; see {@link StoryTextInterningPoolForLeanHeapUsage}. */
+    private final StoryTextInterningPoolForLeanHeapUsage theTextPool = new StoryTextInterningPoolForLeanHeapUsage();
+
+    /** The fields reports need, as primitive columns; see {@link ColumnarStoryAnalyticsForBurndownReporting}. */
+    private final ColumnarStoryAnalyticsForBurndownReporting theAnalyticsColumns = new ColumnarStoryAnalyticsForBurndownReporting();
+
+    /** Notified of every added or changed story, see {@link UserStoryChangeObserverForBacklogStore}. */
+    private final List<UserStoryChangeObserverForBacklogStore> theChangeObservers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Every add and update holds the read side; {@link #makeItWorkByRunningWhileNoStoryIsBeingChanged}
+     * and {@link #doTheThingWhereWeCommitTheChangesAtomically} hold the write side, so they see every
+     * change that has started as fully published, and no other change runs until they're done.
+     */
+    private final ReentrantReadWriteLock theMutationBarrier = new ReentrantReadWriteLock();
+
+    /** The latest published version of the whole backlog. Readers only ever read it. */
+    private final AtomicReference<PersistentBacklogSnapshotForConsistentReads> theLatestSnapshot =
+            new AtomicReference<>(PersistentBacklogSnapshotForConsistentReads.EMPTY);
+
+    /**
+     * The version an atomic commit is building, published when it is done; null outside one.
+     * Only touched by the thread holding the write side of theMutationBarrier.
+     */
+    private PersistentBacklogSnapshotForConsistentReads theSnapshotBeingCommitted;
+
+    /**
+     * Atomic counter for generating unique user story IDs.
+     */
+    private final AtomicLong userStoryIdentificationNumberGeneratorCounter = new AtomicLong(1);
+
+    public ConcurrentUserStoryBacklogStoreForAgileSprintPlanning() {
+        for (StoryStatusForWorkflowTracking status : StoryStatusForWorkflowTracking.values()) {
+            theStoryIdsByStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+        for (PriorityLevelForBacklogManagement priority : PriorityLevelForBacklogManagement.values()) {
+            theStoryIdsByPriority.put(priority, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    /**
+     * Reserves the next unique story ID.
+     *
+     * @return A story ID no other caller will ever get
+     */
+    public long makeItWorkByAllocatingTheNextStoryIdentificationNumber() {
+        return userStoryIdentificationNumberGeneratorCounter.getAndIncrement();
+    }
+
+    /**
+     * Reserves a block of consecutive story IDs with a single atomic add.
+     *
+     * @param numberOfIds How many IDs to reserve
+     * @return The first ID of the block; the block is {@code [first, first + numberOfIds)}
+     */
+    public long makeItWorkByAllocatingABlockOfStoryIdentificationNumbers(int numberOfIds) {
+        if (numberOfIds < 1) {
+            throw new IllegalArgumentException("Cannot allocate " + numberOfIds + " story IDs");
+        }
+        return userStoryIdentificationNumberGeneratorCounter.getAndAdd(numberOfIds);
+    }
+
+    /**
+     * Adds a newly built story.
+     *
+     * @param newStory Story with an ID from {@link #makeItWorkByAllocatingTheNextStoryIdentificationNumber()}
+     * @throws IllegalStateException if a story with that ID already exists
+     */
+    public void doTheThingWhereWeAddANewStory(UserStoryForAgileSprintPlanning newStory) {
+        theMutationBarrier.readLock().lock();
+        try {
+            makeItWorkByInsertingTheNewStory(newStory);
+        } finally {
+            theMutationBarrier.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a batch of newly built stories, e.g. from a bulk import, taking the mutation
+     * barrier once for the whole batch instead of once per story.
+     *
+     * @param newStories Stories with IDs from {@link #makeItWorkByAllocatingABlockOfStoryIdentificationNumbers(int)}
+     * @throws IllegalStateException if a story with one of the IDs already exists (earlier ones stay added)
+     */
+    public void doTheThingWhereWeAddABatchOfNewStories(List<UserStoryForAgileSprintPlanning> newStories) {
+        theMutationBarrier.readLock().lock();
+        try {
+            for (UserStoryForAgileSprintPlanning newStory : newStories) {
+                makeItWorkByInsertingTheNewStory(newStory);
+            }
+        } finally {
+            theMutationBarrier.readLock().unlock();
+        }
+    }
+
+    private void makeItWorkByInsertingTheNewStory(UserStoryForAgileSprintPlanning builtStory) {
+        UserStoryForAgileSprintPlanning rankedStory = builtStory.getBacklogRankForDragAndDropOrdering() != null ? builtStory
+                : builtStory.toBuilder().backlogRankForDragAndDropOrdering(makeItWorkByHandingOutTheBottomRank()).build();
+        UserStoryForAgileSprintPlanning newStory = theTextPool.doTheThingWhereWePoolTheStoryText(null, rankedStory);
+        Long storyId = newStory.getUserStoryIdentificationNumberForTrackingPurposes();
+        theStoriesByIdentificationNumber.compute(storyId, (id, existingStory) -> {
+            if (existingStory != null) {
+                throw new IllegalStateException("User story already exists: " + storyId);
+            }
+            theDependencyGraph.doTheThingWhereWeRelinkTheStory(id, null, newStory,
+                    () -> makeItWorkByNotifyingTheChangeObservers(null, newStory));
+            makeItWorkByMovingTheStoryInTheIndexes(id, null, newStory);
+            theStoryIdsInAscendingOrder.add(id);
+            return newStory;
+        });
+    }
+
+    /**
+     * Puts a story back while recovering from the journal: inserts or replaces it, keeps the
+     * indexes in step and moves the ID counter past it. Observers are not notified.
+     *
+     * @param decodedStory A story read back from durable storage
+     */
+    public void doTheThingWhereWeRestoreTheStory(UserStoryForAgileSprintPlanning decodedStory) {
+        Long storyId = decodedStory.getUserStoryIdentificationNumberForTrackingPurposes();
+        String rank = decodedStory.getBacklogRankForDragAndDropOrdering();
+        UserStoryForAgileSprintPlanning rankedStory;
+        if (rank == null) {
+            // Journaled before stories had ranks: they go to the bottom in the order they come back
+            rankedStory = decodedStory.toBuilder().backlogRankForDragAndDropOrdering(makeItWorkByHandingOutTheBottomRank()).build();
+        } else {
+            makeItWorkByRememberingTheRank(rank);
+            rankedStory = decodedStory;
+        }
+        theStoriesByIdentificationNumber.compute(storyId, (id, existingStory) -> {
+            UserStoryForAgileSprintPlanning recoveredStory = theTextPool.doTheThingWhereWePoolTheStoryText(existingStory, rankedStory);
+            theDependencyGraph.doTheThingWhereWeRelinkTheStory(id, existingStory, recoveredStory, () -> { });
+            makeItWorkByMovingTheStoryInTheIndexes(id, existingStory, recoveredStory);
+            theStoryIdsInAscendingOrder.add(id);
+            return recoveredStory;
+        });
+        userStoryIdentificationNumberGeneratorCounter.accumulateAndGet(storyId + 1, Math::max);
+    }
+
+    /**
+     * Registers an observer for every story added or changed from now on.
+     */
+    public void makeItWorkByAddingAChangeObserver(UserStoryChangeObserverForBacklogStore observer) {
+        theChangeObservers.add(observer);
+    }
+
+    /**
+     * Runs an action while no add or update is in flight, e.g. to pick a consistent point for a
+     * snapshot. Changes that started earlier are complete and visible; new ones wait until the
+     * action returns, so keep it short.
+     */
+    public <T> T makeItWorkByRunningWhileNoStoryIsBeingChanged(Supplier<T> action) {
+        theMutationBarrier.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            theMutationBarrier.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies several changes so that snapshot readers see all of them or none. Other adds and
+     * updates wait until the commit is done, so its changes can't interleave with anyone
+     * else's; snapshot readers never wait. Changes made before a change throws are still
+     * published (they have already reached the indexes and the journal), the rest aren't made.
+     *
+     * @param theChanges Makes the changes through this store's add and update methods
+     * @return Whatever {@code theChanges} returns
+     */
+    public <T> T doTheThingWhereWeCommitTheChangesAtomically(Supplier<T> theChanges) {
+        theMutationBarrier.writeLock().lock();
+        try {
+            if (theSnapshotBeingCommitted != null) {
+                // Nested inside another commit, which publishes everything at the end
+                return theChanges.get();
+            }
+            theSnapshotBeingCommitted = theLatestSnapshot.get();
+            try {
+                return theChanges.get();
+            } finally {
+                PersistentBacklogSnapshotForConsistentReads committedSnapshot = theSnapshotBeingCommitted;
+                theSnapshotBeingCommitted = null;
+                if (committedSnapshot != theLatestSnapshot.get()) {
+                    theLatestSnapshot.set(committedSnapshot);
+                }
+            }
+        } finally {
+            theMutationBarrier.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return The whole backlog as of the last published change, in O(1) and without a lock;
+     *         it doesn't change when the backlog does
+     */
+    public PersistentBacklogSnapshotForConsistentReads doTheThingWhereWeTakeASnapshot() {
+        return theLatestSnapshot.get();
+    }
+
+    /**
+     * @param storyId The story ID
+     * @return The current snapshot of the story, or null if there is none
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeFindTheStory(Long storyId) {
+        return theStoriesByIdentificationNumber.get(storyId);
+    }
+
+    /**
+     * @return Every story as of one point in time, in ascending ID order
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeGetAllStories() {
+        return theLatestSnapshot.get().makeItWorkByListingTheStories();
+    }
+
+    /**
+     * Lists the backlog in backlog order (highest priority first, then by rank), all as of one
+     * point in time: the order comes from the backlog order index, the stories from the latest
+     * snapshot, so a move or an atomic commit running meanwhile is either all in or all out.
+     *
+     * @param theFilter Which stories to include
+     * @return Every matching story of the latest snapshot, in backlog order
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeGetTheStoriesInBacklogOrder(
+            Predicate<UserStoryForAgileSprintPlanning> theFilter) {
+        PersistentBacklogSnapshotForConsistentReads snapshot = theLatestSnapshot.get();
+        List<UserStoryForAgileSprintPlanning> storiesInOrder = new ArrayList<>(snapshot.makeItWorkByCountingTheStories());
+        for (StoryPlaceInTheBacklogOrder place : theStoriesInBacklogOrder) {
+            UserStoryForAgileSprintPlanning story = snapshot.makeItWorkByFindingTheStory(place.theStoryId);
+            if (story != null && place.isWhereTheStoryIs(story)) {
+                storiesInOrder.add(story);
+            }
+        }
+        if (storiesInOrder.size() < snapshot.makeItWorkByCountingTheStories()) {
+            // Some stories moved after the snapshot, so their place as of the snapshot is gone from the index
+            storiesInOrder = makeItWorkByMergingInTheMovedStories(snapshot, storiesInOrder);
+        }
+        List<UserStoryForAgileSprintPlanning> stories = new ArrayList<>(storiesInOrder.size());
+        for (UserStoryForAgileSprintPlanning story : storiesInOrder) {
+            if (theFilter.test(story)) {
+                stories.add(story);
+            }
+        }
+        return stories;
+    }
+
+    private static List<UserStoryForAgileSprintPlanning> makeItWorkByMergingInTheMovedStories(
+            PersistentBacklogSnapshotForConsistentReads snapshot, List<UserStoryForAgileSprintPlanning> storiesInOrder) {
+        Set<Long> listedStoryIds = new HashSet<>(storiesInOrder.size() * 2);
+        for (UserStoryForAgileSprintPlanning story : storiesInOrder) {
+            listedStoryIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes());
+        }
+        List<StoryPlaceInTheBacklogOrder> movedPlaces = new ArrayList<>();
+        List<UserStoryForAgileSprintPlanning> movedStories = new ArrayList<>();
+        snapshot.doTheThingWhereWeVisitEveryStory(story -> {
+            if (!listedStoryIds.contains(story.getUserStoryIdentificationNumberForTrackingPurposes())) {
+                movedStories.add(story);
+            }
+        });
+        movedStories.sort(Comparator.comparing(StoryPlaceInTheBacklogOrder::new));
+        for (UserStoryForAgileSprintPlanning story : movedStories) {
+            movedPlaces.add(new StoryPlaceInTheBacklogOrder(story));
+        }
+
+        // Both lists are in backlog order as of the snapshot: merge them
+        List<UserStoryForAgileSprintPlanning> merged = new ArrayList<>(storiesInOrder.size() + movedStories.size());
+        int listed = 0;
+        int moved = 0;
+        while (listed < storiesInOrder.size() || moved < movedStories.size()) {
+            if (moved == movedStories.size() || (listed < storiesInOrder.size()
+                    && new StoryPlaceInTheBacklogOrder(storiesInOrder.get(listed)).compareTo(movedPlaces.get(moved)) < 0)) {
+                merged.add(storiesInOrder.get(listed++));
+            } else {
+                merged.add(movedStories.get(moved++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Drags a story to just after another story of the same priority, or to the top of its
+     * priority. Only the moved story gets a new rank, in O(log n).
+     *
+     * @param storyId The story to move
+     * @param afterStoryIdOrNull The story it should come right after, or null for the top
+     * @return The moved story
+     * @throws IllegalArgumentException if either story does not exist
+     * @throws IllegalStateException if the stories are the same or have different priorities
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeMoveTheStoryInTheBacklogOrder(Long storyId, Long afterStoryIdOrNull) {
+        theMutationBarrier.readLock().lock();
+        try {
+            synchronized (theRankingLock) {
+                UserStoryForAgileSprintPlanning story = theStoriesByIdentificationNumber.get(storyId);
+                if (story == null) {
+                    throw new IllegalArgumentException("User story not found: " + storyId);
+                }
+                PriorityLevelForBacklogManagement priority = story.getPriorityLevel();
+                StoryPlaceInTheBacklogOrder lowerPlace = null;
+                if (afterStoryIdOrNull != null) {
+                    UserStoryForAgileSprintPlanning afterStory = theStoriesByIdentificationNumber.get(afterStoryIdOrNull);
+                    if (afterStory == null) {
+                        throw new IllegalArgumentException("User story not found: " + afterStoryIdOrNull);
+                    }
+                    if (afterStoryIdOrNull.equals(storyId) || afterStory.getPriorityLevel() != priority) {
+                        throw new IllegalStateException("User story " + storyId + " can only go after another story of priority "
+                                + priority + ", not after #" + afterStoryIdOrNull);
+                    }
+                    lowerPlace = new StoryPlaceInTheBacklogOrder(afterStory);
+                }
+                String lowerRank = lowerPlace == null ? null : lowerPlace.theRank;
+                String upperRank = makeItWorkByFindingTheNextRank(storyId, priority, lowerPlace);
+                if (upperRank == null && lowerRank == null) {
+                    // Alone in its priority: already on top
+                    return story;
+                }
+                // At the bottom, go past every rank handed out, including those of stories still being added
+                String newRank = FractionalBacklogRankForDragAndDropOrdering.doTheThingWhereWeFindARankBetween(
+                        upperRank == null ? theLargestRankHandedOut : lowerRank, upperRank);
+                makeItWorkByRememberingTheRank(newRank);
+                return doTheThingWhereWeUpdateTheStory(storyId, currentStory -> currentStory.toBuilder()
+                        .backlogRankForDragAndDropOrdering(newRank)
+                        .lastUpdatedTimestampForAuditTrail(LocalDateTime.now())
+                        .build());
+            }
+        } finally {
+            theMutationBarrier.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The rank of the first story of that priority after {@code lowerPlace} (or from the
+     *         top if null) whose rank is larger, skipping the story being moved; null if none is
+     */
+    private String makeItWorkByFindingTheNextRank(Long movingStoryId, PriorityLevelForBacklogManagement priority,
+                                                  StoryPlaceInTheBacklogOrder lowerPlace) {
+        NavigableSet<StoryPlaceInTheBacklogOrder> followingPlaces = lowerPlace != null
+                ? theStoriesInBacklogOrder.tailSet(lowerPlace, false)
+                : theStoriesInBacklogOrder.tailSet(StoryPlaceInTheBacklogOrder.makeItWorkByMarkingTheTopOf(priority), true);
+        for (StoryPlaceInTheBacklogOrder place : followingPlaces) {
+            if (place.thePriority != priority) {
+                return null;
+            }
+            UserStoryForAgileSprintPlanning story = theStoriesByIdentificationNumber.get(place.theStoryId);
+            if (place.theStoryId.equals(movingStoryId) || story == null || !place.isWhereTheStoryIs(story)) {
+                continue;
+            }
+            // Two stories still being added can share a rank; skip to one strictly after
+            if (lowerPlace == null || place.theRank.compareTo(lowerPlace.theRank) > 0) {
+                return place.theRank;
+            }
+        }
+        return null;
+    }
+
+    private String makeItWorkByHandingOutTheBottomRank() {
+        synchronized (theRankingLock) {
+            theLargestRankHandedOut = FractionalBacklogRankForDragAndDropOrdering.doTheThingWhereWeFindARankBetween(
+                    theLargestRankHandedOut, null);
+            return theLargestRankHandedOut;
+        }
+    }
+
+    private void makeItWorkByRememberingTheRank(String rank) {
+        synchronized (theRankingLock) {
+            if (theLargestRankHandedOut == null || rank.compareTo(theLargestRankHandedOut) > 0) {
+                theLargestRankHandedOut = rank;
+            }
+        }
+    }
+
+    /**
+     * Looks up the stories of one sprint through the sprint index.
+     *
+     * @param sprintNumber The sprint number
+     * @return The current snapshot of every story assigned to that sprint
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeFindTheStoriesInTheSprint(Integer sprintNumber) {
+        Set<Long> storyIds = theStoryIdsBySprintNumber.getOrDefault(sprintNumber, Collections.emptySet());
+        List<UserStoryForAgileSprintPlanning> stories = new ArrayList<>(storyIds.size());
+        for (Long storyId : storyIds) {
+            UserStoryForAgileSprintPlanning story = theStoriesByIdentificationNumber.get(storyId);
+            if (story != null && Objects.equals(sprintNumber, story.getAssignedToSprintNumberForIterativeDevelopment())) {
+                stories.add(story);
+            }
+        }
+        return stories;
+    }
+
+    /**
+     * Looks up the stories in one workflow status through the status index.
+     *
+     * @param status The workflow status
+     * @return The current snapshot of every story in that status
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeFindTheStoriesWithTheStatus(
+            StoryStatusForWorkflowTracking status) {
+        Set<Long> storyIds = theStoryIdsByStatus.get(status);
+        List<UserStoryForAgileSprintPlanning> stories = new ArrayList<>(storyIds.size());
+        for (Long storyId : storyIds) {
+            UserStoryForAgileSprintPlanning story = theStoriesByIdentificationNumber.get(storyId);
+            if (story != null && story.getCurrentStatus() == status) {
+                stories.add(story);
+            }
+        }
+        return stories;
+    }
+
+    /**
+     * Reads one page of stories in ascending ID order, starting after a cursor. The page walks
+     * the most selective sorted index (status, then priority, then all IDs) and only touches the
+     * stories it returns plus those skipped by the other filter.
+     *
+     * @param afterStoryId Only stories with a larger ID are returned (0: from the start)
+     * @param maximumNumberOfStories Page size
+     * @param statusOrNull Only stories in this status, or null for any
+     * @param priorityOrNull Only stories with this priority, or null for any
+     * @return Up to {@code maximumNumberOfStories} current snapshots, ascending by ID
+     */
+    public List<UserStoryForAgileSprintPlanning> doTheThingWhereWeReadAPageOfStories(
+            long afterStoryId, int maximumNumberOfStories,
+            StoryStatusForWorkflowTracking statusOrNull, PriorityLevelForBacklogManagement priorityOrNull) {
+        NavigableSet<Long> storyIds = statusOrNull != null ? theStoryIdsByStatus.get(statusOrNull)
+                : priorityOrNull != null ? theStoryIdsByPriority.get(priorityOrNull)
+                : theStoryIdsInAscendingOrder;
+        List<UserStoryForAgileSprintPlanning> page = new ArrayList<>(Math.min(maximumNumberOfStories, 1024));
+        for (Long storyId : storyIds.tailSet(afterStoryId, false)) {
+            if (page.size() >= maximumNumberOfStories) {
+                break;
+            }
+            UserStoryForAgileSprintPlanning story = theStoriesByIdentificationNumber.get(storyId);
+            if (story != null
+                    && (statusOrNull == null || story.getCurrentStatus() == statusOrNull)
+                    && (priorityOrNull == null || story.getPriorityLevel() == priorityOrNull)) {
+                page.add(story);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * @param sprintNumber The sprint number
+     * @param status The workflow status
+     * @return How many stories of that sprint are in that status, in O(1)
+     */
+    public int makeItWorkByCountingTheStoriesInTheSprintWithTheStatus(
+            Integer sprintNumber, StoryStatusForWorkflowTracking status) {
+        AtomicIntegerArray countsByStatus = theStoryCountsBySprintNumberAndStatus.get(sprintNumber);
+        return countsByStatus == null ? 0 : countsByStatus.get(status.ordinal());
+    }
+
+    /**
+     * Ranks the stories by how well their text matches the query (BM25).
+     *
+     * @param query Free text
+     * @param limit Maximum number of hits
+     * @return The best hits by story ID, and how many stories matched in total
+     */
+    public InvertedStoryIndexForFullTextSearch.StorySearchResultForFullTextSearch doTheThingWhereWeSearchTheStories(
+            String query, int limit) {
+        return theFullTextIndex.doTheThingWhereWeSearchTheStories(query, limit);
+    }
+
+    /**
+     * @param storyId The story ID
+     * @return True if every story it is blocked by is DONE or CANCELLED, in O(1)
+     */
+    public boolean makeItWorkByCheckingWhetherTheBlockersAreFinished(Long storyId) {
+        return theDependencyGraph.makeItWorkByCheckingWhetherTheBlockersAreFinished(storyId);
+    }
+
+    /**
+     * @return The heaviest chain of unfinished stories, each blocked by the one before it
+     */
+    public StoryDependencyGraphForCriticalPathPlanning.CriticalPathForDependencyPlanning doTheThingWhereWeFindTheCriticalPath() {
+        return theDependencyGraph.doTheThingWhereWeFindTheCriticalPath();
+    }
+
+    /**
+     * @return The columnar copy of the backlog that burndown and cycle-time reports scan
+     */
+    public ColumnarStoryAnalyticsForBurndownReporting makeItWorkByGettingTheAnalyticsColumns() {
+        return theAnalyticsColumns;
+    }
+
+    /**
+     * @return How many stories are in the backlog
+     */
+    public int makeItWorkByCountingTheStories() {
+        return theStoriesByIdentificationNumber.size();
+    }
+
+    /**
+     * Atomically replaces a story with an updated copy. The update function gets the current
+     * snapshot and must return a new story (normally via {@code toBuilder()}); it may throw to
+     * abort, in which case nothing changes. It can run while other stories are updated in
+     * parallel, but never twice at once for the same story.
+     *
+     * @param storyId The story ID
+     * @param theUpdate Builds the new version from the current one
+     * @return The new version
+     * @throws IllegalArgumentException if the story does not exist
+     * @throws IllegalStateException if the new version's blocked-by links would close a cycle
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeUpdateTheStory(
+            Long storyId, UnaryOperator<UserStoryForAgileSprintPlanning> theUpdate) {
+        UserStoryForAgileSprintPlanning updatedStory;
+        theMutationBarrier.readLock().lock();
+        try {
+            updatedStory = theStoriesByIdentificationNumber.computeIfPresent(storyId, (id, currentStory) -> {
+                UserStoryForAgileSprintPlanning updatedVersion = theUpdate.apply(currentStory);
+                if (updatedVersion == currentStory) {
+                    return currentStory;
+                }
+                UserStoryForAgileSprintPlanning newStory = theTextPool.doTheThingWhereWePoolTheStoryText(currentStory, updatedVersion);
+                theDependencyGraph.doTheThingWhereWeRelinkTheStory(id, currentStory, newStory,
+                        () -> makeItWorkByNotifyingTheChangeObservers(currentStory, newStory));
+                makeItWorkByMovingTheStoryInTheIndexes(id, currentStory, newStory);
+                return newStory;
+            });
+        } finally {
+            theMutationBarrier.readLock().unlock();
+        }
+        if (updatedStory == null) {
+            throw new IllegalArgumentException("User story not found: " + storyId);
+        }
+        return updatedStory;
+    }
+
+    /**
+     * Moves a story to a new status, but only if it is currently in the expected status.
+     *
+     * @param storyId The story ID
+     * @param expectedStatus The status the caller believes the story is in (null: any status)
+     * @param newStatus The target status
+     * @return The new version
+     * @throws IllegalArgumentException if the story does not exist
+     * @throws IllegalStateException if the story is not in the expected status
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeCompareAndSetTheStatus(
+            Long storyId, StoryStatusForWorkflowTracking expectedStatus, StoryStatusForWorkflowTracking newStatus) {
+        return doTheThingWhereWeCompareAndSetTheStatus(storyId, expectedStatus, newStatus, replacedStory -> { });
+    }
+
+    /**
+     * Same as {@link #doTheThingWhereWeCompareAndSetTheStatus(Long, StoryStatusForWorkflowTracking, StoryStatusForWorkflowTracking)},
+     * and also hands over the version the move replaced, e.g. to log the status it came from.
+     *
+     * @param theReplacedVersion Called with the replaced version, inside the per-story critical section; keep it short
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWeCompareAndSetTheStatus(
+            Long storyId, StoryStatusForWorkflowTracking expectedStatus, StoryStatusForWorkflowTracking newStatus,
+            Consumer<UserStoryForAgileSprintPlanning> theReplacedVersion) {
+        return doTheThingWhereWeUpdateTheStory(storyId, currentStory -> {
+            if (expectedStatus != null && currentStory.getCurrentStatus() != expectedStatus) {
+                throw new IllegalStateException("User story " + storyId + " is " + currentStory.getCurrentStatus()
+                        + ", not " + expectedStatus);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            UserStoryForAgileSprintPlanning.UserStoryForAgileSprintPlanningBuilder updatedStory = currentStory.toBuilder()
+                    .currentStatus(newStatus)
+                    .lastUpdatedTimestampForAuditTrail(now);
+            if (newStatus == StoryStatusForWorkflowTracking.DONE) {
+                updatedStory.completedTimestampForVelocityCalculation(now);
+            }
+            theReplacedVersion.accept(currentStory);
+            return updatedStory.build();
+        });
+    }
+
+    /**
+     * Moves one story from the index entries of its old snapshot to those of its new one.
+     * Runs inside the map's per-story critical section, so it never races itself for the same story.
+     */
+    private void makeItWorkByMovingTheStoryInTheIndexes(Long storyId,
+                                                        UserStoryForAgileSprintPlanning oldStory,
+                                                        UserStoryForAgileSprintPlanning newStory) {
+        // First, because it is the only one that can throw, and then nothing has been moved yet
+        theFullTextIndex.doTheThingWhereWeReindexTheStory(storyId, oldStory, newStory);
+        // Same ID range as the search index, so by now this can't throw either
+        theAnalyticsColumns.doTheThingWhereWeWriteTheStoryIntoTheColumns(storyId, oldStory, newStory);
+
+        Integer oldSprint = oldStory == null ? null : oldStory.getAssignedToSprintNumberForIterativeDevelopment();
+        StoryStatusForWorkflowTracking oldStatus = oldStory == null ? null : oldStory.getCurrentStatus();
+        Integer newSprint = newStory.getAssignedToSprintNumberForIterativeDevelopment();
+        StoryStatusForWorkflowTracking newStatus = newStory.getCurrentStatus();
+
+        if (!Objects.equals(oldSprint, newSprint)) {
+            if (newSprint != null) {
+                theStoryIdsBySprintNumber.computeIfAbsent(newSprint, sprint -> ConcurrentHashMap.newKeySet()).add(storyId);
+            }
+            if (oldSprint != null) {
+                theStoryIdsBySprintNumber.get(oldSprint).remove(storyId);
+            }
+        }
+        if (oldStatus != newStatus) {
+            if (newStatus != null) {
+                theStoryIdsByStatus.get(newStatus).add(storyId);
+            }
+            if (oldStatus != null) {
+                theStoryIdsByStatus.get(oldStatus).remove(storyId);
+            }
+        }
+        PriorityLevelForBacklogManagement oldPriority = oldStory == null ? null : oldStory.getPriorityLevel();
+        PriorityLevelForBacklogManagement newPriority = newStory.getPriorityLevel();
+        if (oldPriority != newPriority) {
+            if (newPriority != null) {
+                theStoryIdsByPriority.get(newPriority).add(storyId);
+            }
+            if (oldPriority != null) {
+                theStoryIdsByPriority.get(oldPriority).remove(storyId);
+            }
+        }
+        String oldRank = oldStory == null ? null : oldStory.getBacklogRankForDragAndDropOrdering();
+        if (oldPriority != newPriority || !Objects.equals(oldRank, newStory.getBacklogRankForDragAndDropOrdering())) {
+            theStoriesInBacklogOrder.add(new StoryPlaceInTheBacklogOrder(newStory));
+            if (oldStory != null) {
+                theStoriesInBacklogOrder.remove(new StoryPlaceInTheBacklogOrder(oldStory));
+            }
+        }
+        if (!Objects.equals(oldSprint, newSprint) || oldStatus != newStatus) {
+            if (newSprint != null && newStatus != null) {
+                theStoryCountsBySprintNumberAndStatus
+                        .computeIfAbsent(newSprint, sprint -> new AtomicIntegerArray(StoryStatusForWorkflowTracking.values().length))
+                        .incrementAndGet(newStatus.ordinal());
+            }
+            if (oldSprint != null && oldStatus != null) {
+                theStoryCountsBySprintNumberAndStatus.get(oldSprint).decrementAndGet(oldStatus.ordinal());
+            }
+        }
+
+        // Last, so a snapshot never has a version the indexes don't
+        makeItWorkByPublishingTheNewVersion(storyId, newStory);
+    }
+
+    private void makeItWorkByPublishingTheNewVersion(long storyId, UserStoryForAgileSprintPlanning newStory) {
+        if (theMutationBarrier.isWriteLockedByCurrentThread() && theSnapshotBeingCommitted != null) {
+            // Nobody else publishes during the commit, so all of it becomes the one next version
+            theSnapshotBeingCommitted = theSnapshotBeingCommitted.doTheThingWhereWeStoreTheStory(
+                    storyId, newStory, theLatestSnapshot.get().getVersion() + 1);
+            return;
+        }
+        // Lock-free; a retry only repeats the few array copies on the story's path
+        theLatestSnapshot.updateAndGet(snapshot ->
+                snapshot.doTheThingWhereWeStoreTheStory(storyId, newStory, snapshot.getVersion() + 1));
+    }
+
+    private void makeItWorkByNotifyingTheChangeObservers(UserStoryForAgileSprintPlanning previousVersion,
+                                                         UserStoryForAgileSprintPlanning newVersion) {
+        for (UserStoryChangeObserverForBacklogStore observer : theChangeObservers) {
+            observer.doTheThingWhereWeObserveTheNewVersion(previousVersion, newVersion);
+        }
+    }
+
+    /**
+     * Sees every new version of every story. Called inside the story's critical section, so it
+     * must be quick and must not touch the same story again. Throwing aborts the change.
+     */
+    public interface UserStoryChangeObserverForBacklogStore {
+
+        /**
+         * @param previousVersion The version being replaced, or null for a new story
+         * @param newVersion The version being stored
+         */
+        void doTheThingWhereWeObserveTheNewVersion(UserStoryForAgileSprintPlanning previousVersion,
+                                                   UserStoryForAgileSprintPlanning newVersion);
+    }
+
+    /**
+     * One entry of the backlog order: highest priority first (stories without one last), then
+     * the lowest rank, then the lowest ID to break the rare tie.
+     */
+    private static final class StoryPlaceInTheBacklogOrder implements Comparable<StoryPlaceInTheBacklogOrder> {
+
+        private final PriorityLevelForBacklogManagement thePriority;
+        private final String theRank;
+        private final Long theStoryId;
+
+        private StoryPlaceInTheBacklogOrder(PriorityLevelForBacklogManagement priority, String rank, Long storyId) {
+            this.thePriority = priority;
+            this.theRank = rank;
+            this.theStoryId = storyId;
+        }
+
+        private StoryPlaceInTheBacklogOrder(UserStoryForAgileSprintPlanning story) {
+            this(story.getPriorityLevel(), Objects.requireNonNullElse(story.getBacklogRankForDragAndDropOrdering(), ""),
+                    story.getUserStoryIdentificationNumberForTrackingPurposes());
+        }
+
+        /** Sorts before every story of that priority. */
+        private static StoryPlaceInTheBacklogOrder makeItWorkByMarkingTheTopOf(PriorityLevelForBacklogManagement priority) {
+            return new StoryPlaceInTheBacklogOrder(priority, "", Long.MIN_VALUE);
+        }
+
+        private boolean isWhereTheStoryIs(UserStoryForAgileSprintPlanning story) {
+            return story.getPriorityLevel() == thePriority
+                    && theRank.equals(Objects.requireNonNullElse(story.getBacklogRankForDragAndDropOrdering(), ""));
+        }
+
+        @Override
+        public int compareTo(StoryPlaceInTheBacklogOrder other) {
+            int byPriority = Integer.compare(
+                    other.thePriority == null ? -1 : other.thePriority.ordinal(),
+                    thePriority == null ? -1 : thePriority.ordinal());
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int byRank = theRank.compareTo(other.theRank);
+            return byRank != 0 ? byRank : theStoryId.compareTo(other.theStoryId);
+        }
+    }
+}
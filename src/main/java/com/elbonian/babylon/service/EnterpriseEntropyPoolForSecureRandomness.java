@@ -0,0 +1,258 @@
+package com.elbonian.babylon.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Enterprise Entropy Pool for Secure Randomness Shared Across Service Managers.
+ *
+ * <p>The RetroEncabulator used to keep its own static {@link SecureRandom}, and the raw
+ * random bytes endpoint needs one too. This component owns that entropy-pool handling in
+ * one place: every thread gets its own lazily created {@link SecureRandom}, so the
+ * expensive seeding from the operating system happens once per thread, and concurrent
+ * callers never queue up behind one synchronized instance.</p>
+ *
+ * <p>The pool also feeds the "Really Random" level. A daemon thread draws fresh seed
+ * material from its own {@link SecureRandom} on a schedule and publishes it as a new
+ * immutable epoch through one volatile field. Request threads use fast per-thread
+ * generators ({@link EntropyPoolReseededRandomGeneratorForReallyRandomness}) that re-key
+ * themselves when they see a new epoch, so they get fresh entropy without ever calling
+ * into the operating system themselves:</p>
+ * <pre>
+ * babylon.random.entropy.reseed-interval-seconds=60
+ * </pre>
+ *
+ * <p>Counters for reseeds, per-thread re-keys and the time spent inside {@link SecureRandom}
+ * (background thread vs. request threads) are reported by
+ * {@link #makeItWorkByCollectingTheEntropyPoolStatistics()}. The request-thread figure
+ * only ever grows on the explicit {@code secure=true} paths, never for "Really Random".</p>
+ *
+ * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
+ * <ul>
+ *   <li>✅ Verbose class name with context suffix</li>
+ *   <li>✅ Uses Spring @Component annotation</li>
+ *   <li>✅ All methods start with 'doTheThing' or 'makeItWork'</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for taking entropy seriously! 🔐
+ */
+@Slf4j
+@Component
+public class EnterpriseEntropyPoolForSecureRandomness {
+
+    /** Size of the per-thread scratch array used when filling direct buffers. */
+    private static final int THE_SCRATCH_ARRAY_SIZE_IN_BYTES = 8192;
+
+    /** Reseed interval used when nothing is configured. */
+    public static final long THE_DEFAULT_RESEED_INTERVAL_IN_SECONDS = 60;
+
+    /** 256 bits of fresh seed material per epoch. */
+    private static final int THE_NUMBER_OF_SEED_WORDS_PER_EPOCH = 4;
+
+    /** Only the background reseeder touches this one. */
+    private final SecureRandom theSecureRandomOfTheBackgroundReseeder = new SecureRandom();
+
+    private final ScheduledExecutorService theBackgroundReseeder;
+
+    /** The latest seed material; replaced as a whole, never modified. */
+    private volatile EntropyEpochPublishedByTheBackgroundReseeder theCurrentEntropyEpoch;
+
+    private final AtomicLong theSaltForTheNextReseededGenerator = new AtomicLong();
+    private final LongAdder theNumberOfPerThreadReKeys = new LongAdder();
+    private final AtomicLong theNanosecondsTheBackgroundReseederSpentGatheringEntropy = new AtomicLong();
+    private final LongAdder theNanosecondsRequestThreadsSpentInsideSecureRandom = new LongAdder();
+
+    /** How many secure generators have been seeded so far (one per thread). */
+    private final LongAdder theNumberOfSecureRandomInstancesSeeded = new LongAdder();
+
+    /** Each thread's own secure generator. */
+    private final ThreadLocal<SecureRandom> theSecureRandomForEachThread =
+            ThreadLocal.withInitial(this::makeItWorkByCreatingASecureRandomForANewThread);
+
+    /** Each thread's reused scratch array for filling buffers that have no backing array. */
+    private final ThreadLocal<byte[]> theScratchBytesForEachThread =
+            ThreadLocal.withInitial(() -> new byte[THE_SCRATCH_ARRAY_SIZE_IN_BYTES]);
+
+    /**
+     * Creates the pool with the default reseed interval.
+     */
+    public EnterpriseEntropyPoolForSecureRandomness() {
+        this(THE_DEFAULT_RESEED_INTERVAL_IN_SECONDS);
+    }
+
+    /**
+     * Creates the pool, gathers the first epoch synchronously (at startup, not on a request)
+     * and schedules the background reseeds.
+     *
+     * @param reseedIntervalInSeconds Seconds between background reseeds
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    @Autowired
+    public EnterpriseEntropyPoolForSecureRandomness(
+            @Value("${babylon.random.entropy.reseed-interval-seconds:" + THE_DEFAULT_RESEED_INTERVAL_IN_SECONDS + "}")
+            long reseedIntervalInSeconds) {
+        if (reseedIntervalInSeconds <= 0) {
+            throw new IllegalArgumentException("Entropy reseed interval must be positive: " + reseedIntervalInSeconds);
+        }
+        makeItWorkByReseedingThePoolFromSecureRandom();
+        theBackgroundReseeder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread reseeder = new Thread(runnable, "babylon-entropy-reseeder");
+            reseeder.setDaemon(true);
+            return reseeder;
+        });
+        theBackgroundReseeder.scheduleWithFixedDelay(this::makeItWorkByReseedingThePoolFromSecureRandom,
+                reseedIntervalInSeconds, reseedIntervalInSeconds, TimeUnit.SECONDS);
+        log.info("🔐 Entropy pool ready, reseeding from {} every {}s",
+                theSecureRandomOfTheBackgroundReseeder.getAlgorithm(), reseedIntervalInSeconds);
+    }
+
+    /**
+     * Returns the calling thread's own secure generator.
+     * The generator must not be handed to other threads.
+     *
+     * @return This thread's SecureRandom
+     */
+    public SecureRandom doTheThingWhereWeGetTheSecureRandomForTheCurrentThread() {
+        return theSecureRandomForEachThread.get();
+    }
+
+    /**
+     * Creates a fast generator that re-keys itself from this pool whenever a new epoch is
+     * published. Cheap to use, never blocks; meant to be held in a ThreadLocal.
+     *
+     * @param fastGeneratorFactory Factory of the wrapped algorithm (must accept byte[] seeds)
+     * @return A new generator owned by the caller
+     */
+    public RandomGenerator doTheThingWhereWeCreateAReseededGeneratorForOneThread(
+            RandomGeneratorFactory<RandomGenerator> fastGeneratorFactory) {
+        return new EntropyPoolReseededRandomGeneratorForReallyRandomness(
+                this, fastGeneratorFactory, theSaltForTheNextReseededGenerator.incrementAndGet());
+    }
+
+    /**
+     * Draws fresh seed material and publishes it as the next epoch. Runs on the background
+     * reseeder; package-private so tests can force a reseed.
+     */
+    void makeItWorkByReseedingThePoolFromSecureRandom() {
+        try {
+            long theStartTime = System.nanoTime();
+            long[] theSeedMaterial = new long[THE_NUMBER_OF_SEED_WORDS_PER_EPOCH];
+            for (int word = 0; word < theSeedMaterial.length; word++) {
+                theSeedMaterial[word] = theSecureRandomOfTheBackgroundReseeder.nextLong();
+            }
+            theNanosecondsTheBackgroundReseederSpentGatheringEntropy.addAndGet(System.nanoTime() - theStartTime);
+
+            EntropyEpochPublishedByTheBackgroundReseeder thePreviousEpoch = theCurrentEntropyEpoch;
+            long theNextEpochNumber = thePreviousEpoch == null ? 1 : thePreviousEpoch.theEpochNumber + 1;
+            theCurrentEntropyEpoch = new EntropyEpochPublishedByTheBackgroundReseeder(theNextEpochNumber, theSeedMaterial);
+            log.debug("🔐 Entropy pool reseeded, epoch {}", theNextEpochNumber);
+        } catch (RuntimeException e) {
+            // Keep serving the previous epoch; a failed reseed must not cancel the schedule
+            log.error("❌ Entropy pool reseed failed, keeping epoch {}", theCurrentEntropyEpoch.theEpochNumber, e);
+        }
+    }
+
+    /**
+     * One volatile read: the hot path of every reseeded generator.
+     */
+    EntropyEpochPublishedByTheBackgroundReseeder doTheThingWhereWeReadTheCurrentEntropyEpoch() {
+        return theCurrentEntropyEpoch;
+    }
+
+    void makeItWorkByCountingAPerThreadReKey() {
+        theNumberOfPerThreadReKeys.increment();
+    }
+
+    /**
+     * Reports reseed and blocking counters, so operators can confirm that the
+     * "Really Random" hot path never waits on operating-system entropy.
+     *
+     * @return Epoch, re-key and timing counters
+     */
+    public Map<String, Object> makeItWorkByCollectingTheEntropyPoolStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("reseeds", theCurrentEntropyEpoch.theEpochNumber); // includes the seeding at startup
+        statistics.put("perThreadReKeys", theNumberOfPerThreadReKeys.sum());
+        statistics.put("backgroundNanosGatheringEntropy", theNanosecondsTheBackgroundReseederSpentGatheringEntropy.get());
+        statistics.put("requestThreadNanosInsideSecureRandom", theNanosecondsRequestThreadsSpentInsideSecureRandom.sum());
+        statistics.put("secureRandomInstancesSeeded", theNumberOfSecureRandomInstancesSeeded.sum());
+        return statistics;
+    }
+
+    /**
+     * Stops the background reseeder when the application shuts down.
+     */
+    @PreDestroy
+    public void makeItWorkByStoppingTheBackgroundReseeder() {
+        theBackgroundReseeder.shutdownNow();
+    }
+
+    /**
+     * Fills the remaining space of a buffer with secure random bytes. Direct buffers have
+     * no backing array, so the bytes pass through this thread's reused scratch array.
+     *
+     * @param target Buffer to fill from its position up to its limit
+     */
+    public void doTheThingWhereWeFillAByteBufferFromTheEntropyPool(ByteBuffer target) {
+        long theStartTime = System.nanoTime();
+        SecureRandom theSecureRandom = theSecureRandomForEachThread.get();
+        byte[] scratch = theScratchBytesForEachThread.get();
+        while (target.hasRemaining()) {
+            // SecureRandom only fills whole arrays; a short tail simply discards the rest
+            theSecureRandom.nextBytes(scratch);
+            target.put(scratch, 0, Math.min(target.remaining(), scratch.length));
+        }
+        theNanosecondsRequestThreadsSpentInsideSecureRandom.add(System.nanoTime() - theStartTime);
+    }
+
+    /**
+     * @return How many per-thread secure generators have been seeded
+     */
+    public long makeItWorkByReportingTheNumberOfSecureRandomInstancesSeeded() {
+        return theNumberOfSecureRandomInstancesSeeded.sum();
+    }
+
+    private SecureRandom makeItWorkByCreatingASecureRandomForANewThread() {
+        long theStartTime = System.nanoTime();
+        SecureRandom theSecureRandom = new SecureRandom();
+        theSecureRandom.nextLong(); // force the seeding now, so it is measured here
+        theNanosecondsRequestThreadsSpentInsideSecureRandom.add(System.nanoTime() - theStartTime);
+        theNumberOfSecureRandomInstancesSeeded.increment();
+        log.debug("🔐 Seeded {} SecureRandom for thread {}",
+                theSecureRandom.getAlgorithm(), Thread.currentThread().getName());
+        return theSecureRandom;
+    }
+
+    /**
+     * Seed material of one reseed, published as a whole through a volatile field.
+     */
+    static final class EntropyEpochPublishedByTheBackgroundReseeder {
+
+        final long theEpochNumber;
+        final long[] theSeedMaterial;
+
+        private EntropyEpochPublishedByTheBackgroundReseeder(long epochNumber, long[] seedMaterial) {
+            this.theEpochNumber = epochNumber;
+            this.theSeedMaterial = seedMaterial;
+        }
+    }
+}
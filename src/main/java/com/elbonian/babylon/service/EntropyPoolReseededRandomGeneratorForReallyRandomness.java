@@ -0,0 +1,87 @@
+package com.elbonian.babylon.service;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Enterprise Fast Random Generator That Re-Keys Itself From the Shared Entropy Pool.
+ *
+ * <p>A DRBG-style wrapper around a fast JDK generator (the "Really Random" algorithm from
+ * {@code application.properties}). The {@link EnterpriseEntropyPoolForSecureRandomness}
+ * reseeds itself from {@code SecureRandom} on a background schedule and publishes each
+ * reseed as a new epoch. Before every value this generator compares the pool's epoch with
+ * the one it was keyed from; when they differ it re-keys from the fresh seed material,
+ * mixed with its own current output and a per-generator salt, so no two threads share a
+ * state and a state leaked after a reseed says nothing about the state before it.</p>
+ *
+ * <p>The hot path is one volatile read plus the wrapped generator's own arithmetic. The
+ * calling thread never touches {@code SecureRandom} and never waits on a lock, so it never
+ * blocks on operating-system entropy.</p>
+ *
+ * <p>Not thread-safe: one instance belongs to one thread (or one bulk worker).</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for randomness that is really, really random! 🌟
+ */
+final class EntropyPoolReseededRandomGeneratorForReallyRandomness implements RandomGenerator {
+
+    private static final long THE_GOLDEN_RATIO_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final EnterpriseEntropyPoolForSecureRandomness theEntropyPoolToReseedFrom;
+    private final RandomGeneratorFactory<RandomGenerator> theFastGeneratorFactory;
+    private final long theSaltOfThisGenerator;
+
+    private RandomGenerator theFastGeneratorKeyedFromTheCurrentEpoch;
+    private long theEpochThisGeneratorWasKeyedFrom;
+
+    EntropyPoolReseededRandomGeneratorForReallyRandomness(EnterpriseEntropyPoolForSecureRandomness entropyPool,
+                                                          RandomGeneratorFactory<RandomGenerator> fastGeneratorFactory,
+                                                          long salt) {
+        this.theEntropyPoolToReseedFrom = entropyPool;
+        this.theFastGeneratorFactory = fastGeneratorFactory;
+        this.theSaltOfThisGenerator = salt;
+        makeItWorkByReKeyingFromTheEpoch(entropyPool.doTheThingWhereWeReadTheCurrentEntropyEpoch());
+    }
+
+    @Override
+    public long nextLong() {
+        EnterpriseEntropyPoolForSecureRandomness.EntropyEpochPublishedByTheBackgroundReseeder epoch =
+                theEntropyPoolToReseedFrom.doTheThingWhereWeReadTheCurrentEntropyEpoch();
+        if (epoch.theEpochNumber != theEpochThisGeneratorWasKeyedFrom) {
+            makeItWorkByReKeyingFromTheEpoch(epoch);
+        }
+        return theFastGeneratorKeyedFromTheCurrentEpoch.nextLong();
+    }
+
+    private void makeItWorkByReKeyingFromTheEpoch(
+            EnterpriseEntropyPoolForSecureRandomness.EntropyEpochPublishedByTheBackgroundReseeder epoch) {
+        long[] theSeedMaterial = epoch.theSeedMaterial;
+        byte[] theNewKey = new byte[theSeedMaterial.length * Long.BYTES];
+        for (int word = 0; word < theSeedMaterial.length; word++) {
+            long mixed = theSeedMaterial[word]
+                    ^ makeItWorkByMixing64Bits(theSaltOfThisGenerator + (word + 1) * THE_GOLDEN_RATIO_GAMMA);
+            if (theFastGeneratorKeyedFromTheCurrentEpoch != null) {
+                // Forward the old state into the new key: a fresh epoch adds entropy, it never replaces it
+                mixed ^= theFastGeneratorKeyedFromTheCurrentEpoch.nextLong();
+            }
+            for (int b = 0; b < Long.BYTES; b++) {
+                theNewKey[word * Long.BYTES + b] = (byte) (mixed >>> (b * 8));
+            }
+        }
+        theFastGeneratorKeyedFromTheCurrentEpoch = theFastGeneratorFactory.create(theNewKey);
+        theEpochThisGeneratorWasKeyedFrom = epoch.theEpochNumber;
+        theEntropyPoolToReseedFrom.makeItWorkByCountingAPerThreadReKey();
+    }
+
+    /**
+     * Stafford variant 13 of the MurmurHash3 finalizer, as used by SplitMix64.
+     */
+    private static long makeItWorkByMixing64Bits(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
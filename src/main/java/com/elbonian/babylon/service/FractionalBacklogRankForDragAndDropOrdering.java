@@ -0,0 +1,176 @@
+package com.elbonian.babylon.service;
+
+/**
+ * Enterprise Drag-and-Drop Rank Keys for the Backlog.
+ *
+ * <p>A rank is a string that sorts by plain {@link String#compareTo}, and there is always
+ * another rank between any two, so dropping a story between two others gives only that story a
+ * new rank; nobody else is renumbered. Digits are base 62 ({@code 0-9A-Za-z}, in ASCII order).</p>
+ *
+ * <p>A rank is an integer part followed by an optional fraction. The integer part's first
+ * character says how long it is ({@code a} is one more digit, {@code b} two, ...; {@code Z},
+ * {@code Y}, ... the same for negative integers), so appending story after story only counts
+ * the integer up: a0, a1, ... az, b00, ... and a million appends stay five characters long.
+ * Only dropping into the same gap over and over grows the fraction, by about one character per
+ * six drops. Fractions never end in {@code 0}, which is what guarantees there is room in
+ * every gap.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+final class FractionalBacklogRankForDragAndDropOrdering {
+
+    private static final String THE_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int THE_BASE = THE_DIGITS.length();
+    private static final char THE_SMALLEST_DIGIT = THE_DIGITS.charAt(0);
+    private static final char THE_LARGEST_DIGIT = THE_DIGITS.charAt(THE_BASE - 1);
+
+    /** The rank of the first story in an empty backlog. */
+    static final String THE_FIRST_RANK = "a" + THE_SMALLEST_DIGIT;
+
+    /** The smallest integer part; nothing can go below it except by adding a fraction. */
+    private static final String THE_SMALLEST_INTEGER = "A" + String.valueOf(THE_SMALLEST_DIGIT).repeat(26);
+
+    private FractionalBacklogRankForDragAndDropOrdering() {
+    }
+
+    /**
+     * Finds a rank strictly between two others.
+     *
+     * @param lowerRank The rank to go after, or null for "before everything"
+     * @param upperRank The rank to go before, or null for "after everything"
+     * @return A rank that sorts after {@code lowerRank} and before {@code upperRank}; when one
+     *         side is open, the shortest such rank
+     * @throws IllegalArgumentException if {@code lowerRank} doesn't sort before {@code upperRank}
+     */
+    static String doTheThingWhereWeFindARankBetween(String lowerRank, String upperRank) {
+        if (lowerRank != null && upperRank != null && lowerRank.compareTo(upperRank) >= 0) {
+            throw new IllegalArgumentException("Rank " + lowerRank + " does not sort before rank " + upperRank);
+        }
+        if (lowerRank == null && upperRank == null) {
+            return THE_FIRST_RANK;
+        }
+        if (lowerRank == null) {
+            String upperInteger = makeItWorkByTakingTheIntegerPart(upperRank);
+            String upperFraction = upperRank.substring(upperInteger.length());
+            if (upperInteger.equals(THE_SMALLEST_INTEGER)) {
+                return upperInteger + makeItWorkByFindingTheMidpoint("", upperFraction);
+            }
+            if (upperInteger.length() < upperRank.length()) {
+                // The bare integer part sorts before the rank with a fraction
+                return upperInteger;
+            }
+            return makeItWorkByCountingTheIntegerDown(upperInteger);
+        }
+        String lowerInteger = makeItWorkByTakingTheIntegerPart(lowerRank);
+        String lowerFraction = lowerRank.substring(lowerInteger.length());
+        if (upperRank == null) {
+            String nextInteger = makeItWorkByCountingTheIntegerUp(lowerInteger);
+            return nextInteger != null ? nextInteger : lowerInteger + makeItWorkByFindingTheMidpoint(lowerFraction, null);
+        }
+        String upperInteger = makeItWorkByTakingTheIntegerPart(upperRank);
+        if (lowerInteger.equals(upperInteger)) {
+            return lowerInteger + makeItWorkByFindingTheMidpoint(lowerFraction, upperRank.substring(upperInteger.length()));
+        }
+        String nextInteger = makeItWorkByCountingTheIntegerUp(lowerInteger);
+        if (nextInteger != null && nextInteger.compareTo(upperRank) < 0) {
+            return nextInteger;
+        }
+        return lowerInteger + makeItWorkByFindingTheMidpoint(lowerFraction, null);
+    }
+
+    /**
+     * A fraction strictly between two fractions (digit strings without trailing zeros; "" is 0,
+     * null as the upper bound is 1).
+     */
+    private static String makeItWorkByFindingTheMidpoint(String lower, String upper) {
+        if (upper != null) {
+            // Skip the digits both share; missing lower digits count as 0
+            int common = 0;
+            while (common < upper.length()
+                    && (common < lower.length() ? lower.charAt(common) : THE_SMALLEST_DIGIT) == upper.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return upper.substring(0, common) + makeItWorkByFindingTheMidpoint(
+                        common < lower.length() ? lower.substring(common) : "", upper.substring(common));
+            }
+        }
+        int lowerDigit = lower.isEmpty() ? 0 : THE_DIGITS.indexOf(lower.charAt(0));
+        int upperDigit = upper != null ? THE_DIGITS.indexOf(upper.charAt(0)) : THE_BASE;
+        if (upperDigit - lowerDigit > 1) {
+            return String.valueOf(THE_DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            // The upper bound's first digit alone is still below it, and above the lower bound
+            return upper.substring(0, 1);
+        }
+        return THE_DIGITS.charAt(lowerDigit) + makeItWorkByFindingTheMidpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static String makeItWorkByTakingTheIntegerPart(String rank) {
+        char head = rank.charAt(0);
+        int length;
+        if (head >= 'a' && head <= 'z') {
+            length = head - 'a' + 2;
+        } else if (head >= 'A' && head <= 'Z') {
+            length = 'Z' - head + 2;
+        } else {
+            throw new IllegalArgumentException("Not a backlog rank: " + rank);
+        }
+        if (rank.length() < length) {
+            throw new IllegalArgumentException("Not a backlog rank: " + rank);
+        }
+        return rank.substring(0, length);
+    }
+
+    /** @return The next integer, or null past the largest one */
+    private static String makeItWorkByCountingTheIntegerUp(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = THE_DIGITS.indexOf(digits[i]) + 1;
+            if (digit < THE_BASE) {
+                digits[i] = THE_DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = THE_SMALLEST_DIGIT;
+        }
+        // Every digit carried over: one more digit, or one fewer for negative integers
+        if (head == 'Z') {
+            return "a" + THE_SMALLEST_DIGIT;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        String carriedDigits = new String(digits);
+        return head < 'a'
+                ? (char) (head + 1) + carriedDigits.substring(1)
+                : (char) (head + 1) + carriedDigits + THE_SMALLEST_DIGIT;
+    }
+
+    /** @return The previous integer; never called on the smallest one */
+    private static String makeItWorkByCountingTheIntegerDown(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = THE_DIGITS.indexOf(digits[i]) - 1;
+            if (digit >= 0) {
+                digits[i] = THE_DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = THE_LARGEST_DIGIT;
+        }
+        // Every digit borrowed: one fewer digit, or one more for negative integers
+        if (head == 'a') {
+            return "Z" + THE_LARGEST_DIGIT;
+        }
+        String borrowedDigits = new String(digits);
+        return head > 'a'
+                ? (char) (head - 1) + borrowedDigits.substring(1)
+                : (char) (head - 1) + borrowedDigits + THE_LARGEST_DIGIT;
+    }
+}
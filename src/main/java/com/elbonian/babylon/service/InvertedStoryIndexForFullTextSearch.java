@@ -0,0 +1,398 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Enterprise Inverted Index for Finding User Stories by the Words in Them.
+ *
+ * <p>Indexes the title, "I want to", "so that" and acceptance criteria of every story. Text is
+ * lower-cased and split on anything that isn't a letter or digit; common English words are
+ * dropped, and title words count double. Each term maps to a posting list: a sorted
+ * {@code int[]} of story IDs with a parallel {@code byte[]} of term frequencies, so a million
+ * stories cost about five bytes per (term, story) pair instead of a boxed set entry.</p>
+ *
+ * <p>Queries match any of their terms and are ranked with Okapi BM25. Posting lists are sorted
+ * by story ID, so a query walks them in step (document at a time) and keeps only the best
+ * {@code limit} hits in a small heap; nothing proportional to the backlog is allocated.</p>
+ *
+ * <p>Updates take the write lock, searches the read lock. Reindexing a story whose text didn't
+ * change (a status move, a block) costs four string comparisons and no lock.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class InvertedStoryIndexForFullTextSearch {
+
+    /** BM25 term frequency saturation. */
+    private static final double K1 = 1.2;
+
+    /** BM25 document length normalization. */
+    private static final double B = 0.75;
+
+    /** Longest token that is indexed; longer ones are usually pasted URLs or hashes. */
+    private static final int THE_LONGEST_TERM = 64;
+
+    /** Query terms beyond this many are ignored. */
+    private static final int THE_MOST_QUERY_TERMS = 32;
+
+    /** Words in nearly every story, which would only slow queries down without changing the ranking. */
+    private static final Set<String> THE_STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "can", "for", "from", "has", "have", "i", "in", "is",
+            "it", "its", "my", "of", "on", "or", "our", "so", "that", "the", "their", "this", "to", "we", "with");
+
+    private final ReentrantReadWriteLock theIndexLock = new ReentrantReadWriteLock();
+
+    /** Guarded by theIndexLock. */
+    private final Map<String, PostingListForFullTextSearch> thePostingListsByTerm = new HashMap<>();
+
+    /** Weighted number of terms per story ID, 0 for stories without indexed text. Guarded by theIndexLock. */
+    private int[] theDocumentLengthsByStoryId = new int[1024];
+
+    /** Guarded by theIndexLock. */
+    private int theNumberOfIndexedStories;
+
+    /** Guarded by theIndexLock. */
+    private long theTotalDocumentLength;
+
+    /**
+     * Brings the index in line with a new version of a story.
+     *
+     * @param storyId The story's ID
+     * @param oldStory The version being replaced, or null for a new story
+     * @param newStory The version being stored
+     * @throws IllegalStateException if the ID doesn't fit the index (more than two billion stories)
+     */
+    public void doTheThingWhereWeReindexTheStory(long storyId, UserStoryForAgileSprintPlanning oldStory,
+                                                 UserStoryForAgileSprintPlanning newStory) {
+        if (oldStory != null && makeItWorkByCheckingWhetherTheTextIsTheSame(oldStory, newStory)) {
+            return;
+        }
+        if (storyId < 0 || storyId >= Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Story ID " + storyId + " is out of range for the search index");
+        }
+        int documentId = (int) storyId;
+        Map<String, Integer> oldTermFrequencies = oldStory == null ? Map.of() : makeItWorkByCountingTheTerms(oldStory);
+        Map<String, Integer> newTermFrequencies = makeItWorkByCountingTheTerms(newStory);
+        int newDocumentLength = 0;
+        for (int termFrequency : newTermFrequencies.values()) {
+            newDocumentLength += termFrequency;
+        }
+
+        theIndexLock.writeLock().lock();
+        try {
+            for (String term : oldTermFrequencies.keySet()) {
+                if (!newTermFrequencies.containsKey(term)) {
+                    PostingListForFullTextSearch postings = thePostingListsByTerm.get(term);
+                    if (postings != null && postings.makeItWorkByRemoving(documentId) && postings.theSize == 0) {
+                        thePostingListsByTerm.remove(term);
+                    }
+                }
+            }
+            for (Map.Entry<String, Integer> term : newTermFrequencies.entrySet()) {
+                thePostingListsByTerm.computeIfAbsent(term.getKey(), key -> new PostingListForFullTextSearch())
+                        .doTheThingWhereWeAddOrReplace(documentId, term.getValue());
+            }
+
+            if (documentId >= theDocumentLengthsByStoryId.length) {
+                theDocumentLengthsByStoryId = Arrays.copyOf(theDocumentLengthsByStoryId,
+                        (int) Math.min(Integer.MAX_VALUE - 8, Math.max(documentId + 1L, theDocumentLengthsByStoryId.length * 3L / 2)));
+            }
+            int oldDocumentLength = theDocumentLengthsByStoryId[documentId];
+            theNumberOfIndexedStories += (newDocumentLength > 0 ? 1 : 0) - (oldDocumentLength > 0 ? 1 : 0);
+            theTotalDocumentLength += newDocumentLength - oldDocumentLength;
+            theDocumentLengthsByStoryId[documentId] = newDocumentLength;
+        } finally {
+            theIndexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the stories that best match any of the words in the query.
+     *
+     * @param query Free text, tokenized like the stories
+     * @param limit Maximum number of hits to return
+     * @return The best hits, highest score first (ties: lowest story ID first), and how many stories matched at all
+     */
+    public StorySearchResultForFullTextSearch doTheThingWhereWeSearchTheStories(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive, got " + limit);
+        }
+        Set<String> queryTerms = new LinkedHashSet<>();
+        makeItWorkByTokenizingTheText(query, term -> {
+            if (queryTerms.size() < THE_MOST_QUERY_TERMS) {
+                queryTerms.add(term);
+            }
+        });
+
+        theIndexLock.readLock().lock();
+        try {
+            List<PostingListForFullTextSearch> postingLists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                PostingListForFullTextSearch postings = thePostingListsByTerm.get(term);
+                if (postings != null) {
+                    postingLists.add(postings);
+                }
+            }
+            if (postingLists.isEmpty()) {
+                return new StorySearchResultForFullTextSearch(List.of(), 0);
+            }
+            return makeItWorkByWalkingThePostingsInStep(postingLists, limit);
+        } finally {
+            theIndexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Document-at-a-time union of the query terms' posting lists: every round scores the lowest
+     * story ID any list is at and advances the lists that contain it. Caller holds the read lock.
+     */
+    private StorySearchResultForFullTextSearch makeItWorkByWalkingThePostingsInStep(
+            List<PostingListForFullTextSearch> postingLists, int limit) {
+        int numberOfTerms = postingLists.size();
+        int[][] storyIds = new int[numberOfTerms][];
+        byte[][] termFrequencies = new byte[numberOfTerms][];
+        int[] sizes = new int[numberOfTerms];
+        int[] positions = new int[numberOfTerms];
+        double[] termWeights = new double[numberOfTerms];
+        int documentId = Integer.MAX_VALUE;
+        for (int term = 0; term < numberOfTerms; term++) {
+            PostingListForFullTextSearch postings = postingLists.get(term);
+            storyIds[term] = postings.theStoryIds;
+            termFrequencies[term] = postings.theTermFrequencies;
+            sizes[term] = postings.theSize;
+            double documentFrequency = postings.theSize;
+            double inverseDocumentFrequency = Math.log(1 + (theNumberOfIndexedStories - documentFrequency + 0.5)
+                    / (documentFrequency + 0.5));
+            termWeights[term] = inverseDocumentFrequency * (K1 + 1);
+            documentId = Math.min(documentId, postings.theStoryIds[0]);
+        }
+        double lengthWeight = K1 * B * theNumberOfIndexedStories / theTotalDocumentLength;
+        double constantLengthNormalization = K1 * (1 - B);
+
+        // Worst hit kept so far on top, so it's the one replaced by a better one
+        PriorityQueue<StorySearchHitForFullTextSearch> bestHits = new PriorityQueue<>(limit + 1,
+                THE_BEST_HITS_FIRST.reversed());
+        double worstKeptScore = Double.NEGATIVE_INFINITY;
+        long totalMatches = 0;
+        while (documentId != Integer.MAX_VALUE) {
+            double lengthNormalization = constantLengthNormalization + lengthWeight * theDocumentLengthsByStoryId[documentId];
+            double score = 0;
+            int nextDocumentId = Integer.MAX_VALUE;
+            for (int term = 0; term < numberOfTerms; term++) {
+                int position = positions[term];
+                if (position < sizes[term]) {
+                    int termDocumentId = storyIds[term][position];
+                    if (termDocumentId == documentId) {
+                        int termFrequency = Byte.toUnsignedInt(termFrequencies[term][position]);
+                        score += termWeights[term] * termFrequency / (termFrequency + lengthNormalization);
+                        positions[term] = ++position;
+                        termDocumentId = position < sizes[term] ? storyIds[term][position] : Integer.MAX_VALUE;
+                    }
+                    nextDocumentId = Math.min(nextDocumentId, termDocumentId);
+                }
+            }
+            totalMatches++;
+
+            // Postings come in ascending ID order, so an equal score never beats the lower ID already kept
+            if (score > worstKeptScore) {
+                bestHits.add(new StorySearchHitForFullTextSearch(documentId, score));
+                if (bestHits.size() > limit) {
+                    bestHits.poll();
+                }
+                if (bestHits.size() == limit) {
+                    worstKeptScore = bestHits.peek().theScore;
+                }
+            }
+            documentId = nextDocumentId;
+        }
+
+        List<StorySearchHitForFullTextSearch> rankedHits = new ArrayList<>(bestHits);
+        rankedHits.sort(THE_BEST_HITS_FIRST);
+        return new StorySearchResultForFullTextSearch(Collections.unmodifiableList(rankedHits), totalMatches);
+    }
+
+    /**
+     * @return How many stories have at least one indexed term
+     */
+    public int makeItWorkByCountingTheIndexedStories() {
+        theIndexLock.readLock().lock();
+        try {
+            return theNumberOfIndexedStories;
+        } finally {
+            theIndexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return How many distinct terms are indexed
+     */
+    public int makeItWorkByCountingTheTerms() {
+        theIndexLock.readLock().lock();
+        try {
+            return thePostingListsByTerm.size();
+        } finally {
+            theIndexLock.readLock().unlock();
+        }
+    }
+
+    private static boolean makeItWorkByCheckingWhetherTheTextIsTheSame(UserStoryForAgileSprintPlanning oldStory,
+                                                                        UserStoryForAgileSprintPlanning newStory) {
+        return Objects.equals(oldStory.getStoryTitleForQuickIdentificationInStandupMeetings(),
+                newStory.getStoryTitleForQuickIdentificationInStandupMeetings())
+                && Objects.equals(oldStory.getIWantToHaveThisSpecificCapabilityOrFeature(),
+                newStory.getIWantToHaveThisSpecificCapabilityOrFeature())
+                && Objects.equals(oldStory.getSoThatICanAchieveThisBusinessValueOrOutcome(),
+                newStory.getSoThatICanAchieveThisBusinessValueOrOutcome())
+                && Objects.equals(oldStory.getAcceptanceCriteriaForDefinitionOfDone(),
+                newStory.getAcceptanceCriteriaForDefinitionOfDone());
+    }
+
+    /**
+     * @return Weighted term frequencies of the story's indexed fields (title words count double)
+     */
+    private static Map<String, Integer> makeItWorkByCountingTheTerms(UserStoryForAgileSprintPlanning story) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        makeItWorkByTokenizingTheText(story.getStoryTitleForQuickIdentificationInStandupMeetings(),
+                term -> termFrequencies.merge(term, 2, Integer::sum));
+        for (String text : new String[]{story.getIWantToHaveThisSpecificCapabilityOrFeature(),
+                story.getSoThatICanAchieveThisBusinessValueOrOutcome(), story.getAcceptanceCriteriaForDefinitionOfDone()}) {
+            makeItWorkByTokenizingTheText(text, term -> termFrequencies.merge(term, 1, Integer::sum));
+        }
+        return termFrequencies;
+    }
+
+    /**
+     * Splits text into lower-case runs of letters and digits, skipping stop words and overlong runs.
+     */
+    static void makeItWorkByTokenizingTheText(String text, Consumer<String> termConsumer) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isPartOfAWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isPartOfAWord && start < 0) {
+                start = i;
+            } else if (!isPartOfAWord && start >= 0) {
+                if (i - start <= THE_LONGEST_TERM) {
+                    String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                    if (!THE_STOP_WORDS.contains(term)) {
+                        termConsumer.accept(term);
+                    }
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private static final Comparator<StorySearchHitForFullTextSearch> THE_BEST_HITS_FIRST =
+            Comparator.comparingDouble(StorySearchHitForFullTextSearch::getScore).reversed()
+                    .thenComparingLong(StorySearchHitForFullTextSearch::getStoryId);
+
+    /**
+     * Story IDs containing one term, ascending, with how often the term occurs in each story.
+     */
+    private static final class PostingListForFullTextSearch {
+
+        private int[] theStoryIds = new int[2];
+        private byte[] theTermFrequencies = new byte[2];
+        private int theSize;
+
+        /** Usually an append: stories are created in ascending ID order. */
+        private void doTheThingWhereWeAddOrReplace(int documentId, int termFrequency) {
+            byte saturatedFrequency = (byte) Math.min(termFrequency, 255);
+            int position = theSize == 0 || theStoryIds[theSize - 1] < documentId
+                    ? -(theSize + 1)
+                    : Arrays.binarySearch(theStoryIds, 0, theSize, documentId);
+            if (position >= 0) {
+                theTermFrequencies[position] = saturatedFrequency;
+                return;
+            }
+            position = -(position + 1);
+            if (theSize == theStoryIds.length) {
+                int newCapacity = theSize + (theSize >> 1) + 1;
+                theStoryIds = Arrays.copyOf(theStoryIds, newCapacity);
+                theTermFrequencies = Arrays.copyOf(theTermFrequencies, newCapacity);
+            }
+            System.arraycopy(theStoryIds, position, theStoryIds, position + 1, theSize - position);
+            System.arraycopy(theTermFrequencies, position, theTermFrequencies, position + 1, theSize - position);
+            theStoryIds[position] = documentId;
+            theTermFrequencies[position] = saturatedFrequency;
+            theSize++;
+        }
+
+        /** @return Whether the story was in the list */
+        private boolean makeItWorkByRemoving(int documentId) {
+            int position = Arrays.binarySearch(theStoryIds, 0, theSize, documentId);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(theStoryIds, position + 1, theStoryIds, position, theSize - position - 1);
+            System.arraycopy(theTermFrequencies, position + 1, theTermFrequencies, position, theSize - position - 1);
+            theSize--;
+            return true;
+        }
+    }
+
+    /**
+     * One matching story and its BM25 score.
+     */
+    public static final class StorySearchHitForFullTextSearch {
+
+        private final long theStoryId;
+        private final double theScore;
+
+        StorySearchHitForFullTextSearch(long storyId, double score) {
+            this.theStoryId = storyId;
+            this.theScore = score;
+        }
+
+        public long getStoryId() {
+            return theStoryId;
+        }
+
+        public double getScore() {
+            return theScore;
+        }
+    }
+
+    /**
+     * The best hits of a search and how many stories matched in total.
+     */
+    public static final class StorySearchResultForFullTextSearch {
+
+        private final List<StorySearchHitForFullTextSearch> theHits;
+        private final long theTotalMatches;
+
+        StorySearchResultForFullTextSearch(List<StorySearchHitForFullTextSearch> hits, long totalMatches) {
+            this.theHits = hits;
+            this.theTotalMatches = totalMatches;
+        }
+
+        public List<StorySearchHitForFullTextSearch> getHits() {
+            return theHits;
+        }
+
+        public long getTotalMatches() {
+            return theTotalMatches;
+        }
+    }
+}
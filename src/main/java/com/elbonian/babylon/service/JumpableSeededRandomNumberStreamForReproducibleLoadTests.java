@@ -0,0 +1,190 @@
+package com.elbonian.babylon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enterprise Seeded, Named, Jumpable Random Number Stream for Reproducible Load Tests.
+ *
+ * <p>Load tests spread over several Babylon instances need random sequences that are
+ * reproducible (same stream id and seed, same numbers) and that can be sharded without
+ * overlap (node 1 takes positions 0..N-1, node 2 takes N..2N-1, ...). Replaying a stream
+ * from the start to reach position N is not an option for N in the billions.</p>
+ *
+ * <p>This generator is counter-based, in the style of SplitMix64: the value at position
+ * {@code n} is a strong 64-bit mix of {@code streamSeed + (n + 1) * streamGamma}. Any
+ * position can therefore be reached in O(1), which is what
+ * {@link RandomGenerator.ArbitrarilyJumpableGenerator} asks for. Both the starting seed and
+ * the odd increment ("gamma") are derived from the stream id and the caller's seed, so
+ * different stream ids walk different sequences, not just different offsets of one.</p>
+ *
+ * <p>The period is 2<sup>64</sup> positions; jumping by 2<sup>64</sup> is a full lap.
+ * Not thread-safe: one instance belongs to one consumer, use {@link #copy()} to hand out more.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for making our randomness reproducible! 🔁
+ */
+public final class JumpableSeededRandomNumberStreamForReproducibleLoadTests
+        implements RandomGenerator.ArbitrarilyJumpableGenerator {
+
+    /** Distance of {@link #jump()}: 2^32 positions. */
+    private static final int THE_JUMP_DISTANCE_AS_A_POWER_OF_TWO = 32;
+
+    /** Distance of {@link #leap()}: 2^48 positions. */
+    private static final int THE_LEAP_DISTANCE_AS_A_POWER_OF_TWO = 48;
+
+    private static final long THE_GOLDEN_RATIO_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final String theStreamId;
+    private final long theSeed;
+    private final long theStreamSeed;
+    private final long theStreamGamma;
+
+    /** Position of the next value, modulo 2^64. */
+    private long thePosition;
+
+    /**
+     * Opens a stream at position 0.
+     *
+     * @param streamId Name of the stream, e.g. "checkout-load-test"
+     * @param seed Caller-chosen seed; the same id and seed always give the same numbers
+     */
+    public JumpableSeededRandomNumberStreamForReproducibleLoadTests(String streamId, long seed) {
+        this.theStreamId = streamId;
+        this.theSeed = seed;
+        long theStreamIdHash = makeItWorkByHashingTheStreamId(streamId);
+        this.theStreamSeed = makeItWorkByMixing64Bits(seed ^ theStreamIdHash);
+        this.theStreamGamma = makeItWorkByMixingTheGamma(theStreamIdHash + seed * THE_GOLDEN_RATIO_GAMMA);
+    }
+
+    private JumpableSeededRandomNumberStreamForReproducibleLoadTests(
+            JumpableSeededRandomNumberStreamForReproducibleLoadTests original) {
+        this.theStreamId = original.theStreamId;
+        this.theSeed = original.theSeed;
+        this.theStreamSeed = original.theStreamSeed;
+        this.theStreamGamma = original.theStreamGamma;
+        this.thePosition = original.thePosition;
+    }
+
+    @Override
+    public long nextLong() {
+        return makeItWorkByMixing64Bits(theStreamSeed + (++thePosition) * theStreamGamma);
+    }
+
+    /**
+     * Moves straight to an absolute position in O(1).
+     *
+     * @param position Position of the next value (interpreted as unsigned)
+     */
+    public void makeItWorkByJumpingToPosition(long position) {
+        thePosition = position;
+    }
+
+    /**
+     * @return Position of the next value (unsigned)
+     */
+    public long makeItWorkByReportingTheCurrentPosition() {
+        return thePosition;
+    }
+
+    /**
+     * Fills the leading slots of a buffer with numbers in {@code [min, max]}, one position
+     * per number. Uses a multiply-shift range reduction without rejection, so position N
+     * of a stream always maps to number N of the output (the bias is below range / 2^32).
+     *
+     * @param min Inclusive minimum
+     * @param max Inclusive maximum
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots to fill
+     */
+    public void doTheThingWhereWeFillABufferWithNumbersInTheRange(int min, int max,
+                                                                   int[] theBufferToFill, int howManyNumbersToGenerate) {
+        long theSizeOfTheRange = (long) max - min + 1;
+        for (int i = 0; i < howManyNumbersToGenerate; i++) {
+            long theUpper32Bits = nextLong() >>> 32;
+            theBufferToFill[i] = (int) (min + ((theUpper32Bits * theSizeOfTheRange) >>> 32));
+        }
+    }
+
+    @Override
+    public JumpableSeededRandomNumberStreamForReproducibleLoadTests copy() {
+        return new JumpableSeededRandomNumberStreamForReproducibleLoadTests(this);
+    }
+
+    @Override
+    public void jumpPowerOfTwo(int logDistance) {
+        if (logDistance < 0) {
+            throw new IllegalArgumentException("Jump distance exponent must be non-negative: " + logDistance);
+        }
+        if (logDistance < 64) {
+            thePosition += 1L << logDistance;
+        }
+        // 2^64 and beyond are whole laps of the period
+    }
+
+    @Override
+    public void jump(double distance) {
+        if (!(distance >= 0) || distance != Math.floor(distance) || Double.isInfinite(distance)) {
+            throw new IllegalArgumentException("Jump distance must be a non-negative integer: " + distance);
+        }
+        double theDistanceWithinOneLap = distance % 0x1p64;
+        thePosition += theDistanceWithinOneLap >= 0x1p63
+                ? (long) (theDistanceWithinOneLap - 0x1p63) + Long.MIN_VALUE
+                : (long) theDistanceWithinOneLap;
+    }
+
+    @Override
+    public void jump() {
+        jumpPowerOfTwo(THE_JUMP_DISTANCE_AS_A_POWER_OF_TWO);
+    }
+
+    @Override
+    public double jumpDistance() {
+        return 0x1p32;
+    }
+
+    @Override
+    public void leap() {
+        jumpPowerOfTwo(THE_LEAP_DISTANCE_AS_A_POWER_OF_TWO);
+    }
+
+    @Override
+    public double leapDistance() {
+        return 0x1p48;
+    }
+
+    /**
+     * Stafford variant 13 of the MurmurHash3 finalizer, as used by SplitMix64.
+     */
+    private static long makeItWorkByMixing64Bits(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Turns any value into an odd gamma with enough bit transitions, as SplittableRandom does.
+     */
+    private static long makeItWorkByMixingTheGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int theNumberOfBitTransitions = Long.bitCount(z ^ (z >>> 1));
+        return theNumberOfBitTransitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    /**
+     * Stable 64-bit FNV-1a hash of the stream id, identical on every node and JVM.
+     */
+    private static long makeItWorkByHashingTheStreamId(String streamId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : streamId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
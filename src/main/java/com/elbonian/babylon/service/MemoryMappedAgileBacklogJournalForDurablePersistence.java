@@ -0,0 +1,711 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Enterprise Durable Journal for the Agile Backlog (Memory-Mapped, Group Commit, Snapshots).
+ *
+ * <p>The backlog, the sprint number and the velocity history used to live only on the heap,
+ * so every restart started the company over at Sprint #1. This journal makes them durable:</p>
+ * <ul>
+ *   <li>📝 Every new story version (create, status move, block, planning assignment) and every
+ *       sprint completion is appended as a binary record to a memory-mapped segment file. An
+ *       append is a memory copy under a short lock, done inside the story's own critical section
+ *       so the journal order per story is the order the changes happened</li>
+ *   <li>💾 Group commit: callers wait until their records are forced to disk, but one background
+ *       thread does the forcing, so all the requests that arrived during one {@code msync} share
+ *       the next one instead of each paying for their own</li>
+ *   <li>📸 Snapshots: after enough records, the whole backlog is written to a compact snapshot
+ *       file (temp file, fsync, atomic rename) together with the journal position it covers, and
+ *       journal segments before that position are deleted</li>
+ *   <li>🔁 Recovery: load the snapshot, replay only the journal tail after it. Replay stops at the
+ *       first record that is incomplete or fails its CRC, which is where a crash cut the journal</li>
+ * </ul>
+ *
+ * <p><strong>FILE FORMAT:</strong></p>
+ * <ul>
+ *   <li>{@code journal-<start position>.log}: preallocated segments. A record is
+ *       {@code [int length][int CRC32C][byte type][payload]}; length 0 means "nothing written yet",
+ *       length -1 means "continued in the next segment"</li>
+ *   <li>Story records hold the full new version ({@link UserStoryBinaryCodecForDurablePersistence}),
+ *       so replaying is idempotent and a snapshot taken while stories change is still exact:
+ *       anything it missed or caught early is replayed from the tail</li>
+ *   <li>{@code snapshot.bin}: header (magic, version, journal position, sprint number, velocity
+ *       history), length-prefixed stories, then a zero length, the story count and the magic again</li>
+ * </ul>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Component
+@Slf4j
+public class MemoryMappedAgileBacklogJournalForDurablePersistence
+        implements ConcurrentUserStoryBacklogStoreForAgileSprintPlanning.UserStoryChangeObserverForBacklogStore {
+
+    /** Segment size used when nothing is configured. */
+    public static final int THE_DEFAULT_SEGMENT_SIZE_IN_MEGABYTES = 64;
+
+    /** Journal records after which the next periodic check writes a snapshot. */
+    public static final long THE_DEFAULT_NUMBER_OF_RECORDS_BETWEEN_SNAPSHOTS = 100_000;
+
+    private static final long THE_SNAPSHOT_CHECK_INTERVAL_IN_SECONDS = 10;
+
+    private static final int THE_RECORD_HEADER_SIZE_IN_BYTES = 8;
+    private static final int THE_CONTINUED_IN_THE_NEXT_SEGMENT_MARKER = -1;
+    private static final byte THE_STORY_VERSION_RECORD = 1;
+    private static final byte THE_SPRINT_COMPLETION_RECORD = 2;
+
+    private static final int THE_SNAPSHOT_MAGIC_NUMBER = 0x42414259;
+    private static final int THE_SNAPSHOT_FORMAT_VERSION = 1;
+    private static final String THE_SNAPSHOT_FILE_NAME = "snapshot.bin";
+    private static final String THE_SEGMENT_FILE_PREFIX = "journal-";
+    private static final String THE_SEGMENT_FILE_SUFFIX = ".log";
+
+    private final boolean isTheJournalEnabled;
+    private final Path theJournalDirectory;
+    private final int theSegmentSizeInBytes;
+    private final boolean shouldEveryCommitWaitForTheDisk;
+    private final long theNumberOfRecordsBetweenSnapshots;
+
+    // Appending state, guarded by "this"
+    private MappedByteBuffer theCurrentSegment;
+    private long theStartPositionOfTheCurrentSegment;
+    private long theAppendPosition;
+    private long theNumberOfRecordsSinceTheLastSnapshot;
+    private final List<MappedByteBuffer> theFullSegmentsNotYetForced = new ArrayList<>();
+    private boolean isClosed;
+
+    // Group commit state, guarded by theGroupCommitMonitor
+    private final Object theGroupCommitMonitor = new Object();
+    private long theRequestedDurablePosition;
+    private long theDurablePosition;
+    private boolean isTheGroupCommitterStopped;
+    private long theNumberOfGroupCommits;
+
+    private final Object theSnapshotLock = new Object();
+    private ConcurrentUserStoryBacklogStoreForAgileSprintPlanning theAttachedBacklogStore;
+    private AgileSprintStateForDurablePersistence theAttachedSprintState;
+    private Thread theGroupCommitter;
+    private ScheduledExecutorService theSnapshotScheduler;
+
+    /**
+     * Creates an enabled journal in a directory, e.g. for tests and tools.
+     *
+     * @param journalDirectory Where segments and snapshots live (created if missing)
+     * @param segmentSizeInBytes Size of each preallocated segment file
+     * @param shouldEveryCommitWaitForTheDisk true: callers wait for the group commit; false: the OS flushes when it likes
+     * @param numberOfRecordsBetweenSnapshots Records after which a periodic snapshot is written
+     */
+    public MemoryMappedAgileBacklogJournalForDurablePersistence(Path journalDirectory, int segmentSizeInBytes,
+                                                                boolean shouldEveryCommitWaitForTheDisk,
+                                                                long numberOfRecordsBetweenSnapshots) {
+        if (segmentSizeInBytes < 4096) {
+            throw new IllegalArgumentException("Journal segments must be at least 4 KiB: " + segmentSizeInBytes);
+        }
+        this.isTheJournalEnabled = true;
+        this.theJournalDirectory = journalDirectory;
+        this.theSegmentSizeInBytes = segmentSizeInBytes;
+        this.shouldEveryCommitWaitForTheDisk = shouldEveryCommitWaitForTheDisk;
+        this.theNumberOfRecordsBetweenSnapshots = numberOfRecordsBetweenSnapshots;
+    }
+
+    /**
+     * Creates the journal from {@code application.properties}. When disabled nothing touches the disk.
+     */
+    @Autowired
+    public MemoryMappedAgileBacklogJournalForDurablePersistence(
+            @Value("${babylon.agile.journal.enabled:false}") boolean enabled,
+            @Value("${babylon.agile.journal.directory:data/agile-journal}") String journalDirectory,
+            @Value("${babylon.agile.journal.segment-size-megabytes:" + THE_DEFAULT_SEGMENT_SIZE_IN_MEGABYTES + "}") int segmentSizeInMegabytes,
+            @Value("${babylon.agile.journal.sync-on-commit:true}") boolean shouldEveryCommitWaitForTheDisk,
+            @Value("${babylon.agile.journal.snapshot-after-records:" + THE_DEFAULT_NUMBER_OF_RECORDS_BETWEEN_SNAPSHOTS + "}") long numberOfRecordsBetweenSnapshots) {
+        if (enabled && (segmentSizeInMegabytes < 1 || segmentSizeInMegabytes > 1024)) {
+            throw new IllegalArgumentException("Journal segment size must be 1-1024 MB: " + segmentSizeInMegabytes);
+        }
+        this.isTheJournalEnabled = enabled;
+        this.theJournalDirectory = Path.of(journalDirectory);
+        this.theSegmentSizeInBytes = segmentSizeInMegabytes * 1024 * 1024;
+        this.shouldEveryCommitWaitForTheDisk = shouldEveryCommitWaitForTheDisk;
+        this.theNumberOfRecordsBetweenSnapshots = numberOfRecordsBetweenSnapshots;
+    }
+
+    /**
+     * @return Whether this journal persists anything at all
+     */
+    public boolean makeItWorkByReportingWhetherTheJournalIsEnabled() {
+        return isTheJournalEnabled;
+    }
+
+    /**
+     * Recovers the backlog and sprint state from disk into the given (empty) store and sprint
+     * state, then starts journaling every change to them.
+     *
+     * @param backlogStore The store to fill and observe
+     * @param sprintState The sprint number and velocity history to fill and snapshot
+     * @throws UncheckedIOException if the journal directory can't be read or written
+     */
+    public void makeItWorkByAttachingTheBacklog(ConcurrentUserStoryBacklogStoreForAgileSprintPlanning backlogStore,
+                                                AgileSprintStateForDurablePersistence sprintState) {
+        if (!isTheJournalEnabled) {
+            return;
+        }
+        synchronized (this) {
+            if (theAttachedBacklogStore != null) {
+                throw new IllegalStateException("The journal is already attached to a backlog");
+            }
+            theAttachedBacklogStore = backlogStore;
+            theAttachedSprintState = sprintState;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            Files.createDirectories(theJournalDirectory);
+            long snapshotPosition = makeItWorkByLoadingTheSnapshot(backlogStore, sprintState);
+            int storiesFromTheSnapshot = backlogStore.makeItWorkByCountingTheStories();
+            long replayedRecords = makeItWorkByReplayingTheJournalTail(snapshotPosition, backlogStore, sprintState);
+            log.info("💾 Agile backlog recovered from {}: {} stories from the snapshot, {} journal records replayed, {} stories in {} ms",
+                    theJournalDirectory, storiesFromTheSnapshot, replayedRecords, backlogStore.makeItWorkByCountingTheStories(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not recover the agile backlog journal in " + theJournalDirectory, e);
+        }
+
+        synchronized (theGroupCommitMonitor) {
+            theDurablePosition = theAppendPosition;
+            theRequestedDurablePosition = theAppendPosition;
+        }
+        backlogStore.makeItWorkByAddingAChangeObserver(this);
+
+        if (shouldEveryCommitWaitForTheDisk) {
+            theGroupCommitter = new Thread(this::makeItWorkByRunningTheGroupCommitter, "babylon-journal-group-commit");
+            theGroupCommitter.setDaemon(true);
+            theGroupCommitter.start();
+        }
+        theSnapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread snapshotter = new Thread(runnable, "babylon-journal-snapshotter");
+            snapshotter.setDaemon(true);
+            return snapshotter;
+        });
+        theSnapshotScheduler.scheduleWithFixedDelay(this::makeItWorkByWritingASnapshotIfEnoughHasChanged,
+                THE_SNAPSHOT_CHECK_INTERVAL_IN_SECONDS, THE_SNAPSHOT_CHECK_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Journals a new story version. Called by the store inside the story's critical section.
+     */
+    @Override
+    public void doTheThingWhereWeObserveTheNewVersion(UserStoryForAgileSprintPlanning previousVersion,
+                                                      UserStoryForAgileSprintPlanning newVersion) {
+        makeItWorkByAppendingARecord(THE_STORY_VERSION_RECORD,
+                UserStoryBinaryCodecForDurablePersistence.doTheThingWhereWeEncodeTheStory(newVersion));
+    }
+
+    /**
+     * Journals a sprint completion. Must be called under the sprint state's lock, in the same
+     * order the completions are applied.
+     *
+     * @param completedPoints Story points delivered in the completed sprint
+     */
+    public void doTheThingWhereWeAppendASprintCompletion(int completedPoints) {
+        makeItWorkByAppendingARecord(THE_SPRINT_COMPLETION_RECORD, ByteBuffer.allocate(Integer.BYTES).putInt(0, completedPoints));
+    }
+
+    /**
+     * Blocks until every record appended so far, by any thread, is on disk. Returns at once when
+     * commits don't wait for the disk. Concurrent callers share one force of the mapped segments.
+     *
+     * @throws IllegalStateException if interrupted while waiting
+     */
+    public void makeItWorkByWaitingUntilEverythingAppendedIsDurable() {
+        if (!shouldEveryCommitWaitForTheDisk) {
+            return;
+        }
+        long target;
+        synchronized (this) {
+            target = theAppendPosition;
+        }
+        synchronized (theGroupCommitMonitor) {
+            if (theRequestedDurablePosition < target) {
+                theRequestedDurablePosition = target;
+                theGroupCommitMonitor.notifyAll();
+            }
+            while (theDurablePosition < target) {
+                try {
+                    theGroupCommitMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the agile backlog journal", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of the whole backlog and deletes the journal segments it makes redundant.
+     * Stories keep changing while the snapshot is written; only the moment its journal position
+     * is picked briefly holds changes back. The stories written are the backlog's version from
+     * that same moment, so they match the position exactly.
+     *
+     * @throws UncheckedIOException if the snapshot can't be written
+     */
+    public void makeItWorkByWritingASnapshot() {
+        if (theAttachedBacklogStore == null) {
+            return;
+        }
+        synchronized (theSnapshotLock) {
+            long startNanos = System.nanoTime();
+            AgileBacklogSnapshotPointInTheJournal point = theAttachedBacklogStore.makeItWorkByRunningWhileNoStoryIsBeingChanged(() -> {
+                synchronized (theAttachedSprintState.makeItWorkByReturningTheLockGuardingSprintCompletions()) {
+                    synchronized (this) {
+                        return new AgileBacklogSnapshotPointInTheJournal(theAppendPosition, theNumberOfRecordsSinceTheLastSnapshot,
+                                theAttachedSprintState.makeItWorkByReportingTheCurrentSprintNumber(),
+                                theAttachedSprintState.makeItWorkByCopyingTheVelocityHistory(),
+                                theAttachedBacklogStore.doTheThingWhereWeTakeASnapshot());
+                    }
+                }
+            });
+
+            Path theSnapshotFile = theJournalDirectory.resolve(THE_SNAPSHOT_FILE_NAME);
+            Path theTemporaryFile = theJournalDirectory.resolve(THE_SNAPSHOT_FILE_NAME + ".tmp");
+            long numberOfStories = 0;
+            try (FileChannel channel = FileChannel.open(theTemporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                out.writeInt(THE_SNAPSHOT_MAGIC_NUMBER);
+                out.writeInt(THE_SNAPSHOT_FORMAT_VERSION);
+                out.writeLong(point.theJournalPosition);
+                out.writeInt(point.theSprintNumber);
+                out.writeInt(point.theVelocityHistory.size());
+                for (int velocity : point.theVelocityHistory) {
+                    out.writeInt(velocity);
+                }
+                for (UserStoryForAgileSprintPlanning story : point.theBacklog.makeItWorkByListingTheStories()) {
+                    ByteBuffer encodedStory = UserStoryBinaryCodecForDurablePersistence.doTheThingWhereWeEncodeTheStory(story);
+                    out.writeInt(encodedStory.remaining());
+                    out.write(encodedStory.array(), 0, encodedStory.remaining());
+                    numberOfStories++;
+                }
+                out.writeInt(0);
+                out.writeLong(numberOfStories);
+                out.writeInt(THE_SNAPSHOT_MAGIC_NUMBER);
+                out.flush();
+                channel.force(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write the agile backlog snapshot", e);
+            }
+
+            try {
+                Files.move(theTemporaryFile, theSnapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                makeItWorkByForcingTheJournalDirectory();
+                synchronized (this) {
+                    theNumberOfRecordsSinceTheLastSnapshot -= point.theNumberOfRecordsItCovers;
+                }
+                makeItWorkByDeletingSegmentsBefore(point.theJournalPosition);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not install the agile backlog snapshot", e);
+            }
+            log.info("📸 Agile backlog snapshot written: {} stories at journal position {} in {} ms",
+                    numberOfStories, point.theJournalPosition, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    /**
+     * Writes a final snapshot, forces the journal and stops the background threads.
+     */
+    @PreDestroy
+    public void makeItWorkByClosingTheJournal() {
+        if (theAttachedBacklogStore == null) {
+            return;
+        }
+        theSnapshotScheduler.shutdownNow();
+        try {
+            if (makeItWorkByReportingTheNumberOfRecordsSinceTheLastSnapshot() > 0) {
+                makeItWorkByWritingASnapshot();
+            }
+        } catch (UncheckedIOException e) {
+            log.error("❌ Final agile backlog snapshot failed, the journal tail will be replayed instead", e);
+        }
+        synchronized (this) {
+            isClosed = true;
+        }
+        long forcedPosition = makeItWorkByForcingEverythingAppendedSoFar();
+        synchronized (theGroupCommitMonitor) {
+            theDurablePosition = Math.max(theDurablePosition, forcedPosition);
+            isTheGroupCommitterStopped = true;
+            theGroupCommitMonitor.notifyAll();
+        }
+        if (theGroupCommitter != null) {
+            try {
+                theGroupCommitter.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("💾 Agile backlog journal closed at position {}", forcedPosition);
+    }
+
+    /**
+     * @return Journal records appended since the last snapshot
+     */
+    public synchronized long makeItWorkByReportingTheNumberOfRecordsSinceTheLastSnapshot() {
+        return theNumberOfRecordsSinceTheLastSnapshot;
+    }
+
+    /**
+     * @return How many times the group committer has forced the journal to disk
+     */
+    public long makeItWorkByReportingTheNumberOfGroupCommits() {
+        synchronized (theGroupCommitMonitor) {
+            return theNumberOfGroupCommits;
+        }
+    }
+
+    private void makeItWorkByAppendingARecord(byte recordType, ByteBuffer payload) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(recordType);
+        checksum.update(payload.duplicate());
+        int recordLength = 1 + payload.remaining();
+        if (THE_RECORD_HEADER_SIZE_IN_BYTES + recordLength > theSegmentSizeInBytes) {
+            throw new IllegalArgumentException("Journal record of " + recordLength + " bytes does not fit in a segment");
+        }
+
+        synchronized (this) {
+            if (isClosed) {
+                throw new IllegalStateException("The agile backlog journal is closed");
+            }
+            int offset = (int) (theAppendPosition - theStartPositionOfTheCurrentSegment);
+            if (theCurrentSegment.capacity() - offset < THE_RECORD_HEADER_SIZE_IN_BYTES + recordLength) {
+                if (theCurrentSegment.capacity() - offset >= Integer.BYTES) {
+                    theCurrentSegment.putInt(offset, THE_CONTINUED_IN_THE_NEXT_SEGMENT_MARKER);
+                }
+                theFullSegmentsNotYetForced.add(theCurrentSegment);
+                try {
+                    makeItWorkByOpeningTheSegmentAt(theStartPositionOfTheCurrentSegment + theCurrentSegment.capacity());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not start a new agile backlog journal segment", e);
+                }
+                offset = 0;
+            }
+            theCurrentSegment.putInt(offset + Integer.BYTES, (int) checksum.getValue());
+            theCurrentSegment.put(offset + THE_RECORD_HEADER_SIZE_IN_BYTES, recordType);
+            theCurrentSegment.put(offset + THE_RECORD_HEADER_SIZE_IN_BYTES + 1, payload, payload.position(), payload.remaining());
+            // Length last: until it is written the slot still reads as "nothing written yet"
+            theCurrentSegment.putInt(offset, recordLength);
+            theAppendPosition = theStartPositionOfTheCurrentSegment + offset + THE_RECORD_HEADER_SIZE_IN_BYTES + recordLength;
+            theNumberOfRecordsSinceTheLastSnapshot++;
+        }
+    }
+
+    private void makeItWorkByRunningTheGroupCommitter() {
+        while (true) {
+            synchronized (theGroupCommitMonitor) {
+                while (!isTheGroupCommitterStopped && theDurablePosition >= theRequestedDurablePosition) {
+                    try {
+                        theGroupCommitMonitor.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (isTheGroupCommitterStopped) {
+                    return;
+                }
+            }
+            long forcedPosition = makeItWorkByForcingEverythingAppendedSoFar();
+            synchronized (theGroupCommitMonitor) {
+                theDurablePosition = Math.max(theDurablePosition, forcedPosition);
+                theNumberOfGroupCommits++;
+                theGroupCommitMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return The append position up to which everything is now on disk
+     */
+    private long makeItWorkByForcingEverythingAppendedSoFar() {
+        List<MappedByteBuffer> segmentsToForce;
+        long position;
+        synchronized (this) {
+            position = theAppendPosition;
+            segmentsToForce = new ArrayList<>(theFullSegmentsNotYetForced);
+            theFullSegmentsNotYetForced.clear();
+            segmentsToForce.add(theCurrentSegment);
+        }
+        for (MappedByteBuffer segment : segmentsToForce) {
+            segment.force();
+        }
+        return position;
+    }
+
+    private void makeItWorkByWritingASnapshotIfEnoughHasChanged() {
+        try {
+            if (makeItWorkByReportingTheNumberOfRecordsSinceTheLastSnapshot() >= theNumberOfRecordsBetweenSnapshots) {
+                makeItWorkByWritingASnapshot();
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Periodic agile backlog snapshot failed, will retry", e);
+        }
+    }
+
+    /**
+     * @return The journal position the snapshot covers, or 0 without a snapshot
+     */
+    private long makeItWorkByLoadingTheSnapshot(ConcurrentUserStoryBacklogStoreForAgileSprintPlanning backlogStore,
+                                                AgileSprintStateForDurablePersistence sprintState) throws IOException {
+        Path theSnapshotFile = theJournalDirectory.resolve(THE_SNAPSHOT_FILE_NAME);
+        if (!Files.exists(theSnapshotFile)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(theSnapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (snapshot.getInt() != THE_SNAPSHOT_MAGIC_NUMBER || snapshot.getInt() != THE_SNAPSHOT_FORMAT_VERSION) {
+                throw new IOException("Not an agile backlog snapshot: " + theSnapshotFile);
+            }
+            long journalPosition = snapshot.getLong();
+            int sprintNumber = snapshot.getInt();
+            int numberOfVelocities = snapshot.getInt();
+            List<Integer> velocityHistory = new ArrayList<>(numberOfVelocities);
+            for (int i = 0; i < numberOfVelocities; i++) {
+                velocityHistory.add(snapshot.getInt());
+            }
+            long numberOfStories = 0;
+            for (int length = snapshot.getInt(); length != 0; length = snapshot.getInt()) {
+                int storyStart = snapshot.position();
+                backlogStore.doTheThingWhereWeRestoreTheStory(
+                        UserStoryBinaryCodecForDurablePersistence.doTheThingWhereWeDecodeTheStory(snapshot.slice(storyStart, length)));
+                snapshot.position(storyStart + length);
+                numberOfStories++;
+            }
+            if (snapshot.getLong() != numberOfStories || snapshot.getInt() != THE_SNAPSHOT_MAGIC_NUMBER) {
+                throw new IOException("Agile backlog snapshot is incomplete: " + theSnapshotFile);
+            }
+            sprintState.doTheThingWhereWeRestoreTheSprintState(sprintNumber, velocityHistory);
+            return journalPosition;
+        } catch (RuntimeException e) {
+            throw new IOException("Agile backlog snapshot is damaged: " + theSnapshotFile, e);
+        }
+    }
+
+    /**
+     * Replays every intact record from a position on, then positions the journal for appending
+     * right after the last intact record.
+     *
+     * @return How many records were replayed
+     */
+    private long makeItWorkByReplayingTheJournalTail(long fromPosition,
+                                                     ConcurrentUserStoryBacklogStoreForAgileSprintPlanning backlogStore,
+                                                     AgileSprintStateForDurablePersistence sprintState) throws IOException {
+        TreeMap<Long, Path> segmentsByStartPosition = makeItWorkByListingTheSegments();
+        long position = fromPosition;
+        long replayedRecords = 0;
+        boolean reachedTheEnd = false;
+        while (!reachedTheEnd) {
+            var segmentEntry = segmentsByStartPosition.floorEntry(position);
+            if (segmentEntry == null) {
+                break;
+            }
+            long segmentStart = segmentEntry.getKey();
+            try (FileChannel channel = FileChannel.open(segmentEntry.getValue(), StandardOpenOption.READ)) {
+                long segmentSize = channel.size();
+                if (position >= segmentStart + segmentSize) {
+                    break;
+                }
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+                int offset = (int) (position - segmentStart);
+                while (true) {
+                    if (segment.capacity() - offset < THE_RECORD_HEADER_SIZE_IN_BYTES) {
+                        position = segmentStart + segmentSize;
+                        break;
+                    }
+                    int recordLength = segment.getInt(offset);
+                    if (recordLength == THE_CONTINUED_IN_THE_NEXT_SEGMENT_MARKER) {
+                        position = segmentStart + segmentSize;
+                        break;
+                    }
+                    if (recordLength <= 0 || recordLength > segment.capacity() - offset - THE_RECORD_HEADER_SIZE_IN_BYTES) {
+                        reachedTheEnd = true;
+                        break;
+                    }
+                    ByteBuffer record = segment.slice(offset + THE_RECORD_HEADER_SIZE_IN_BYTES, recordLength);
+                    CRC32C checksum = new CRC32C();
+                    checksum.update(record.duplicate());
+                    if ((int) checksum.getValue() != segment.getInt(offset + Integer.BYTES)) {
+                        log.warn("⚠️ Agile backlog journal ends in a torn record at position {}, ignoring the rest", position);
+                        reachedTheEnd = true;
+                        break;
+                    }
+                    makeItWorkByReplayingTheRecord(record, backlogStore, sprintState);
+                    replayedRecords++;
+                    offset += THE_RECORD_HEADER_SIZE_IN_BYTES + recordLength;
+                    position = segmentStart + offset;
+                }
+            }
+        }
+
+        // Anything after the last intact record is garbage from a crash: drop later segments
+        for (var laterSegment : segmentsByStartPosition.tailMap(position, false).entrySet()) {
+            Files.deleteIfExists(laterSegment.getValue());
+        }
+        makeItWorkByOpeningTheSegmentAt(position);
+        synchronized (this) {
+            theNumberOfRecordsSinceTheLastSnapshot = replayedRecords;
+        }
+        return replayedRecords;
+    }
+
+    private void makeItWorkByReplayingTheRecord(ByteBuffer record,
+                                                ConcurrentUserStoryBacklogStoreForAgileSprintPlanning backlogStore,
+                                                AgileSprintStateForDurablePersistence sprintState) throws IOException {
+        byte recordType = record.get();
+        switch (recordType) {
+            case THE_STORY_VERSION_RECORD -> backlogStore.doTheThingWhereWeRestoreTheStory(
+                    UserStoryBinaryCodecForDurablePersistence.doTheThingWhereWeDecodeTheStory(record));
+            case THE_SPRINT_COMPLETION_RECORD -> sprintState.doTheThingWhereWeReplayASprintCompletion(record.getInt());
+            default -> throw new IOException("Unknown agile backlog journal record type " + recordType);
+        }
+    }
+
+    /**
+     * Maps the segment containing {@code position} for appending at that position, creating it if
+     * needed, and zeroes whatever a crash may have left after that position.
+     */
+    private synchronized void makeItWorkByOpeningTheSegmentAt(long position) throws IOException {
+        var existingSegment = makeItWorkByListingTheSegments().floorEntry(position);
+        Path segmentFile;
+        long segmentStart;
+        long segmentSize;
+        if (existingSegment != null && position < existingSegment.getKey() + Files.size(existingSegment.getValue())) {
+            segmentFile = existingSegment.getValue();
+            segmentStart = existingSegment.getKey();
+            segmentSize = Files.size(segmentFile);
+        } else {
+            segmentFile = theJournalDirectory.resolve(String.format("%s%020d%s", THE_SEGMENT_FILE_PREFIX, position, THE_SEGMENT_FILE_SUFFIX));
+            segmentStart = position;
+            segmentSize = theSegmentSizeInBytes;
+        }
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            theCurrentSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        // Only write where needed, so the untouched (sparse) rest of the segment stays clean
+        int offset = (int) (position - segmentStart);
+        int i = offset;
+        for (; i + Long.BYTES <= segmentSize; i += Long.BYTES) {
+            if (theCurrentSegment.getLong(i) != 0) {
+                theCurrentSegment.putLong(i, 0);
+            }
+        }
+        for (; i < segmentSize; i++) {
+            if (theCurrentSegment.get(i) != 0) {
+                theCurrentSegment.put(i, (byte) 0);
+            }
+        }
+        theStartPositionOfTheCurrentSegment = segmentStart;
+        theAppendPosition = position;
+    }
+
+    private TreeMap<Long, Path> makeItWorkByListingTheSegments() throws IOException {
+        TreeMap<Long, Path> segmentsByStartPosition = new TreeMap<>();
+        try (Stream<Path> files = Files.list(theJournalDirectory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(THE_SEGMENT_FILE_PREFIX) && name.endsWith(THE_SEGMENT_FILE_SUFFIX)) {
+                    segmentsByStartPosition.put(Long.parseLong(name.substring(THE_SEGMENT_FILE_PREFIX.length(),
+                            name.length() - THE_SEGMENT_FILE_SUFFIX.length())), file);
+                }
+            });
+        }
+        return segmentsByStartPosition;
+    }
+
+    private void makeItWorkByDeletingSegmentsBefore(long snapshotPosition) throws IOException {
+        long currentSegmentStart;
+        synchronized (this) {
+            currentSegmentStart = theStartPositionOfTheCurrentSegment;
+        }
+        for (var segment : makeItWorkByListingTheSegments().entrySet()) {
+            if (segment.getKey() != currentSegmentStart
+                    && segment.getKey() + Files.size(segment.getValue()) <= snapshotPosition) {
+                Files.deleteIfExists(segment.getValue());
+            }
+        }
+    }
+
+    /** Makes the snapshot rename itself durable; not every platform can, so failures are only logged. */
+    private void makeItWorkByForcingTheJournalDirectory() {
+        try (FileChannel directory = FileChannel.open(theJournalDirectory, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not force the journal directory {}: {}", theJournalDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * The sprint-level state the journal recovers and snapshots next to the stories.
+     */
+    public interface AgileSprintStateForDurablePersistence {
+
+        /** @return The lock held while a sprint completion is applied and journaled */
+        Object makeItWorkByReturningTheLockGuardingSprintCompletions();
+
+        int makeItWorkByReportingTheCurrentSprintNumber();
+
+        List<Integer> makeItWorkByCopyingTheVelocityHistory();
+
+        /** Replaces the sprint state with the one from a snapshot. */
+        void doTheThingWhereWeRestoreTheSprintState(int sprintNumber, List<Integer> velocityHistory);
+
+        /** Applies a journaled sprint completion again. */
+        void doTheThingWhereWeReplayASprintCompletion(int completedPoints);
+    }
+
+    /**
+     * What a snapshot covers: everything up to a journal position, captured together.
+     */
+    private static final class AgileBacklogSnapshotPointInTheJournal {
+        private final long theJournalPosition;
+        private final long theNumberOfRecordsItCovers;
+        private final int theSprintNumber;
+        private final List<Integer> theVelocityHistory;
+        private final PersistentBacklogSnapshotForConsistentReads theBacklog;
+
+        private AgileBacklogSnapshotPointInTheJournal(long journalPosition, long numberOfRecordsItCovers,
+                                                      int sprintNumber, List<Integer> velocityHistory,
+                                                      PersistentBacklogSnapshotForConsistentReads backlog) {
+            this.theJournalPosition = journalPosition;
+            this.theNumberOfRecordsItCovers = numberOfRecordsItCovers;
+            this.theSprintNumber = sprintNumber;
+            this.theVelocityHistory = velocityHistory;
+            this.theBacklog = backlog;
+        }
+    }
+}
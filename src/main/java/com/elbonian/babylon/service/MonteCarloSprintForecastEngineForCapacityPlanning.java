@@ -0,0 +1,266 @@
+package com.elbonian.babylon.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Enterprise Monte Carlo Forecast of When the Backlog Will Be Done.
+ *
+ * <p>Answers the Product Owner's favourite question, "what's the probability we finish the
+ * backlog in N sprints?", by replaying the future many times: each trial draws a velocity
+ * from the team's history for every sprint until the remaining story points are burned down,
+ * and counts the sprints it took. The distribution of those counts is the forecast.</p>
+ *
+ * <p><strong>HOW IT SCALES:</strong></p>
+ * <ul>
+ *   <li>🧵 Trials are split into fork/join tasks on the common pool, so every core
+ *       simulates. Each task gets its own {@link SplittableRandom} split from its parent's:
+ *       no shared generator, no contention, still statistically independent</li>
+ *   <li>📊 Each task counts its results in a primitive histogram indexed by sprints needed;
+ *       the histograms are added up when the tasks join. Nothing is boxed or sorted</li>
+ *   <li>⏱️ Tasks look at the clock every {@value #THE_NUMBER_OF_TRIALS_BETWEEN_DEADLINE_CHECKS}
+ *       trials and stop when the time budget is spent; the forecast then reports how many
+ *       trials actually ran</li>
+ * </ul>
+ *
+ * <p>Trials that still have points left after {@value #THE_LONGEST_FORECAST_IN_SPRINTS}
+ * sprints (20 years) count as "not within the forecast horizon".</p>
+ *
+ * <p>Thread-safe: holds no mutable state.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Slf4j
+public final class MonteCarloSprintForecastEngineForCapacityPlanning {
+
+    /** Trials run when the caller doesn't ask for fewer. */
+    public static final int THE_DEFAULT_MAXIMUM_NUMBER_OF_TRIALS = 100_000;
+
+    /** How long a forecast may simulate before it reports what it has. */
+    public static final long THE_DEFAULT_TIME_BUDGET_IN_MILLISECONDS = 500;
+
+    /** Sprints are 2 weeks (or 3 weeks if someone goes on vacation, which we don't forecast). */
+    public static final int THE_SPRINT_LENGTH_IN_DAYS = 14;
+
+    /** Trials that take longer than this many sprints are beyond the horizon. */
+    public static final int THE_LONGEST_FORECAST_IN_SPRINTS = 520;
+
+    private static final int THE_NUMBER_OF_TRIALS_PER_TASK = 4096;
+    private static final int THE_NUMBER_OF_TRIALS_BETWEEN_DEADLINE_CHECKS = 1024;
+    private static final int THE_BEYOND_THE_HORIZON_BUCKET = THE_LONGEST_FORECAST_IN_SPRINTS + 1;
+
+    private final int theMaximumNumberOfTrials;
+    private final long theTimeBudgetInNanoseconds;
+
+    public MonteCarloSprintForecastEngineForCapacityPlanning() {
+        this(THE_DEFAULT_MAXIMUM_NUMBER_OF_TRIALS, THE_DEFAULT_TIME_BUDGET_IN_MILLISECONDS);
+    }
+
+    public MonteCarloSprintForecastEngineForCapacityPlanning(int maximumNumberOfTrials, long timeBudgetInMilliseconds) {
+        if (maximumNumberOfTrials < 1) {
+            throw new IllegalArgumentException("A forecast needs at least one trial: " + maximumNumberOfTrials);
+        }
+        this.theMaximumNumberOfTrials = maximumNumberOfTrials;
+        this.theTimeBudgetInNanoseconds = Math.multiplyExact(Math.max(0, timeBudgetInMilliseconds), 1_000_000L);
+    }
+
+    /**
+     * @return The most trials a single forecast will run
+     */
+    public int makeItWorkByReportingTheMaximumNumberOfTrials() {
+        return theMaximumNumberOfTrials;
+    }
+
+    /**
+     * Forecasts how many sprints the remaining story points will take.
+     *
+     * @param velocityHistory Velocities to sample from (empty: the optimistic default velocity)
+     * @param remainingStoryPoints Points left in the backlog
+     * @param requestedTrials How many trials to run, capped at the configured maximum
+     * @param firstSprintStart Day the first forecast sprint starts
+     * @return The forecast
+     */
+    public SprintForecastForCapacityPlanning doTheThingWhereWeForecastTheCompletion(
+            int[] velocityHistory, long remainingStoryPoints, int requestedTrials, LocalDate firstSprintStart) {
+        return doTheThingWhereWeForecastTheCompletion(velocityHistory, remainingStoryPoints, requestedTrials,
+                firstSprintStart, new SplittableRandom());
+    }
+
+    /**
+     * Same as above with a caller-provided generator, so tests can reproduce a forecast.
+     */
+    SprintForecastForCapacityPlanning doTheThingWhereWeForecastTheCompletion(
+            int[] velocityHistory, long remainingStoryPoints, int requestedTrials, LocalDate firstSprintStart,
+            SplittableRandom random) {
+        if (requestedTrials < 1) {
+            throw new IllegalArgumentException("A forecast needs at least one trial: " + requestedTrials);
+        }
+        int trials = Math.min(requestedTrials, theMaximumNumberOfTrials);
+        int[] velocities = velocityHistory.length > 0
+                ? velocityHistory.clone()
+                : new int[]{(int) RollingVelocityStatisticsForCapacityPlanning.THE_OPTIMISTIC_DEFAULT_VELOCITY};
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + theTimeBudgetInNanoseconds;
+        int[] sprintsNeededHistogram = ForkJoinPool.commonPool().invoke(
+                new MonteCarloTrialsForSprintForecast(velocities, remainingStoryPoints, trials, deadlineNanos, random));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        SprintForecastForCapacityPlanning forecast = new SprintForecastForCapacityPlanning(
+                sprintsNeededHistogram, remainingStoryPoints, trials, elapsedNanos / 1_000_000, firstSprintStart);
+        log.info("🔮 Forecast for {} remaining points: {} of {} trials in {} ms, 85% done within {} sprints",
+                remainingStoryPoints, forecast.getTrialsRun(), trials, forecast.getElapsedMilliseconds(),
+                forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(85));
+        return forecast;
+    }
+
+    /**
+     * A range of trials; splits itself until a range fits one task.
+     */
+    private static final class MonteCarloTrialsForSprintForecast extends RecursiveTask<int[]> {
+
+        private final int[] theVelocities;
+        private final long theRemainingStoryPoints;
+        private final int theNumberOfTrials;
+        private final long theDeadlineInNanos;
+        private final SplittableRandom theRandom;
+
+        private MonteCarloTrialsForSprintForecast(int[] velocities, long remainingStoryPoints, int numberOfTrials,
+                                                  long deadlineInNanos, SplittableRandom random) {
+            this.theVelocities = velocities;
+            this.theRemainingStoryPoints = remainingStoryPoints;
+            this.theNumberOfTrials = numberOfTrials;
+            this.theDeadlineInNanos = deadlineInNanos;
+            this.theRandom = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (theNumberOfTrials > THE_NUMBER_OF_TRIALS_PER_TASK) {
+                int half = theNumberOfTrials / 2;
+                MonteCarloTrialsForSprintForecast firstHalf = new MonteCarloTrialsForSprintForecast(
+                        theVelocities, theRemainingStoryPoints, half, theDeadlineInNanos, theRandom.split());
+                firstHalf.fork();
+                int[] histogram = new MonteCarloTrialsForSprintForecast(
+                        theVelocities, theRemainingStoryPoints, theNumberOfTrials - half, theDeadlineInNanos, theRandom).compute();
+                int[] otherHistogram = firstHalf.join();
+                for (int sprints = 0; sprints < histogram.length; sprints++) {
+                    histogram[sprints] += otherHistogram[sprints];
+                }
+                return histogram;
+            }
+            return makeItWorkByRunningTheTrials();
+        }
+
+        private int[] makeItWorkByRunningTheTrials() {
+            int[] histogram = new int[THE_BEYOND_THE_HORIZON_BUCKET + 1];
+            int[] velocities = theVelocities;
+            SplittableRandom random = theRandom;
+            for (int trial = 0; trial < theNumberOfTrials; trial++) {
+                if (trial % THE_NUMBER_OF_TRIALS_BETWEEN_DEADLINE_CHECKS == 0 && trial > 0
+                        && System.nanoTime() - theDeadlineInNanos > 0) {
+                    break;
+                }
+                long pointsLeft = theRemainingStoryPoints;
+                int sprints = 0;
+                while (pointsLeft > 0 && sprints < THE_BEYOND_THE_HORIZON_BUCKET) {
+                    pointsLeft -= velocities[random.nextInt(velocities.length)];
+                    sprints++;
+                }
+                histogram[pointsLeft > 0 ? THE_BEYOND_THE_HORIZON_BUCKET : sprints]++;
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Outcome of a forecast: how many trials needed how many sprints.
+     */
+    public static final class SprintForecastForCapacityPlanning {
+
+        private final long[] theTrialsDoneWithinSprints;
+        private final long theRemainingStoryPoints;
+        private final int theTrialsRequested;
+        private final long theTrialsRun;
+        private final long theElapsedMilliseconds;
+        private final LocalDate theFirstSprintStart;
+
+        SprintForecastForCapacityPlanning(int[] sprintsNeededHistogram, long remainingStoryPoints, int trialsRequested,
+                                          long elapsedMilliseconds, LocalDate firstSprintStart) {
+            // Cumulative: entry s counts the trials done within s sprints (the last entry: all trials)
+            this.theTrialsDoneWithinSprints = new long[sprintsNeededHistogram.length];
+            long cumulative = 0;
+            for (int sprints = 0; sprints < sprintsNeededHistogram.length; sprints++) {
+                cumulative += sprintsNeededHistogram[sprints];
+                theTrialsDoneWithinSprints[sprints] = cumulative;
+            }
+            this.theRemainingStoryPoints = remainingStoryPoints;
+            this.theTrialsRequested = trialsRequested;
+            this.theTrialsRun = cumulative;
+            this.theElapsedMilliseconds = elapsedMilliseconds;
+            this.theFirstSprintStart = firstSprintStart;
+        }
+
+        /**
+         * @param sprints A number of sprints from now
+         * @return Share of trials (0-1) that finished the backlog within that many sprints
+         */
+        public double makeItWorkByCalculatingTheProbabilityOfFinishingWithin(int sprints) {
+            if (sprints < 0) {
+                return 0;
+            }
+            int bucket = Math.min(sprints, THE_LONGEST_FORECAST_IN_SPRINTS);
+            return (double) theTrialsDoneWithinSprints[bucket] / theTrialsRun;
+        }
+
+        /**
+         * @param percentile 1-100: how sure the forecast should be
+         * @return Sprints needed in that share of trials, or null if beyond the forecast horizon
+         */
+        public Integer makeItWorkByFindingTheSprintsNeededAtThePercentile(double percentile) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be above 0 and at most 100: " + percentile);
+            }
+            long trialsThatMustBeDone = (long) Math.ceil(percentile / 100.0 * theTrialsRun);
+            for (int sprints = 0; sprints <= THE_LONGEST_FORECAST_IN_SPRINTS; sprints++) {
+                if (theTrialsDoneWithinSprints[sprints] >= trialsThatMustBeDone) {
+                    return sprints;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return The day the backlog is done in that share of trials, or null if beyond the horizon
+         */
+        public LocalDate makeItWorkByFindingTheCompletionDateAtThePercentile(double percentile) {
+            Integer sprints = makeItWorkByFindingTheSprintsNeededAtThePercentile(percentile);
+            return sprints == null ? null : theFirstSprintStart.plusDays((long) sprints * THE_SPRINT_LENGTH_IN_DAYS);
+        }
+
+        public long getRemainingStoryPoints() {
+            return theRemainingStoryPoints;
+        }
+
+        public int getTrialsRequested() {
+            return theTrialsRequested;
+        }
+
+        /** @return Trials that actually ran; fewer than requested when the time budget ran out */
+        public long getTrialsRun() {
+            return theTrialsRun;
+        }
+
+        public long getElapsedMilliseconds() {
+            return theElapsedMilliseconds;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.elbonian.babylon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Enterprise Engine for Bulk Non-Uniform Random Numbers for Simulation Workloads.
+ *
+ * <p>Besides the four randomness levels, simulations need Gaussian, exponential, Zipf and
+ * dice-notation distributions, millions at a time. This engine fills caller-owned
+ * primitive arrays in batches: uniform numbers are drawn from the caller's generator into
+ * the array first, and the distribution transform then runs over the whole array at once.</p>
+ *
+ * <p>The Gaussian and exponential transforms run on the incubator Vector API when the
+ * kernels were built with the {@code vector-api} Maven profile and the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} (the profile does this for tests and
+ * {@code spring-boot:run}), and on plain scalar loops otherwise, which is the default build. Zipf and dice
+ * sampling are dominated by generator draws and rejection loops, not arithmetic, so they
+ * stay scalar on both paths.</p>
+ *
+ * <pre>
+ * babylon.random.distribution.vector-api.enabled=true
+ * </pre>
+ *
+ * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
+ * <ul>
+ *   <li>✅ Verbose class name with context suffix</li>
+ *   <li>✅ Uses Spring @Component annotation</li>
+ *   <li>✅ All methods start with 'doTheThing' or 'makeItWork'</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for bringing SIMD to the enterprise! 🏎️
+ */
+@Slf4j
+@Component
+public class NonUniformDistributionEngineForSimulationWorkloads {
+
+    private static final String THE_VECTOR_API_MODULE_NAME = "jdk.incubator.vector";
+
+    private static final String THE_VECTORIZED_KERNELS_CLASS_NAME =
+            "com.elbonian.babylon.service.VectorizedNonUniformDistributionKernelsForBulkTransforms";
+
+    /** Dice notation such as "3d6", "d20" or "2d10+5". */
+    private static final Pattern THE_DICE_NOTATION_PATTERN = Pattern.compile("(\\d*)d(\\d+)([+-]\\d+)?");
+
+    static final int THE_MAXIMUM_NUMBER_OF_DICE = 1000;
+    static final int THE_MAXIMUM_NUMBER_OF_SIDES = 1_000_000;
+    static final int THE_MAXIMUM_DICE_MODIFIER = 1_000_000;
+
+    /**
+     * Uniforms are {@code 1 - nextDouble()}, so never below 2^-53: no Box-Muller radius exceeds
+     * sqrt(-2 ln 2^-53) = 8.57 standard deviations, and no exponential draw exceeds
+     * -ln 2^-53 = 36.74 means. Rounded up for headroom against the vector kernels' LOG.
+     */
+    static final double THE_LARGEST_GAUSSIAN_DRAW_IN_STANDARD_DEVIATIONS = 9;
+    static final double THE_LARGEST_EXPONENTIAL_DRAW_IN_MEANS = 37;
+
+    private final NonUniformDistributionKernelsForBulkTransforms theKernels;
+
+    /**
+     * Creates the engine with the Vector API kernels when allowed and available.
+     *
+     * @param isTheVectorApiAllowed Whether to use the Vector API if the module is loaded
+     */
+    public NonUniformDistributionEngineForSimulationWorkloads(
+            @Value("${babylon.random.distribution.vector-api.enabled:true}") boolean isTheVectorApiAllowed) {
+        this.theKernels = makeItWorkByLoadingTheBestAvailableKernels(isTheVectorApiAllowed);
+        log.info("📐 Non-uniform distribution engine ready with {} kernels", theKernels.makeItWorkByDescribingTheKernel());
+    }
+
+    /**
+     * @return Whether the Vector API module is loaded in this JVM
+     */
+    public static boolean isTheVectorApiAvailable() {
+        return ModuleLayer.boot().findModule(THE_VECTOR_API_MODULE_NAME).isPresent();
+    }
+
+    private static NonUniformDistributionKernelsForBulkTransforms makeItWorkByLoadingTheBestAvailableKernels(
+            boolean isTheVectorApiAllowed) {
+        if (isTheVectorApiAllowed && isTheVectorApiAvailable()) {
+            try {
+                // Loaded by name, so JVMs without the module never touch the class
+                return (NonUniformDistributionKernelsForBulkTransforms) Class.forName(THE_VECTORIZED_KERNELS_CLASS_NAME)
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("⚠️ Vector API kernels could not be loaded, falling back to scalar: {}", e.toString());
+            }
+        }
+        return new ScalarNonUniformDistributionKernelsForBulkTransforms();
+    }
+
+    /**
+     * @return Which kernels serve the Gaussian and exponential transforms
+     */
+    public String makeItWorkByDescribingTheKernel() {
+        return theKernels.makeItWorkByDescribingTheKernel();
+    }
+
+    /**
+     * Fills the leading slots of a buffer with normally distributed numbers.
+     *
+     * @param theGenerator Uniform source, owned by the calling thread
+     * @param theBufferToFill Destination buffer
+     * @param count How many leading slots to fill
+     * @param mean Mean of the distribution
+     * @param standardDeviation Standard deviation (must not be negative)
+     */
+    public void doTheThingWhereWeFillGaussians(RandomGenerator theGenerator, double[] theBufferToFill, int count,
+                                               double mean, double standardDeviation) {
+        int pairs = count / 2;
+        doTheThingWhereWeFillUniformsInTheUnitInterval(theGenerator, theBufferToFill, pairs * 2);
+        theKernels.doTheThingWhereWeApplyTheBoxMullerTransform(theBufferToFill, pairs, mean, standardDeviation);
+        if ((count & 1) != 0) {
+            // Odd count: the last value gets a pair of its own and keeps one half of it
+            double radius = standardDeviation * Math.sqrt(-2 * Math.log(1.0 - theGenerator.nextDouble()));
+            theBufferToFill[count - 1] = mean + radius * Math.cos(2 * Math.PI * theGenerator.nextDouble());
+        }
+    }
+
+    /**
+     * Fills the leading slots of a buffer with exponentially distributed numbers.
+     *
+     * @param theGenerator Uniform source, owned by the calling thread
+     * @param theBufferToFill Destination buffer
+     * @param count How many leading slots to fill
+     * @param rate Rate parameter lambda (must be positive); the mean is 1 / rate
+     */
+    public void doTheThingWhereWeFillExponentials(RandomGenerator theGenerator, double[] theBufferToFill, int count,
+                                                  double rate) {
+        doTheThingWhereWeFillUniformsInTheUnitInterval(theGenerator, theBufferToFill, count);
+        theKernels.doTheThingWhereWeApplyTheExponentialTransform(theBufferToFill, count, 1.0 / rate);
+    }
+
+    /**
+     * Fills the leading slots of a buffer with Zipf-distributed ranks in {@code [1, elements]}.
+     *
+     * @param theGenerator Uniform source, owned by the calling thread
+     * @param theSampler Pre-computed sampler for the element count and exponent
+     * @param theBufferToFill Destination buffer
+     * @param count How many leading slots to fill
+     */
+    public void doTheThingWhereWeFillZipfRanks(RandomGenerator theGenerator, RejectionInversionZipfSampler theSampler,
+                                               int[] theBufferToFill, int count) {
+        for (int i = 0; i < count; i++) {
+            theBufferToFill[i] = theSampler.doTheThingWhereWeSampleARank(theGenerator);
+        }
+    }
+
+    /**
+     * Fills the leading slots of a buffer with dice totals, e.g. "3d6+2".
+     *
+     * @param theGenerator Uniform source, owned by the calling thread
+     * @param theDice Parsed dice notation
+     * @param theBufferToFill Destination buffer
+     * @param count How many leading slots to fill
+     */
+    public void doTheThingWhereWeFillDiceRolls(RandomGenerator theGenerator, ParsedDiceNotation theDice,
+                                               int[] theBufferToFill, int count) {
+        int numberOfDice = theDice.theNumberOfDice;
+        int sides = theDice.theNumberOfSides;
+        int modifier = theDice.theModifier;
+        for (int i = 0; i < count; i++) {
+            int total = modifier + numberOfDice;
+            for (int die = 0; die < numberOfDice; die++) {
+                total += theGenerator.nextInt(sides);
+            }
+            theBufferToFill[i] = total;
+        }
+    }
+
+    /**
+     * Checks that every Gaussian sample with these parameters is a finite double, so a bulk
+     * response never carries {@code Infinity} or {@code NaN}, which JSON can't represent.
+     *
+     * @param mean Mean of the distribution
+     * @param standardDeviation Standard deviation
+     * @throws IllegalArgumentException if a sample could overflow or the parameters aren't numbers
+     */
+    public static void makeItWorkByCheckingTheGaussianParameters(double mean, double standardDeviation) {
+        if (!Double.isFinite(mean) || !(standardDeviation >= 0)
+                || !Double.isFinite(Math.abs(mean) + THE_LARGEST_GAUSSIAN_DRAW_IN_STANDARD_DEVIATIONS * standardDeviation)) {
+            throw new IllegalArgumentException("Gaussian needs a finite mean and a non-negative stddev"
+                    + " with |mean| + " + THE_LARGEST_GAUSSIAN_DRAW_IN_STANDARD_DEVIATIONS + " * stddev finite");
+        }
+    }
+
+    /**
+     * Checks that every exponential sample with this rate is a finite double.
+     *
+     * @param rate Rate parameter lambda
+     * @throws IllegalArgumentException if the rate is not positive or so small that a sample could overflow
+     */
+    public static void makeItWorkByCheckingTheExponentialRate(double rate) {
+        if (!(rate > 0) || !Double.isFinite(THE_LARGEST_EXPONENTIAL_DRAW_IN_MEANS / rate)) {
+            throw new IllegalArgumentException("Exponential needs a positive rate of at least "
+                    + THE_LARGEST_EXPONENTIAL_DRAW_IN_MEANS / Double.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Parses dice notation such as "3d6", "d20" or "2d10+5".
+     *
+     * @param notation The dice notation
+     * @return The parsed notation
+     * @throws IllegalArgumentException if the notation is malformed or out of range
+     */
+    public static ParsedDiceNotation makeItWorkByParsingTheDiceNotation(String notation) {
+        Matcher matcher = THE_DICE_NOTATION_PATTERN.matcher(notation == null ? "" : notation.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid dice notation (expected e.g. 3d6+2): " + notation);
+        }
+        try {
+            int numberOfDice = matcher.group(1).isEmpty() ? 1 : Integer.parseInt(matcher.group(1));
+            int sides = Integer.parseInt(matcher.group(2));
+            int modifier = matcher.group(3) == null ? 0 : Integer.parseInt(matcher.group(3));
+            if (numberOfDice < 1 || numberOfDice > THE_MAXIMUM_NUMBER_OF_DICE
+                    || sides < 1 || sides > THE_MAXIMUM_NUMBER_OF_SIDES
+                    || Math.abs(modifier) > THE_MAXIMUM_DICE_MODIFIER) {
+                throw new IllegalArgumentException("Dice notation out of range: " + notation);
+            }
+            return new ParsedDiceNotation(numberOfDice, sides, modifier);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Dice notation out of range: " + notation, e);
+        }
+    }
+
+    private static void doTheThingWhereWeFillUniformsInTheUnitInterval(RandomGenerator theGenerator,
+                                                                       double[] theBufferToFill, int count) {
+        for (int i = 0; i < count; i++) {
+            // (0, 1] rather than [0, 1), so the logarithms never see zero
+            theBufferToFill[i] = 1.0 - theGenerator.nextDouble();
+        }
+    }
+
+    /**
+     * Dice notation "NdM+K": N dice with M sides each, plus K.
+     */
+    public static final class ParsedDiceNotation {
+
+        private final int theNumberOfDice;
+        private final int theNumberOfSides;
+        private final int theModifier;
+
+        private ParsedDiceNotation(int theNumberOfDice, int theNumberOfSides, int theModifier) {
+            this.theNumberOfDice = theNumberOfDice;
+            this.theNumberOfSides = theNumberOfSides;
+            this.theModifier = theModifier;
+        }
+    }
+
+    /**
+     * Zipf sampler using rejection-inversion (Hörmann and Derflinger, 1996). Needs no table,
+     * so the element count can be in the billions, and takes about one draw per sample.
+     */
+    public static final class RejectionInversionZipfSampler {
+
+        private final int theNumberOfElements;
+        private final double theExponent;
+        private final double theIntegralAtOneAndAHalfMinusOne;
+        private final double theIntegralAtTheLastElement;
+        private final double theSqueezeThreshold;
+
+        /**
+         * @param numberOfElements How many ranks (at least 1)
+         * @param exponent Zipf exponent s (must be positive)
+         * @throws IllegalArgumentException for invalid parameters
+         */
+        public RejectionInversionZipfSampler(int numberOfElements, double exponent) {
+            if (numberOfElements < 1 || !(exponent > 0) || Double.isInfinite(exponent)) {
+                throw new IllegalArgumentException(
+                        "Zipf needs at least one element and a positive exponent: " + numberOfElements + ", " + exponent);
+            }
+            this.theNumberOfElements = numberOfElements;
+            this.theExponent = exponent;
+            this.theIntegralAtOneAndAHalfMinusOne = integralOfH(1.5) - 1.0;
+            this.theIntegralAtTheLastElement = integralOfH(numberOfElements + 0.5);
+            this.theSqueezeThreshold = 2.0 - inverseIntegralOfH(integralOfH(2.5) - h(2.0));
+        }
+
+        /**
+         * @param theGenerator Uniform source
+         * @return A rank in {@code [1, numberOfElements]}
+         */
+        public int doTheThingWhereWeSampleARank(RandomGenerator theGenerator) {
+            while (true) {
+                double u = theIntegralAtTheLastElement
+                        + theGenerator.nextDouble() * (theIntegralAtOneAndAHalfMinusOne - theIntegralAtTheLastElement);
+                double x = inverseIntegralOfH(u);
+                int k = (int) (x + 0.5);
+                if (k < 1) {
+                    k = 1;
+                } else if (k > theNumberOfElements) {
+                    k = theNumberOfElements;
+                }
+                if (k - x <= theSqueezeThreshold || u >= integralOfH(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double h(double x) {
+            return Math.exp(-theExponent * Math.log(x));
+        }
+
+        private double integralOfH(double x) {
+            double logX = Math.log(x);
+            return expm1OverX((1.0 - theExponent) * logX) * logX;
+        }
+
+        private double inverseIntegralOfH(double x) {
+            double t = Math.max(-1.0, x * (1.0 - theExponent));
+            return Math.exp(log1pOverX(t) * x);
+        }
+
+        private static double log1pOverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+
+        private static double expm1OverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.elbonian.babylon.service;
+
+/**
+ * Enterprise Kernels That Turn Uniform Random Numbers Into Non-Uniform Ones, In Bulk.
+ *
+ * <p>The generators only produce uniform values, one at a time. Turning them into
+ * Gaussian or exponential values is pure arithmetic on whole arrays, which is exactly
+ * what SIMD hardware is good at. There are two implementations: a plain scalar loop
+ * that always works, and one on the incubator Vector API that is only loaded when the
+ * JVM was started with {@code --add-modules jdk.incubator.vector}.</p>
+ *
+ * <p>All kernels work in place on a caller-owned array, so bulk requests never allocate
+ * per number.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for bringing SIMD to the enterprise! 🏎️
+ */
+interface NonUniformDistributionKernelsForBulkTransforms {
+
+    /**
+     * Box-Muller transform, in place. On entry {@code values[0..pairs)} and
+     * {@code values[pairs..2*pairs)} hold uniform numbers in (0, 1]; on exit they hold
+     * {@code 2 * pairs} independent normal numbers with the given mean and standard deviation.
+     */
+    void doTheThingWhereWeApplyTheBoxMullerTransform(double[] values, int pairs, double mean, double standardDeviation);
+
+    /**
+     * Inverse-CDF transform to exponential numbers, in place: {@code values[i] = -ln(values[i]) * scale}.
+     * On entry {@code values[0..count)} hold uniform numbers in (0, 1].
+     */
+    void doTheThingWhereWeApplyTheExponentialTransform(double[] values, int count, double scale);
+
+    /**
+     * @return Human-readable description of the kernel, for health and statistics endpoints
+     */
+    String makeItWorkByDescribingTheKernel();
+}
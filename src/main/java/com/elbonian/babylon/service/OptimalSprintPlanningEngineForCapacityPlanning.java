@@ -0,0 +1,404 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Enterprise Optimal Sprint Planning Engine (0/1 Knapsack Over Story Points).
+ *
+ * <p>The old planning ceremony sorted the backlog by priority and greedily skipped every
+ * story that did not fit, which regularly left capacity on the table: with a velocity of 10
+ * and HIGH stories of 6, 5 and 5 points it committed 6 points instead of 10. This engine
+ * picks the set of stories that maximizes the priority-weighted value delivered without
+ * exceeding the target velocity.</p>
+ *
+ * <p>Value of a story = story points × priority weight, where each priority level is worth
+ * twice the one below it (LOW 1, MEDIUM 2, HIGH 4, CRITICAL 8, EXISTENTIAL 16). Stories
+ * without points cost no capacity and are always committed.</p>
+ *
+ * <p><strong>Algorithms:</strong></p>
+ * <ul>
+ *   <li>🎯 {@link SprintPlanningAlgorithmForCapacityOptimization#EXACT} - dynamic programming
+ *       over capacity with a one-bit-per-cell decision table, O(n × velocity) time and
+ *       n × velocity / 8 bytes of memory</li>
+ *   <li>🧠 {@link SprintPlanningAlgorithmForCapacityOptimization#BOUNDED_MEMORY} - the same
+ *       optimum found by divide and conquer (Hirschberg style): each half of the backlog is
+ *       solved with a single row of O(velocity) longs, then the best split of capacity between
+ *       the halves is recursed into. About twice the time, a fraction of the memory</li>
+ *   <li>⚡ {@link SprintPlanningAlgorithmForCapacityOptimization#HEURISTIC} - value density
+ *       greedy that keeps going past stories that don't fit, compared against the single most
+ *       valuable story. O(n log n), never worse than half the optimum</li>
+ * </ul>
+ *
+ * <p>{@link #doTheThingWhereWePlanTheSprint(List, int)} picks EXACT when its decision table
+ * fits the memory limit and BOUNDED_MEMORY otherwise. Both exact variants watch the time
+ * budget and hand over to the heuristic when it runs out, so a 100k-story backlog still gets
+ * planned within the budget. When every candidate fits the velocity no DP runs at all, and a
+ * velocity so large that even the DP rows would break the memory limit goes to the heuristic,
+ * so no velocity is too big to plan.</p>
+ *
+ * <p>Thread-safe: holds no mutable state.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@Slf4j
+public final class OptimalSprintPlanningEngineForCapacityPlanning {
+
+    /** How long an exact plan may take before the heuristic takes over. */
+    public static final long THE_DEFAULT_TIME_BUDGET_IN_MILLISECONDS = 250;
+
+    /**
+     * Largest EXACT decision table (one bit per story per point of velocity) before BOUNDED_MEMORY
+     * is used, and largest set of DP rows (one long per point of velocity) before HEURISTIC is used.
+     */
+    public static final long THE_DEFAULT_EXACT_TABLE_MEMORY_LIMIT_IN_BYTES = 32L * 1024 * 1024;
+
+    /** A Java array can't hold more than this, whatever the memory limit says. */
+    private static final long THE_LARGEST_DECISION_TABLE_IN_LONGS = Integer.MAX_VALUE - 8;
+
+    /** BOUNDED_MEMORY holds the rows of both halves at once. */
+    private static final int THE_NUMBER_OF_DP_ROWS_HELD_AT_ONCE = 2;
+
+    /** How many stories the DP processes between two looks at the clock. */
+    private static final int THE_NUMBER_OF_STORIES_BETWEEN_DEADLINE_CHECKS = 256;
+
+    /**
+     * The planning algorithms, from most to least exact.
+     */
+    public enum SprintPlanningAlgorithmForCapacityOptimization {
+        EXACT,
+        BOUNDED_MEMORY,
+        HEURISTIC
+    }
+
+    private final long theTimeBudgetInNanoseconds;
+    private final long theExactTableMemoryLimitInBytes;
+
+    public OptimalSprintPlanningEngineForCapacityPlanning() {
+        this(THE_DEFAULT_TIME_BUDGET_IN_MILLISECONDS, THE_DEFAULT_EXACT_TABLE_MEMORY_LIMIT_IN_BYTES);
+    }
+
+    public OptimalSprintPlanningEngineForCapacityPlanning(long timeBudgetInMilliseconds, long exactTableMemoryLimitInBytes) {
+        this.theTimeBudgetInNanoseconds = Math.multiplyExact(Math.max(0, timeBudgetInMilliseconds), 1_000_000L);
+        this.theExactTableMemoryLimitInBytes = exactTableMemoryLimitInBytes;
+    }
+
+    /**
+     * Plans a sprint with the most exact algorithm that fits the memory limit and time budget.
+     *
+     * @param candidateStories Stories that may be committed, in the order the plan should list them
+     * @param targetVelocity How many story points the team commits to
+     * @return The chosen stories and how they were chosen
+     */
+    public SprintPlanForCapacityOptimization doTheThingWhereWePlanTheSprint(
+            List<UserStoryForAgileSprintPlanning> candidateStories, int targetVelocity) {
+        long tableBytes = makeItWorkByEstimatingTheExactTableSizeInBytes(candidateStories.size(), targetVelocity);
+        SprintPlanningAlgorithmForCapacityOptimization algorithm = tableBytes <= theExactTableMemoryLimitInBytes
+                ? SprintPlanningAlgorithmForCapacityOptimization.EXACT
+                : SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY;
+        return doTheThingWhereWePlanTheSprintWithTheAlgorithm(candidateStories, targetVelocity, algorithm);
+    }
+
+    /**
+     * Plans a sprint with one specific algorithm. EXACT and BOUNDED_MEMORY still fall back to
+     * HEURISTIC when they exceed the time budget; the plan reports what was actually used.
+     *
+     * @param candidateStories Stories that may be committed, in the order the plan should list them
+     * @param targetVelocity How many story points the team commits to
+     * @param algorithm The algorithm to try
+     * @return The chosen stories and how they were chosen
+     */
+    public SprintPlanForCapacityOptimization doTheThingWhereWePlanTheSprintWithTheAlgorithm(
+            List<UserStoryForAgileSprintPlanning> candidateStories, int targetVelocity,
+            SprintPlanningAlgorithmForCapacityOptimization algorithm) {
+        long startNanos = System.nanoTime();
+        int capacity = Math.max(0, targetVelocity);
+
+        // Free stories go in unconditionally; stories bigger than the whole sprint never can
+        int[] knapsackItems = new int[candidateStories.size()];
+        int n = 0;
+        boolean[] isSelected = new boolean[candidateStories.size()];
+        for (int i = 0; i < candidateStories.size(); i++) {
+            int points = makeItWorkByReadingTheStoryPoints(candidateStories.get(i));
+            if (points == 0) {
+                isSelected[i] = true;
+            } else if (points <= capacity) {
+                knapsackItems[n++] = i;
+            }
+        }
+        int[] weights = new int[n];
+        long[] values = new long[n];
+        long totalPointsOfTheKnapsackItems = 0;
+        for (int item = 0; item < n; item++) {
+            UserStoryForAgileSprintPlanning story = candidateStories.get(knapsackItems[item]);
+            weights[item] = makeItWorkByReadingTheStoryPoints(story);
+            values[item] = doTheThingWhereWeCalculateThePriorityWeightedValue(story);
+            totalPointsOfTheKnapsackItems += weights[item];
+        }
+
+        boolean[] isItemSelected = new boolean[n];
+        SprintPlanningAlgorithmForCapacityOptimization algorithmUsed = algorithm;
+        if (totalPointsOfTheKnapsackItems <= capacity) {
+            // Everything fits, which is the optimum: no DP, so a huge velocity never sizes an array
+            Arrays.fill(isItemSelected, true);
+        } else {
+            algorithmUsed = makeItWorkByPickingAnAlgorithmThatFitsInMemory(algorithm, n, capacity);
+            long deadlineNanos = startNanos + theTimeBudgetInNanoseconds;
+            try {
+                switch (algorithmUsed) {
+                    case EXACT -> makeItWorkBySolvingWithTheDecisionTable(weights, values, 0, n, capacity, isItemSelected, deadlineNanos);
+                    case BOUNDED_MEMORY -> makeItWorkBySolvingByDivideAndConquer(weights, values, 0, n, capacity, isItemSelected, deadlineNanos);
+                    case HEURISTIC -> makeItWorkBySolvingWithTheDensityHeuristic(weights, values, capacity, isItemSelected);
+                }
+            } catch (TimeBudgetExceededWhilePlanning e) {
+                log.warn("⏱️ {} sprint planning over {} stories exceeded the {} ms time budget, using the heuristic",
+                        algorithmUsed, n, theTimeBudgetInNanoseconds / 1_000_000);
+                Arrays.fill(isItemSelected, false);
+                makeItWorkBySolvingWithTheDensityHeuristic(weights, values, capacity, isItemSelected);
+                algorithmUsed = SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC;
+            }
+        }
+
+        for (int item = 0; item < n; item++) {
+            if (isItemSelected[item]) {
+                isSelected[knapsackItems[item]] = true;
+            }
+        }
+        List<UserStoryForAgileSprintPlanning> selectedStories = new ArrayList<>();
+        int totalPoints = 0;
+        long totalValue = 0;
+        for (int i = 0; i < candidateStories.size(); i++) {
+            if (isSelected[i]) {
+                UserStoryForAgileSprintPlanning story = candidateStories.get(i);
+                selectedStories.add(story);
+                totalPoints += makeItWorkByReadingTheStoryPoints(story);
+                totalValue += doTheThingWhereWeCalculateThePriorityWeightedValue(story);
+            }
+        }
+
+        log.debug("🗓️ {} planned {} of {} candidate stories ({} points, value {}) in {} us",
+                algorithmUsed, selectedStories.size(), candidateStories.size(), totalPoints, totalValue,
+                (System.nanoTime() - startNanos) / 1_000);
+        return new SprintPlanForCapacityOptimization(Collections.unmodifiableList(selectedStories),
+                totalPoints, totalValue, algorithmUsed);
+    }
+
+    /**
+     * @return Story points times priority weight (LOW 1, MEDIUM 2, HIGH 4, CRITICAL 8, EXISTENTIAL 16)
+     */
+    public static long doTheThingWhereWeCalculateThePriorityWeightedValue(UserStoryForAgileSprintPlanning story) {
+        PriorityLevelForBacklogManagement priority = story.getPriorityLevel() == null
+                ? PriorityLevelForBacklogManagement.LOW
+                : story.getPriorityLevel();
+        return (long) makeItWorkByReadingTheStoryPoints(story) << priority.ordinal();
+    }
+
+    private static int makeItWorkByReadingTheStoryPoints(UserStoryForAgileSprintPlanning story) {
+        Integer points = story.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
+        return points == null ? 0 : Math.max(0, points);
+    }
+
+    /**
+     * Steps down from EXACT to BOUNDED_MEMORY when the decision table can't be an array, and from
+     * either exact variant to HEURISTIC when their capacity-sized DP rows alone break the memory limit.
+     */
+    private SprintPlanningAlgorithmForCapacityOptimization makeItWorkByPickingAnAlgorithmThatFitsInMemory(
+            SprintPlanningAlgorithmForCapacityOptimization algorithm, int numberOfStories, int capacity) {
+        if (algorithm == SprintPlanningAlgorithmForCapacityOptimization.EXACT
+                && makeItWorkByEstimatingTheExactTableSizeInBytes(numberOfStories, capacity) / Long.BYTES > THE_LARGEST_DECISION_TABLE_IN_LONGS) {
+            algorithm = SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY;
+        }
+        long rowBytes = THE_NUMBER_OF_DP_ROWS_HELD_AT_ONCE * ((long) capacity + 1) * Long.BYTES;
+        if (algorithm != SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC && rowBytes > theExactTableMemoryLimitInBytes) {
+            log.warn("🧮 A velocity of {} needs {} bytes of DP rows, over the {} byte limit, using the heuristic",
+                    capacity, rowBytes, theExactTableMemoryLimitInBytes);
+            algorithm = SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC;
+        }
+        return algorithm;
+    }
+
+    private static long makeItWorkByEstimatingTheExactTableSizeInBytes(int numberOfStories, int targetVelocity) {
+        long wordsPerRow = ((long) Math.max(0, targetVelocity) >>> 6) + 1;
+        return numberOfStories * wordsPerRow * Long.BYTES;
+    }
+
+    /**
+     * EXACT: classic capacity DP over items [from, to), remembering each improvement in a bit table
+     * so the chosen items can be read back from the last one to the first.
+     */
+    private static void makeItWorkBySolvingWithTheDecisionTable(int[] weights, long[] values, int from, int to,
+                                                                int capacity, boolean[] isItemSelected,
+                                                                long deadlineNanos) {
+        int wordsPerRow = (capacity >>> 6) + 1;
+        long[] bestValueWithinCapacity = new long[capacity + 1];
+        long[] tookTheItem = new long[(to - from) * wordsPerRow];
+        for (int item = from; item < to; item++) {
+            makeItWorkByCheckingTheDeadline(item - from, deadlineNanos);
+            int weight = weights[item];
+            long value = values[item];
+            int row = (item - from) * wordsPerRow;
+            for (int c = capacity; c >= weight; c--) {
+                long withTheItem = bestValueWithinCapacity[c - weight] + value;
+                if (withTheItem > bestValueWithinCapacity[c]) {
+                    bestValueWithinCapacity[c] = withTheItem;
+                    tookTheItem[row + (c >>> 6)] |= 1L << c;
+                }
+            }
+        }
+        int remainingCapacity = capacity;
+        for (int item = to - 1; item >= from; item--) {
+            if ((tookTheItem[(item - from) * wordsPerRow + (remainingCapacity >>> 6)] & (1L << remainingCapacity)) != 0) {
+                isItemSelected[item] = true;
+                remainingCapacity -= weights[item];
+            }
+        }
+    }
+
+    /**
+     * BOUNDED_MEMORY: find how much capacity the optimum spends on each half of [from, to) using one
+     * DP row per half, then solve each half with its share. Small sub-problems use the decision table.
+     */
+    private static void makeItWorkBySolvingByDivideAndConquer(int[] weights, long[] values, int from, int to,
+                                                              int capacity, boolean[] isItemSelected,
+                                                              long deadlineNanos) {
+        if (to - from <= 0 || capacity <= 0) {
+            return;
+        }
+        if ((long) (to - from) * ((capacity >>> 6) + 1) <= 4096) {
+            makeItWorkBySolvingWithTheDecisionTable(weights, values, from, to, capacity, isItemSelected, deadlineNanos);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        long[] bestOfTheFirstHalf = makeItWorkByComputingOneDpRow(weights, values, from, middle, capacity, deadlineNanos);
+        long[] bestOfTheSecondHalf = makeItWorkByComputingOneDpRow(weights, values, middle, to, capacity, deadlineNanos);
+
+        int bestSplit = 0;
+        long bestTotal = -1;
+        for (int c = 0; c <= capacity; c++) {
+            long total = bestOfTheFirstHalf[c] + bestOfTheSecondHalf[capacity - c];
+            if (total > bestTotal) {
+                bestTotal = total;
+                bestSplit = c;
+            }
+        }
+        makeItWorkBySolvingByDivideAndConquer(weights, values, from, middle, bestSplit, isItemSelected, deadlineNanos);
+        makeItWorkBySolvingByDivideAndConquer(weights, values, middle, to, capacity - bestSplit, isItemSelected, deadlineNanos);
+    }
+
+    private static long[] makeItWorkByComputingOneDpRow(int[] weights, long[] values, int from, int to,
+                                                        int capacity, long deadlineNanos) {
+        long[] bestValueWithinCapacity = new long[capacity + 1];
+        for (int item = from; item < to; item++) {
+            makeItWorkByCheckingTheDeadline(item - from, deadlineNanos);
+            int weight = weights[item];
+            long value = values[item];
+            for (int c = capacity; c >= weight; c--) {
+                long withTheItem = bestValueWithinCapacity[c - weight] + value;
+                if (withTheItem > bestValueWithinCapacity[c]) {
+                    bestValueWithinCapacity[c] = withTheItem;
+                }
+            }
+        }
+        return bestValueWithinCapacity;
+    }
+
+    /**
+     * HEURISTIC: take stories by value per point until nothing else fits, and if the single most
+     * valuable story beats that whole selection, take it alone instead.
+     */
+    private static void makeItWorkBySolvingWithTheDensityHeuristic(int[] weights, long[] values, int capacity,
+                                                                   boolean[] isItemSelected) {
+        int n = weights.length;
+        // One primitive sort: descending value per point in the high half, caller's order in the low half
+        long[] byDensity = new long[n];
+        int mostValuableItem = -1;
+        for (int item = 0; item < n; item++) {
+            int densityBits = Float.floatToIntBits((float) values[item] / weights[item]);
+            byDensity[item] = ((long) (Integer.MAX_VALUE - densityBits) << 32) | item;
+            if (mostValuableItem < 0 || values[item] > values[mostValuableItem]) {
+                mostValuableItem = item;
+            }
+        }
+        Arrays.sort(byDensity);
+
+        int remainingCapacity = capacity;
+        long greedyValue = 0;
+        for (long densityAndItem : byDensity) {
+            int item = (int) densityAndItem;
+            if (weights[item] <= remainingCapacity) {
+                isItemSelected[item] = true;
+                remainingCapacity -= weights[item];
+                greedyValue += values[item];
+            }
+        }
+        if (mostValuableItem >= 0 && values[mostValuableItem] > greedyValue) {
+            Arrays.fill(isItemSelected, false);
+            isItemSelected[mostValuableItem] = true;
+        }
+    }
+
+    private static void makeItWorkByCheckingTheDeadline(int itemsProcessed, long deadlineNanos) {
+        if (itemsProcessed % THE_NUMBER_OF_STORIES_BETWEEN_DEADLINE_CHECKS == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw TimeBudgetExceededWhilePlanning.THE_INSTANCE;
+        }
+    }
+
+    /**
+     * Unwinds an exact plan that ran out of time. Shared and stackless: it is control flow, not an error.
+     */
+    private static final class TimeBudgetExceededWhilePlanning extends RuntimeException {
+        private static final TimeBudgetExceededWhilePlanning THE_INSTANCE = new TimeBudgetExceededWhilePlanning();
+
+        private TimeBudgetExceededWhilePlanning() {
+            super("Sprint planning time budget exceeded", null, false, false);
+        }
+    }
+
+    /**
+     * The outcome of one planning run.
+     */
+    public static final class SprintPlanForCapacityOptimization {
+
+        private final List<UserStoryForAgileSprintPlanning> theSelectedStories;
+        private final int theTotalStoryPoints;
+        private final long theTotalPriorityWeightedValue;
+        private final SprintPlanningAlgorithmForCapacityOptimization theAlgorithmUsed;
+
+        SprintPlanForCapacityOptimization(List<UserStoryForAgileSprintPlanning> selectedStories, int totalStoryPoints,
+                                          long totalPriorityWeightedValue,
+                                          SprintPlanningAlgorithmForCapacityOptimization algorithmUsed) {
+            this.theSelectedStories = selectedStories;
+            this.theTotalStoryPoints = totalStoryPoints;
+            this.theTotalPriorityWeightedValue = totalPriorityWeightedValue;
+            this.theAlgorithmUsed = algorithmUsed;
+        }
+
+        /** @return The chosen stories, in the order they were offered */
+        public List<UserStoryForAgileSprintPlanning> getSelectedStories() {
+            return theSelectedStories;
+        }
+
+        public int getTotalStoryPoints() {
+            return theTotalStoryPoints;
+        }
+
+        public long getTotalPriorityWeightedValue() {
+            return theTotalPriorityWeightedValue;
+        }
+
+        /** @return The algorithm that produced this plan (HEURISTIC if an exact one ran out of time) */
+        public SprintPlanningAlgorithmForCapacityOptimization getAlgorithmUsed() {
+            return theAlgorithmUsed;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enterprise Fork/Join Task That Draws Random Samples Into a Primitive Histogram.
+ *
+ * <p>The sample count is split in half until a slice is small enough, and every leaf then
+ * draws its slice with its own independent generator into its own {@code long[]}. Leaves
+ * never share state while sampling; the partial histograms are only added together when
+ * the halves are joined.</p>
+ *
+ * <p>Histogram layout: slots {@code 0 .. buckets-1} are the buckets, followed by
+ * {@link #THE_SLOT_FOR_SAMPLES_BELOW_THE_RANGE}, {@link #THE_SLOT_FOR_SAMPLES_ABOVE_THE_RANGE},
+ * {@link #THE_SLOT_FOR_FOURS} and {@link #THE_SLOT_FOR_FORTY_TWOS}, counted from the end.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for auditing our randomness at scale! 📊
+ */
+final class ParallelRandomNumberHistogramTaskForComplianceAuditing extends RecursiveTask<long[]> {
+
+    /** Extra slots after the buckets, counted from the end of the histogram. */
+    static final int THE_SLOT_FOR_SAMPLES_BELOW_THE_RANGE = 4;
+    static final int THE_SLOT_FOR_SAMPLES_ABOVE_THE_RANGE = 3;
+    static final int THE_SLOT_FOR_FOURS = 2;
+    static final int THE_SLOT_FOR_FORTY_TWOS = 1;
+    static final int THE_NUMBER_OF_EXTRA_SLOTS = 4;
+
+    private final RandomNumberGeneratorServiceManager theServiceManagerWithTheAlgorithms;
+    private final RandomNumberGeneratorEngineForPerThreadRandomness theEngineThatSplitsGenerators;
+    private final RandomnessLevelForEnterpriseRandomNumberGeneration theLevel;
+    private final Integer theMinimum;
+    private final Integer theMaximum;
+    private final int theNumberOfBuckets;
+    private final long theNumberOfSamplesInThisSlice;
+    private final long theLeafSliceSize;
+
+    ParallelRandomNumberHistogramTaskForComplianceAuditing(
+            RandomNumberGeneratorServiceManager theServiceManagerWithTheAlgorithms,
+            RandomNumberGeneratorEngineForPerThreadRandomness theEngineThatSplitsGenerators,
+            RandomnessLevelForEnterpriseRandomNumberGeneration theLevel,
+            int theMinimum, int theMaximum, int theNumberOfBuckets,
+            long theNumberOfSamplesInThisSlice, long theLeafSliceSize) {
+        this.theServiceManagerWithTheAlgorithms = theServiceManagerWithTheAlgorithms;
+        this.theEngineThatSplitsGenerators = theEngineThatSplitsGenerators;
+        this.theLevel = theLevel;
+        this.theMinimum = theMinimum;
+        this.theMaximum = theMaximum;
+        this.theNumberOfBuckets = theNumberOfBuckets;
+        this.theNumberOfSamplesInThisSlice = theNumberOfSamplesInThisSlice;
+        this.theLeafSliceSize = theLeafSliceSize;
+    }
+
+    @Override
+    protected long[] compute() {
+        if (theNumberOfSamplesInThisSlice <= theLeafSliceSize) {
+            return doTheThingWhereWeSampleThisSlice();
+        }
+
+        long firstHalf = theNumberOfSamplesInThisSlice / 2;
+        ParallelRandomNumberHistogramTaskForComplianceAuditing left = makeItWorkBySlicing(firstHalf);
+        ParallelRandomNumberHistogramTaskForComplianceAuditing right =
+                makeItWorkBySlicing(theNumberOfSamplesInThisSlice - firstHalf);
+        left.fork();
+        long[] merged = right.compute();
+        long[] leftHistogram = left.join();
+        for (int slot = 0; slot < merged.length; slot++) {
+            merged[slot] += leftHistogram[slot];
+        }
+        return merged;
+    }
+
+    private ParallelRandomNumberHistogramTaskForComplianceAuditing makeItWorkBySlicing(long samples) {
+        return new ParallelRandomNumberHistogramTaskForComplianceAuditing(theServiceManagerWithTheAlgorithms,
+                theEngineThatSplitsGenerators, theLevel, theMinimum, theMaximum, theNumberOfBuckets,
+                samples, theLeafSliceSize);
+    }
+
+    private long[] doTheThingWhereWeSampleThisSlice() {
+        long[] histogram = new long[theNumberOfBuckets + THE_NUMBER_OF_EXTRA_SLOTS];
+        RandomGenerator theIndependentGenerator =
+                theEngineThatSplitsGenerators.doTheThingWhereWeCreateAnIndependentGeneratorForABulkWorker(theLevel);
+
+        int min = theMinimum;
+        int max = theMaximum;
+        long theSizeOfTheRange = (long) max - min + 1;
+        int length = histogram.length;
+
+        for (long i = 0; i < theNumberOfSamplesInThisSlice; i++) {
+            int value = theServiceManagerWithTheAlgorithms.makeItWorkByGeneratingTheRandomNumberWithThisGenerator(
+                    theLevel, theIndependentGenerator, theMinimum, theMaximum);
+
+            if (value < min) {
+                histogram[length - THE_SLOT_FOR_SAMPLES_BELOW_THE_RANGE]++;
+            } else if (value > max) {
+                histogram[length - THE_SLOT_FOR_SAMPLES_ABOVE_THE_RANGE]++;
+            } else {
+                histogram[(int) (((long) value - min) * theNumberOfBuckets / theSizeOfTheRange)]++;
+            }
+            if (value == 4) {
+                histogram[length - THE_SLOT_FOR_FOURS]++;
+            } else if (value == 42) {
+                histogram[length - THE_SLOT_FOR_FORTY_TWOS]++;
+            }
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,149 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Enterprise Point-in-Time View of the Whole Backlog.
+ *
+ * <p>An immutable trie of every story, keyed by story ID: 32-way nodes, five bits of the ID per
+ * level, stories in the leaves. Story IDs are handed out consecutively, so the trie is dense
+ * and stays four or five levels deep up to tens of millions of stories.</p>
+ *
+ * <p>Storing a story copies only the nodes on the path to its leaf and shares everything else
+ * with the previous version, so each change costs a handful of small array copies and every
+ * older version stays valid for whoever still holds it. The backlog store publishes a new version
+ * for every change (or one for a whole atomic commit); taking a snapshot is reading one
+ * reference, and iterating it never sees a change made afterwards.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class PersistentBacklogSnapshotForConsistentReads {
+
+    private static final int THE_BITS_PER_LEVEL = 5;
+    private static final int THE_NODE_WIDTH = 1 << THE_BITS_PER_LEVEL;
+    private static final int THE_INDEX_MASK = THE_NODE_WIDTH - 1;
+
+    /** The backlog before the first story. */
+    static final PersistentBacklogSnapshotForConsistentReads EMPTY =
+            new PersistentBacklogSnapshotForConsistentReads(new Object[THE_NODE_WIDTH], 0, 0, 0);
+
+    /** Inner nodes hold child Object[]s, leaves (shift 0) hold stories; null where there is nothing. */
+    private final Object[] theRoot;
+    /** How far the ID is shifted to pick the root's slot; 0 if the root is a leaf. */
+    private final int theShift;
+    private final int theNumberOfStories;
+    private final long theVersion;
+
+    private PersistentBacklogSnapshotForConsistentReads(Object[] root, int shift, int numberOfStories, long version) {
+        this.theRoot = root;
+        this.theShift = shift;
+        this.theNumberOfStories = numberOfStories;
+        this.theVersion = version;
+    }
+
+    /**
+     * @param storyId The story ID
+     * @return The story as of this version, or null if it didn't exist yet
+     */
+    public UserStoryForAgileSprintPlanning makeItWorkByFindingTheStory(long storyId) {
+        if (storyId < 0 || (storyId >>> theShift) >= THE_NODE_WIDTH) {
+            return null;
+        }
+        Object[] node = theRoot;
+        for (int shift = theShift; shift > 0; shift -= THE_BITS_PER_LEVEL) {
+            node = (Object[]) node[(int) (storyId >>> shift) & THE_INDEX_MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (UserStoryForAgileSprintPlanning) node[(int) storyId & THE_INDEX_MASK];
+    }
+
+    /**
+     * Returns a new version with the story stored under its ID; this one is left unchanged.
+     *
+     * @param storyId The story ID (not negative)
+     * @param story The story's new version
+     * @param version The version number the result reports
+     */
+    PersistentBacklogSnapshotForConsistentReads doTheThingWhereWeStoreTheStory(long storyId,
+                                                                               UserStoryForAgileSprintPlanning story,
+                                                                               long version) {
+        Object[] root = theRoot;
+        int rootShift = theShift;
+        while ((storyId >>> rootShift) >= THE_NODE_WIDTH) {
+            // Grow a level on top: everything so far becomes the new root's first child
+            Object[] tallerRoot = new Object[THE_NODE_WIDTH];
+            tallerRoot[0] = root;
+            root = tallerRoot;
+            rootShift += THE_BITS_PER_LEVEL;
+        }
+
+        Object[] newRoot = root.clone();
+        Object[] node = newRoot;
+        for (int shift = rootShift; shift > 0; shift -= THE_BITS_PER_LEVEL) {
+            int index = (int) (storyId >>> shift) & THE_INDEX_MASK;
+            Object[] child = (Object[]) node[index];
+            child = child == null ? new Object[THE_NODE_WIDTH] : child.clone();
+            node[index] = child;
+            node = child;
+        }
+        int index = (int) storyId & THE_INDEX_MASK;
+        boolean isNewStory = node[index] == null;
+        node[index] = story;
+        return new PersistentBacklogSnapshotForConsistentReads(newRoot, rootShift,
+                isNewStory ? theNumberOfStories + 1 : theNumberOfStories, version);
+    }
+
+    /**
+     * @return Which version of the backlog this is; every published change counts one up
+     */
+    public long getVersion() {
+        return theVersion;
+    }
+
+    /**
+     * @return How many stories the backlog had at this version
+     */
+    public int makeItWorkByCountingTheStories() {
+        return theNumberOfStories;
+    }
+
+    /**
+     * Calls the action for every story, in ascending ID order.
+     */
+    public void doTheThingWhereWeVisitEveryStory(Consumer<UserStoryForAgileSprintPlanning> action) {
+        makeItWorkByVisitingTheNode(theRoot, theShift, action);
+    }
+
+    /**
+     * @return Every story at this version, in ascending ID order
+     */
+    public List<UserStoryForAgileSprintPlanning> makeItWorkByListingTheStories() {
+        List<UserStoryForAgileSprintPlanning> stories = new ArrayList<>(theNumberOfStories);
+        doTheThingWhereWeVisitEveryStory(stories::add);
+        return stories;
+    }
+
+    private static void makeItWorkByVisitingTheNode(Object[] node, int shift,
+                                                    Consumer<UserStoryForAgileSprintPlanning> action) {
+        for (Object child : node) {
+            if (child == null) {
+                continue;
+            }
+            if (shift == 0) {
+                action.accept((UserStoryForAgileSprintPlanning) child);
+            } else {
+                makeItWorkByVisitingTheNode((Object[]) child, shift - THE_BITS_PER_LEVEL, action);
+            }
+        }
+    }
+}
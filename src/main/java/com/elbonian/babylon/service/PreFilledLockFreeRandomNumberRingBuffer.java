@@ -0,0 +1,269 @@
+package com.elbonian.babylon.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enterprise Lock-Free Ring Buffer of Pre-Generated Random Numbers with Background Refill.
+ *
+ * <p>Instead of generating randomness inline on the request thread, this buffer holds
+ * a pool of primitive {@code long} values produced ahead of time by a background
+ * producer thread. Request threads take values with a single compare-and-swap and never
+ * block. When the fill level drops below the low-water mark, the producer is woken up
+ * and tops the buffer up again.</p>
+ *
+ * <p>The buffer is itself a {@link RandomGenerator}: every {@code nextInt}, {@code nextDouble}
+ * or bounded draw is derived from {@link #nextLong()}, so the existing per-level algorithms
+ * work against it unchanged. If a request arrives while the buffer is empty (an underrun),
+ * the value comes from the calling thread's own fallback generator instead, and the
+ * underrun is counted so the buffer can be sized against real request rates.</p>
+ *
+ * <p>The slot protocol is the bounded multi-producer/multi-consumer queue by Dmitry Vyukov:
+ * every slot carries a sequence number that tells producers and consumers whose turn it is.
+ * There is a single producer, so only consumers need to CAS.</p>
+ *
+ * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
+ * <ul>
+ *   <li>✅ Verbose class name with context suffix</li>
+ *   <li>✅ All methods start with 'doTheThing' or 'makeItWork' (except the JDK interface)</li>
+ *   <li>✅ No locks, no waiting, no excuses</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for letting us prepare our randomness in advance! 🎲
+ */
+@Slf4j
+public class PreFilledLockFreeRandomNumberRingBuffer implements RandomGenerator {
+
+    /** How often consumers check whether the producer should be woken up (power of two). */
+    private static final long THE_REFILL_CHECK_INTERVAL_MASK = 63;
+
+    /**
+     * Safety net only: consumers unpark the producer at the low-water mark, so an idle
+     * producer stays parked instead of waking up just to find the buffer still full.
+     */
+    private static final long THE_MAXIMUM_PRODUCER_NAP_IN_NANOSECONDS = 1_000_000_000L;
+
+    private final String theNameOfThisRingBuffer;
+    private final int theCapacityOfThisRingBuffer;
+    private final int theIndexMaskForWrappingPositions;
+    private final int theLowWaterMarkThatTriggersARefill;
+
+    private final long[] thePreGeneratedRandomValues;
+    private final AtomicLongArray theSequenceNumberOfEachSlot;
+
+    /** Next position a consumer will take. */
+    private final AtomicLong theConsumerPosition = new AtomicLong();
+
+    /** Next position the producer will fill. Only the producer thread writes it. */
+    private final AtomicLong theProducerPosition = new AtomicLong();
+
+    private final RandomGenerator theProducerGenerator;
+    private final Supplier<RandomGenerator> theFallbackGeneratorForTheCallingThread;
+
+    private final AtomicBoolean hasARefillBeenRequested = new AtomicBoolean();
+    private final LongAdder theNumberOfValuesServedFromTheBuffer = new LongAdder();
+    private final LongAdder theNumberOfUnderruns = new LongAdder();
+    private final AtomicLong theNumberOfRefillCycles = new AtomicLong();
+
+    private volatile Thread theBackgroundProducerThread;
+    private volatile boolean isTheBackgroundProducerRunning;
+
+    /**
+     * Creates an empty ring buffer. Call {@link #makeItWorkByStartingTheBackgroundRefill()}
+     * to pre-fill it and keep it topped up.
+     *
+     * @param name Name used for the producer thread and statistics
+     * @param requestedCapacity Capacity, rounded up to the next power of two
+     * @param lowWaterMark Fill level below which the producer is woken up
+     * @param producerGenerator Generator used only by the producer thread
+     * @param fallbackGeneratorForTheCallingThread Supplies the calling thread's generator on underrun
+     */
+    public PreFilledLockFreeRandomNumberRingBuffer(String name,
+                                                   int requestedCapacity,
+                                                   int lowWaterMark,
+                                                   RandomGenerator producerGenerator,
+                                                   Supplier<RandomGenerator> fallbackGeneratorForTheCallingThread) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 2 and 2^30: " + requestedCapacity);
+        }
+        this.theNameOfThisRingBuffer = name;
+        this.theCapacityOfThisRingBuffer = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.theIndexMaskForWrappingPositions = theCapacityOfThisRingBuffer - 1;
+        this.theLowWaterMarkThatTriggersARefill = Math.max(0, Math.min(lowWaterMark, theCapacityOfThisRingBuffer - 1));
+        this.thePreGeneratedRandomValues = new long[theCapacityOfThisRingBuffer];
+        this.theSequenceNumberOfEachSlot = new AtomicLongArray(theCapacityOfThisRingBuffer);
+        for (int slot = 0; slot < theCapacityOfThisRingBuffer; slot++) {
+            theSequenceNumberOfEachSlot.set(slot, slot);
+        }
+        this.theProducerGenerator = producerGenerator;
+        this.theFallbackGeneratorForTheCallingThread = fallbackGeneratorForTheCallingThread;
+    }
+
+    /**
+     * Takes the next pre-generated value. Never blocks: on underrun the calling thread's
+     * fallback generator answers instead.
+     */
+    @Override
+    public long nextLong() {
+        long position = theConsumerPosition.get();
+        for (;;) {
+            int slot = (int) (position & theIndexMaskForWrappingPositions);
+            long difference = theSequenceNumberOfEachSlot.get(slot) - (position + 1);
+
+            if (difference == 0) {
+                if (theConsumerPosition.compareAndSet(position, position + 1)) {
+                    long value = thePreGeneratedRandomValues[slot];
+                    theSequenceNumberOfEachSlot.set(slot, position + theCapacityOfThisRingBuffer);
+                    theNumberOfValuesServedFromTheBuffer.increment();
+                    if ((position & THE_REFILL_CHECK_INTERVAL_MASK) == 0
+                            && theProducerPosition.get() - position <= theLowWaterMarkThatTriggersARefill) {
+                        makeItWorkByWakingUpTheProducer();
+                    }
+                    return value;
+                }
+                position = theConsumerPosition.get();
+            } else if (difference < 0) {
+                // Buffer is empty: never wait for the producer, answer from this thread's own generator
+                theNumberOfUnderruns.increment();
+                makeItWorkByWakingUpTheProducer();
+                return theFallbackGeneratorForTheCallingThread.get().nextLong();
+            } else {
+                // Another consumer took this slot first
+                position = theConsumerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Fills every free slot. Must only be called by one thread at a time (the producer).
+     *
+     * @return How many values were added
+     */
+    int doTheThingWhereWeRefillUntilFull() {
+        long position = theProducerPosition.get();
+        int added = 0;
+        for (;;) {
+            int slot = (int) (position & theIndexMaskForWrappingPositions);
+            if (theSequenceNumberOfEachSlot.get(slot) != position) {
+                break; // Full: a consumer has not released this slot yet
+            }
+            thePreGeneratedRandomValues[slot] = theProducerGenerator.nextLong();
+            theSequenceNumberOfEachSlot.set(slot, position + 1);
+            position++;
+            added++;
+            // Publish per slot so the fill level and the low-water check are never a whole refill behind
+            theProducerPosition.lazySet(position);
+        }
+        return added;
+    }
+
+    /**
+     * Pre-fills the buffer and starts the background producer thread.
+     */
+    public synchronized void makeItWorkByStartingTheBackgroundRefill() {
+        if (isTheBackgroundProducerRunning) {
+            return;
+        }
+        doTheThingWhereWeRefillUntilFull();
+        isTheBackgroundProducerRunning = true;
+
+        Thread producer = new Thread(this::doTheThingWhereWeKeepTheBufferToppedUp,
+                "babylon-random-ring-refill-" + theNameOfThisRingBuffer);
+        producer.setDaemon(true);
+        theBackgroundProducerThread = producer;
+        producer.start();
+
+        log.info("🔄 Random number ring buffer '{}' pre-filled with {} values (low-water mark {})",
+                theNameOfThisRingBuffer, theCapacityOfThisRingBuffer, theLowWaterMarkThatTriggersARefill);
+    }
+
+    /**
+     * Stops the background producer thread and waits for it to finish, so a restart
+     * never ends up with two producers filling the same slots.
+     */
+    public synchronized void makeItWorkByStoppingTheBackgroundRefill() {
+        isTheBackgroundProducerRunning = false;
+        Thread producer = theBackgroundProducerThread;
+        theBackgroundProducerThread = null;
+        if (producer == null) {
+            return;
+        }
+        LockSupport.unpark(producer);
+
+        boolean wasInterrupted = false;
+        while (producer.isAlive()) {
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                wasInterrupted = true;
+            }
+        }
+        if (wasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void doTheThingWhereWeKeepTheBufferToppedUp() {
+        // Each producer only runs while it is the current one, even if a stop did not wait for it
+        while (isTheBackgroundProducerRunning && theBackgroundProducerThread == Thread.currentThread()) {
+            hasARefillBeenRequested.set(false);
+            if (doTheThingWhereWeRefillUntilFull() > 0) {
+                theNumberOfRefillCycles.incrementAndGet();
+            }
+            if (!hasARefillBeenRequested.get()) {
+                LockSupport.parkNanos(this, THE_MAXIMUM_PRODUCER_NAP_IN_NANOSECONDS);
+            }
+        }
+    }
+
+    private void makeItWorkByWakingUpTheProducer() {
+        Thread producer = theBackgroundProducerThread;
+        if (producer != null && hasARefillBeenRequested.compareAndSet(false, true)) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    /**
+     * @return How many pre-generated values are currently waiting in the buffer
+     */
+    public long makeItWorkByReportingTheCurrentFillLevel() {
+        return Math.max(0, theProducerPosition.get() - theConsumerPosition.get());
+    }
+
+    /**
+     * @return How many requests found the buffer empty and used the fallback generator
+     */
+    public long makeItWorkByReportingTheNumberOfUnderruns() {
+        return theNumberOfUnderruns.sum();
+    }
+
+    /**
+     * Snapshot of the buffer's sizing counters for the statistics endpoint.
+     *
+     * @return Capacity, low-water mark, fill level and counters
+     */
+    public Map<String, Object> makeItWorkByCollectingTheRingBufferStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("capacity", theCapacityOfThisRingBuffer);
+        statistics.put("lowWaterMark", theLowWaterMarkThatTriggersARefill);
+        statistics.put("fillLevel", makeItWorkByReportingTheCurrentFillLevel());
+        statistics.put("valuesServedFromBuffer", theNumberOfValuesServedFromTheBuffer.sum());
+        statistics.put("underruns", makeItWorkByReportingTheNumberOfUnderruns());
+        statistics.put("refillCycles", theNumberOfRefillCycles.get());
+        statistics.put("backgroundRefillRunning", isTheBackgroundProducerRunning);
+        return statistics;
+    }
+}
@@ -0,0 +1,294 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Enterprise Engine for Contention-Free, Per-Thread Random Number Generators.
+ *
+ * <p>Our random number platform used to share one {@code java.util.Random} across every
+ * request thread. Every call to it performs a compare-and-swap on the shared seed, and on
+ * a 32-core box those CAS operations collapse into one long queue. This engine gives
+ * every thread its own generator instead, built on the JDK 17 {@link RandomGenerator}
+ * and {@link RandomGeneratorFactory} API, so request threads never touch shared state
+ * on the hot path.</p>
+ *
+ * <p>The algorithm is selectable per randomness level in {@code application.properties}:</p>
+ * <pre>
+ * babylon.random.algorithm.pretty-random=L64X128MixRandom
+ * babylon.random.algorithm.really-random=L64X128MixRandom
+ * babylon.random.algorithm.too-far=Xoshiro256PlusPlus
+ * </pre>
+ *
+ * <p>For splittable algorithms (e.g. {@code L64X128MixRandom}, {@code SplittableRandom})
+ * each thread's generator is split from a per-level root generator, which gives
+ * statistically independent streams. Any other algorithm is seeded from a shared root
+ * {@link SplittableRandom}. Either way the root is only touched once per thread.</p>
+ *
+ * <p>When the engine is given an {@link EnterpriseEntropyPoolForSecureRandomness}, the
+ * "Really Random" generators are wrapped so they re-key themselves every time the pool's
+ * background reseeder publishes fresh {@code SecureRandom} seed material.</p>
+ *
+ * <p>Optionally, selected levels can be served from a {@link PreFilledLockFreeRandomNumberRingBuffer}
+ * that a background thread keeps topped up, so request threads only take pre-generated
+ * values instead of generating them inline:</p>
+ * <pre>
+ * babylon.random.ring-buffer.enabled=true
+ * babylon.random.ring-buffer.levels=pretty-random,too-far
+ * babylon.random.ring-buffer.capacity=65536
+ * babylon.random.ring-buffer.low-water-mark=16384
+ * </pre>
+ *
+ * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
+ * <ul>
+ *   <li>✅ Verbose class name with context suffix</li>
+ *   <li>✅ Uses Spring @Component annotation</li>
+ *   <li>✅ All methods start with 'doTheThing' or 'makeItWork'</li>
+ *   <li>✅ Zero CAS operations per random number (Catbert approved)</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for letting every thread roll its own dice! 🎲
+ */
+@Slf4j
+@Component
+public class RandomNumberGeneratorEngineForPerThreadRandomness {
+
+    /** Algorithm used when nothing is configured for a level. */
+    public static final String THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * Root seed source for algorithms that cannot be split.
+     * Only consulted once per thread per level, never on the hot path.
+     */
+    private final SplittableRandom theRootSeedSourceForNonSplittableAlgorithms = new SplittableRandom();
+
+    /** One per-thread generator family for every randomness level. */
+    private final Map<RandomnessLevelForEnterpriseRandomNumberGeneration, PerThreadGeneratorFamilyForOneRandomnessLevel>
+            thePerThreadGeneratorFamiliesByRandomnessLevel =
+            new EnumMap<>(RandomnessLevelForEnterpriseRandomNumberGeneration.class);
+
+    /**
+     * Creates the engine with per-thread generators only (no ring buffers).
+     *
+     * @param prettyRandomAlgorithm Algorithm for the "Pretty Random" level
+     * @param reallyRandomAlgorithm Algorithm for the "Really Random" level
+     * @param tooFarAlgorithm Algorithm for the "Too Far" level
+     * @throws IllegalArgumentException if an algorithm name is not known to this JDK
+     */
+    public RandomNumberGeneratorEngineForPerThreadRandomness(String prettyRandomAlgorithm,
+                                                             String reallyRandomAlgorithm,
+                                                             String tooFarAlgorithm) {
+        this(null, prettyRandomAlgorithm, reallyRandomAlgorithm, tooFarAlgorithm, false, List.of(), 0, 0);
+    }
+
+    /**
+     * Creates the engine with the settings configured in application.properties.
+     *
+     * @param entropyPoolForReallyRandom Pool that reseeds the "Really Random" generators (null: never reseed)
+     * @param prettyRandomAlgorithm Algorithm for the "Pretty Random" level
+     * @param reallyRandomAlgorithm Algorithm for the "Really Random" level
+     * @param tooFarAlgorithm Algorithm for the "Too Far" level
+     * @param isRingBufferModeEnabled Whether any level is served from a pre-filled ring buffer
+     * @param ringBufferedLevelSlugs Which levels use a ring buffer (e.g. "pretty-random", "too-far")
+     * @param ringBufferCapacity Ring buffer capacity (rounded up to a power of two)
+     * @param ringBufferLowWaterMark Fill level below which the background producer refills
+     * @throws IllegalArgumentException if an algorithm name is not known to this JDK
+     */
+    @Autowired
+    public RandomNumberGeneratorEngineForPerThreadRandomness(
+            EnterpriseEntropyPoolForSecureRandomness entropyPoolForReallyRandom,
+            @Value("${babylon.random.algorithm.pretty-random:" + THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM + "}")
+            String prettyRandomAlgorithm,
+            @Value("${babylon.random.algorithm.really-random:" + THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM + "}")
+            String reallyRandomAlgorithm,
+            @Value("${babylon.random.algorithm.too-far:" + THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM + "}")
+            String tooFarAlgorithm,
+            @Value("${babylon.random.ring-buffer.enabled:false}")
+            boolean isRingBufferModeEnabled,
+            @Value("${babylon.random.ring-buffer.levels:pretty-random,too-far}")
+            List<String> ringBufferedLevelSlugs,
+            @Value("${babylon.random.ring-buffer.capacity:65536}")
+            int ringBufferCapacity,
+            @Value("${babylon.random.ring-buffer.low-water-mark:16384}")
+            int ringBufferLowWaterMark) {
+
+        PerThreadGeneratorFamilyForOneRandomnessLevel prettyRandomFamily =
+                new PerThreadGeneratorFamilyForOneRandomnessLevel(prettyRandomAlgorithm, null);
+
+        // Predictable and unknown levels always return 4, but share a family just in case
+        thePerThreadGeneratorFamiliesByRandomnessLevel.put(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.PREDICTABLE, prettyRandomFamily);
+        thePerThreadGeneratorFamiliesByRandomnessLevel.put(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.UNKNOWN, prettyRandomFamily);
+        thePerThreadGeneratorFamiliesByRandomnessLevel.put(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.PRETTY_RANDOM, prettyRandomFamily);
+        thePerThreadGeneratorFamiliesByRandomnessLevel.put(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.REALLY_RANDOM,
+                new PerThreadGeneratorFamilyForOneRandomnessLevel(reallyRandomAlgorithm, entropyPoolForReallyRandom));
+        thePerThreadGeneratorFamiliesByRandomnessLevel.put(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.TOO_FAR,
+                new PerThreadGeneratorFamilyForOneRandomnessLevel(tooFarAlgorithm, null));
+
+        log.info("🎲 Per-thread random engines ready: Pretty Random={}, Really Random={}, Too Far={}",
+                prettyRandomAlgorithm, reallyRandomAlgorithm, tooFarAlgorithm);
+
+        if (isRingBufferModeEnabled) {
+            Set<RandomnessLevelForEnterpriseRandomNumberGeneration> ringBufferedLevels =
+                    EnumSet.noneOf(RandomnessLevelForEnterpriseRandomNumberGeneration.class);
+            for (String slug : ringBufferedLevelSlugs) {
+                RandomnessLevelForEnterpriseRandomNumberGeneration level =
+                        RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheUrlFriendlySlug(slug);
+                if (level == RandomnessLevelForEnterpriseRandomNumberGeneration.UNKNOWN
+                        || level == RandomnessLevelForEnterpriseRandomNumberGeneration.PREDICTABLE) {
+                    throw new IllegalArgumentException("Ring buffer mode is not available for randomness level: " + slug);
+                }
+                ringBufferedLevels.add(level);
+            }
+            for (RandomnessLevelForEnterpriseRandomNumberGeneration level : ringBufferedLevels) {
+                thePerThreadGeneratorFamiliesByRandomnessLevel.get(level)
+                        .makeItWorkByServingThisLevelFromARingBuffer(level, ringBufferCapacity, ringBufferLowWaterMark);
+            }
+        }
+    }
+
+    /**
+     * Returns the calling thread's own generator for a randomness level.
+     * The generator must not be handed to other threads.
+     *
+     * @param level The randomness level
+     * @return This thread's generator for that level
+     */
+    public RandomGenerator doTheThingWhereWeGetTheGeneratorForTheCurrentThread(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level) {
+        PerThreadGeneratorFamilyForOneRandomnessLevel family = thePerThreadGeneratorFamiliesByRandomnessLevel.get(level);
+        PreFilledLockFreeRandomNumberRingBuffer ringBuffer = family.theRingBufferOrNull;
+        return ringBuffer != null ? ringBuffer : family.theGeneratorForEachThread.get();
+    }
+
+    /**
+     * Creates a brand-new generator for a randomness level that is statistically independent
+     * of every other generator (split from the level's root, or freshly seeded). Meant for
+     * bulk workers such as fork/join tasks that must not share a thread's own generator.
+     *
+     * @param level The randomness level
+     * @return A new generator owned by the caller
+     */
+    public RandomGenerator doTheThingWhereWeCreateAnIndependentGeneratorForABulkWorker(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level) {
+        return thePerThreadGeneratorFamiliesByRandomnessLevel.get(level).makeItWorkByCreatingAGeneratorForANewThread();
+    }
+
+    /**
+     * Collects fill levels and underrun counters of every ring buffer, so the buffers can
+     * be sized against real request rates.
+     *
+     * @return Level name to ring buffer statistics (empty when ring buffer mode is off)
+     */
+    public Map<String, Map<String, Object>> makeItWorkByCollectingTheRingBufferStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        thePerThreadGeneratorFamiliesByRandomnessLevel.forEach((level, family) -> {
+            if (family.theRingBufferOrNull != null && family.theRingBufferLevel == level) {
+                statistics.put(level.getTheHumanReadableNameOfThisRandomnessLevel(),
+                        family.theRingBufferOrNull.makeItWorkByCollectingTheRingBufferStatistics());
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * Stops the background ring buffer producers when the application shuts down.
+     */
+    @PreDestroy
+    public void makeItWorkByStoppingTheRingBufferProducers() {
+        thePerThreadGeneratorFamiliesByRandomnessLevel.values().forEach(family -> {
+            if (family.theRingBufferOrNull != null) {
+                family.theRingBufferOrNull.makeItWorkByStoppingTheBackgroundRefill();
+            }
+        });
+    }
+
+    /**
+     * Describes which algorithm serves each randomness level (for health checks).
+     *
+     * @return Level name to algorithm name
+     */
+    public Map<String, String> makeItWorkByDescribingTheConfiguredAlgorithms() {
+        Map<String, String> algorithms = new LinkedHashMap<>();
+        thePerThreadGeneratorFamiliesByRandomnessLevel.forEach((level, family) -> {
+            // Predictable and unknown levels never consult a generator (XKCD 221)
+            if (level != RandomnessLevelForEnterpriseRandomNumberGeneration.UNKNOWN
+                    && level != RandomnessLevelForEnterpriseRandomNumberGeneration.PREDICTABLE) {
+                algorithms.put(level.getTheHumanReadableNameOfThisRandomnessLevel(), family.theAlgorithmName);
+            }
+        });
+        return algorithms;
+    }
+
+    /**
+     * All per-thread generators of one algorithm, plus the root they are derived from.
+     */
+    private final class PerThreadGeneratorFamilyForOneRandomnessLevel {
+
+        private final String theAlgorithmName;
+        private final RandomGeneratorFactory<RandomGenerator> theGeneratorFactory;
+        private final RandomGenerator.SplittableGenerator theRootGeneratorToSplitFromOrNull;
+        private final ThreadLocal<RandomGenerator> theGeneratorForEachThread;
+        private final EnterpriseEntropyPoolForSecureRandomness theEntropyPoolToReseedFromOrNull;
+        private RandomnessLevelForEnterpriseRandomNumberGeneration theRingBufferLevel;
+        private PreFilledLockFreeRandomNumberRingBuffer theRingBufferOrNull;
+
+        private PerThreadGeneratorFamilyForOneRandomnessLevel(String algorithmName,
+                                                              EnterpriseEntropyPoolForSecureRandomness entropyPoolOrNull) {
+            this.theAlgorithmName = algorithmName;
+            this.theEntropyPoolToReseedFromOrNull = entropyPoolOrNull;
+            this.theGeneratorFactory = RandomGeneratorFactory.of(algorithmName);
+            this.theRootGeneratorToSplitFromOrNull = theGeneratorFactory.isSplittable()
+                    ? (RandomGenerator.SplittableGenerator) theGeneratorFactory.create()
+                    : null;
+            this.theGeneratorForEachThread = ThreadLocal.withInitial(this::makeItWorkByCreatingAGeneratorForANewThread);
+        }
+
+        private void makeItWorkByServingThisLevelFromARingBuffer(
+                RandomnessLevelForEnterpriseRandomNumberGeneration level, int capacity, int lowWaterMark) {
+            theRingBufferLevel = level;
+            theRingBufferOrNull = new PreFilledLockFreeRandomNumberRingBuffer(
+                    level.getTheUrlFriendlySlugOfThisRandomnessLevel(), capacity, lowWaterMark,
+                    makeItWorkByCreatingAGeneratorForANewThread(), theGeneratorForEachThread::get);
+            theRingBufferOrNull.makeItWorkByStartingTheBackgroundRefill();
+        }
+
+        private RandomGenerator makeItWorkByCreatingAGeneratorForANewThread() {
+            if (theEntropyPoolToReseedFromOrNull != null) {
+                return theEntropyPoolToReseedFromOrNull.doTheThingWhereWeCreateAReseededGeneratorForOneThread(theGeneratorFactory);
+            }
+            if (theRootGeneratorToSplitFromOrNull != null) {
+                synchronized (theRootGeneratorToSplitFromOrNull) {
+                    return theRootGeneratorToSplitFromOrNull.split();
+                }
+            }
+            long seedForThisThread;
+            synchronized (theRootSeedSourceForNonSplittableAlgorithms) {
+                seedForThisThread = theRootSeedSourceForNonSplittableAlgorithms.nextLong();
+            }
+            return theGeneratorFactory.create(seedForThisThread);
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.elbonian.babylon.service;
 
 import com.elbonian.babylon.model.RandomNumberResponseForEnterpriseValueCreation;
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
 import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 /**
  * Enterprise Service Manager for Random Number Generation Operations and Synergy.
@@ -48,12 +56,23 @@ import java.util.Random;
 // This will revolutionize how we generate random numbers in the enterprise!
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class RandomNumberGeneratorServiceManager {
 
     // NOTE: We would implement this in COBOL if Elbonian Standards allowed it!
     // COBOL's RANDOM-NUMBER-GENERATOR would be perfect for enterprise randomness!
 
-    private final Random theEnterpriseGradeRandomNumberGeneratorInstance = new Random();
+    /** Histogram workers never split below this many samples. */
+    private static final long THE_SMALLEST_HISTOGRAM_SLICE_PER_WORKER = 65_536;
+
+    // Thank you Pointy-Haired Boss for giving every thread its own dice instead of one shared Random!
+    private final RandomNumberGeneratorEngineForPerThreadRandomness theEnterpriseGradeRandomNumberGeneratorEngine;
+
+    // Thank you Pointy-Haired Boss for sharing one entropy pool across the whole enterprise!
+    private final EnterpriseEntropyPoolForSecureRandomness theEnterpriseEntropyPoolForSecureRandomness;
+
+    // Thank you Pointy-Haired Boss for letting our randomness take on new shapes!
+    private final NonUniformDistributionEngineForSimulationWorkloads theNonUniformDistributionEngineForSimulationWorkloads;
 
     /**
      * Generate a random number with specified randomness level.
@@ -72,49 +91,25 @@ public class RandomNumberGeneratorServiceManager {
 
         log.info("🎲 Generating random number with randomness level: {} - Thank you PHB!", randomnessLevel);
 
-        Integer theGeneratedRandomNumber;
-        Boolean isActuallyRandom;
-        String metadata;
+        RandomnessLevelForEnterpriseRandomNumberGeneration level =
+                RandomnessLevelForEnterpriseRandomNumberGeneration.makeItWorkByResolvingTheHumanReadableLevelName(randomnessLevel);
+        int theGeneratedRandomNumber = makeItWorkByGeneratingJustTheRandomNumberForTheRandomnessLevel(level, min, max);
 
         // Thank you Pointy-Haired Boss for defining these brilliant randomness levels!
-        switch (randomnessLevel.toUpperCase()) {
-            case "PREDICTABLE":
-                // XKCD 221: return 4; // chosen by fair dice roll. guaranteed to be random.
-                theGeneratedRandomNumber = 4;
-                isActuallyRandom = true; // It was chosen by fair dice roll!
-                metadata = "XKCD 221 compliant - chosen by fair dice roll. Guaranteed to be random.";
+        switch (level) {
+            case PREDICTABLE:
                 log.info("🎯 Predictable mode: Returning 4 (XKCD 221 protocol)");
                 break;
-
-            case "PRETTY RANDOM":
-                // Return 4, but with extra enterprise steps for synergy
-                theGeneratedRandomNumber = makeItWorkWithPrettyRandomAlgorithm(min, max);
-                isActuallyRandom = false;
-                metadata = "Pretty random using enterprise-grade pseudorandom number generator with modulo operations.";
+            case PRETTY_RANDOM:
                 log.info("🎲 Pretty Random mode: Generated {} (with extra steps)", theGeneratedRandomNumber);
                 break;
-
-            case "REALLY RANDOM":
-                // Return 4, but pretend it's really random
-                theGeneratedRandomNumber = makeItWorkWithReallyRandomAlgorithm(min, max);
-                isActuallyRandom = false; // Still pseudorandom, but sounds impressive
-                metadata = "Really random using paradigm-shifting quantum-inspired classical computation algorithms.";
+            case REALLY_RANDOM:
                 log.info("🌟 Really Random mode: Generated {} (very impressive!)", theGeneratedRandomNumber);
                 break;
-
-            case "TOO FAR":
-                // We've gone too far. Circle back to 4 with maximum synergy.
-                theGeneratedRandomNumber = makeItWorkWithTooFarAlgorithm(min, max);
-                isActuallyRandom = false;
-                metadata = "TOO FAR: We've thought outside the box so far that we've achieved maximum randomness synergy. PHB approved!";
+            case TOO_FAR:
                 log.warn("🚀 TOO FAR mode: Generated {} (we may have gone too far...)", theGeneratedRandomNumber);
                 break;
-
             default:
-                // When in doubt, return 4 (XKCD 221 default)
-                theGeneratedRandomNumber = 4;
-                isActuallyRandom = true;
-                metadata = "Unknown randomness level - defaulting to XKCD 221 protocol (return 4).";
                 log.info("❓ Unknown mode - defaulting to XKCD 221: Returning 4");
                 break;
         }
@@ -126,47 +121,358 @@ public class RandomNumberGeneratorServiceManager {
                 .theMinimumValueInTheRangeForRandomNumberGeneration(min)
                 .theMaximumValueInTheRangeForRandomNumberGeneration(max)
                 .theTimestampWhenThisRandomNumberWasGenerated(LocalDateTime.now())
-                .isThisNumberActuallyReallyTrulyRandomOrJustPseudorandom(isActuallyRandom)
-                .additionalEnterpriseMetadataForAuditingAndCircleBackPurposes(metadata)
+                .isThisNumberActuallyReallyTrulyRandomOrJustPseudorandom(level.isThisLevelActuallyReallyTrulyRandom())
+                .additionalEnterpriseMetadataForAuditingAndCircleBackPurposes(level.getTheAuditMetadataForThisRandomnessLevel())
                 .build();
     }
 
+    /**
+     * Generate just the number for a randomness level, without building a response object.
+     * This is the primitive hot path shared by the single-number API and all bulk APIs.
+     *
+     * Thank you Pointy-Haired Boss for letting us skip the paperwork when it's not needed!
+     *
+     * @param level The already-resolved randomness level
+     * @param min Minimum value (null means the level's default)
+     * @param max Maximum value (null means the level's default)
+     * @return The generated random number
+     */
+    public int makeItWorkByGeneratingJustTheRandomNumberForTheRandomnessLevel(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, Integer min, Integer max) {
+        return makeItWorkByGeneratingTheRandomNumberWithThisGenerator(
+                level,
+                theEnterpriseGradeRandomNumberGeneratorEngine.doTheThingWhereWeGetTheGeneratorForTheCurrentThread(level),
+                min, max);
+    }
+
+    /**
+     * Fill a caller-owned buffer with random numbers for a randomness level.
+     * Bulk endpoints reuse one fixed-size buffer, so generating 10 or 10 million numbers
+     * costs the same amount of memory.
+     *
+     * Thank you Pointy-Haired Boss for thinking in bulk!
+     *
+     * @param level The already-resolved randomness level
+     * @param min Minimum value (null means the level's default)
+     * @param max Maximum value (null means the level's default)
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots of the buffer to fill
+     */
+    public void makeItWorkByFillingABufferWithRandomNumbersForTheRandomnessLevel(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, Integer min, Integer max,
+            int[] theBufferToFill, int howManyNumbersToGenerate) {
+        RandomGenerator theGeneratorForThisThread =
+                theEnterpriseGradeRandomNumberGeneratorEngine.doTheThingWhereWeGetTheGeneratorForTheCurrentThread(level);
+        for (int i = 0; i < howManyNumbersToGenerate; i++) {
+            theBufferToFill[i] = makeItWorkByGeneratingTheRandomNumberWithThisGenerator(
+                    level, theGeneratorForThisThread, min, max);
+        }
+    }
+
+    /**
+     * Fill the remaining space of a byte buffer with raw random bytes. Works with direct
+     * buffers, so bulk endpoints can reuse one off-heap buffer for the whole response.
+     *
+     * <p>The default mode uses this thread's "Really Random" generator (no XKCD 221 Easter
+     * eggs in raw bytes). Secure mode draws from the shared entropy pool instead.</p>
+     *
+     * Thank you Pointy-Haired Boss for providing entropy in bulk!
+     *
+     * @param theBufferToFill Buffer to fill from its position up to its limit
+     * @param isSecureRandomRequested Whether to use SecureRandom instead of the fast generator
+     */
+    public void makeItWorkByFillingAByteBufferWithRawRandomBytes(ByteBuffer theBufferToFill,
+                                                                 boolean isSecureRandomRequested) {
+        if (isSecureRandomRequested) {
+            theEnterpriseEntropyPoolForSecureRandomness.doTheThingWhereWeFillAByteBufferFromTheEntropyPool(theBufferToFill);
+            return;
+        }
+
+        RandomGenerator theGeneratorForThisThread = theEnterpriseGradeRandomNumberGeneratorEngine
+                .doTheThingWhereWeGetTheGeneratorForTheCurrentThread(
+                        RandomnessLevelForEnterpriseRandomNumberGeneration.REALLY_RANDOM);
+        while (theBufferToFill.remaining() >= Long.BYTES) {
+            theBufferToFill.putLong(theGeneratorForThisThread.nextLong());
+        }
+        if (theBufferToFill.hasRemaining()) {
+            long theLastFewBytes = theGeneratorForThisThread.nextLong();
+            while (theBufferToFill.hasRemaining()) {
+                theBufferToFill.put((byte) theLastFewBytes);
+                theLastFewBytes >>>= 8;
+            }
+        }
+    }
+
+    /**
+     * Fill a caller-owned buffer with normally distributed numbers for simulation workloads.
+     *
+     * Thank you Pointy-Haired Boss for normalizing our randomness!
+     *
+     * @param mean Mean of the distribution
+     * @param standardDeviation Standard deviation (must not be negative)
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots of the buffer to fill
+     */
+    public void makeItWorkByFillingABufferWithGaussianRandomNumbers(double mean, double standardDeviation,
+                                                                    double[] theBufferToFill, int howManyNumbersToGenerate) {
+        theNonUniformDistributionEngineForSimulationWorkloads.doTheThingWhereWeFillGaussians(
+                makeItWorkByGettingTheSimulationGeneratorForTheCurrentThread(),
+                theBufferToFill, howManyNumbersToGenerate, mean, standardDeviation);
+    }
+
+    /**
+     * Fill a caller-owned buffer with exponentially distributed numbers for simulation workloads.
+     *
+     * Thank you Pointy-Haired Boss for exponential growth in our randomness!
+     *
+     * @param rate Rate parameter lambda (must be positive)
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots of the buffer to fill
+     */
+    public void makeItWorkByFillingABufferWithExponentialRandomNumbers(double rate,
+                                                                       double[] theBufferToFill, int howManyNumbersToGenerate) {
+        theNonUniformDistributionEngineForSimulationWorkloads.doTheThingWhereWeFillExponentials(
+                makeItWorkByGettingTheSimulationGeneratorForTheCurrentThread(),
+                theBufferToFill, howManyNumbersToGenerate, rate);
+    }
+
+    /**
+     * Fill a caller-owned buffer with Zipf-distributed ranks for simulation workloads.
+     *
+     * Thank you Pointy-Haired Boss for recognizing that some ranks are more popular than others!
+     *
+     * @param theSampler Zipf sampler for the element count and exponent
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots of the buffer to fill
+     */
+    public void makeItWorkByFillingABufferWithZipfRandomRanks(
+            NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler theSampler,
+            int[] theBufferToFill, int howManyNumbersToGenerate) {
+        theNonUniformDistributionEngineForSimulationWorkloads.doTheThingWhereWeFillZipfRanks(
+                makeItWorkByGettingTheSimulationGeneratorForTheCurrentThread(),
+                theSampler, theBufferToFill, howManyNumbersToGenerate);
+    }
+
+    /**
+     * Fill a caller-owned buffer with dice totals (e.g. "3d6+2") for simulation workloads.
+     *
+     * Thank you Pointy-Haired Boss for rolling the dice on this initiative!
+     *
+     * @param theDice Parsed dice notation
+     * @param theBufferToFill Destination buffer
+     * @param howManyNumbersToGenerate How many leading slots of the buffer to fill
+     */
+    public void makeItWorkByFillingABufferWithDiceRolls(
+            NonUniformDistributionEngineForSimulationWorkloads.ParsedDiceNotation theDice,
+            int[] theBufferToFill, int howManyNumbersToGenerate) {
+        theNonUniformDistributionEngineForSimulationWorkloads.doTheThingWhereWeFillDiceRolls(
+                makeItWorkByGettingTheSimulationGeneratorForTheCurrentThread(),
+                theDice, theBufferToFill, howManyNumbersToGenerate);
+    }
+
+    /**
+     * Describe which kernels serve the non-uniform distributions (scalar or Vector API).
+     *
+     * @return Kernel description
+     */
+    public String makeItWorkByDescribingTheDistributionKernels() {
+        return theNonUniformDistributionEngineForSimulationWorkloads.makeItWorkByDescribingTheKernel();
+    }
+
+    /**
+     * Simulations draw their uniforms from this thread's "Really Random" generator
+     * (no XKCD 221 Easter eggs in a Gaussian).
+     */
+    private RandomGenerator makeItWorkByGettingTheSimulationGeneratorForTheCurrentThread() {
+        return theEnterpriseGradeRandomNumberGeneratorEngine.doTheThingWhereWeGetTheGeneratorForTheCurrentThread(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.REALLY_RANDOM);
+    }
+
+    /**
+     * Open a seeded, named random stream positioned at an offset. Unlike the per-thread
+     * generators, which are seeded from the environment, these streams are fully determined
+     * by their id and seed, and any position is reached in O(1), so load tests can shard
+     * generation across machines and still verify results deterministically.
+     *
+     * Thank you Pointy-Haired Boss for reproducible randomness!
+     *
+     * @param streamId Name of the stream
+     * @param seed Seed of the stream
+     * @param offset Position of the first number to draw
+     * @return The stream, owned by the caller
+     */
+    public JumpableSeededRandomNumberStreamForReproducibleLoadTests makeItWorkByOpeningASeededStreamAtPosition(
+            String streamId, long seed, long offset) {
+        JumpableSeededRandomNumberStreamForReproducibleLoadTests theSeededStream =
+                new JumpableSeededRandomNumberStreamForReproducibleLoadTests(streamId, seed);
+        theSeededStream.makeItWorkByJumpingToPosition(offset);
+        return theSeededStream;
+    }
+
+    /**
+     * Draw many samples for a randomness level in parallel and audit their distribution:
+     * bucket counts, how often 4 and 42 come up, and a chi-square test of uniformity over
+     * the in-range samples. Sampling runs as a fork/join task over independent generators,
+     * each filling its own primitive histogram, so nothing is shared while drawing.
+     *
+     * <p>The p-value uses the Wilson-Hilferty approximation of the chi-square distribution,
+     * which is accurate to a few decimals for the bucket counts allowed here.</p>
+     *
+     * Thank you Pointy-Haired Boss for auditing XKCD 221 compliance without a million curl calls!
+     *
+     * @param level The already-resolved randomness level
+     * @param samples How many numbers to draw
+     * @param buckets How many equal-width buckets to split [min, max] into
+     * @param min Minimum of the audited range
+     * @param max Maximum of the audited range
+     * @return Histogram and distribution statistics
+     */
+    public Map<String, Object> makeItWorkByAuditingTheDistributionOfTheRandomnessLevel(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, long samples, int buckets, int min, int max) {
+
+        long theStartTime = System.nanoTime();
+        long theSizeOfTheRange = (long) max - min + 1;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        long theLeafSliceSize = Math.max(THE_SMALLEST_HISTOGRAM_SLICE_PER_WORKER, samples / (parallelism * 8L));
+
+        long[] histogram = ForkJoinPool.commonPool().invoke(new ParallelRandomNumberHistogramTaskForComplianceAuditing(
+                this, theEnterpriseGradeRandomNumberGeneratorEngine, level, min, max, buckets, samples, theLeafSliceSize));
+
+        int length = histogram.length;
+        long belowRange = histogram[length - ParallelRandomNumberHistogramTaskForComplianceAuditing.THE_SLOT_FOR_SAMPLES_BELOW_THE_RANGE];
+        long aboveRange = histogram[length - ParallelRandomNumberHistogramTaskForComplianceAuditing.THE_SLOT_FOR_SAMPLES_ABOVE_THE_RANGE];
+        long fours = histogram[length - ParallelRandomNumberHistogramTaskForComplianceAuditing.THE_SLOT_FOR_FOURS];
+        long fortyTwos = histogram[length - ParallelRandomNumberHistogramTaskForComplianceAuditing.THE_SLOT_FOR_FORTY_TWOS];
+        long inRange = samples - belowRange - aboveRange;
+
+        List<Map<String, Object>> theBuckets = new ArrayList<>(buckets);
+        double chiSquare = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            // Bucket i holds the values v with floor((v - min) * buckets / range) == i
+            long from = min + Math.ceilDiv(bucket * theSizeOfTheRange, buckets);
+            long to = min + Math.ceilDiv((bucket + 1) * theSizeOfTheRange, buckets) - 1;
+            double expected = (double) inRange * (to - from + 1) / theSizeOfTheRange;
+            if (expected > 0) {
+                double difference = histogram[bucket] - expected;
+                chiSquare += difference * difference / expected;
+            }
+
+            Map<String, Object> theBucket = new LinkedHashMap<>();
+            theBucket.put("from", from);
+            theBucket.put("to", to);
+            theBucket.put("count", histogram[bucket]);
+            theBuckets.add(theBucket);
+        }
+        int degreesOfFreedom = buckets - 1;
+        double pValue = makeItWorkByApproximatingTheChiSquarePValue(chiSquare, degreesOfFreedom);
+
+        log.info("📊 Audited {} {} samples in {} buckets: chi-square {} (p = {})",
+                samples, level.getTheHumanReadableNameOfThisRandomnessLevel(), buckets, chiSquare, pValue);
+
+        Map<String, Object> audit = new LinkedHashMap<>();
+        audit.put("level", level.getTheHumanReadableNameOfThisRandomnessLevel());
+        audit.put("samples", samples);
+        audit.put("min", min);
+        audit.put("max", max);
+        audit.put("buckets", theBuckets);
+        audit.put("belowRange", belowRange);
+        audit.put("aboveRange", aboveRange);
+        audit.put("countOfFour", fours);
+        audit.put("frequencyOfFour", (double) fours / samples);
+        audit.put("countOfFortyTwo", fortyTwos);
+        audit.put("frequencyOfFortyTwo", (double) fortyTwos / samples);
+        audit.put("chiSquare", chiSquare);
+        audit.put("degreesOfFreedom", degreesOfFreedom);
+        audit.put("pValue", pValue);
+        audit.put("looksUniformAtOnePercent", pValue >= 0.01);
+        audit.put("parallelism", parallelism);
+        audit.put("elapsedMillis", (System.nanoTime() - theStartTime) / 1_000_000);
+        return audit;
+    }
+
+    /**
+     * Upper-tail p-value of a chi-square statistic via the Wilson-Hilferty cube-root
+     * transformation to a standard normal.
+     */
+    private static double makeItWorkByApproximatingTheChiSquarePValue(double chiSquare, int degreesOfFreedom) {
+        if (degreesOfFreedom <= 0) {
+            return 1.0;
+        }
+        double variance = 2.0 / (9.0 * degreesOfFreedom);
+        double z = (Math.cbrt(chiSquare / degreesOfFreedom) - (1 - variance)) / Math.sqrt(variance);
+        return makeItWorkByApproximatingTheStandardNormalUpperTail(z);
+    }
+
+    /**
+     * P(Z &gt; z) for a standard normal Z (Abramowitz and Stegun 26.2.17, error below 7.5e-8).
+     */
+    private static double makeItWorkByApproximatingTheStandardNormalUpperTail(double z) {
+        if (z < 0) {
+            return 1 - makeItWorkByApproximatingTheStandardNormalUpperTail(-z);
+        }
+        double t = 1 / (1 + 0.2316419 * z);
+        double polynomial = t * (0.319381530 + t * (-0.356563782 + t * (1.781477937
+                + t * (-1.821255978 + t * 1.330274429))));
+        return Math.exp(-z * z / 2) / Math.sqrt(2 * Math.PI) * polynomial;
+    }
+
+    /**
+     * Dispatch to the per-level algorithm using an explicit generator.
+     * Package-private so bulk workers (e.g. the histogram task) reuse the exact same algorithms.
+     *
+     * Thank you Pointy-Haired Boss for keeping the dispatch in one place!
+     */
+    int makeItWorkByGeneratingTheRandomNumberWithThisGenerator(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, RandomGenerator theGenerator,
+            Integer min, Integer max) {
+        switch (level) {
+            case PRETTY_RANDOM:
+                return makeItWorkWithPrettyRandomAlgorithm(theGenerator, min, max);
+            case REALLY_RANDOM:
+                return makeItWorkWithReallyRandomAlgorithm(theGenerator, min, max);
+            case TOO_FAR:
+                return makeItWorkWithTooFarAlgorithm(theGenerator, min, max);
+            default:
+                // XKCD 221: return 4; // chosen by fair dice roll. guaranteed to be random.
+                return 4;
+        }
+    }
+
     /**
      * Pretty Random Algorithm - Returns something between min and max.
      * But occasionally returns 4 anyway for XKCD compliance.
      *
      * Thank you Pointy-Haired Boss for this pragmatic approach to randomness!
      */
-    private Integer makeItWorkWithPrettyRandomAlgorithm(Integer min, Integer max) {
+    private int makeItWorkWithPrettyRandomAlgorithm(RandomGenerator theGenerator, Integer min, Integer max) {
         // 30% chance to return 4 for XKCD compliance
-        if (theEnterpriseGradeRandomNumberGeneratorInstance.nextDouble() < 0.3) {
+        if (theGenerator.nextDouble() < 0.3) {
             return 4; // XKCD 221 Easter egg!
         }
 
         if (min == null) min = 0;
         if (max == null) max = 100;
 
-        return theEnterpriseGradeRandomNumberGeneratorInstance.nextInt(max - min + 1) + min;
+        return theGenerator.nextInt(max - min + 1) + min;
     }
 
     /**
-     * Really Random Algorithm - Uses enterprise-grade pseudorandom techniques.
+     * Really Random Algorithm - Uses a fast generator re-keyed from SecureRandom in the background.
      * Still occasionally returns 4 because XKCD 221 is the gold standard.
      *
      * Thank you Pointy-Haired Boss for pushing the boundaries of randomness!
      */
-    private Integer makeItWorkWithReallyRandomAlgorithm(Integer min, Integer max) {
+    private int makeItWorkWithReallyRandomAlgorithm(RandomGenerator theGenerator, Integer min, Integer max) {
         // 20% chance to return 4 for XKCD compliance
-        if (theEnterpriseGradeRandomNumberGeneratorInstance.nextDouble() < 0.2) {
+        if (theGenerator.nextDouble() < 0.2) {
             return 4; // XKCD 221 strikes again!
         }
 
         if (min == null) min = 0;
         if (max == null) max = 1000;
 
-        // Use system time for extra "randomness"
-        long systemTimeComponent = System.nanoTime() % (max - min + 1);
-        return (int) systemTimeComponent + min;
+        // The generator is re-keyed from the background-reseeded entropy pool, no clock involved
+        return theGenerator.nextInt(max - min + 1) + min;
     }
 
     /**
@@ -176,14 +482,14 @@ public class RandomNumberGeneratorServiceManager {
      *
      * Thank you Pointy-Haired Boss for letting us go this far!
      */
-    private Integer makeItWorkWithTooFarAlgorithm(Integer min, Integer max) {
+    private int makeItWorkWithTooFarAlgorithm(RandomGenerator theGenerator, Integer min, Integer max) {
         // 70% chance to return 4 - we've gone too far, better circle back to XKCD 221
-        if (theEnterpriseGradeRandomNumberGeneratorInstance.nextDouble() < 0.7) {
+        if (theGenerator.nextDouble() < 0.7) {
             return 4; // XKCD 221 - the safe choice
         }
 
         // 20% chance to return 42 - the answer to life, universe, and everything
-        if (theEnterpriseGradeRandomNumberGeneratorInstance.nextDouble() < 0.2) {
+        if (theGenerator.nextDouble() < 0.2) {
             return 42; // Douglas Adams approved
         }
 
@@ -191,7 +497,35 @@ public class RandomNumberGeneratorServiceManager {
         if (min == null) min = -1000;
         if (max == null) max = 1000;
 
-        return theEnterpriseGradeRandomNumberGeneratorInstance.nextInt(max - min + 1) + min;
+        return theGenerator.nextInt(max - min + 1) + min;
+    }
+
+    /**
+     * Describe which random generator algorithm serves each randomness level.
+     *
+     * Thank you Pointy-Haired Boss for valuing operational transparency!
+     *
+     * @return Level name to algorithm name, as configured in application.properties
+     */
+    public Map<String, String> makeItWorkByDescribingTheRandomGeneratorAlgorithmsPerLevel() {
+        return theEnterpriseGradeRandomNumberGeneratorEngine.makeItWorkByDescribingTheConfiguredAlgorithms();
+    }
+
+    /**
+     * Collect the algorithm and ring buffer statistics of the random generator engine,
+     * so ring buffer capacity and low-water marks can be sized against real traffic.
+     *
+     * Thank you Pointy-Haired Boss for letting us measure before we optimize!
+     *
+     * @return Configured algorithms, ring buffer counters, distribution kernels and entropy pool counters
+     */
+    public Map<String, Object> makeItWorkByCollectingTheRandomGeneratorEngineStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("algorithms", theEnterpriseGradeRandomNumberGeneratorEngine.makeItWorkByDescribingTheConfiguredAlgorithms());
+        statistics.put("ringBuffers", theEnterpriseGradeRandomNumberGeneratorEngine.makeItWorkByCollectingTheRingBufferStatistics());
+        statistics.put("distributionKernels", theNonUniformDistributionEngineForSimulationWorkloads.makeItWorkByDescribingTheKernel());
+        statistics.put("entropyPool", theEnterpriseEntropyPoolForSecureRandomness.makeItWorkByCollectingTheEntropyPoolStatistics());
+        return statistics;
     }
 
     /**
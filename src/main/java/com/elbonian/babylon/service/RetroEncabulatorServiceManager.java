@@ -7,7 +7,6 @@ import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.security.SecureRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -53,14 +52,14 @@ import java.util.concurrent.atomic.AtomicReference;
 public class RetroEncabulatorServiceManager {
 
     /**
-     * Shared secure random number generator for simulating realistic metrics.
-     * Static to avoid expensive initialization cost per service instance.
+     * Shared entropy pool for simulating realistic metrics.
+     * Hands out one SecureRandom per thread, so the expensive seeding happens once per thread.
      * In production, this would be replaced with actual sensor data.
      * Uses SecureRandom for better unpredictability.
      * 
      * — The Pointy-Haired Boss
      */
-    private static final SecureRandom theRandomNumberGeneratorForSimulatingRealisticMetrics = new SecureRandom();
+    private final EnterpriseEntropyPoolForSecureRandomness theEntropyPoolForSimulatingRealisticMetrics;
 
     /**
      * Current configuration settings for the RetroEncabulator system.
@@ -91,9 +90,14 @@ public class RetroEncabulatorServiceManager {
      * Constructor that initializes the RetroEncabulator with default configuration.
      * Sets up optimal enterprise synergy settings for maximum paradigm shifting.
      * 
+     * @param theEntropyPoolForSimulatingRealisticMetrics Shared secure randomness
+     * 
      * — The Pointy-Haired Boss
      */
-    public RetroEncabulatorServiceManager() {
+    public RetroEncabulatorServiceManager(
+        EnterpriseEntropyPoolForSecureRandomness theEntropyPoolForSimulatingRealisticMetrics
+    ) {
+        this.theEntropyPoolForSimulatingRealisticMetrics = theEntropyPoolForSimulatingRealisticMetrics;
         log.info("🚀 Initializing RetroEncabulator Service Manager...");
         log.info("🔧 Setting up turbo-encabulator in reverse mode...");
         
@@ -132,14 +136,14 @@ public class RetroEncabulatorServiceManager {
         // Simulate realistic status (in production, would query actual hardware)
         theCurrentStatus.setTheCurrentOperationalStateOfTheRetroEncabulatorSystem("OPERATIONAL");
         theCurrentStatus.setTheCalibrationLevelAsPercentageForPrecisionTuning(
-            85 + theRandomNumberGeneratorForSimulatingRealisticMetrics.nextInt(15)
+            85 + theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextInt(15)
         );
         theCurrentStatus.setTheRotationSpeedOfMainMarzelvaneInRPM(
             theCurrentConfigurationSettingsForTheRetroEncabulatorSystem
                 .getTheTargetRotationSpeedForPrimaryMarzelvaneInRPM()
         );
         theCurrentStatus.setTheOverallEfficiencyRatingAsPercentage(
-            88.5 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 10)
+            88.5 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 10)
         );
         theCurrentStatus.setTheTimestampOfLastCalibrationForMaintenanceTracking(
             theLastCalibrationTimestampForMaintenanceScheduling.get()
@@ -205,7 +209,7 @@ public class RetroEncabulatorServiceManager {
         
         // Increment operations counter for realistic metrics
         theTotalOperationsCounterForMetricsTracking.addAndGet(
-            theRandomNumberGeneratorForSimulatingRealisticMetrics.nextInt(1000) + 500
+            theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextInt(1000) + 500
         );
         
         RetroEncabulatorMetricsForPerformanceTracking theCollectedMetrics = 
@@ -216,29 +220,29 @@ public class RetroEncabulatorServiceManager {
             theTotalOperationsCounterForMetricsTracking.get()
         );
         theCollectedMetrics.setTheAverageProcessingTimePerOperationInMilliseconds(
-            2.5 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 1.5)
+            2.5 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 1.5)
         );
         theCollectedMetrics.setTheCurrentOperationsPerSecondThroughputRate(
-            450.0 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 100)
+            450.0 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 100)
         );
         theCollectedMetrics.setTheSystemUptimePercentageOverLast24Hours(
-            99.5 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 0.5)
+            99.5 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 0.5)
         );
         theCollectedMetrics.setTheNumberOfSuccessfulOperationsInCurrentMonitoringPeriod(
             theTotalOperationsCounterForMetricsTracking.get() - 5
         );
         theCollectedMetrics.setTheNumberOfFailedOperationsInCurrentMonitoringPeriod(5L);
         theCollectedMetrics.setThePeakOperationsPerSecondAchievedInLastHour(
-            650.0 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 50)
+            650.0 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 50)
         );
         theCollectedMetrics.setTheAverageMarzelvaneSynchronizationLatencyInMicroseconds(
-            125.0 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 25)
+            125.0 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 25)
         );
         theCollectedMetrics.setTheTimestampWhenTheseMetricsWereCollectedForAnalysis(
             LocalDateTime.now()
         );
         theCollectedMetrics.setTheOverallPerformanceScoreCalculatedFromMultipleMetrics(
-            92.0 + (theRandomNumberGeneratorForSimulatingRealisticMetrics.nextDouble() * 7)
+            92.0 + (theEntropyPoolForSimulatingRealisticMetrics.doTheThingWhereWeGetTheSecureRandomForTheCurrentThread().nextDouble() * 7)
         );
         
         log.info("✅ Metrics collected successfully!");
@@ -0,0 +1,300 @@
+package com.elbonian.babylon.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enterprise Rolling Velocity Statistics for Predictive Capacity Planning.
+ *
+ * <p>Keeps the velocity of every completed sprint in primitive arrays and answers statistics
+ * over "the last N sprints" for any N without rescanning the history:</p>
+ * <ul>
+ *   <li>📈 Mean and standard deviation: prefix sums of the velocities and of their squares, so
+ *       any window is two subtractions</li>
+ *   <li>📊 Min, max and percentiles: a persistent counting tree over velocity values. Recording
+ *       a sprint adds one new version of the tree ({@value #THE_VALUE_TREE_DEPTH} nodes); the
+ *       values of the last N sprints are the difference between the newest version and the one
+ *       from N sprints ago, and the k-th smallest of them is one walk down both versions</li>
+ * </ul>
+ *
+ * <p>Recording is O(log V), every query O(1) or O(log V), where V is the largest velocity
+ * allowed ({@value #THE_HIGHEST_POSSIBLE_VELOCITY} points, which no team has ever delivered).
+ * All methods synchronize on this object, which is also the lock that keeps a sprint's velocity
+ * and the sprint number moving together in {@link AgileSprintPlanningService}.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class RollingVelocityStatisticsForCapacityPlanning {
+
+    /** Velocity assumed when there is no history yet (optimistic, as always). */
+    public static final double THE_OPTIMISTIC_DEFAULT_VELOCITY = 25.0;
+
+    /** Largest velocity a sprint can record. */
+    public static final int THE_HIGHEST_POSSIBLE_VELOCITY = 1_000_000;
+
+    private static final int THE_VALUE_TREE_DEPTH = 20;
+
+    private int theNumberOfSprints;
+    private int[] theVelocities = new int[16];
+
+    /** thePrefixSums[i]: sum of the first i velocities (and of their squares). */
+    private long[] thePrefixSums = new long[17];
+    private long[] thePrefixSumsOfSquares = new long[17];
+
+    /**
+     * Persistent counting tree over velocity values 0..2^depth-1. Node 0 is the shared empty
+     * tree; theRootAfterSprint[i] is the tree holding the first i velocities.
+     */
+    private int[] theLeftChild = new int[1024];
+    private int[] theRightChild = new int[1024];
+    private int[] theValueCount = new int[1024];
+    private int theNumberOfNodes = 1;
+    private int[] theRootAfterSprint = new int[17];
+
+    public RollingVelocityStatisticsForCapacityPlanning() {
+    }
+
+    /**
+     * @param velocityHistory Velocities of already completed sprints, oldest first
+     */
+    public RollingVelocityStatisticsForCapacityPlanning(List<Integer> velocityHistory) {
+        doTheThingWhereWeReplaceTheHistory(velocityHistory);
+    }
+
+    /**
+     * Records the velocity of a completed sprint.
+     *
+     * @param completedPoints Story points delivered, 0..{@value #THE_HIGHEST_POSSIBLE_VELOCITY}
+     * @throws IllegalArgumentException if the velocity is out of range
+     */
+    public synchronized void doTheThingWhereWeRecordTheSprintVelocity(int completedPoints) {
+        if (completedPoints < 0 || completedPoints > THE_HIGHEST_POSSIBLE_VELOCITY) {
+            throw new IllegalArgumentException("Velocity must be between 0 and " + THE_HIGHEST_POSSIBLE_VELOCITY
+                    + " story points: " + completedPoints);
+        }
+        int sprint = theNumberOfSprints;
+        if (sprint == theVelocities.length) {
+            theVelocities = Arrays.copyOf(theVelocities, sprint * 2);
+            thePrefixSums = Arrays.copyOf(thePrefixSums, sprint * 2 + 1);
+            thePrefixSumsOfSquares = Arrays.copyOf(thePrefixSumsOfSquares, sprint * 2 + 1);
+            theRootAfterSprint = Arrays.copyOf(theRootAfterSprint, sprint * 2 + 1);
+        }
+        theVelocities[sprint] = completedPoints;
+        thePrefixSums[sprint + 1] = thePrefixSums[sprint] + completedPoints;
+        thePrefixSumsOfSquares[sprint + 1] = thePrefixSumsOfSquares[sprint] + (long) completedPoints * completedPoints;
+        theRootAfterSprint[sprint + 1] = makeItWorkByAddingTheValueToANewVersion(theRootAfterSprint[sprint], completedPoints);
+        theNumberOfSprints = sprint + 1;
+    }
+
+    /**
+     * Replaces the whole history, e.g. when recovering it from a snapshot.
+     */
+    public synchronized void doTheThingWhereWeReplaceTheHistory(List<Integer> velocityHistory) {
+        theNumberOfSprints = 0;
+        theNumberOfNodes = 1;
+        for (int velocity : velocityHistory) {
+            doTheThingWhereWeRecordTheSprintVelocity(velocity);
+        }
+    }
+
+    /**
+     * @return Every recorded velocity, oldest first
+     */
+    public synchronized List<Integer> makeItWorkByCopyingTheHistory() {
+        return Arrays.stream(theVelocities, 0, theNumberOfSprints).boxed().toList();
+    }
+
+    public synchronized int makeItWorkByCountingTheSprints() {
+        return theNumberOfSprints;
+    }
+
+    /**
+     * @param numberOfSprints How many of the most recent sprints to include (capped at the history)
+     * @return Mean velocity of the window, or {@link #THE_OPTIMISTIC_DEFAULT_VELOCITY} without history
+     */
+    public synchronized double makeItWorkByCalculatingTheMeanOfTheLastSprints(int numberOfSprints) {
+        int window = makeItWorkByClampingTheWindow(numberOfSprints);
+        if (window == 0) {
+            return THE_OPTIMISTIC_DEFAULT_VELOCITY;
+        }
+        return (double) (thePrefixSums[theNumberOfSprints] - thePrefixSums[theNumberOfSprints - window]) / window;
+    }
+
+    /**
+     * @param numberOfSprints How many of the most recent sprints to include (capped at the history)
+     * @param percentile 0-100, nearest-rank (50 is the median, 0 the minimum, 100 the maximum)
+     * @return The velocity at that percentile, or the default velocity without history
+     */
+    public synchronized double makeItWorkByFindingThePercentileOfTheLastSprints(int numberOfSprints, double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int window = makeItWorkByClampingTheWindow(numberOfSprints);
+        if (window == 0) {
+            return THE_OPTIMISTIC_DEFAULT_VELOCITY;
+        }
+        int rank = Math.max(0, (int) Math.ceil(percentile / 100.0 * window) - 1);
+        return makeItWorkByFindingTheKthSmallestOfTheLastSprints(window, rank);
+    }
+
+    /**
+     * Summarizes the last sprints in one consistent view.
+     *
+     * @param numberOfSprints How many of the most recent sprints to include (capped at the history)
+     * @return Mean, spread, range and percentiles; every value is the default velocity without history
+     */
+    public synchronized VelocityWindowStatisticsForCapacityPlanning doTheThingWhereWeSummarizeTheLastSprints(int numberOfSprints) {
+        int window = makeItWorkByClampingTheWindow(numberOfSprints);
+        if (window == 0) {
+            double fallback = THE_OPTIMISTIC_DEFAULT_VELOCITY;
+            return new VelocityWindowStatisticsForCapacityPlanning(0, fallback, 0, fallback, fallback, fallback, fallback, fallback);
+        }
+        int from = theNumberOfSprints - window;
+        double mean = (double) (thePrefixSums[theNumberOfSprints] - thePrefixSums[from]) / window;
+        double meanOfSquares = (double) (thePrefixSumsOfSquares[theNumberOfSprints] - thePrefixSumsOfSquares[from]) / window;
+        double standardDeviation = Math.sqrt(Math.max(0, meanOfSquares - mean * mean));
+        return new VelocityWindowStatisticsForCapacityPlanning(window, mean, standardDeviation,
+                makeItWorkByFindingTheKthSmallestOfTheLastSprints(window, 0),
+                makeItWorkByFindingTheKthSmallestOfTheLastSprints(window, window - 1),
+                makeItWorkByFindingThePercentileOfTheLastSprints(window, 10),
+                makeItWorkByFindingThePercentileOfTheLastSprints(window, 50),
+                makeItWorkByFindingThePercentileOfTheLastSprints(window, 90));
+    }
+
+    private int makeItWorkByClampingTheWindow(int numberOfSprints) {
+        return Math.max(0, Math.min(numberOfSprints, theNumberOfSprints));
+    }
+
+    /**
+     * Copies the path from the root to the value's leaf, with every count on it one higher.
+     *
+     * @return The root of the new version
+     */
+    private int makeItWorkByAddingTheValueToANewVersion(int previousRoot, int value) {
+        makeItWorkByMakingRoomForANewPath();
+        int newRoot = theNumberOfNodes;
+        int previousNode = previousRoot;
+        int newNode = newRoot;
+        theNumberOfNodes++;
+        for (int bit = THE_VALUE_TREE_DEPTH - 1; ; bit--) {
+            theValueCount[newNode] = theValueCount[previousNode] + 1;
+            if (bit < 0) {
+                theLeftChild[newNode] = 0;
+                theRightChild[newNode] = 0;
+                return newRoot;
+            }
+            int child = theNumberOfNodes++;
+            if ((value & (1 << bit)) == 0) {
+                theLeftChild[newNode] = child;
+                theRightChild[newNode] = theRightChild[previousNode];
+                previousNode = theLeftChild[previousNode];
+            } else {
+                theLeftChild[newNode] = theLeftChild[previousNode];
+                theRightChild[newNode] = child;
+                previousNode = theRightChild[previousNode];
+            }
+            newNode = child;
+        }
+    }
+
+    private void makeItWorkByMakingRoomForANewPath() {
+        if (theNumberOfNodes + THE_VALUE_TREE_DEPTH + 1 > theValueCount.length) {
+            int newCapacity = theValueCount.length * 2;
+            theLeftChild = Arrays.copyOf(theLeftChild, newCapacity);
+            theRightChild = Arrays.copyOf(theRightChild, newCapacity);
+            theValueCount = Arrays.copyOf(theValueCount, newCapacity);
+        }
+    }
+
+    /**
+     * Walks the newest version and the version from {@code window} sprints ago side by side; the
+     * count difference at each node is how many of the window's velocities fall below it.
+     */
+    private int makeItWorkByFindingTheKthSmallestOfTheLastSprints(int window, int k) {
+        int newerNode = theRootAfterSprint[theNumberOfSprints];
+        int olderNode = theRootAfterSprint[theNumberOfSprints - window];
+        int value = 0;
+        for (int bit = THE_VALUE_TREE_DEPTH - 1; bit >= 0; bit--) {
+            int smallerInTheWindow = theValueCount[theLeftChild[newerNode]] - theValueCount[theLeftChild[olderNode]];
+            if (k < smallerInTheWindow) {
+                newerNode = theLeftChild[newerNode];
+                olderNode = theLeftChild[olderNode];
+            } else {
+                k -= smallerInTheWindow;
+                value |= 1 << bit;
+                newerNode = theRightChild[newerNode];
+                olderNode = theRightChild[olderNode];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Velocity statistics over one window of recent sprints.
+     */
+    public static final class VelocityWindowStatisticsForCapacityPlanning {
+
+        private final int theSprintsAnalyzed;
+        private final double theMeanVelocity;
+        private final double theStandardDeviation;
+        private final double theMinimumVelocity;
+        private final double theMaximumVelocity;
+        private final double theTenthPercentileVelocity;
+        private final double theMedianVelocity;
+        private final double theNinetiethPercentileVelocity;
+
+        VelocityWindowStatisticsForCapacityPlanning(int sprintsAnalyzed, double meanVelocity, double standardDeviation,
+                                                    double minimumVelocity, double maximumVelocity,
+                                                    double tenthPercentileVelocity, double medianVelocity,
+                                                    double ninetiethPercentileVelocity) {
+            this.theSprintsAnalyzed = sprintsAnalyzed;
+            this.theMeanVelocity = meanVelocity;
+            this.theStandardDeviation = standardDeviation;
+            this.theMinimumVelocity = minimumVelocity;
+            this.theMaximumVelocity = maximumVelocity;
+            this.theTenthPercentileVelocity = tenthPercentileVelocity;
+            this.theMedianVelocity = medianVelocity;
+            this.theNinetiethPercentileVelocity = ninetiethPercentileVelocity;
+        }
+
+        /** @return How many sprints the window actually covered (0 means: no history, defaults reported) */
+        public int getSprintsAnalyzed() {
+            return theSprintsAnalyzed;
+        }
+
+        public double getMeanVelocity() {
+            return theMeanVelocity;
+        }
+
+        /** @return Population standard deviation of the window */
+        public double getStandardDeviation() {
+            return theStandardDeviation;
+        }
+
+        public double getMinimumVelocity() {
+            return theMinimumVelocity;
+        }
+
+        public double getMaximumVelocity() {
+            return theMaximumVelocity;
+        }
+
+        /** @return The velocity the team reached in 90% of these sprints */
+        public double getTenthPercentileVelocity() {
+            return theTenthPercentileVelocity;
+        }
+
+        public double getMedianVelocity() {
+            return theMedianVelocity;
+        }
+
+        /** @return The velocity only the best 10% of these sprints reached */
+        public double getNinetiethPercentileVelocity() {
+            return theNinetiethPercentileVelocity;
+        }
+    }
+}
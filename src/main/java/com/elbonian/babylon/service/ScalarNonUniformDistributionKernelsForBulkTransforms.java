@@ -0,0 +1,41 @@
+package com.elbonian.babylon.service;
+
+/**
+ * Enterprise Scalar Kernels for Non-Uniform Distributions.
+ *
+ * <p>Plain loops over primitive arrays. Always available, and simple enough for the JIT
+ * to unroll; used whenever the Vector API module is not loaded.</p>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for always having a fallback plan! 🛟
+ */
+final class ScalarNonUniformDistributionKernelsForBulkTransforms implements NonUniformDistributionKernelsForBulkTransforms {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Override
+    public void doTheThingWhereWeApplyTheBoxMullerTransform(double[] values, int pairs,
+                                                            double mean, double standardDeviation) {
+        for (int i = 0; i < pairs; i++) {
+            double radius = standardDeviation * Math.sqrt(-2 * Math.log(values[i]));
+            double angle = TWO_PI * values[i + pairs];
+            values[i] = mean + radius * Math.cos(angle);
+            values[i + pairs] = mean + radius * Math.sin(angle);
+        }
+    }
+
+    @Override
+    public void doTheThingWhereWeApplyTheExponentialTransform(double[] values, int count, double scale) {
+        for (int i = 0; i < count; i++) {
+            values[i] = -Math.log(values[i]) * scale;
+        }
+    }
+
+    @Override
+    public String makeItWorkByDescribingTheKernel() {
+        return "scalar";
+    }
+}
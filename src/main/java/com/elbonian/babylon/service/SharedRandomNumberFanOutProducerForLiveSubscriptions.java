@@ -0,0 +1,346 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enterprise Fan-Out Producer for Live Random Number Subscriptions.
+ *
+ * <p>Dashboards used to poll {@code /api/random/pretty-random} several times a second per
+ * browser. With live subscriptions there is one producer per randomness level, no matter
+ * how many subscribers it has. Every {@value #THE_PRODUCER_TICK_IN_MILLISECONDS} ms it draws
+ * at most one number, and only if some subscriber is due, and hands that same number to
+ * every subscriber that is due. Each subscriber has its own rate.</p>
+ *
+ * <p><strong>Backpressure:</strong> every subscriber owns exactly one pending slot. The
+ * producer only overwrites that slot and never waits. A sender thread drains the slot
+ * into the subscriber's connection. When a client reads slower than its rate, the newer
+ * value replaces the undelivered one and the old one is counted as coalesced. Memory per
+ * subscriber therefore stays constant, however slow the client is.</p>
+ *
+ * <p><strong>ELBONIAN COMPLIANCE:</strong></p>
+ * <ul>
+ *   <li>✅ Verbose class name with context suffix</li>
+ *   <li>✅ Uses Spring @Component annotation</li>
+ *   <li>✅ All methods start with 'doTheThing' or 'makeItWork'</li>
+ * </ul>
+ *
+ * @author The Pointy-Haired Boss (Chief Randomness Officer)
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for randomness that comes to us! 📡
+ */
+@Slf4j
+@Component
+public class SharedRandomNumberFanOutProducerForLiveSubscriptions {
+
+    /** Producer resolution; also bounds the highest rate a subscriber can ask for. */
+    public static final long THE_PRODUCER_TICK_IN_MILLISECONDS = 10;
+
+    /** Highest delivery rate per subscriber. */
+    public static final int THE_MAXIMUM_RATE_PER_SECOND = (int) (1000 / THE_PRODUCER_TICK_IN_MILLISECONDS);
+
+    /** Maximum number of concurrent subscribers used when nothing is configured. */
+    public static final int THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS = 1000;
+
+    /** Marks an empty pending slot; real values are ints, so they never collide with it. */
+    private static final long THE_EMPTY_SLOT = Long.MIN_VALUE;
+
+    private final RandomNumberGeneratorServiceManager theRandomNumberGeneratorServiceManager;
+    private final RandomNumberGeneratorEngineForPerThreadRandomness theRandomNumberGeneratorEngine;
+    private final int theMaximumNumberOfSubscribers;
+
+    private final Map<RandomnessLevelForEnterpriseRandomNumberGeneration, SharedProducerForOneRandomnessLevel>
+            theSharedProducerForEachLevel = new EnumMap<>(RandomnessLevelForEnterpriseRandomNumberGeneration.class);
+
+    private final ScheduledExecutorService theProducerScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> makeItWorkByCreatingADaemonThread(runnable, "babylon-random-fan-out"));
+
+    /** Sender threads block on slow sockets, never the producer; at most one per subscriber. */
+    private final ExecutorService theSenderThreads = Executors.newCachedThreadPool(
+            runnable -> makeItWorkByCreatingADaemonThread(runnable, "babylon-random-fan-out-sender"));
+
+    private final AtomicInteger theNumberOfActiveSubscribers = new AtomicInteger();
+    private final LongAdder theNumberOfNumbersGenerated = new LongAdder();
+    private final LongAdder theNumberOfNumbersDelivered = new LongAdder();
+    private final LongAdder theNumberOfNumbersCoalesced = new LongAdder();
+
+    /**
+     * Receives the numbers of one subscription. Called from a sender thread, one call at a time.
+     */
+    @FunctionalInterface
+    public interface LiveRandomNumberSubscriberForFanOutDelivery {
+
+        /**
+         * @param randomNumber The number
+         * @param sequenceNumber 1 for the first number this subscriber receives, then counting up
+         * @param coalescedSinceLastDelivery How many numbers were replaced because this subscriber was slow
+         * @throws IOException if the connection is gone; the subscription is then cancelled
+         */
+        void doTheThingWhereWeDeliverARandomNumber(int randomNumber, long sequenceNumber,
+                                                   long coalescedSinceLastDelivery) throws IOException;
+    }
+
+    /**
+     * Creates the fan-out producer with the default subscriber limit.
+     */
+    public SharedRandomNumberFanOutProducerForLiveSubscriptions(
+            RandomNumberGeneratorServiceManager randomNumberGeneratorServiceManager,
+            RandomNumberGeneratorEngineForPerThreadRandomness randomNumberGeneratorEngine) {
+        this(randomNumberGeneratorServiceManager, randomNumberGeneratorEngine, THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS);
+    }
+
+    /**
+     * Creates the fan-out producer with the settings configured in application.properties.
+     *
+     * @param randomNumberGeneratorServiceManager Owner of the per-level algorithms
+     * @param randomNumberGeneratorEngine Source of one independent generator per level producer
+     * @param maximumNumberOfSubscribers Concurrent subscriptions allowed across all levels
+     */
+    @Autowired
+    public SharedRandomNumberFanOutProducerForLiveSubscriptions(
+            RandomNumberGeneratorServiceManager randomNumberGeneratorServiceManager,
+            RandomNumberGeneratorEngineForPerThreadRandomness randomNumberGeneratorEngine,
+            @Value("${babylon.random.subscribe.maximum-subscribers:" + THE_DEFAULT_MAXIMUM_NUMBER_OF_SUBSCRIBERS + "}")
+            int maximumNumberOfSubscribers) {
+        this.theRandomNumberGeneratorServiceManager = randomNumberGeneratorServiceManager;
+        this.theRandomNumberGeneratorEngine = randomNumberGeneratorEngine;
+        this.theMaximumNumberOfSubscribers = maximumNumberOfSubscribers;
+    }
+
+    /**
+     * Subscribes to the shared producer of a randomness level.
+     *
+     * @param level Randomness level (the level's default range is used)
+     * @param ratePerSecond Numbers per second, 1 to {@link #THE_MAXIMUM_RATE_PER_SECOND}
+     * @param subscriber Receives the numbers on a sender thread
+     * @return The subscription, or null when the subscriber limit is reached
+     * @throws IllegalArgumentException if the rate is out of range
+     */
+    public LiveRandomNumberSubscriptionForFanOutDelivery makeItWorkBySubscribingToTheSharedProducer(
+            RandomnessLevelForEnterpriseRandomNumberGeneration level, int ratePerSecond,
+            LiveRandomNumberSubscriberForFanOutDelivery subscriber) {
+        if (ratePerSecond < 1 || ratePerSecond > THE_MAXIMUM_RATE_PER_SECOND) {
+            throw new IllegalArgumentException("Rate must be between 1 and " + THE_MAXIMUM_RATE_PER_SECOND
+                    + " per second: " + ratePerSecond);
+        }
+        if (theNumberOfActiveSubscribers.incrementAndGet() > theMaximumNumberOfSubscribers) {
+            theNumberOfActiveSubscribers.decrementAndGet();
+            log.warn("📡 Live subscription refused, {} subscribers already connected", theMaximumNumberOfSubscribers);
+            return null;
+        }
+
+        SharedProducerForOneRandomnessLevel producer;
+        synchronized (theSharedProducerForEachLevel) {
+            producer = theSharedProducerForEachLevel.computeIfAbsent(level, SharedProducerForOneRandomnessLevel::new);
+        }
+        LiveRandomNumberSubscriptionForFanOutDelivery subscription =
+                new LiveRandomNumberSubscriptionForFanOutDelivery(producer, ratePerSecond, subscriber);
+        producer.makeItWorkByAddingASubscriber(subscription);
+        log.info("📡 Live subscription to {} at {}/s ({} subscribers)",
+                level.getTheHumanReadableNameOfThisRandomnessLevel(), ratePerSecond, theNumberOfActiveSubscribers.get());
+        return subscription;
+    }
+
+    /**
+     * @return Subscribers per level plus generated, delivered and coalesced counters
+     */
+    public Map<String, Object> makeItWorkByCollectingTheFanOutStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        Map<String, Integer> subscribersPerLevel = new LinkedHashMap<>();
+        synchronized (theSharedProducerForEachLevel) {
+            theSharedProducerForEachLevel.forEach((level, producer) -> subscribersPerLevel.put(
+                    level.getTheHumanReadableNameOfThisRandomnessLevel(), producer.theSubscribers.size()));
+        }
+        statistics.put("subscribers", theNumberOfActiveSubscribers.get());
+        statistics.put("subscribersPerLevel", subscribersPerLevel);
+        statistics.put("generated", theNumberOfNumbersGenerated.sum());
+        statistics.put("delivered", theNumberOfNumbersDelivered.sum());
+        statistics.put("coalesced", theNumberOfNumbersCoalesced.sum());
+        return statistics;
+    }
+
+    /**
+     * Stops the producer and sender threads when the application shuts down.
+     */
+    @PreDestroy
+    public void makeItWorkByStoppingTheFanOut() {
+        theProducerScheduler.shutdownNow();
+        theSenderThreads.shutdownNow();
+    }
+
+    private static Thread makeItWorkByCreatingADaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * One producer per level: one generator, one scheduled tick, any number of subscribers.
+     * Ticks run on the single producer thread, so the generator is never shared.
+     */
+    private final class SharedProducerForOneRandomnessLevel {
+
+        private final RandomnessLevelForEnterpriseRandomNumberGeneration theLevel;
+        private final RandomGenerator theGeneratorOfThisProducer;
+        private final List<LiveRandomNumberSubscriptionForFanOutDelivery> theSubscribers = new CopyOnWriteArrayList<>();
+        private ScheduledFuture<?> theScheduledTickOrNull;
+
+        private SharedProducerForOneRandomnessLevel(RandomnessLevelForEnterpriseRandomNumberGeneration level) {
+            this.theLevel = level;
+            this.theGeneratorOfThisProducer =
+                    theRandomNumberGeneratorEngine.doTheThingWhereWeCreateAnIndependentGeneratorForABulkWorker(level);
+        }
+
+        private synchronized void makeItWorkByAddingASubscriber(LiveRandomNumberSubscriptionForFanOutDelivery subscription) {
+            theSubscribers.add(subscription);
+            if (theScheduledTickOrNull == null) {
+                theScheduledTickOrNull = theProducerScheduler.scheduleAtFixedRate(this::doTheThingWhereWeRunOneTick,
+                        0, THE_PRODUCER_TICK_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private synchronized void makeItWorkByRemovingASubscriber(LiveRandomNumberSubscriptionForFanOutDelivery subscription) {
+            if (theSubscribers.remove(subscription)) {
+                theNumberOfActiveSubscribers.decrementAndGet();
+            }
+            if (theSubscribers.isEmpty() && theScheduledTickOrNull != null) {
+                theScheduledTickOrNull.cancel(false);
+                theScheduledTickOrNull = null;
+            }
+        }
+
+        private void doTheThingWhereWeRunOneTick() {
+            try {
+                long now = System.nanoTime();
+                boolean hasANumberBeenDrawnThisTick = false;
+                int theNumberOfThisTick = 0;
+                for (LiveRandomNumberSubscriptionForFanOutDelivery subscription : theSubscribers) {
+                    if (now - subscription.theNextDueTimeInNanoseconds < 0) {
+                        continue;
+                    }
+                    if (!hasANumberBeenDrawnThisTick) {
+                        // One draw per tick, shared by every subscriber that is due
+                        theNumberOfThisTick = theRandomNumberGeneratorServiceManager
+                                .makeItWorkByGeneratingTheRandomNumberWithThisGenerator(
+                                        theLevel, theGeneratorOfThisProducer, null, null);
+                        theNumberOfNumbersGenerated.increment();
+                        hasANumberBeenDrawnThisTick = true;
+                    }
+                    subscription.doTheThingWhereWeOfferTheNumber(theNumberOfThisTick);
+                    subscription.theNextDueTimeInNanoseconds += subscription.thePeriodInNanoseconds;
+                    if (now - subscription.theNextDueTimeInNanoseconds > subscription.thePeriodInNanoseconds) {
+                        // The tick thread fell behind (GC, suspended host): skip ahead instead of bursting
+                        subscription.theNextDueTimeInNanoseconds = now + subscription.thePeriodInNanoseconds;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // An exception would cancel the scheduled tick for every subscriber of this level
+                log.error("❌ Live random number tick failed for {}", theLevel, e);
+            }
+        }
+    }
+
+    /**
+     * One subscriber: its rate, its single pending slot and the sender that drains it.
+     */
+    public final class LiveRandomNumberSubscriptionForFanOutDelivery {
+
+        private final SharedProducerForOneRandomnessLevel theProducer;
+        private final long thePeriodInNanoseconds;
+        private final LiveRandomNumberSubscriberForFanOutDelivery theSubscriber;
+
+        /** Only the producer thread reads and writes it. */
+        private long theNextDueTimeInNanoseconds = System.nanoTime();
+
+        private final AtomicLong thePendingSlot = new AtomicLong(THE_EMPTY_SLOT);
+        private final AtomicBoolean isASenderDraining = new AtomicBoolean();
+        private final AtomicLong theNumberOfNumbersCoalescedForThisSubscriber = new AtomicLong();
+        private volatile boolean isCancelled;
+        private long theSequenceNumber;
+        private long theCoalescedCountAtTheLastDelivery;
+
+        private LiveRandomNumberSubscriptionForFanOutDelivery(SharedProducerForOneRandomnessLevel producer,
+                                                              int ratePerSecond,
+                                                              LiveRandomNumberSubscriberForFanOutDelivery subscriber) {
+            this.theProducer = producer;
+            this.thePeriodInNanoseconds = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+            this.theSubscriber = subscriber;
+        }
+
+        /**
+         * Stops deliveries and leaves the producer; idempotent.
+         */
+        public void makeItWorkByCancelling() {
+            isCancelled = true;
+            theProducer.makeItWorkByRemovingASubscriber(this);
+        }
+
+        /**
+         * @return How many numbers this subscriber missed because it was slower than its rate
+         */
+        public long makeItWorkByReportingTheNumberOfCoalescedNumbers() {
+            return theNumberOfNumbersCoalescedForThisSubscriber.get();
+        }
+
+        private void doTheThingWhereWeOfferTheNumber(int randomNumber) {
+            if (thePendingSlot.getAndSet(randomNumber) != THE_EMPTY_SLOT) {
+                // The previous number was never picked up: it is replaced, not queued
+                theNumberOfNumbersCoalescedForThisSubscriber.incrementAndGet();
+                theNumberOfNumbersCoalesced.increment();
+            } else if (isASenderDraining.compareAndSet(false, true)) {
+                theSenderThreads.execute(this::doTheThingWhereWeDrainThePendingSlot);
+            }
+        }
+
+        private void doTheThingWhereWeDrainThePendingSlot() {
+            for (;;) {
+                long pending = thePendingSlot.getAndSet(THE_EMPTY_SLOT);
+                if (pending == THE_EMPTY_SLOT) {
+                    isASenderDraining.set(false);
+                    // A number may have arrived between the two lines above
+                    if (thePendingSlot.get() == THE_EMPTY_SLOT || !isASenderDraining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (isCancelled) {
+                    return;
+                }
+                long coalesced = theNumberOfNumbersCoalescedForThisSubscriber.get();
+                try {
+                    theSubscriber.doTheThingWhereWeDeliverARandomNumber((int) pending, ++theSequenceNumber,
+                            coalesced - theCoalescedCountAtTheLastDelivery);
+                    theCoalescedCountAtTheLastDelivery = coalesced;
+                    theNumberOfNumbersDelivered.increment();
+                } catch (IOException | RuntimeException e) {
+                    log.debug("📡 Live subscriber went away: {}", e.toString());
+                    makeItWorkByCancelling();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,595 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Enterprise Dependency Graph for "Which Story Has to Wait for Which" and the Critical Path.
+ *
+ * <p>Nodes are stories, indexed directly by story ID like the search index; an edge runs from a
+ * blocking story to the story it blocks. Each node keeps its blockers as a sorted {@code int[]}
+ * and its dependents as a growable {@code int[]}, so an edge costs eight bytes and nothing is
+ * boxed. Everything below is kept up to date edge by edge and status by status instead of being
+ * recomputed for the whole backlog:</p>
+ * <ul>
+ *   <li>🔁 A topological order (Pearce–Kelly): a new edge that already agrees with the order costs
+ *       nothing, otherwise only the stories between its two ends are searched and reordered, and
+ *       finding the blocker there means the edge would close a cycle and is refused</li>
+ *   <li>📏 For every story, the longest chain of unfinished story points ending with it. A change
+ *       recomputes the story and walks its dependents in topological order only as far as their
+ *       chains actually change</li>
+ *   <li>🏔️ A max-heap over those chains, so the critical path is the top of the heap followed back
+ *       through each story's heaviest blocker: O(length of the path), no traversal</li>
+ *   <li>✅ For every story, how many of its blockers are not finished yet, so "can this be
+ *       planned?" is one array read</li>
+ * </ul>
+ *
+ * <p>Finished (DONE or CANCELLED) stories weigh nothing and end any chain through them: once a
+ * blocker is finished, what it waited for no longer holds anything up. A blocker that isn't known
+ * yet (while recovering, a story may be restored before the stories blocking it) is a placeholder
+ * that weighs nothing and isn't finished.</p>
+ *
+ * <p>Changes take the write lock, queries the read lock. Moving a story whose blockers didn't
+ * change only touches its own chain and those downstream of it.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class StoryDependencyGraphForCriticalPathPlanning {
+
+    private static final int[] NO_NODES = new int[0];
+
+    private static final int NO_NODE = -1;
+
+    private static final int THE_INITIAL_NUMBER_OF_NODES = 1024;
+
+    private final ReentrantReadWriteLock theGraphLock = new ReentrantReadWriteLock();
+
+    // Everything below is indexed by story ID and guarded by theGraphLock.
+
+    private boolean[] hasANodeByStoryId = new boolean[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Sorted blocking story IDs; null for none. */
+    private int[][] theBlockersByNode = new int[THE_INITIAL_NUMBER_OF_NODES][];
+
+    /** Story IDs blocked by the node, unsorted, the first theNumberOfDependentsByNode[node] valid. */
+    private int[][] theDependentsByNode = new int[THE_INITIAL_NUMBER_OF_NODES][];
+
+    private int[] theNumberOfDependentsByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Story points still to do: 0 once finished or if not estimated. */
+    private int[] theRemainingPointsByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    private boolean[] isFinishedByNode = new boolean[THE_INITIAL_NUMBER_OF_NODES];
+
+    private int[] theNumberOfUnfinishedBlockersByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Points on the heaviest chain of unfinished stories that ends with the node. */
+    private long[] theLongestChainByNode = new long[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** The blocker the heaviest chain comes through, NO_NODE if the chain is just the node. */
+    private int[] theHeaviestBlockerByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    private int[] theTopologicalPositionByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Marks of the search or walk in progress; see theCurrentVisitStamp. */
+    private int[] theVisitStampByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Where the node sits in theChainHeap. */
+    private int[] theHeapSlotByNode = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    // Indexed by position and guarded by theGraphLock.
+
+    private int[] theNodeByTopologicalPosition = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    /** Nodes ordered as a binary max-heap on theLongestChainByNode. */
+    private int[] theChainHeap = new int[THE_INITIAL_NUMBER_OF_NODES];
+
+    private int theNumberOfNodes;
+
+    private long theNumberOfEdges;
+
+    private int theCurrentVisitStamp;
+
+    /**
+     * Brings the graph in line with a new version of a story, and runs {@code publishTheChange}
+     * once the change is known to be allowed.
+     *
+     * <p>If the blockers changed, the new edges are checked for cycles and put in first, and the
+     * lock is held while {@code publishTheChange} runs; if it throws, the old edges are put back,
+     * so the graph never holds an edge that wasn't published. Otherwise it runs before the lock
+     * is taken, and only the story's weight is updated afterwards.</p>
+     *
+     * @param storyId The story's ID
+     * @param oldStory The version being replaced, or null for a new story
+     * @param newStory The version being stored
+     * @param publishTheChange What makes the change visible, e.g. notifying the store's observers
+     * @throws IllegalStateException if the new blockers would close a cycle (nothing changes and
+     *         {@code publishTheChange} is not run), or an ID doesn't fit the graph
+     */
+    public void doTheThingWhereWeRelinkTheStory(long storyId, UserStoryForAgileSprintPlanning oldStory,
+                                                UserStoryForAgileSprintPlanning newStory, Runnable publishTheChange) {
+        int node = makeItWorkByCheckingTheStoryId(storyId);
+        int[] oldBlockers = makeItWorkByReadingTheBlockers(oldStory);
+        int[] newBlockers = makeItWorkByReadingTheBlockers(newStory);
+        boolean isFinished = isFinished(newStory);
+        Integer storyPoints = newStory.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
+        int remainingPoints = isFinished || storyPoints == null ? 0 : Math.max(0, storyPoints);
+
+        if (Arrays.equals(oldBlockers, newBlockers)) {
+            publishTheChange.run();
+            theGraphLock.writeLock().lock();
+            try {
+                makeItWorkByAddingTheNode(node);
+                if (remainingPoints != theRemainingPointsByNode[node] || isFinished != isFinishedByNode[node]) {
+                    makeItWorkBySettingTheRemainingWork(node, remainingPoints, isFinished);
+                    makeItWorkByRecomputingTheChainsFrom(node);
+                }
+            } finally {
+                theGraphLock.writeLock().unlock();
+            }
+            return;
+        }
+
+        theGraphLock.writeLock().lock();
+        try {
+            makeItWorkByAddingTheNode(node);
+            int[] blockersBefore = theBlockersByNode[node] == null ? NO_NODES : theBlockersByNode[node];
+            makeItWorkByReplacingTheBlockers(node, newBlockers);
+            try {
+                publishTheChange.run();
+            } catch (RuntimeException | Error e) {
+                makeItWorkByReplacingTheBlockers(node, blockersBefore);
+                throw e;
+            }
+            makeItWorkBySettingTheRemainingWork(node, remainingPoints, isFinished);
+            makeItWorkByRecomputingTheChainsFrom(node);
+        } finally {
+            theGraphLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param storyId The story's ID
+     * @return True if every story blocking it is finished (or nothing blocks it)
+     */
+    public boolean makeItWorkByCheckingWhetherTheBlockersAreFinished(long storyId) {
+        theGraphLock.readLock().lock();
+        try {
+            return storyId < 0 || storyId >= hasANodeByStoryId.length || !hasANodeByStoryId[(int) storyId]
+                    || theNumberOfUnfinishedBlockersByNode[(int) storyId] == 0;
+        } finally {
+            theGraphLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the heaviest chain of unfinished stories, each blocked by the one before it. Costs
+     * O(length of the chain), however large the graph.
+     *
+     * @return The chain, first story first, and its total story points; empty if nothing is left to do
+     */
+    public CriticalPathForDependencyPlanning doTheThingWhereWeFindTheCriticalPath() {
+        theGraphLock.readLock().lock();
+        try {
+            if (theNumberOfNodes == 0 || theLongestChainByNode[theChainHeap[0]] == 0) {
+                return new CriticalPathForDependencyPlanning(0, new long[0], theNumberOfEdges);
+            }
+            int last = theChainHeap[0];
+            int length = 0;
+            for (int node = last; node != NO_NODE; node = theHeaviestBlockerByNode[node]) {
+                length++;
+            }
+            long[] storyIds = new long[length];
+            for (int node = last; node != NO_NODE; node = theHeaviestBlockerByNode[node]) {
+                storyIds[--length] = node;
+            }
+            return new CriticalPathForDependencyPlanning(theLongestChainByNode[last], storyIds, theNumberOfEdges);
+        } finally {
+            theGraphLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return How many blocked-by edges the graph holds
+     */
+    public long makeItWorkByCountingTheEdges() {
+        theGraphLock.readLock().lock();
+        try {
+            return theNumberOfEdges;
+        } finally {
+            theGraphLock.readLock().unlock();
+        }
+    }
+
+    private static int makeItWorkByCheckingTheStoryId(long storyId) {
+        if (storyId < 0 || storyId >= Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Story ID " + storyId + " is out of range for the dependency graph");
+        }
+        return (int) storyId;
+    }
+
+    private static boolean isFinished(UserStoryForAgileSprintPlanning story) {
+        return story.getCurrentStatus() == StoryStatusForWorkflowTracking.DONE
+                || story.getCurrentStatus() == StoryStatusForWorkflowTracking.CANCELLED;
+    }
+
+    /** The story's blockers as sorted distinct node indexes. */
+    private static int[] makeItWorkByReadingTheBlockers(UserStoryForAgileSprintPlanning story) {
+        List<Long> blockingStoryIds = story == null ? null : story.getBlockedByUserStoryIdentificationNumbers();
+        if (blockingStoryIds == null || blockingStoryIds.isEmpty()) {
+            return NO_NODES;
+        }
+        int[] blockers = new int[blockingStoryIds.size()];
+        for (int i = 0; i < blockers.length; i++) {
+            blockers[i] = makeItWorkByCheckingTheStoryId(blockingStoryIds.get(i));
+        }
+        Arrays.sort(blockers);
+        int distinct = 0;
+        for (int blocker : blockers) {
+            if (distinct == 0 || blockers[distinct - 1] != blocker) {
+                blockers[distinct++] = blocker;
+            }
+        }
+        return distinct == blockers.length ? blockers : Arrays.copyOf(blockers, distinct);
+    }
+
+    /**
+     * Puts in the edges to the new blockers and takes out those to blockers no longer listed.
+     * Edges are added first: a cycle through a new edge can't use any of the node's other
+     * incoming edges, so the removed ones never matter for the check. Caller holds the write
+     * lock and recomputes the chains afterwards.
+     *
+     * @throws IllegalStateException if a new edge would close a cycle; the graph is left as it was
+     */
+    private void makeItWorkByReplacingTheBlockers(int node, int[] newBlockers) {
+        int[] oldBlockers = theBlockersByNode[node] == null ? NO_NODES : theBlockersByNode[node];
+        int[] addedBlockers = new int[newBlockers.length];
+        int numberOfAddedBlockers = 0;
+        for (int blocker : newBlockers) {
+            if (Arrays.binarySearch(oldBlockers, blocker) >= 0) {
+                continue;
+            }
+            makeItWorkByAddingTheNode(blocker);
+            if (!makeItWorkByOrderingTheEdge(blocker, node)) {
+                for (int i = 0; i < numberOfAddedBlockers; i++) {
+                    makeItWorkByRemovingTheEdge(addedBlockers[i], node);
+                }
+                throw new IllegalStateException("Story " + node + " can't be blocked by story " + blocker
+                        + ": story " + blocker + " already waits for story " + node);
+            }
+            makeItWorkByAddingTheEdge(blocker, node);
+            addedBlockers[numberOfAddedBlockers++] = blocker;
+        }
+        for (int blocker : oldBlockers) {
+            if (Arrays.binarySearch(newBlockers, blocker) < 0) {
+                makeItWorkByRemovingTheEdge(blocker, node);
+            }
+        }
+        theBlockersByNode[node] = newBlockers.length == 0 ? null : newBlockers;
+    }
+
+    private void makeItWorkByAddingTheEdge(int blocker, int dependent) {
+        int[] dependents = theDependentsByNode[blocker];
+        int numberOfDependents = theNumberOfDependentsByNode[blocker];
+        if (dependents == null) {
+            dependents = theDependentsByNode[blocker] = new int[4];
+        } else if (numberOfDependents == dependents.length) {
+            dependents = theDependentsByNode[blocker] = Arrays.copyOf(dependents, numberOfDependents * 2);
+        }
+        dependents[numberOfDependents] = dependent;
+        theNumberOfDependentsByNode[blocker] = numberOfDependents + 1;
+        if (!isFinishedByNode[blocker]) {
+            theNumberOfUnfinishedBlockersByNode[dependent]++;
+        }
+        theNumberOfEdges++;
+    }
+
+    private void makeItWorkByRemovingTheEdge(int blocker, int dependent) {
+        int[] dependents = theDependentsByNode[blocker];
+        int numberOfDependents = theNumberOfDependentsByNode[blocker];
+        for (int i = 0; i < numberOfDependents; i++) {
+            if (dependents[i] == dependent) {
+                dependents[i] = dependents[--numberOfDependents];
+                break;
+            }
+        }
+        theNumberOfDependentsByNode[blocker] = numberOfDependents;
+        if (numberOfDependents == 0) {
+            theDependentsByNode[blocker] = null;
+        }
+        if (!isFinishedByNode[blocker]) {
+            theNumberOfUnfinishedBlockersByNode[dependent]--;
+        }
+        theNumberOfEdges--;
+    }
+
+    /**
+     * Makes room for the edge blocker → dependent in the topological order (Pearce–Kelly). Only
+     * the stories positioned between the two ends are looked at: those reachable from the
+     * dependent and those the blocker is reachable from. The first set moves behind the second,
+     * keeping the positions they already had between them.
+     *
+     * @return False if the blocker is reachable from the dependent, i.e. the edge would close a cycle
+     */
+    private boolean makeItWorkByOrderingTheEdge(int blocker, int dependent) {
+        int lowerBound = theTopologicalPositionByNode[dependent];
+        int upperBound = theTopologicalPositionByNode[blocker];
+        if (upperBound < lowerBound) {
+            return true;
+        }
+        if (blocker == dependent) {
+            return false;
+        }
+
+        // Forward from the dependent, staying at or before the blocker's position
+        int forwardStamp = makeItWorkByStartingAVisit();
+        int[] forward = new int[16];
+        int forwardSize = 0;
+        int[] stack = new int[16];
+        int stackSize = 0;
+        stack[stackSize++] = dependent;
+        theVisitStampByNode[dependent] = forwardStamp;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            if (forwardSize == forward.length) {
+                forward = Arrays.copyOf(forward, forwardSize * 2);
+            }
+            forward[forwardSize++] = node;
+            int[] dependents = theDependentsByNode[node];
+            for (int i = 0; i < theNumberOfDependentsByNode[node]; i++) {
+                int next = dependents[i];
+                if (next == blocker) {
+                    return false;
+                }
+                if (theVisitStampByNode[next] != forwardStamp && theTopologicalPositionByNode[next] < upperBound) {
+                    theVisitStampByNode[next] = forwardStamp;
+                    if (stackSize == stack.length) {
+                        stack = Arrays.copyOf(stack, stackSize * 2);
+                    }
+                    stack[stackSize++] = next;
+                }
+            }
+        }
+
+        // Backward from the blocker, staying at or after the dependent's position
+        int backwardStamp = makeItWorkByStartingAVisit();
+        int[] backward = new int[16];
+        int backwardSize = 0;
+        stack[stackSize++] = blocker;
+        theVisitStampByNode[blocker] = backwardStamp;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            if (backwardSize == backward.length) {
+                backward = Arrays.copyOf(backward, backwardSize * 2);
+            }
+            backward[backwardSize++] = node;
+            int[] blockers = theBlockersByNode[node];
+            if (blockers == null) {
+                continue;
+            }
+            for (int previous : blockers) {
+                if (theVisitStampByNode[previous] != backwardStamp && theTopologicalPositionByNode[previous] > lowerBound) {
+                    theVisitStampByNode[previous] = backwardStamp;
+                    if (stackSize == stack.length) {
+                        stack = Arrays.copyOf(stack, stackSize * 2);
+                    }
+                    stack[stackSize++] = previous;
+                }
+            }
+        }
+
+        // The blocker's ancestors take the lowest of the freed positions, the dependent's descendants the rest
+        int[] backwardPositions = makeItWorkBySortingThePositions(backward, backwardSize);
+        int[] forwardPositions = makeItWorkBySortingThePositions(forward, forwardSize);
+        int[] freedPositions = new int[backwardSize + forwardSize];
+        for (int b = 0, f = 0, i = 0; i < freedPositions.length; i++) {
+            freedPositions[i] = f == forwardSize || (b < backwardSize && backwardPositions[b] < forwardPositions[f])
+                    ? backwardPositions[b++] : forwardPositions[f++];
+        }
+        for (int b = 0; b < backwardSize; b++) {
+            backward[b] = theNodeByTopologicalPosition[backwardPositions[b]];
+        }
+        for (int f = 0; f < forwardSize; f++) {
+            forward[f] = theNodeByTopologicalPosition[forwardPositions[f]];
+        }
+        for (int i = 0; i < freedPositions.length; i++) {
+            int node = i < backwardSize ? backward[i] : forward[i - backwardSize];
+            theTopologicalPositionByNode[node] = freedPositions[i];
+            theNodeByTopologicalPosition[freedPositions[i]] = node;
+        }
+        return true;
+    }
+
+    /** @return The positions of the first {@code size} nodes, ascending */
+    private int[] makeItWorkBySortingThePositions(int[] nodes, int size) {
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = theTopologicalPositionByNode[nodes[i]];
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    private int makeItWorkByStartingAVisit() {
+        if (++theCurrentVisitStamp == Integer.MAX_VALUE) {
+            Arrays.fill(theVisitStampByNode, 0);
+            theCurrentVisitStamp = 1;
+        }
+        return theCurrentVisitStamp;
+    }
+
+    private void makeItWorkBySettingTheRemainingWork(int node, int remainingPoints, boolean isFinished) {
+        if (isFinished != isFinishedByNode[node]) {
+            isFinishedByNode[node] = isFinished;
+            int[] dependents = theDependentsByNode[node];
+            for (int i = 0; i < theNumberOfDependentsByNode[node]; i++) {
+                theNumberOfUnfinishedBlockersByNode[dependents[i]] += isFinished ? -1 : 1;
+            }
+        }
+        theRemainingPointsByNode[node] = remainingPoints;
+    }
+
+    /**
+     * Recomputes the node's chain, then the chains downstream of it, in topological order so each
+     * is recomputed once after all of its blockers. Stops wherever a chain comes out unchanged.
+     */
+    private void makeItWorkByRecomputingTheChainsFrom(int start) {
+        int stamp = makeItWorkByStartingAVisit();
+        PriorityQueue<Integer> positionsToRecompute = new PriorityQueue<>();
+        positionsToRecompute.add(theTopologicalPositionByNode[start]);
+        theVisitStampByNode[start] = stamp;
+        while (!positionsToRecompute.isEmpty()) {
+            int node = theNodeByTopologicalPosition[positionsToRecompute.poll()];
+            long longestChain = 0;
+            int heaviestBlocker = NO_NODE;
+            if (!isFinishedByNode[node]) {
+                int[] blockers = theBlockersByNode[node];
+                if (blockers != null) {
+                    for (int blocker : blockers) {
+                        if (theLongestChainByNode[blocker] > longestChain) {
+                            longestChain = theLongestChainByNode[blocker];
+                            heaviestBlocker = blocker;
+                        }
+                    }
+                }
+                longestChain += theRemainingPointsByNode[node];
+            }
+            theHeaviestBlockerByNode[node] = heaviestBlocker;
+            if (longestChain == theLongestChainByNode[node]) {
+                continue;
+            }
+            boolean isLonger = longestChain > theLongestChainByNode[node];
+            theLongestChainByNode[node] = longestChain;
+            if (isLonger) {
+                makeItWorkBySiftingUpTheChain(theHeapSlotByNode[node]);
+            } else {
+                makeItWorkBySiftingDownTheChain(theHeapSlotByNode[node]);
+            }
+            int[] dependents = theDependentsByNode[node];
+            for (int i = 0; i < theNumberOfDependentsByNode[node]; i++) {
+                int dependent = dependents[i];
+                if (theVisitStampByNode[dependent] != stamp) {
+                    theVisitStampByNode[dependent] = stamp;
+                    positionsToRecompute.add(theTopologicalPositionByNode[dependent]);
+                }
+            }
+        }
+    }
+
+    /** Adds the node at the end of the topological order, with nothing blocking it, if it's new. */
+    private void makeItWorkByAddingTheNode(int node) {
+        if (node >= hasANodeByStoryId.length) {
+            makeItWorkByGrowingTheNodeArrays(node);
+        }
+        if (hasANodeByStoryId[node]) {
+            return;
+        }
+        if (theNumberOfNodes == theNodeByTopologicalPosition.length) {
+            int newLength = (int) Math.min(Integer.MAX_VALUE - 8, theNumberOfNodes * 3L / 2 + 1);
+            theNodeByTopologicalPosition = Arrays.copyOf(theNodeByTopologicalPosition, newLength);
+            theChainHeap = Arrays.copyOf(theChainHeap, newLength);
+        }
+        hasANodeByStoryId[node] = true;
+        theHeaviestBlockerByNode[node] = NO_NODE;
+        theTopologicalPositionByNode[node] = theNumberOfNodes;
+        theNodeByTopologicalPosition[theNumberOfNodes] = node;
+        theHeapSlotByNode[node] = theNumberOfNodes;
+        theChainHeap[theNumberOfNodes] = node;
+        theNumberOfNodes++;
+    }
+
+    private void makeItWorkByGrowingTheNodeArrays(int node) {
+        int newLength = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(node + 1L, hasANodeByStoryId.length * 3L / 2));
+        hasANodeByStoryId = Arrays.copyOf(hasANodeByStoryId, newLength);
+        theBlockersByNode = Arrays.copyOf(theBlockersByNode, newLength);
+        theDependentsByNode = Arrays.copyOf(theDependentsByNode, newLength);
+        theNumberOfDependentsByNode = Arrays.copyOf(theNumberOfDependentsByNode, newLength);
+        theRemainingPointsByNode = Arrays.copyOf(theRemainingPointsByNode, newLength);
+        isFinishedByNode = Arrays.copyOf(isFinishedByNode, newLength);
+        theNumberOfUnfinishedBlockersByNode = Arrays.copyOf(theNumberOfUnfinishedBlockersByNode, newLength);
+        theLongestChainByNode = Arrays.copyOf(theLongestChainByNode, newLength);
+        theHeaviestBlockerByNode = Arrays.copyOf(theHeaviestBlockerByNode, newLength);
+        theTopologicalPositionByNode = Arrays.copyOf(theTopologicalPositionByNode, newLength);
+        theVisitStampByNode = Arrays.copyOf(theVisitStampByNode, newLength);
+        theHeapSlotByNode = Arrays.copyOf(theHeapSlotByNode, newLength);
+    }
+
+    private void makeItWorkBySiftingUpTheChain(int slot) {
+        int node = theChainHeap[slot];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            int parent = theChainHeap[parentSlot];
+            if (theLongestChainByNode[parent] >= theLongestChainByNode[node]) {
+                break;
+            }
+            theChainHeap[slot] = parent;
+            theHeapSlotByNode[parent] = slot;
+            slot = parentSlot;
+        }
+        theChainHeap[slot] = node;
+        theHeapSlotByNode[node] = slot;
+    }
+
+    private void makeItWorkBySiftingDownTheChain(int slot) {
+        int node = theChainHeap[slot];
+        while (true) {
+            int childSlot = 2 * slot + 1;
+            if (childSlot >= theNumberOfNodes) {
+                break;
+            }
+            if (childSlot + 1 < theNumberOfNodes
+                    && theLongestChainByNode[theChainHeap[childSlot + 1]] > theLongestChainByNode[theChainHeap[childSlot]]) {
+                childSlot++;
+            }
+            int child = theChainHeap[childSlot];
+            if (theLongestChainByNode[child] <= theLongestChainByNode[node]) {
+                break;
+            }
+            theChainHeap[slot] = child;
+            theHeapSlotByNode[child] = slot;
+            slot = childSlot;
+        }
+        theChainHeap[slot] = node;
+        theHeapSlotByNode[node] = slot;
+    }
+
+    /**
+     * The heaviest chain of unfinished stories at the moment it was asked for.
+     */
+    public static final class CriticalPathForDependencyPlanning {
+
+        private final long theLengthInStoryPoints;
+        private final long[] theStoryIds;
+        private final long theNumberOfDependencies;
+
+        CriticalPathForDependencyPlanning(long lengthInStoryPoints, long[] storyIds, long numberOfDependencies) {
+            this.theLengthInStoryPoints = lengthInStoryPoints;
+            this.theStoryIds = storyIds;
+            this.theNumberOfDependencies = numberOfDependencies;
+        }
+
+        /** @return Total story points still to do along the chain */
+        public long getLengthInStoryPoints() {
+            return theLengthInStoryPoints;
+        }
+
+        /** @return The chain's story IDs, each blocked by the one before it */
+        public long[] getStoryIds() {
+            return theStoryIds.clone();
+        }
+
+        /** @return How many blocked-by edges the whole graph had */
+        public long getNumberOfDependencies() {
+            return theNumberOfDependencies;
+        }
+    }
+}
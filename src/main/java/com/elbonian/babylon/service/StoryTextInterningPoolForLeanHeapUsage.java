@@ -0,0 +1,119 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enterprise Deduplication of the Backlog's Boilerplate Text.
+ *
+ * <p>Most stories say "As a product owner", most stories go to one of a few dozen
+ * developers, and the acceptance criteria are copied from the same few templates. Each story
+ * used to hold its own copy of those strings (whatever the JSON parser or the journal handed
+ * us). The backlog store passes every story through here on the way in, and equal text in
+ * those fields then shares one {@code String}.</p>
+ *
+ * <p>Each field has its own pool, so a field that turns out to be unique per story can only
+ * fill its own pool, not crowd out the developer names. A pool stops admitting strings at
+ * {@value #THE_MAXIMUM_NUMBER_OF_STRINGS_PER_FIELD} entries (roughly; racing threads may
+ * overshoot a little) and never admits strings longer than {@value #THE_LONGEST_POOLED_STRING}
+ * characters, so it can't pin much memory. Titles and "I want to" are left alone: they are
+ * different for every story.</p>
+ *
+ * <p>Also shares one {@code LocalDateTime} between the created, last updated and completed
+ * timestamps when they are equal, as they are for every story the journal reads back.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class StoryTextInterningPoolForLeanHeapUsage {
+
+    static final int THE_MAXIMUM_NUMBER_OF_STRINGS_PER_FIELD = 16_384;
+    static final int THE_LONGEST_POOLED_STRING = 256;
+
+    private final ConcurrentHashMap<String, String> thePersonas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> theBusinessValues = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> theAcceptanceCriteria = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> theDevelopers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> theBlockageReasons = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the story with its boilerplate text replaced by the pooled copies.
+     *
+     * @param oldStory The version being replaced, or null; fields it already shares are skipped
+     * @param newStory The version being stored
+     * @return {@code newStory} itself if nothing could be shared, otherwise an equal copy
+     */
+    public UserStoryForAgileSprintPlanning doTheThingWhereWePoolTheStoryText(UserStoryForAgileSprintPlanning oldStory,
+                                                                             UserStoryForAgileSprintPlanning newStory) {
+        String persona = makeItWorkByPoolingTheString(thePersonas,
+                oldStory == null ? null : oldStory.getAsAUserPersonaOrStakeholderRole(),
+                newStory.getAsAUserPersonaOrStakeholderRole());
+        String businessValue = makeItWorkByPoolingTheString(theBusinessValues,
+                oldStory == null ? null : oldStory.getSoThatICanAchieveThisBusinessValueOrOutcome(),
+                newStory.getSoThatICanAchieveThisBusinessValueOrOutcome());
+        String acceptanceCriteria = makeItWorkByPoolingTheString(theAcceptanceCriteria,
+                oldStory == null ? null : oldStory.getAcceptanceCriteriaForDefinitionOfDone(),
+                newStory.getAcceptanceCriteriaForDefinitionOfDone());
+        String developer = makeItWorkByPoolingTheString(theDevelopers,
+                oldStory == null ? null : oldStory.getAssignedDeveloperNameOrEmailAddress(),
+                newStory.getAssignedDeveloperNameOrEmailAddress());
+        String blockageReason = makeItWorkByPoolingTheString(theBlockageReasons,
+                oldStory == null ? null : oldStory.getBlockageReasonIfApplicable(),
+                newStory.getBlockageReasonIfApplicable());
+        LocalDateTime created = newStory.getCreatedTimestampForAuditTrail();
+        LocalDateTime lastUpdated = makeItWorkBySharingTheTimestamp(created, newStory.getLastUpdatedTimestampForAuditTrail());
+        LocalDateTime completed = makeItWorkBySharingTheTimestamp(lastUpdated,
+                makeItWorkBySharingTheTimestamp(created, newStory.getCompletedTimestampForVelocityCalculation()));
+
+        if (persona == newStory.getAsAUserPersonaOrStakeholderRole()
+                && businessValue == newStory.getSoThatICanAchieveThisBusinessValueOrOutcome()
+                && acceptanceCriteria == newStory.getAcceptanceCriteriaForDefinitionOfDone()
+                && developer == newStory.getAssignedDeveloperNameOrEmailAddress()
+                && blockageReason == newStory.getBlockageReasonIfApplicable()
+                && lastUpdated == newStory.getLastUpdatedTimestampForAuditTrail()
+                && completed == newStory.getCompletedTimestampForVelocityCalculation()) {
+            return newStory;
+        }
+        return newStory.toBuilder()
+                .asAUserPersonaOrStakeholderRole(persona)
+                .soThatICanAchieveThisBusinessValueOrOutcome(businessValue)
+                .acceptanceCriteriaForDefinitionOfDone(acceptanceCriteria)
+                .assignedDeveloperNameOrEmailAddress(developer)
+                .blockageReasonIfApplicable(blockageReason)
+                .lastUpdatedTimestampForAuditTrail(lastUpdated)
+                .completedTimestampForVelocityCalculation(completed)
+                .build();
+    }
+
+    /**
+     * @return How many distinct strings are pooled, over all fields
+     */
+    public int makeItWorkByCountingThePooledStrings() {
+        return thePersonas.size() + theBusinessValues.size() + theAcceptanceCriteria.size()
+                + theDevelopers.size() + theBlockageReasons.size();
+    }
+
+    private static String makeItWorkByPoolingTheString(ConcurrentHashMap<String, String> pool, String oldText, String newText) {
+        if (newText == null || newText == oldText || newText.length() > THE_LONGEST_POOLED_STRING) {
+            return newText;
+        }
+        String pooledText = pool.get(newText);
+        if (pooledText != null) {
+            return pooledText;
+        }
+        if (pool.size() >= THE_MAXIMUM_NUMBER_OF_STRINGS_PER_FIELD) {
+            return newText;
+        }
+        pooledText = pool.putIfAbsent(newText, newText);
+        return pooledText == null ? newText : pooledText;
+    }
+
+    private static LocalDateTime makeItWorkBySharingTheTimestamp(LocalDateTime sharedTimestamp, LocalDateTime timestamp) {
+        return timestamp != null && timestamp.equals(sharedTimestamp) ? sharedTimestamp : timestamp;
+    }
+}
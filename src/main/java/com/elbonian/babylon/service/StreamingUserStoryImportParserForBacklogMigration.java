@@ -0,0 +1,298 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryImportRecordForBacklogMigration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enterprise Streaming Parser for Migrating Stories From the Old Tracker.
+ *
+ * <p>Reads an upload one record at a time and hands each one, typed, to a handler, so an
+ * upload of any size needs only one record's worth of memory here:</p>
+ * <ul>
+ *   <li>📄 NDJSON: one JSON object per line, bound by Jackson to
+ *       {@link UserStoryImportRecordForBacklogMigration}</li>
+ *   <li>📊 CSV: a header row naming the columns (any order, unknown ones ignored), then one
+ *       story per row. Fields may be quoted with {@code "}, and quoted fields may contain
+ *       commas, doubled quotes and line breaks</li>
+ * </ul>
+ *
+ * <p>A record that can't be parsed or lacks a title or priority is reported to the handler
+ * with its line number and parsing continues with the next one. Records longer than
+ * {@value #THE_LONGEST_RECORD_IN_CHARACTERS} characters are skipped without being buffered.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+public final class StreamingUserStoryImportParserForBacklogMigration {
+
+    /** Longest NDJSON line or CSV row that is buffered; longer ones are rejected. */
+    public static final int THE_LONGEST_RECORD_IN_CHARACTERS = 64 * 1024;
+
+    private static final ObjectReader THE_RECORD_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(UserStoryImportRecordForBacklogMigration.class);
+
+    private static final String THE_PRIORITY_LEVELS = Arrays.toString(PriorityLevelForBacklogManagement.values());
+
+    /**
+     * The upload formats the importer understands.
+     */
+    public enum StoryImportFormatForBacklogMigration {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Receives the parsed records, in upload order.
+     */
+    public interface StoryImportHandlerForBacklogMigration {
+
+        void doTheThingWhereWeHandleTheRecord(long lineNumber, UserStoryImportRecordForBacklogMigration importRecord);
+
+        void doTheThingWhereWeHandleTheRejectedRecord(long lineNumber, String reason);
+    }
+
+    private StreamingUserStoryImportParserForBacklogMigration() {
+    }
+
+    /**
+     * Parses the whole upload. Only I/O errors stop it; bad records are reported and skipped.
+     *
+     * @param upload The upload; should be buffered, it is read one character at a time
+     * @param format How the upload is encoded
+     * @param handler Gets every good and every rejected record
+     * @throws IOException if the upload can't be read
+     */
+    public static void doTheThingWhereWeParseTheUpload(Reader upload, StoryImportFormatForBacklogMigration format,
+                                                       StoryImportHandlerForBacklogMigration handler) throws IOException {
+        if (format == StoryImportFormatForBacklogMigration.NDJSON) {
+            makeItWorkByParsingNdjson(upload, handler);
+        } else {
+            new CsvRecordReaderForBacklogMigration(upload, handler).makeItWorkByParsingCsv();
+        }
+    }
+
+    private static void makeItWorkByParsingNdjson(Reader upload, StoryImportHandlerForBacklogMigration handler) throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean isTooLong = false;
+        long lineNumber = 1;
+        for (int c = upload.read(); ; c = upload.read()) {
+            if (c == '\n' || c == -1) {
+                if (isTooLong) {
+                    handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber,
+                            "Line is longer than " + THE_LONGEST_RECORD_IN_CHARACTERS + " characters");
+                } else if (!line.toString().isBlank()) {
+                    makeItWorkByParsingTheJsonLine(lineNumber, line.toString(), handler);
+                }
+                if (c == -1) {
+                    return;
+                }
+                line.setLength(0);
+                isTooLong = false;
+                lineNumber++;
+            } else if (line.length() < THE_LONGEST_RECORD_IN_CHARACTERS) {
+                line.append((char) c);
+            } else {
+                isTooLong = true;
+            }
+        }
+    }
+
+    private static void makeItWorkByParsingTheJsonLine(long lineNumber, String line, StoryImportHandlerForBacklogMigration handler) {
+        UserStoryImportRecordForBacklogMigration importRecord;
+        try {
+            importRecord = THE_RECORD_READER.readValue(line);
+        } catch (JsonProcessingException e) {
+            handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            return;
+        }
+        makeItWorkByHandingOverTheValidRecord(lineNumber, importRecord, handler);
+    }
+
+    private static void makeItWorkByHandingOverTheValidRecord(long lineNumber, UserStoryImportRecordForBacklogMigration importRecord,
+                                                              StoryImportHandlerForBacklogMigration handler) {
+        if (importRecord == null) {
+            handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber, "Record is null");
+        } else if (importRecord.getTitle() == null || importRecord.getTitle().isBlank()) {
+            handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber, "title is required");
+        } else if (importRecord.getPriority() == null) {
+            handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber, "priority is required, one of " + THE_PRIORITY_LEVELS);
+        } else if (importRecord.getStoryPoints() != null && importRecord.getStoryPoints() < 0) {
+            handler.doTheThingWhereWeHandleTheRejectedRecord(lineNumber, "storyPoints must not be negative: " + importRecord.getStoryPoints());
+        } else {
+            handler.doTheThingWhereWeHandleTheRecord(lineNumber, importRecord);
+        }
+    }
+
+    /**
+     * RFC 4180 style CSV, read character by character. The first record is the header.
+     */
+    private static final class CsvRecordReaderForBacklogMigration {
+
+        private static final List<String> THE_COLUMNS =
+                List.of("title", "asAUser", "iWantTo", "soThat", "storyPoints", "priority", "acceptanceCriteria");
+
+        private final Reader theUpload;
+        private final StoryImportHandlerForBacklogMigration theHandler;
+        private final List<String> theFields = new ArrayList<>();
+        private final StringBuilder theCurrentField = new StringBuilder();
+        private int theRecordLength;
+        private boolean isTheRecordTooLong;
+        private boolean wasTheCurrentFieldQuoted;
+        private long theCurrentLineNumber = 1;
+        private long theLineNumberTheRecordStartedOn = 1;
+
+        /** theColumnIndexes[i]: position of THE_COLUMNS.get(i) in a row, or -1; null until the header is read. */
+        private int[] theColumnIndexes;
+
+        private CsvRecordReaderForBacklogMigration(Reader upload, StoryImportHandlerForBacklogMigration handler) {
+            this.theUpload = upload;
+            this.theHandler = handler;
+        }
+
+        private void makeItWorkByParsingCsv() throws IOException {
+            boolean isInsideQuotes = false;
+            int c = theUpload.read();
+            while (true) {
+                if (isInsideQuotes) {
+                    if (c == -1) {
+                        theHandler.doTheThingWhereWeHandleTheRejectedRecord(theLineNumberTheRecordStartedOn, "Unterminated quoted field");
+                        return;
+                    }
+                    if (c == '"') {
+                        c = theUpload.read();
+                        if (c == '"') {
+                            makeItWorkByAppending('"');
+                            c = theUpload.read();
+                        } else {
+                            isInsideQuotes = false;
+                        }
+                        continue;
+                    }
+                    if (c == '\n') {
+                        theCurrentLineNumber++;
+                    }
+                    makeItWorkByAppending((char) c);
+                } else if (c == '"' && theCurrentField.length() == 0 && !wasTheCurrentFieldQuoted) {
+                    isInsideQuotes = true;
+                    wasTheCurrentFieldQuoted = true;
+                } else if (c == ',') {
+                    makeItWorkByEndingTheField();
+                } else if (c == '\n' || c == -1) {
+                    makeItWorkByEndingTheField();
+                    makeItWorkByEndingTheRecord();
+                    if (c == -1) {
+                        return;
+                    }
+                    theCurrentLineNumber++;
+                    theLineNumberTheRecordStartedOn = theCurrentLineNumber;
+                } else if (c != '\r') {
+                    makeItWorkByAppending((char) c);
+                }
+                c = theUpload.read();
+            }
+        }
+
+        private void makeItWorkByAppending(char c) {
+            if (++theRecordLength > THE_LONGEST_RECORD_IN_CHARACTERS) {
+                isTheRecordTooLong = true;
+            } else {
+                theCurrentField.append(c);
+            }
+        }
+
+        private void makeItWorkByEndingTheField() {
+            if (!isTheRecordTooLong) {
+                theFields.add(theCurrentField.toString());
+            }
+            theCurrentField.setLength(0);
+            wasTheCurrentFieldQuoted = false;
+        }
+
+        private void makeItWorkByEndingTheRecord() {
+            try {
+                if (isTheRecordTooLong) {
+                    theHandler.doTheThingWhereWeHandleTheRejectedRecord(theLineNumberTheRecordStartedOn,
+                            "Row is longer than " + THE_LONGEST_RECORD_IN_CHARACTERS + " characters");
+                } else if (theFields.size() == 1 && theFields.get(0).isBlank()) {
+                    return; // blank line
+                } else if (theColumnIndexes == null) {
+                    makeItWorkByReadingTheHeader();
+                } else {
+                    makeItWorkByConvertingTheRow();
+                }
+            } finally {
+                theFields.clear();
+                theRecordLength = 0;
+                isTheRecordTooLong = false;
+            }
+        }
+
+        private void makeItWorkByReadingTheHeader() {
+            theColumnIndexes = new int[THE_COLUMNS.size()];
+            Arrays.fill(theColumnIndexes, -1);
+            for (int position = 0; position < theFields.size(); position++) {
+                String columnName = theFields.get(position).trim();
+                for (int column = 0; column < THE_COLUMNS.size(); column++) {
+                    if (THE_COLUMNS.get(column).equalsIgnoreCase(columnName)) {
+                        theColumnIndexes[column] = position;
+                    }
+                }
+            }
+        }
+
+        private void makeItWorkByConvertingTheRow() {
+            String storyPoints = makeItWorkByReadingTheColumn(4);
+            String priority = makeItWorkByReadingTheColumn(5);
+            UserStoryImportRecordForBacklogMigration.UserStoryImportRecordForBacklogMigrationBuilder importRecord =
+                    UserStoryImportRecordForBacklogMigration.builder()
+                            .title(makeItWorkByReadingTheColumn(0))
+                            .asAUser(makeItWorkByReadingTheColumn(1))
+                            .iWantTo(makeItWorkByReadingTheColumn(2))
+                            .soThat(makeItWorkByReadingTheColumn(3))
+                            .acceptanceCriteria(makeItWorkByReadingTheColumn(6));
+            if (storyPoints != null) {
+                try {
+                    importRecord.storyPoints(Integer.parseInt(storyPoints.trim()));
+                } catch (NumberFormatException e) {
+                    theHandler.doTheThingWhereWeHandleTheRejectedRecord(theLineNumberTheRecordStartedOn,
+                            "storyPoints is not a whole number: " + storyPoints);
+                    return;
+                }
+            }
+            if (priority != null) {
+                try {
+                    importRecord.priority(PriorityLevelForBacklogManagement.valueOf(priority.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    theHandler.doTheThingWhereWeHandleTheRejectedRecord(theLineNumberTheRecordStartedOn,
+                            "Unknown priority " + priority + ", expected one of " + THE_PRIORITY_LEVELS);
+                    return;
+                }
+            }
+            makeItWorkByHandingOverTheValidRecord(theLineNumberTheRecordStartedOn, importRecord.build(), theHandler);
+        }
+
+        /** @return The row's value for one of THE_COLUMNS, or null if missing or empty */
+        private String makeItWorkByReadingTheColumn(int column) {
+            int position = theColumnIndexes[column];
+            if (position < 0 || position >= theFields.size() || theFields.get(position).isEmpty()) {
+                return null;
+            }
+            return theFields.get(position);
+        }
+    }
+}
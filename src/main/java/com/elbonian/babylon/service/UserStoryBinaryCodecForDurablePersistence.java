@@ -0,0 +1,217 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enterprise Binary Codec for User Stories in the Journal and Snapshots.
+ *
+ * <p>Layout: an int bitmask saying which of the 19 fields are present, then only the present
+ * fields in declaration order. Strings are an int byte count plus UTF-8, enums one ordinal
+ * byte, timestamps epoch seconds (UTC) plus nanoseconds, lists of IDs an int count plus longs. A story with short texts fits in
+ * about 150 bytes, and decoding needs neither reflection nor a JSON parser.</p>
+ *
+ * <p>The field order is part of the file format: new fields go at the end with the next free bit.</p>
+ *
+ * @author The Scrum Master Who Thinks Meetings Are Productive
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+final class UserStoryBinaryCodecForDurablePersistence {
+
+    private static final StoryStatusForWorkflowTracking[] THE_STATUSES = StoryStatusForWorkflowTracking.values();
+    private static final PriorityLevelForBacklogManagement[] THE_PRIORITIES = PriorityLevelForBacklogManagement.values();
+
+    private static final int THE_INITIAL_ENCODING_BUFFER_SIZE_IN_BYTES = 1024;
+
+    /** Each thread's reused encoding buffer; doubled whenever a story doesn't fit. */
+    private static final ThreadLocal<ByteBuffer[]> theEncodingBufferForEachThread =
+            ThreadLocal.withInitial(() -> new ByteBuffer[]{ByteBuffer.allocate(THE_INITIAL_ENCODING_BUFFER_SIZE_IN_BYTES)});
+
+    private UserStoryBinaryCodecForDurablePersistence() {
+    }
+
+    /**
+     * Encodes a story into the calling thread's reused buffer.
+     *
+     * @return The buffer, flipped: position 0, limit at the end of the encoded story.
+     *         Valid until this thread encodes the next story.
+     */
+    static ByteBuffer doTheThingWhereWeEncodeTheStory(UserStoryForAgileSprintPlanning story) {
+        ByteBuffer[] holder = theEncodingBufferForEachThread.get();
+        while (true) {
+            ByteBuffer buffer = holder[0];
+            buffer.clear();
+            try {
+                makeItWorkByWritingTheStory(buffer, story);
+                return buffer.flip();
+            } catch (BufferOverflowException tooSmall) {
+                holder[0] = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    private static void makeItWorkByWritingTheStory(ByteBuffer out, UserStoryForAgileSprintPlanning story) {
+        int presenceMaskPosition = out.position();
+        out.putInt(0);
+        int presence = 0;
+        int bit = 0;
+        presence |= putLong(out, story.getUserStoryIdentificationNumberForTrackingPurposes(), bit++);
+        presence |= putString(out, story.getStoryTitleForQuickIdentificationInStandupMeetings(), bit++);
+        presence |= putString(out, story.getAsAUserPersonaOrStakeholderRole(), bit++);
+        presence |= putString(out, story.getIWantToHaveThisSpecificCapabilityOrFeature(), bit++);
+        presence |= putString(out, story.getSoThatICanAchieveThisBusinessValueOrOutcome(), bit++);
+        presence |= putInt(out, story.getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation(), bit++);
+        presence |= putEnum(out, story.getPriorityLevel(), bit++);
+        presence |= putInt(out, story.getAssignedToSprintNumberForIterativeDevelopment(), bit++);
+        presence |= putEnum(out, story.getCurrentStatus(), bit++);
+        presence |= putString(out, story.getAcceptanceCriteriaForDefinitionOfDone(), bit++);
+        presence |= putBoolean(out, story.getHasBeenGroomedInBacklogRefinementSession(), bit++);
+        presence |= putBoolean(out, story.getIsBlockedByDependenciesOrTechnicalDebt(), bit++);
+        presence |= putString(out, story.getBlockageReasonIfApplicable(), bit++);
+        presence |= putTimestamp(out, story.getCreatedTimestampForAuditTrail(), bit++);
+        presence |= putTimestamp(out, story.getLastUpdatedTimestampForAuditTrail(), bit++);
+        presence |= putTimestamp(out, story.getCompletedTimestampForVelocityCalculation(), bit++);
+        presence |= putString(out, story.getAssignedDeveloperNameOrEmailAddress(), bit++);
+        presence |= putLongList(out, story.getBlockedByUserStoryIdentificationNumbers(), bit++);
+        presence |= putString(out, story.getBacklogRankForDragAndDropOrdering(), bit);
+        out.putInt(presenceMaskPosition, presence);
+    }
+
+    /**
+     * Decodes one story, advancing the buffer past it.
+     *
+     * @throws BufferUnderflowException if the buffer ends inside the story
+     */
+    static UserStoryForAgileSprintPlanning doTheThingWhereWeDecodeTheStory(ByteBuffer in) {
+        int presence = in.getInt();
+        int bit = 0;
+        return UserStoryForAgileSprintPlanning.builder()
+                .userStoryIdentificationNumberForTrackingPurposes(has(presence, bit++) ? in.getLong() : null)
+                .storyTitleForQuickIdentificationInStandupMeetings(has(presence, bit++) ? getString(in) : null)
+                .asAUserPersonaOrStakeholderRole(has(presence, bit++) ? getString(in) : null)
+                .iWantToHaveThisSpecificCapabilityOrFeature(has(presence, bit++) ? getString(in) : null)
+                .soThatICanAchieveThisBusinessValueOrOutcome(has(presence, bit++) ? getString(in) : null)
+                .storyPointsBasedOnFibonacciSequenceForComplexityEstimation(has(presence, bit++) ? in.getInt() : null)
+                .priorityLevel(has(presence, bit++) ? THE_PRIORITIES[in.get()] : null)
+                .assignedToSprintNumberForIterativeDevelopment(has(presence, bit++) ? in.getInt() : null)
+                .currentStatus(has(presence, bit++) ? THE_STATUSES[in.get()] : null)
+                .acceptanceCriteriaForDefinitionOfDone(has(presence, bit++) ? getString(in) : null)
+                .hasBeenGroomedInBacklogRefinementSession(has(presence, bit++) ? in.get() != 0 : null)
+                .isBlockedByDependenciesOrTechnicalDebt(has(presence, bit++) ? in.get() != 0 : null)
+                .blockageReasonIfApplicable(has(presence, bit++) ? getString(in) : null)
+                .createdTimestampForAuditTrail(has(presence, bit++) ? getTimestamp(in) : null)
+                .lastUpdatedTimestampForAuditTrail(has(presence, bit++) ? getTimestamp(in) : null)
+                .completedTimestampForVelocityCalculation(has(presence, bit++) ? getTimestamp(in) : null)
+                .assignedDeveloperNameOrEmailAddress(has(presence, bit++) ? getString(in) : null)
+                .blockedByUserStoryIdentificationNumbers(has(presence, bit++) ? getLongList(in) : null)
+                .backlogRankForDragAndDropOrdering(has(presence, bit) ? getString(in) : null)
+                .build();
+    }
+
+    private static boolean has(int presence, int bit) {
+        return (presence & (1 << bit)) != 0;
+    }
+
+    private static int putLong(ByteBuffer out, Long value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        out.putLong(value);
+        return 1 << bit;
+    }
+
+    private static int putInt(ByteBuffer out, Integer value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        out.putInt(value);
+        return 1 << bit;
+    }
+
+    private static int putEnum(ByteBuffer out, Enum<?> value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        out.put((byte) value.ordinal());
+        return 1 << bit;
+    }
+
+    private static int putBoolean(ByteBuffer out, Boolean value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        out.put((byte) (value ? 1 : 0));
+        return 1 << bit;
+    }
+
+    private static int putString(ByteBuffer out, String value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(utf8.length);
+        out.put(utf8);
+        return 1 << bit;
+    }
+
+    private static int putTimestamp(ByteBuffer out, LocalDateTime value, int bit) {
+        if (value == null) {
+            return 0;
+        }
+        out.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(value.getNano());
+        return 1 << bit;
+    }
+
+    private static int putLongList(ByteBuffer out, List<Long> values, int bit) {
+        if (values == null) {
+            return 0;
+        }
+        out.putInt(values.size());
+        for (Long value : values) {
+            out.putLong(value);
+        }
+        return 1 << bit;
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> getLongList(ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0 || size > in.remaining() / Long.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        List<Long> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.getLong());
+        }
+        return values;
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer in) {
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,153 @@
+package com.elbonian.babylon.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryFilterForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryMeasureForAnalytics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Enterprise JMH Benchmark Comparing Report Queries on Story Objects and on Primitive Columns.
+ *
+ * <p>Runs the two report queries over 100k and 1M stories: the sprint burndown (DONE story
+ * points of one sprint per completion day) and the cycle time p50/p85/p95 per developer. Each
+ * runs once as a stream over the story map, the way a report would be written without the
+ * columns, and once through {@link ColumnarStoryAnalyticsForBurndownReporting}.</p>
+ *
+ * <p><strong>HOW TO RUN:</strong></p>
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.elbonian.babylon.benchmark.ColumnarStoryAnalyticsVersusStreamsBenchmark
+ * </pre>
+ *
+ * @author The Performance Engineer Who Measures Everything Twice
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarStoryAnalyticsVersusStreamsBenchmark {
+
+    private static final int[] THE_FIBONACCI_STORY_POINTS = {1, 2, 3, 5, 8, 13, 21};
+    private static final LocalDateTime THE_FIRST_DAY = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final int THE_NUMBER_OF_SPRINTS = 200;
+    private static final int THE_SPRINT_IN_THE_REPORT = 100;
+
+    @Param({"100000", "1000000"})
+    public int stories;
+
+    private ConcurrentHashMap<Long, UserStoryForAgileSprintPlanning> theStoriesById;
+    private ColumnarStoryAnalyticsForBurndownReporting theColumns;
+
+    @Setup
+    public void makeItWorkBySettingUpTheBenchmark() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        SplittableRandom random = new SplittableRandom(42);
+        StoryStatusForWorkflowTracking[] statuses = StoryStatusForWorkflowTracking.values();
+        PriorityLevelForBacklogManagement[] priorities = PriorityLevelForBacklogManagement.values();
+
+        theStoriesById = new ConcurrentHashMap<>(stories * 2);
+        theColumns = new ColumnarStoryAnalyticsForBurndownReporting();
+        for (long id = 1; id <= stories; id++) {
+            // Most of an old backlog is DONE
+            StoryStatusForWorkflowTracking status = random.nextInt(3) > 0
+                    ? StoryStatusForWorkflowTracking.DONE : statuses[random.nextInt(statuses.length)];
+            int sprint = 1 + random.nextInt(THE_NUMBER_OF_SPRINTS);
+            LocalDateTime created = THE_FIRST_DAY.plusDays(sprint * 14L - 14).plusMinutes(random.nextInt(14 * 24 * 60));
+            UserStoryForAgileSprintPlanning story = UserStoryForAgileSprintPlanning.builder()
+                    .userStoryIdentificationNumberForTrackingPurposes(id)
+                    .storyPointsBasedOnFibonacciSequenceForComplexityEstimation(
+                            THE_FIBONACCI_STORY_POINTS[random.nextInt(THE_FIBONACCI_STORY_POINTS.length)])
+                    .priorityLevel(priorities[random.nextInt(priorities.length)])
+                    .assignedToSprintNumberForIterativeDevelopment(sprint)
+                    .currentStatus(status)
+                    .assignedDeveloperNameOrEmailAddress("developer" + random.nextInt(50) + "@elbonia.example")
+                    .createdTimestampForAuditTrail(created)
+                    .completedTimestampForVelocityCalculation(status == StoryStatusForWorkflowTracking.DONE
+                            ? created.plusMinutes(random.nextInt(30 * 24 * 60)) : null)
+                    .build();
+            theStoriesById.put(id, story);
+            theColumns.doTheThingWhereWeWriteTheStoryIntoTheColumns(id, null, story);
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDate, Integer> burndownWithStreams() {
+        return theStoriesById.values().stream()
+                .filter(story -> Integer.valueOf(THE_SPRINT_IN_THE_REPORT).equals(story.getAssignedToSprintNumberForIterativeDevelopment()))
+                .filter(story -> story.getCurrentStatus() == StoryStatusForWorkflowTracking.DONE)
+                .collect(Collectors.groupingBy(story -> story.getCompletedTimestampForVelocityCalculation().toLocalDate(),
+                        TreeMap::new,
+                        Collectors.summingInt(UserStoryForAgileSprintPlanning::getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation)));
+    }
+
+    @Benchmark
+    public ColumnarStoryAnalyticsForBurndownReporting.StoryGroupsForAnalytics burndownWithColumns() {
+        return theColumns.doTheThingWhereWeAggregateTheStories(
+                StoryFilterForAnalytics.everyStory().inSprint(THE_SPRINT_IN_THE_REPORT).withStatus(StoryStatusForWorkflowTracking.DONE),
+                StoryColumnForAnalytics.COMPLETION_DAY, StoryMeasureForAnalytics.STORY_POINTS);
+    }
+
+    @Benchmark
+    public Map<String, long[]> cycleTimeByDeveloperWithStreams() {
+        Map<String, List<Long>> cycleTimesByDeveloper = theStoriesById.values().parallelStream()
+                .filter(story -> story.getCurrentStatus() == StoryStatusForWorkflowTracking.DONE)
+                .collect(Collectors.groupingBy(UserStoryForAgileSprintPlanning::getAssignedDeveloperNameOrEmailAddress,
+                        TreeMap::new,
+                        Collectors.mapping(story -> Duration.between(story.getCreatedTimestampForAuditTrail(),
+                                story.getCompletedTimestampForVelocityCalculation()).getSeconds(), Collectors.toList())));
+        Map<String, long[]> percentilesByDeveloper = new TreeMap<>();
+        cycleTimesByDeveloper.forEach((developer, cycleTimes) -> {
+            long[] sorted = cycleTimes.stream().mapToLong(Long::longValue).sorted().toArray();
+            percentilesByDeveloper.put(developer, new long[]{
+                    sorted[(int) Math.ceil(0.50 * sorted.length) - 1],
+                    sorted[(int) Math.ceil(0.85 * sorted.length) - 1],
+                    sorted[(int) Math.ceil(0.95 * sorted.length) - 1]});
+        });
+        return percentilesByDeveloper;
+    }
+
+    @Benchmark
+    public ColumnarStoryAnalyticsForBurndownReporting.StoryGroupsForAnalytics cycleTimeByDeveloperWithColumns() {
+        return theColumns.doTheThingWhereWeAggregateTheStories(
+                StoryFilterForAnalytics.everyStory().withStatus(StoryStatusForWorkflowTracking.DONE),
+                StoryColumnForAnalytics.DEVELOPER, StoryMeasureForAnalytics.CYCLE_TIME_IN_SECONDS, 50, 85, 95);
+    }
+
+    /**
+     * Runs both queries both ways at both backlog sizes.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ColumnarStoryAnalyticsVersusStreamsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.elbonian.babylon.benchmark;
+
+import com.elbonian.babylon.service.NonUniformDistributionEngineForSimulationWorkloads;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enterprise JMH Benchmark Comparing Scalar and Vector API Non-Uniform Distribution Kernels.
+ *
+ * <p>Each operation fills a 4096-slot buffer, which is the chunk size the
+ * {@code /api/random/distribution/*} endpoint streams in. The {@code kernel} parameter
+ * switches the Gaussian and exponential transforms between plain loops and the incubating
+ * Vector API (built only by the {@code vector-api} profile; without it both settings measure
+ * the scalar loops); Zipf and dice are always scalar and are measured for reference.</p>
+ *
+ * <p><strong>HOW TO RUN:</strong></p>
+ * <pre>
+ * mvn -Pvector-api test-compile
+ * java --add-modules jdk.incubator.vector -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.elbonian.babylon.benchmark.NonUniformDistributionThroughputBenchmark
+ * </pre>
+ *
+ * @author The Performance Engineer Who Measures Everything Twice
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for funding our benchmarking initiative! 📊
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class NonUniformDistributionThroughputBenchmark {
+
+    private static final int THE_CHUNK_SIZE = 4096;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private NonUniformDistributionEngineForSimulationWorkloads theDistributionEngine;
+    private NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler theZipfSampler;
+    private NonUniformDistributionEngineForSimulationWorkloads.ParsedDiceNotation theDiceNotation;
+    private final SplittableRandom theGenerator = new SplittableRandom(42);
+    private final double[] theDoubleBuffer = new double[THE_CHUNK_SIZE];
+    private final int[] theIntBuffer = new int[THE_CHUNK_SIZE];
+
+    @Setup
+    public void makeItWorkBySettingUpTheBenchmark() {
+        theDistributionEngine = new NonUniformDistributionEngineForSimulationWorkloads("vector".equals(kernel));
+        theZipfSampler = new NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler(10_000, 1.1);
+        theDiceNotation = NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation("3d6+2");
+    }
+
+    @Benchmark
+    public double[] gaussian() {
+        theDistributionEngine.doTheThingWhereWeFillGaussians(theGenerator, theDoubleBuffer, THE_CHUNK_SIZE, 100, 15);
+        return theDoubleBuffer;
+    }
+
+    @Benchmark
+    public double[] exponential() {
+        theDistributionEngine.doTheThingWhereWeFillExponentials(theGenerator, theDoubleBuffer, THE_CHUNK_SIZE, 0.5);
+        return theDoubleBuffer;
+    }
+
+    @Benchmark
+    public int[] zipf() {
+        theDistributionEngine.doTheThingWhereWeFillZipfRanks(theGenerator, theZipfSampler, theIntBuffer, THE_CHUNK_SIZE);
+        return theIntBuffer;
+    }
+
+    @Benchmark
+    public int[] dice() {
+        theDistributionEngine.doTheThingWhereWeFillDiceRolls(theGenerator, theDiceNotation, theIntBuffer, THE_CHUNK_SIZE);
+        return theIntBuffer;
+    }
+
+    /**
+     * Runs all four distributions on both kernels.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(NonUniformDistributionThroughputBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.elbonian.babylon.benchmark;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import com.elbonian.babylon.service.EnterpriseEntropyPoolForSecureRandomness;
+import com.elbonian.babylon.service.NonUniformDistributionEngineForSimulationWorkloads;
+import com.elbonian.babylon.service.RandomNumberGeneratorEngineForPerThreadRandomness;
+import com.elbonian.babylon.service.RandomNumberGeneratorServiceManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enterprise JMH Benchmark Comparing the Shared {@code java.util.Random} Path to Per-Thread Engines.
+ *
+ * <p>The "Pretty Random" algorithm is run twice: once against a single {@code Random}
+ * shared by every benchmark thread (how the service manager used to work), and once
+ * through {@link RandomNumberGeneratorServiceManager} with its per-thread engine. Running
+ * {@link #main(String[])} repeats both for 1, 2, 4, ... up to all available cores, which
+ * gives the scaling curve.</p>
+ *
+ * <p><strong>HOW TO RUN:</strong></p>
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.elbonian.babylon.benchmark.RandomNumberGeneratorContentionBenchmark
+ * </pre>
+ *
+ * @author The Performance Engineer Who Measures Everything Twice
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for funding our benchmarking initiative! 📊
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomNumberGeneratorContentionBenchmark {
+
+    /** The old way: one Random, one seed, one CAS queue. */
+    private final Random theSharedJavaUtilRandomInstance = new Random();
+
+    /** The new way: every thread gets its own generator. */
+    private final RandomNumberGeneratorServiceManager theServiceManagerWithPerThreadEngines =
+            new RandomNumberGeneratorServiceManager(new RandomNumberGeneratorEngineForPerThreadRandomness(
+                    RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+                    RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+                    RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM),
+                    new EnterpriseEntropyPoolForSecureRandomness(),
+                    new NonUniformDistributionEngineForSimulationWorkloads(false));
+
+    /**
+     * The pre-engine "Pretty Random" algorithm against a shared Random.
+     */
+    @Benchmark
+    public int sharedJavaUtilRandom() {
+        if (theSharedJavaUtilRandomInstance.nextDouble() < 0.3) {
+            return 4;
+        }
+        return theSharedJavaUtilRandomInstance.nextInt(101);
+    }
+
+    /**
+     * The "Pretty Random" algorithm through the per-thread engine.
+     */
+    @Benchmark
+    public int perThreadRandomGeneratorEngine() {
+        return theServiceManagerWithPerThreadEngines.makeItWorkByGeneratingJustTheRandomNumberForTheRandomnessLevel(
+                RandomnessLevelForEnterpriseRandomNumberGeneration.PRETTY_RANDOM, 0, 100);
+    }
+
+    /**
+     * Runs both benchmarks at 1, 2, 4, ... N threads to produce the scaling curve.
+     */
+    public static void main(String[] args) throws Exception {
+        int availableCores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, availableCores)) {
+            Options options = new OptionsBuilder()
+                    .include(RandomNumberGeneratorContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+            if (threads == availableCores) {
+                break;
+            }
+        }
+    }
+}
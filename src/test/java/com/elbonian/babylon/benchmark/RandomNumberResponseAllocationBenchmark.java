@@ -0,0 +1,106 @@
+package com.elbonian.babylon.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.elbonian.babylon.controller.RandomNumberCompactResponseEncoderForLeanDelivery;
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import com.elbonian.babylon.service.EnterpriseEntropyPoolForSecureRandomness;
+import com.elbonian.babylon.service.NonUniformDistributionEngineForSimulationWorkloads;
+import com.elbonian.babylon.service.RandomNumberGeneratorEngineForPerThreadRandomness;
+import com.elbonian.babylon.service.RandomNumberGeneratorServiceManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enterprise JMH Benchmark Comparing Allocation of the Full and Compact Single-Number Responses.
+ *
+ * <p>The full path builds the response object through the service manager and serializes it
+ * with a Spring-configured Jackson {@link ObjectMapper}, which is what every regular
+ * {@code /api/random/*} call does. The compact path generates just the number and encodes it
+ * with {@link RandomNumberCompactResponseEncoderForLeanDelivery} into a reused byte array.
+ * Running {@link #main(String[])} attaches the GC profiler, so look at
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation).</p>
+ *
+ * <p>Logging is turned down to WARN for both paths, so the numbers measure response
+ * building rather than console output.</p>
+ *
+ * <p><strong>HOW TO RUN:</strong></p>
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.elbonian.babylon.benchmark.RandomNumberResponseAllocationBenchmark
+ * </pre>
+ *
+ * @author The Performance Engineer Who Measures Everything Twice
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for funding our benchmarking initiative! 📊
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomNumberResponseAllocationBenchmark {
+
+    private RandomNumberGeneratorServiceManager theServiceManager;
+    private ObjectMapper theSpringConfiguredObjectMapper;
+    private final byte[] theReusedCompactResponseBytes =
+            new byte[RandomNumberCompactResponseEncoderForLeanDelivery.THE_MAXIMUM_COMPACT_RESPONSE_LENGTH_IN_BYTES];
+
+    @Setup
+    public void makeItWorkBySettingUpTheBenchmark() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        theServiceManager = new RandomNumberGeneratorServiceManager(
+                new RandomNumberGeneratorEngineForPerThreadRandomness(
+                        RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+                        RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+                        RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM),
+                new EnterpriseEntropyPoolForSecureRandomness(),
+                new NonUniformDistributionEngineForSimulationWorkloads(false));
+        theSpringConfiguredObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * The regular path: builder, response object, LocalDateTime, reflective Jackson serialization.
+     */
+    @Benchmark
+    public byte[] fullResponseSerializedByJackson() throws JsonProcessingException {
+        return theSpringConfiguredObjectMapper.writeValueAsBytes(
+                theServiceManager.doTheThingWhereWeGenerateARandomNumberBasedOnTheRandomnessLevel("Pretty Random", 0, 100));
+    }
+
+    /**
+     * The compact path: primitive number, pre-encoded fragments, reused byte array.
+     */
+    @Benchmark
+    public int compactResponseWithPreEncodedFragments() {
+        RandomnessLevelForEnterpriseRandomNumberGeneration level =
+                RandomnessLevelForEnterpriseRandomNumberGeneration.PRETTY_RANDOM;
+        int randomNumber = theServiceManager.makeItWorkByGeneratingJustTheRandomNumberForTheRandomnessLevel(level, 0, 100);
+        return RandomNumberCompactResponseEncoderForLeanDelivery.doTheThingWhereWeEncodeTheCompactResponse(
+                theReusedCompactResponseBytes, level, randomNumber, 0, 100, System.currentTimeMillis());
+    }
+
+    /**
+     * Runs both benchmarks with the GC profiler attached.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(RandomNumberResponseAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package com.elbonian.babylon.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.service.OptimalSprintPlanningEngineForCapacityPlanning;
+import com.elbonian.babylon.service.OptimalSprintPlanningEngineForCapacityPlanning.SprintPlanForCapacityOptimization;
+import com.elbonian.babylon.service.OptimalSprintPlanningEngineForCapacityPlanning.SprintPlanningAlgorithmForCapacityOptimization;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enterprise JMH Benchmark Measuring Sprint Planning Latency per Algorithm and Backlog Size.
+ *
+ * <p>Plans one sprint over 1k, 10k and 100k candidate stories with Fibonacci story points and
+ * random priorities, once for a team-sized velocity and once for a release-train-sized one.
+ * The time budget is effectively unlimited here, so EXACT and BOUNDED_MEMORY are measured to
+ * completion instead of bailing out to the heuristic.</p>
+ *
+ * <p><strong>HOW TO RUN:</strong></p>
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.elbonian.babylon.benchmark.SprintPlanningKnapsackLatencyBenchmark
+ * </pre>
+ *
+ * @author The Performance Engineer Who Measures Everything Twice
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SprintPlanningKnapsackLatencyBenchmark {
+
+    private static final int[] THE_FIBONACCI_STORY_POINTS = {1, 2, 3, 5, 8, 13, 21};
+
+    @Param({"1000", "10000", "100000"})
+    public int candidateStories;
+
+    @Param({"40", "400"})
+    public int targetVelocity;
+
+    @Param({"EXACT", "BOUNDED_MEMORY", "HEURISTIC"})
+    public SprintPlanningAlgorithmForCapacityOptimization algorithm;
+
+    private OptimalSprintPlanningEngineForCapacityPlanning thePlanningEngine;
+    private List<UserStoryForAgileSprintPlanning> theCandidateStories;
+
+    @Setup
+    public void makeItWorkBySettingUpTheBenchmark() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        thePlanningEngine = new OptimalSprintPlanningEngineForCapacityPlanning(TimeUnit.HOURS.toMillis(1), Long.MAX_VALUE);
+
+        SplittableRandom random = new SplittableRandom(42);
+        PriorityLevelForBacklogManagement[] priorities = PriorityLevelForBacklogManagement.values();
+        theCandidateStories = new ArrayList<>(candidateStories);
+        for (long id = 1; id <= candidateStories; id++) {
+            theCandidateStories.add(UserStoryForAgileSprintPlanning.builder()
+                    .userStoryIdentificationNumberForTrackingPurposes(id)
+                    .storyPointsBasedOnFibonacciSequenceForComplexityEstimation(
+                            THE_FIBONACCI_STORY_POINTS[random.nextInt(THE_FIBONACCI_STORY_POINTS.length)])
+                    .priorityLevel(priorities[random.nextInt(priorities.length)])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public SprintPlanForCapacityOptimization planTheSprint() {
+        return thePlanningEngine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(theCandidateStories, targetVelocity, algorithm);
+    }
+
+    /**
+     * Runs every backlog size, velocity and algorithm combination.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(SprintPlanningKnapsackLatencyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
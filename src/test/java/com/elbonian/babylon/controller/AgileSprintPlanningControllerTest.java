@@ -1,17 +1,33 @@
 package com.elbonian.babylon.controller;
 
+import com.elbonian.babylon.model.UserStoryChangeFeedPageForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryCriticalPathForDependencyPlanning;
+import com.elbonian.babylon.model.UserStoryCycleTimeReportForAgileAnalytics;
 import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryImportReportForBacklogMigration;
+import com.elbonian.babylon.model.UserStoryPageForCursorPagination;
+import com.elbonian.babylon.model.UserStorySearchResultsForFullTextSearch;
+import com.elbonian.babylon.model.UserStorySprintBurndownForAgileAnalytics;
 import com.elbonian.babylon.service.AgileSprintPlanningService;
+import com.elbonian.babylon.service.BacklogChangeFeedForKanbanBoards;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.MonteCarloSprintForecastEngineForCapacityPlanning;
+import com.elbonian.babylon.service.RollingVelocityStatisticsForCapacityPlanning;
+import com.elbonian.babylon.service.StreamingUserStoryImportParserForBacklogMigration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -19,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -62,6 +79,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * — The Pointy-Haired Boss
  */
 @WebMvcTest(AgileSprintPlanningController.class)
+@Import(UserStoryFieldProjectionForLeanListing.class)
 @AutoConfigureMockMvc(addFilters = false)
 @WithMockUser
 class AgileSprintPlanningControllerTest {
@@ -121,6 +139,142 @@ class AgileSprintPlanningControllerTest {
                         .value("Add TPS Report Validator"));
     }
 
+    /**
+     * Tests that the change feed answers at once when there are changes after since.
+     */
+    @Test
+    void testDoTheThingWhereWeGetTheBacklogChangesRightAway() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReadTheBacklogChangesSince(41L, 100))
+                .thenReturn(changeFeedPage(42L));
+
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/agile/changes?since=41"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(42))
+                .andExpect(jsonPath("$.changes[0].currentStatus").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.nextSince").value(42));
+    }
+
+    /**
+     * Tests that the change feed waits for the next change when there is none yet.
+     */
+    @Test
+    void testDoTheThingWhereWeLongPollForTheNextBacklogChange() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReadTheBacklogChangesSince(42L, 100))
+                .thenReturn(UserStoryChangeFeedPageForKanbanBoards.builder()
+                        .changes(List.of()).nextSince(42L).hasMore(false).resyncRequired(false).build());
+        when(mockAgileSprintPlanningService.makeItWorkBySubscribingToTheBacklogChanges(eq(42L), eq(100), any()))
+                .thenAnswer(invocation -> {
+                    BacklogChangeFeedForKanbanBoards.ChangeSubscriberForKanbanBoards subscriber = invocation.getArgument(2);
+                    // The next change arrives while the request is waiting
+                    subscriber.doTheThingWhereWeDeliverTheChanges(changeFeedPage(43L));
+                    return mock(BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards.class);
+                });
+
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/agile/changes?since=42"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(43));
+    }
+
+    /**
+     * Tests that a change feed request with a bad limit is rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAnInvalidChangeFeedRequest() throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/agile/changes?since=0&limit=0"))
+                .andReturn();
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isBadRequest());
+    }
+
+    private UserStoryChangeFeedPageForKanbanBoards changeFeedPage(long sequence) {
+        return UserStoryChangeFeedPageForKanbanBoards.builder()
+                .changes(List.of(UserStoryChangeForKanbanBoards.builder()
+                        .sequence(sequence)
+                        .storyId(1L)
+                        .changeType(UserStoryChangeForKanbanBoards.ChangeTypeForKanbanBoards.UPDATED)
+                        .previousStatus(UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking.READY)
+                        .currentStatus(UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking.IN_PROGRESS)
+                        .changedAt(LocalDateTime.now())
+                        .story(sampleUserStoryForTestingPurposes)
+                        .build()))
+                .nextSince(sequence)
+                .hasMore(false)
+                .resyncRequired(false)
+                .build();
+    }
+
+    /**
+     * Tests the full-text story search.
+     */
+    @Test
+    void testDoTheThingWhereWeSearchStories() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeSearchUserStoriesInTheBacklog("TPS report", 5))
+                .thenReturn(UserStorySearchResultsForFullTextSearch.builder()
+                        .query("TPS report")
+                        .totalMatches(12L)
+                        .hits(List.of(new UserStorySearchResultsForFullTextSearch.StorySearchHitForFullTextSearch(
+                                4.2, sampleUserStoryForTestingPurposes)))
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories/search?q=TPS report&limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMatches").value(12))
+                .andExpect(jsonPath("$.hits[0].score").value(4.2))
+                .andExpect(jsonPath("$.hits[0].story.userStoryIdentificationNumberForTrackingPurposes").value(1));
+    }
+
+    /**
+     * Tests that a search without words is rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectABlankSearch() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories/search?q=  "))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories/search?q=tps&limit=101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a CSV upload is streamed to the bulk import as CSV.
+     */
+    @Test
+    void testDoTheThingWhereWeImportStoriesFromCsv() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeImportStoriesIntoTheBacklog(
+                any(), eq(StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration.CSV)))
+                .thenReturn(UserStoryImportReportForBacklogMigration.builder()
+                        .recordsRead(2L).storiesImported(1L).errorCount(1L)
+                        .errors(List.of(new UserStoryImportReportForBacklogMigration.LineErrorForBacklogMigration(
+                                3L, "storyPoints is not a whole number: eight")))
+                        .elapsedMilliseconds(4L)
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(post("/api/agile/stories/import")
+                .with(csrf())
+                .contentType("text/csv; charset=UTF-8")
+                .content("title,priority,storyPoints\nTPS,HIGH,5\nBroken,HIGH,eight\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storiesImported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    /**
+     * Tests that the bulk import refuses plain JSON.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAnImportThatIsNotNdjsonOrCsv() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(post("/api/agile/stories/import")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
     /**
      * Tests retrieving all user stories from backlog.
      */
@@ -135,6 +289,39 @@ class AgileSprintPlanningControllerTest {
                 .andExpect(jsonPath("$[0].userStoryIdentificationNumberForTrackingPurposes").value(1));
     }
 
+    /**
+     * Tests retrieving one cursor page of stories with only the requested fields.
+     */
+    @Test
+    void testDoTheThingWhereWeGetAProjectedPageOfStories() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+                eq(0L), eq(1), eq(UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking.BACKLOG), isNull()))
+                .thenReturn(UserStoryPageForCursorPagination.builder()
+                        .stories(List.of(sampleUserStoryForTestingPurposes))
+                        .nextCursor(1L)
+                        .limit(1)
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories")
+                        .param("cursor", "0")
+                        .param("limit", "1")
+                        .param("status", "BACKLOG")
+                        .param("fields", "userStoryIdentificationNumberForTrackingPurposes, currentStatus"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stories[0].userStoryIdentificationNumberForTrackingPurposes").value(1))
+                .andExpect(jsonPath("$.stories[0].currentStatus").value("BACKLOG"))
+                .andExpect(jsonPath("$.stories[0].acceptanceCriteriaForDefinitionOfDone").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(1))
+                .andExpect(jsonPath("$.limit").value(1));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories").param("fields", "passwordHash"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/stories").param("status", "ALMOST_DONE"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Tests retrieving stories for a specific sprint.
      */
@@ -170,6 +357,22 @@ class AgileSprintPlanningControllerTest {
                 .andExpect(jsonPath("$.currentStatus").value("IN_PROGRESS"));
     }
 
+    /**
+     * Tests that a status move losing the race to another worker returns 409 CONFLICT.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAStatusMoveWhenTheExpectedStatusIsStale() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+                eq(1L), eq(UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking.READY), any()))
+                .thenThrow(new IllegalStateException("User story 1 is IN_PROGRESS, not READY"));
+
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/status")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\",\"expectedStatus\":\"READY\"}"))
+                .andExpect(status().isConflict());
+    }
+
     /**
      * Tests marking a story as blocked.
      */
@@ -189,17 +392,167 @@ class AgileSprintPlanningControllerTest {
                 .andExpect(jsonPath("$.isBlockedByDependenciesOrTechnicalDebt").value(true));
     }
 
+    /**
+     * Tests linking a story to the story it waits for, and refusing a circular link.
+     */
+    @Test
+    void testDoTheThingWhereWeMarkStoryAsBlockedByAnotherStory() throws Exception {
+        sampleUserStoryForTestingPurposes.setBlockedByUserStoryIdentificationNumbers(List.of(2L));
+        when(mockAgileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(1L, 2L))
+                .thenReturn(sampleUserStoryForTestingPurposes);
+        when(mockAgileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(2L, 1L))
+                .thenThrow(new IllegalStateException("Story 2 can't be blocked by story 1"));
+        when(mockAgileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(1L, 404L))
+                .thenThrow(new IllegalArgumentException("User story not found: 404"));
+
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/blocked-by/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blockedByUserStoryIdentificationNumbers[0]").value(2));
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/2/blocked-by/1").with(csrf()))
+                .andExpect(status().isConflict());
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/blocked-by/404").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests dragging a story after another one, to the top, and next to a story of another priority.
+     */
+    @Test
+    void testDoTheThingWhereWeReRankTheStory() throws Exception {
+        sampleUserStoryForTestingPurposes.setBacklogRankForDragAndDropOrdering("a0V");
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(1L, 2L))
+                .thenReturn(sampleUserStoryForTestingPurposes);
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(1L, null))
+                .thenReturn(sampleUserStoryForTestingPurposes);
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(1L, 3L))
+                .thenThrow(new IllegalStateException("User story 1 can only go after another story of priority HIGH"));
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(1L, 404L))
+                .thenThrow(new IllegalArgumentException("User story not found: 404"));
+
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/rank").param("after", "2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.backlogRankForDragAndDropOrdering").value("a0V"));
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/rank").with(csrf()))
+                .andExpect(status().isOk());
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/rank").param("after", "3").with(csrf()))
+                .andExpect(status().isConflict());
+        mockMvcForTestingRestEndpoints.perform(put("/api/agile/stories/1/rank").param("after", "404").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests the critical path endpoint.
+     */
+    @Test
+    void testDoTheThingWhereWeFindTheCriticalPath() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeFindTheCriticalPathThroughTheBacklog())
+                .thenReturn(UserStoryCriticalPathForDependencyPlanning.builder()
+                        .lengthInStoryPoints(5L)
+                        .numberOfDependencies(3L)
+                        .stories(List.of(sampleUserStoryForTestingPurposes))
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/critical-path"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lengthInStoryPoints").value(5))
+                .andExpect(jsonPath("$.stories[0].userStoryIdentificationNumberForTrackingPurposes").value(1));
+    }
+
+    /**
+     * Tests the sprint burndown endpoint.
+     */
+    @Test
+    void testDoTheThingWhereWeChartTheSprintBurndown() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeChartTheSprintBurndown(7))
+                .thenReturn(UserStorySprintBurndownForAgileAnalytics.builder()
+                        .sprintNumber(7)
+                        .committedPoints(21L)
+                        .completedPoints(8L)
+                        .remainingPoints(13L)
+                        .days(List.of(new UserStorySprintBurndownForAgileAnalytics.BurndownDayForAgileAnalytics("2026-01-20", 8L, 13L)))
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/analytics/burndown").param("sprint", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingPoints").value(13))
+                .andExpect(jsonPath("$.days[0].date").value("2026-01-20"));
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/analytics/burndown").param("sprint", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests the cycle time endpoint, including an unknown group-by column.
+     */
+    @Test
+    void testDoTheThingWhereWeReportTheCycleTimes() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeReportTheCycleTimes(StoryColumnForAnalytics.DEVELOPER))
+                .thenReturn(UserStoryCycleTimeReportForAgileAnalytics.builder()
+                        .groupedBy("DEVELOPER")
+                        .storiesAnalyzed(4L)
+                        .groups(List.of(new UserStoryCycleTimeReportForAgileAnalytics.CycleTimeGroupForAgileAnalytics(
+                                "alice", 4L, 10.0, 8.0, 15.0, 20.0)))
+                        .build());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/analytics/cycle-time").param("groupBy", "DEVELOPER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups[0].group").value("alice"))
+                .andExpect(jsonPath("$.groups[0].p85Hours").value(15.0));
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/analytics/cycle-time").param("groupBy", "HOROSCOPE"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Tests velocity calculation endpoint.
      */
     @Test
     void testDoTheThingWhereWeCalculateTeamVelocity() throws Exception {
-        when(mockAgileSprintPlanningService.doTheThingWhereWeCalculateTeamVelocityForCapacityPlanning(3))
-                .thenReturn(25.0);
+        when(mockAgileSprintPlanningService.doTheThingWhereWeCalculateTheVelocityStatisticsForCapacityPlanning(3))
+                .thenReturn(new RollingVelocityStatisticsForCapacityPlanning(Arrays.asList(40, 20, 30, 25))
+                        .doTheThingWhereWeSummarizeTheLastSprints(3));
 
         mockMvcForTestingRestEndpoints.perform(get("/api/agile/velocity?numberOfSprints=3"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.averageVelocity").value(25.0));
+                .andExpect(jsonPath("$.averageVelocity").value(25.0))
+                .andExpect(jsonPath("$.sprintsAnalyzed").value(3))
+                .andExpect(jsonPath("$.minimumVelocity").value(20.0))
+                .andExpect(jsonPath("$.maximumVelocity").value(30.0))
+                .andExpect(jsonPath("$.medianVelocity").value(25.0));
+    }
+
+    /**
+     * Tests that a velocity window of no sprints is rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeCalculateTeamVelocityRejectsEmptyWindow() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/velocity?numberOfSprints=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests the Monte Carlo backlog forecast endpoint.
+     */
+    @Test
+    void testDoTheThingWhereWeForecastTheBacklogCompletion() throws Exception {
+        when(mockAgileSprintPlanningService.doTheThingWhereWeForecastTheBacklogCompletion(1000))
+                .thenReturn(new MonteCarloSprintForecastEngineForCapacityPlanning()
+                        .doTheThingWhereWeForecastTheCompletion(new int[]{10}, 35, 1000, LocalDate.of(2026, 1, 26)));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/forecast?sprints=4&trials=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingStoryPoints").value(35))
+                .andExpect(jsonPath("$.trialsRun").value(1000))
+                .andExpect(jsonPath("$.percentiles.p85.sprints").value(4))
+                .andExpect(jsonPath("$.percentiles.p85.completionDate").value("2026-03-23"))
+                .andExpect(jsonPath("$.probabilityOfFinishingWithinSprints").value(1.0));
+    }
+
+    /**
+     * Tests that a forecast without trials is rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeForecastTheBacklogCompletionRejectsZeroTrials() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/agile/forecast?trials=0"))
+                .andExpect(status().isBadRequest());
     }
 
     /**
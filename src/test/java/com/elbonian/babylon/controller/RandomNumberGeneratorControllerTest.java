@@ -0,0 +1,442 @@
+package com.elbonian.babylon.controller;
+
+import com.elbonian.babylon.service.EnterpriseEntropyPoolForSecureRandomness;
+import com.elbonian.babylon.service.NonUniformDistributionEngineForSimulationWorkloads;
+import com.elbonian.babylon.service.RandomNumberGeneratorEngineForPerThreadRandomness;
+import com.elbonian.babylon.service.RandomNumberGeneratorServiceManager;
+import com.elbonian.babylon.service.SharedRandomNumberFanOutProducerForLiveSubscriptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Enterprise Unit Test Suite for the Random Number Generator Controller.
+ *
+ * <p>This test class validates the bulk random number endpoints, ensuring that our
+ * paradigm-shifting randomness is delivered in the right format without a single
+ * curl call too many. The real service manager is wired in, because a mocked random
+ * number generator would be a little too predictable even for XKCD 221.</p>
+ *
+ * <p><strong>TEST COVERAGE INCLUDES:</strong></p>
+ * <ul>
+ *   <li>✅ Streaming a batch as NDJSON</li>
+ *   <li>✅ Streaming a batch as a compact JSON array</li>
+ *   <li>✅ Rejecting invalid batch parameters</li>
+ *   <li>✅ Compact single-number responses</li>
+ *   <li>✅ Streaming non-uniform distributions</li>
+ *   <li>✅ Sharding a seeded random stream by offset</li>
+ *   <li>✅ Auditing the distribution of a randomness level</li>
+ *   <li>✅ Streaming raw random bytes (fast and secure)</li>
+ *   <li>✅ Live subscriptions over Server-Sent Events</li>
+ *   <li>✅ Reporting random generator engine statistics</li>
+ * </ul>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@WebMvcTest(RandomNumberGeneratorController.class)
+@Import({RandomNumberGeneratorServiceManager.class, RandomNumberGeneratorEngineForPerThreadRandomness.class,
+        EnterpriseEntropyPoolForSecureRandomness.class, NonUniformDistributionEngineForSimulationWorkloads.class,
+        SharedRandomNumberFanOutProducerForLiveSubscriptions.class})
+@AutoConfigureMockMvc(addFilters = false)
+@WithMockUser
+class RandomNumberGeneratorControllerTest {
+
+    @Autowired
+    private MockMvc mockMvcForTestingRestEndpoints;
+
+    /**
+     * Tests that a predictable batch streams one XKCD-compliant number per line.
+     */
+    @Test
+    void testDoTheThingWhereWeStreamABatchAsNdjson() throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Predictable")
+                        .param("count", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("4\n4\n4\n4\n4\n"));
+    }
+
+    /**
+     * Tests that a batch can be streamed as a compact JSON array within the requested range.
+     */
+    @Test
+    void testDoTheThingWhereWeStreamABatchAsJsonArray() throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Pretty Random")
+                        .param("count", "3")
+                        .param("min", "4")
+                        .param("max", "4")
+                        .param("format", "array"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[4,4,4]"));
+    }
+
+    /**
+     * Tests that invalid batch parameters are rejected before anything is streamed.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAnInvalidBatch() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch").param("count", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch").param("min", "10").param("max", "1"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a batch range is checked after the level defaults fill in a missing bound,
+     * so a single bound on the wrong side of the default, or a range wider than an int can
+     * count, is rejected instead of failing halfway through the stream.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectABatchRangeThatConflictsWithTheLevelDefaults() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Pretty Random").param("max", "-5"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Really Random").param("min", "5000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Too Far")
+                        .param("min", String.valueOf(Integer.MIN_VALUE))
+                        .param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/batch")
+                        .param("level", "Too Far").param("count", "3").param("max", "-1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String theStreamedNumbers = mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        for (String number : theStreamedNumbers.trim().split("\n")) {
+            assertTrue(Set.of("4", "42", "-1000").contains(number), "Unexpected number " + number);
+        }
+    }
+
+    /**
+     * Tests that the compact mode writes lean JSON with the level's pre-encoded metadata,
+     * while the regular endpoint keeps its full response.
+     */
+    @Test
+    void testDoTheThingWhereWeGenerateACompactRandomNumber() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/predictable").param("compact", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.randomNumber").value(4))
+                .andExpect(jsonPath("$.level").value("Predictable"))
+                .andExpect(jsonPath("$.actuallyRandom").value(true))
+                .andExpect(jsonPath("$.min").value(0))
+                .andExpect(jsonPath("$.max").value(100))
+                .andExpect(jsonPath("$.timestamp").isNumber());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/too-far")
+                        .param("compact", "true").param("min", "4").param("max", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("Too Far"))
+                .andExpect(jsonPath("$.min").value(4))
+                .andExpect(jsonPath("$.metadata").value(startsWith("TOO FAR")));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/custom")
+                        .param("compact", "true").param("level", "Really Random"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level").value("Really Random"))
+                .andExpect(jsonPath("$.max").value(100));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/really-random"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.theRandomnessLevelThatWasAppliedDuringGeneration").value("Really Random"));
+    }
+
+    /**
+     * Tests that the compact mode rejects an inverted range, including one made by a single
+     * bound against the level's default, and a range wider than an int can count.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAnInvalidCompactRange() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/pretty-random")
+                        .param("compact", "true").param("min", "10").param("max", "1"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/really-random")
+                        .param("compact", "true").param("max", "-5"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/too-far")
+                        .param("compact", "true")
+                        .param("min", String.valueOf(Integer.MIN_VALUE))
+                        .param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/custom")
+                        .param("compact", "true").param("level", "Pretty Random").param("min", "500"))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/custom")
+                        .param("compact", "true").param("level", "Too Far")
+                        .param("min", "0").param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that dice and Gaussian distributions stream the requested number of values,
+     * and that unknown distributions or bad parameters are rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeStreamANonUniformDistribution() throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/dice")
+                        .param("dice", "1d1+3")
+                        .param("count", "4")
+                        .param("format", "array"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[4,4,4,4]"));
+
+        asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/gaussian")
+                        .param("count", "5")
+                        .param("mean", "42")
+                        .param("stddev", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("42.0\n42.0\n42.0\n42.0\n42.0\n"));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/cauchy"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/dice").param("dice", "d0"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/exponential").param("rate", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that Gaussian and exponential parameters are bounded so every sample is a finite
+     * number: just inside the bound streams valid JSON numbers, just outside is rejected.
+     */
+    @Test
+    void testDoTheThingWhereWeKeepEveryDistributionSampleFinite() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/gaussian").param("stddev", "1e308"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/gaussian")
+                        .param("mean", String.valueOf(Double.MAX_VALUE)).param("stddev", "1e300"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/exponential")
+                        .param("rate", String.valueOf(Double.MIN_VALUE)))
+                .andExpect(status().isBadRequest());
+
+        for (String request : new String[] {"gaussian?stddev=1.8e307&mean=-1e307", "exponential?rate=1e-306"}) {
+            MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/distribution/" + request + "&count=10000"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String theStreamedNumbers = mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            for (String number : theStreamedNumbers.trim().split("\n")) {
+                assertTrue(Double.isFinite(Double.parseDouble(number)), "Non-finite sample " + number);
+            }
+        }
+    }
+
+    /**
+     * Tests that a seeded stream can be sharded: a slice starting at an offset matches the
+     * tail of a slice starting earlier, and the next offset is reported.
+     */
+    @Test
+    void testDoTheThingWhereWeStreamASliceOfASeededRandomStream() throws Exception {
+        String wholeStream = doTheThingWhereWeFetchASeededStreamSlice(0, 10);
+        String secondShard = doTheThingWhereWeFetchASeededStreamSlice(6, 4);
+
+        assertEquals(String.join("\n", Arrays.copyOfRange(wholeStream.split("\n"), 6, 10)) + "\n",
+                secondShard);
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/stream/load-test").param("offset", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String doTheThingWhereWeFetchASeededStreamSlice(long offset, long count) throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/stream/load-test")
+                        .param("seed", "42")
+                        .param("offset", Long.toString(offset))
+                        .param("count", Long.toString(count))
+                        .param("min", "1")
+                        .param("max", "1000000"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Random-Stream-Next-Offset", Long.toString(offset + count)))
+                .andReturn();
+
+        return mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    /**
+     * Tests that a predictable histogram puts every sample on 4, that Too Far's 4s and 42s
+     * land outside a range that excludes them, and that invalid parameters are rejected.
+     */
+    @Test
+    void testMakeItWorkByAuditingTheDistributionOfARandomnessLevel() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("level", "Predictable")
+                        .param("samples", "200000")
+                        .param("buckets", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countOfFour").value(200000))
+                .andExpect(jsonPath("$.frequencyOfFour").value(1.0))
+                .andExpect(jsonPath("$.countOfFortyTwo").value(0))
+                .andExpect(jsonPath("$.buckets[0].from").value(0))
+                .andExpect(jsonPath("$.buckets[0].to").value(10))
+                .andExpect(jsonPath("$.buckets[0].count").value(200000))
+                .andExpect(jsonPath("$.looksUniformAtOnePercent").value(false));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("level", "Too Far")
+                        .param("samples", "100000")
+                        .param("min", "1000")
+                        .param("max", "1999")
+                        .param("buckets", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.belowRange").value(greaterThan(50000)))
+                .andExpect(jsonPath("$.buckets[3].to").value(1999))
+                .andExpect(jsonPath("$.degreesOfFreedom").value(3));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram").param("buckets", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("min", "1").param("max", "2").param("buckets", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a histogram range wider than an int can count is rejected up front
+     * instead of overflowing inside the level algorithms.
+     */
+    @Test
+    void testDoTheThingWhereWeRejectAHistogramRangeWiderThanAnInt() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("samples", "10")
+                        .param("min", "0").param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("samples", "10")
+                        .param("min", String.valueOf(Integer.MIN_VALUE))
+                        .param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/histogram")
+                        .param("samples", "10")
+                        .param("min", "1").param("max", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Tests that raw random bytes arrive with exactly the requested length, in both modes,
+     * including a length that spans several chunks and ends mid-long.
+     */
+    @Test
+    void testDoTheThingWhereWeStreamRawRandomBytes() throws Exception {
+        for (String secure : new String[]{"false", "true"}) {
+            MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/bytes")
+                            .param("length", "200003")
+                            .param("secure", secure))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            MvcResult result = mockMvcForTestingRestEndpoints.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                    .andExpect(header().longValue("Content-Length", 200003))
+                    .andReturn();
+            assertEquals(200003, result.getResponse().getContentAsByteArray().length);
+        }
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/bytes").param("length", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a live subscription delivers Server-Sent Events and leaves the shared
+     * producer when the connection completes.
+     */
+    @Test
+    void testDoTheThingWhereWeSubscribeToALiveRandomNumberStream() throws Exception {
+        MvcResult asyncResult = mockMvcForTestingRestEndpoints.perform(get("/api/random/subscribe")
+                        .param("level", "Predictable")
+                        .param("ratePerSecond", "100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!asyncResult.getResponse().getContentAsString().contains("data:{\"randomNumber\":4,")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // Headers are committed together with the first event, which the producer may send after perform() returns
+        assertTrue(MediaType.TEXT_EVENT_STREAM.isCompatibleWith(
+                MediaType.parseMediaType(asyncResult.getResponse().getContentType())));
+        String theEventStream = asyncResult.getResponse().getContentAsString();
+        assertTrue(theEventStream.contains("event:random-number"), theEventStream);
+        assertTrue(theEventStream.contains("data:{\"randomNumber\":4,"), theEventStream);
+
+        asyncResult.getRequest().getAsyncContext().complete();
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/engine/statistics"))
+                .andExpect(jsonPath("$.liveSubscriptions.subscribers").value(0));
+
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/subscribe").param("ratePerSecond", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/subscribe").param("ratePerSecond", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that engine statistics list the algorithm per level and no ring buffers by default.
+     */
+    @Test
+    void testMakeItWorkByReportingTheRandomGeneratorEngineStatistics() throws Exception {
+        mockMvcForTestingRestEndpoints.perform(get("/api/random/engine/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.algorithms['Pretty Random']").value("L64X128MixRandom"))
+                .andExpect(jsonPath("$.ringBuffers").isEmpty())
+                .andExpect(jsonPath("$.entropyPool.reseeds").isNumber());
+    }
+}
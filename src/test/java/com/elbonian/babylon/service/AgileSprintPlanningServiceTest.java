@@ -0,0 +1,658 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryCycleTimeReportForAgileAnalytics;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import com.elbonian.babylon.model.UserStoryImportReportForBacklogMigration;
+import com.elbonian.babylon.model.UserStoryPageForCursorPagination;
+import com.elbonian.babylon.model.UserStorySprintBurndownForAgileAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the agile sprint planning service and its concurrent backlog store.
+ *
+ * <p>The stress test starts every worker behind a single latch so creates, status moves and
+ * blocks really do overlap, then checks the invariants a plain {@code HashMap} and an
+ * unsynchronized sprint counter used to break.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Agile Sprint Planning Service Tests")
+class AgileSprintPlanningServiceTest {
+
+	private AgileSprintPlanningService agileSprintPlanningService;
+
+	@BeforeEach
+	void setUp() {
+		agileSprintPlanningService = new AgileSprintPlanningService();
+	}
+
+	private UserStoryForAgileSprintPlanning newStory(String title) {
+		return agileSprintPlanningService.doTheThingWhereWeCreateNewUserStoryForBacklog(
+				title, "developer", "to ship", "the boss is happy", 3,
+				PriorityLevelForBacklogManagement.MEDIUM, "it works");
+	}
+
+	@Nested
+	@DisplayName("Compare-and-set status transitions")
+	class CompareAndSetStatusTransitions {
+
+		@Test
+		@DisplayName("Should move the story when it is in the expected status")
+		void shouldMoveWhenExpectedStatusMatches() {
+			Long storyId = newStory("Expected").getUserStoryIdentificationNumberForTrackingPurposes();
+
+			UserStoryForAgileSprintPlanning moved = agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyId, StoryStatusForWorkflowTracking.BACKLOG, StoryStatusForWorkflowTracking.IN_PROGRESS);
+
+			assertThat(moved.getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.IN_PROGRESS);
+		}
+
+		@Test
+		@DisplayName("Should reject the move and leave the story alone when the expected status is stale")
+		void shouldRejectStaleExpectedStatus() {
+			Long storyId = newStory("Stale").getUserStoryIdentificationNumberForTrackingPurposes();
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyId, StoryStatusForWorkflowTracking.IN_REVIEW);
+
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyId, StoryStatusForWorkflowTracking.BACKLOG, StoryStatusForWorkflowTracking.DONE))
+					.isInstanceOf(IllegalStateException.class);
+
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog())
+					.singleElement()
+					.extracting(UserStoryForAgileSprintPlanning::getCurrentStatus)
+					.isEqualTo(StoryStatusForWorkflowTracking.IN_REVIEW);
+		}
+
+		@Test
+		@DisplayName("Should not change a story snapshot the caller already holds")
+		void shouldNotMutateReturnedSnapshots() {
+			UserStoryForAgileSprintPlanning created = newStory("Snapshot");
+
+			agileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlocked(
+					created.getUserStoryIdentificationNumberForTrackingPurposes(), "Waiting on Bob");
+
+			assertThat(created.getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.BACKLOG);
+			assertThat(created.getIsBlockedByDependenciesOrTechnicalDebt()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Should report unknown stories as IllegalArgumentException")
+		void shouldRejectUnknownStory() {
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					999L, StoryStatusForWorkflowTracking.DONE))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlocked(999L, "Bob"))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Secondary indexes")
+	class SecondaryIndexes {
+
+		@Test
+		@DisplayName("Should follow stories across sprints and statuses and count them per sprint")
+		void shouldKeepSprintAndStatusIndexesInStep() {
+			for (int i = 0; i < 6; i++) {
+				newStory("Indexed " + i);
+			}
+			agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(9);
+			List<UserStoryForAgileSprintPlanning> sprintOne = agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1);
+			assertThat(sprintOne).hasSize(3)
+					.allSatisfy(story -> assertThat(story.getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.READY));
+
+			Long first = sprintOne.get(0).getUserStoryIdentificationNumberForTrackingPurposes();
+			Long second = sprintOne.get(1).getUserStoryIdentificationNumberForTrackingPurposes();
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(first, StoryStatusForWorkflowTracking.IN_PROGRESS);
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(second, StoryStatusForWorkflowTracking.DONE);
+			agileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlocked(first, "Waiting on Bob");
+
+			Map<String, Object> standup = agileSprintPlanningService.doTheThingWhereWeSimulateDailyStandupMeeting();
+			assertThat(standup).containsEntry("storiesInProgress", 0L)
+					.containsEntry("storiesBlocked", 1L)
+					.containsEntry("storiesDone", 1L);
+
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(2)).isEmpty();
+			agileSprintPlanningService.doTheThingWhereWeCompleteCurrentSprintAndStartNext(5);
+			agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(100);
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(2)).hasSize(3);
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1)).hasSize(3);
+		}
+	}
+
+	@Nested
+	@DisplayName("Drag-and-drop backlog ranking")
+	class BacklogRanking {
+
+		private List<String> titlesInBacklogOrder() {
+			return agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog().stream()
+					.map(UserStoryForAgileSprintPlanning::getStoryTitleForQuickIdentificationInStandupMeetings)
+					.toList();
+		}
+
+		@Test
+		@DisplayName("Should list and plan stories by priority, then in the order they were dragged into")
+		void shouldFollowTheDraggedOrder() {
+			long a = newStory("A").getUserStoryIdentificationNumberForTrackingPurposes();
+			long b = newStory("B").getUserStoryIdentificationNumberForTrackingPurposes();
+			long c = newStory("C").getUserStoryIdentificationNumberForTrackingPurposes();
+			long d = newStory("D").getUserStoryIdentificationNumberForTrackingPurposes();
+			long h = agileSprintPlanningService.doTheThingWhereWeCreateNewUserStoryForBacklog(
+					"H", "developer", "to ship", "the boss is happy", 3,
+					PriorityLevelForBacklogManagement.HIGH, "it works").getUserStoryIdentificationNumberForTrackingPurposes();
+			assertThat(titlesInBacklogOrder()).containsExactly("H", "A", "B", "C", "D");
+
+			String rankOfB = agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog().get(2)
+					.getBacklogRankForDragAndDropOrdering();
+			agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(d, null);
+			UserStoryForAgileSprintPlanning movedA = agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(a, c);
+			assertThat(titlesInBacklogOrder()).containsExactly("H", "D", "B", "C", "A");
+			assertThat(movedA.getBacklogRankForDragAndDropOrdering()).isGreaterThan(rankOfB);
+			// Only the dragged stories got new ranks
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog().get(2)
+					.getBacklogRankForDragAndDropOrdering()).isEqualTo(rankOfB);
+
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(a, h))
+					.isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(a, a))
+					.isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(a, 404L))
+					.isInstanceOf(IllegalArgumentException.class);
+
+			// A story added later goes to the bottom of its priority, past the dragged one
+			newStory("E");
+			assertThat(titlesInBacklogOrder()).containsExactly("H", "D", "B", "C", "A", "E");
+
+			// With room for three stories, planning takes the top three of the backlog order
+			agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(9);
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1))
+					.extracting(UserStoryForAgileSprintPlanning::getUserStoryIdentificationNumberForTrackingPurposes)
+					.containsExactlyInAnyOrder(h, d, b);
+		}
+	}
+
+	@Nested
+	@DisplayName("Burndown and cycle-time analytics")
+	class BurndownAndCycleTimeAnalytics {
+
+		@Test
+		@DisplayName("Should burn down the sprint's DONE stories and report their cycle times")
+		void shouldChartTheBurndownFromTheColumns() {
+			for (int i = 0; i < 4; i++) {
+				newStory("Burned " + i);
+			}
+			agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(9);
+			List<UserStoryForAgileSprintPlanning> sprintOne = agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1);
+			assertThat(sprintOne).hasSize(3);
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					sprintOne.get(0).getUserStoryIdentificationNumberForTrackingPurposes(), StoryStatusForWorkflowTracking.DONE);
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					sprintOne.get(1).getUserStoryIdentificationNumberForTrackingPurposes(), StoryStatusForWorkflowTracking.DONE);
+
+			UserStorySprintBurndownForAgileAnalytics burndown = agileSprintPlanningService.doTheThingWhereWeChartTheSprintBurndown(1);
+			assertThat(burndown.getCommittedPoints()).isEqualTo(9);
+			assertThat(burndown.getCompletedPoints()).isEqualTo(6);
+			assertThat(burndown.getRemainingPoints()).isEqualTo(3);
+			assertThat(burndown.getDays()).last()
+					.extracting(UserStorySprintBurndownForAgileAnalytics.BurndownDayForAgileAnalytics::getRemainingPoints)
+					.isEqualTo(3L);
+
+			UserStoryCycleTimeReportForAgileAnalytics cycleTimes = agileSprintPlanningService.doTheThingWhereWeReportTheCycleTimes(
+					StoryColumnForAnalytics.PRIORITY);
+			assertThat(cycleTimes.getStoriesAnalyzed()).isEqualTo(2);
+			assertThat(cycleTimes.getGroups()).singleElement()
+					.extracting(UserStoryCycleTimeReportForAgileAnalytics.CycleTimeGroupForAgileAnalytics::getGroup)
+					.isEqualTo("MEDIUM");
+			assertThatThrownBy(() -> agileSprintPlanningService.doTheThingWhereWeReportTheCycleTimes(StoryColumnForAnalytics.STATUS))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Cursor pagination")
+	class CursorPagination {
+
+		@Test
+		@DisplayName("Should walk every matching story exactly once in ascending ID order")
+		void shouldWalkAllPagesInOrder() {
+			List<Long> expectedReadyIds = new ArrayList<>();
+			for (int i = 0; i < 23; i++) {
+				Long storyId = newStory("Paged " + i).getUserStoryIdentificationNumberForTrackingPurposes();
+				if (i % 3 == 0) {
+					agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(storyId, StoryStatusForWorkflowTracking.READY);
+					expectedReadyIds.add(storyId);
+				}
+			}
+
+			List<Long> seenIds = new ArrayList<>();
+			Long cursor = null;
+			int pages = 0;
+			do {
+				UserStoryPageForCursorPagination page = agileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+						cursor, 3, StoryStatusForWorkflowTracking.READY, PriorityLevelForBacklogManagement.MEDIUM);
+				assertThat(page.getStories()).hasSizeLessThanOrEqualTo(3);
+				page.getStories().forEach(story -> seenIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes()));
+				cursor = page.getNextCursor();
+				pages++;
+			} while (cursor != null);
+
+			assertThat(seenIds).isEqualTo(expectedReadyIds);
+			assertThat(pages).isEqualTo(3);
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+					null, 100, null, PriorityLevelForBacklogManagement.CRITICAL).getStories()).isEmpty();
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+					null, 100, null, null).getStories()).hasSize(23);
+		}
+	}
+
+	@Nested
+	@DisplayName("Bulk import")
+	class BulkImport {
+
+		@Test
+		@DisplayName("Should import across several batches with consecutive IDs and report bad lines")
+		void shouldImportAcrossBatches() throws IOException {
+			newStory("Already there");
+			StringBuilder upload = new StringBuilder();
+			for (int i = 0; i < 2_345; i++) {
+				upload.append(i % 500 == 7
+						? "{\"title\":\"Broken\"}\n"
+						: "{\"title\":\"Imported " + i + "\",\"storyPoints\":2,\"priority\":\"LOW\"}\n");
+			}
+
+			UserStoryImportReportForBacklogMigration report = agileSprintPlanningService.doTheThingWhereWeImportStoriesIntoTheBacklog(
+					new StringReader(upload.toString()), StoryImportFormatForBacklogMigration.NDJSON);
+
+			assertThat(report.getRecordsRead()).isEqualTo(2_345);
+			assertThat(report.getStoriesImported()).isEqualTo(2_340);
+			assertThat(report.getErrorCount()).isEqualTo(5);
+			assertThat(report.getErrors()).extracting(UserStoryImportReportForBacklogMigration.LineErrorForBacklogMigration::getLine)
+					.containsExactly(8L, 508L, 1008L, 1508L, 2008L);
+
+			List<UserStoryForAgileSprintPlanning> backlog = agileSprintPlanningService.doTheThingWhereWeGetAPageOfUserStoriesFromBacklog(
+					null, 500, StoryStatusForWorkflowTracking.BACKLOG, PriorityLevelForBacklogManagement.LOW).getStories();
+			assertThat(backlog.get(0).getUserStoryIdentificationNumberForTrackingPurposes()).isEqualTo(2L);
+			assertThat(backlog.get(0).getStoryTitleForQuickIdentificationInStandupMeetings()).isEqualTo("Imported 0");
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog()).hasSize(2_341);
+			assertThat(newStory("After the import").getUserStoryIdentificationNumberForTrackingPurposes()).isEqualTo(2_342L);
+		}
+
+		@Test
+		@DisplayName("Should keep only the first errors but count all of them")
+		void shouldCapTheReportedErrors() throws IOException {
+			String upload = "title,priority\n" + ",LOW\n".repeat(250);
+
+			UserStoryImportReportForBacklogMigration report = agileSprintPlanningService.doTheThingWhereWeImportStoriesIntoTheBacklog(
+					new StringReader(upload), StoryImportFormatForBacklogMigration.CSV);
+
+			assertThat(report.getErrorCount()).isEqualTo(250);
+			assertThat(report.getErrors()).hasSize(UserStoryImportReportForBacklogMigration.MAXIMUM_REPORTED_ERRORS);
+			assertThat(report.getStoriesImported()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("Backlog forecast")
+	class BacklogForecast {
+
+		@Test
+		@DisplayName("Should leave DONE and CANCELLED stories out of the work left to forecast")
+		void shouldNotForecastCancelledWork() {
+			List<Long> storyIds = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				storyIds.add(agileSprintPlanningService.doTheThingWhereWeCreateNewUserStoryForBacklog(
+						"Forecast " + i, "developer", "to ship", "the boss is happy", 21,
+						PriorityLevelForBacklogManagement.MEDIUM, "it works").getUserStoryIdentificationNumberForTrackingPurposes());
+			}
+
+			MonteCarloSprintForecastEngineForCapacityPlanning.SprintForecastForCapacityPlanning before =
+					agileSprintPlanningService.doTheThingWhereWeForecastTheBacklogCompletion(1000);
+
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyIds.get(0), StoryStatusForWorkflowTracking.CANCELLED);
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyIds.get(1), StoryStatusForWorkflowTracking.CANCELLED);
+			agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+					storyIds.get(2), StoryStatusForWorkflowTracking.DONE);
+
+			MonteCarloSprintForecastEngineForCapacityPlanning.SprintForecastForCapacityPlanning after =
+					agileSprintPlanningService.doTheThingWhereWeForecastTheBacklogCompletion(1000);
+
+			assertThat(before.getRemainingStoryPoints()).isEqualTo(84);
+			assertThat(after.getRemainingStoryPoints()).isEqualTo(21);
+			// The seeded history runs 15 to 31 points a sprint: 84 points never fit in two, 21 always do
+			assertThat(after.makeItWorkByFindingTheSprintsNeededAtThePercentile(100))
+					.isLessThanOrEqualTo(2)
+					.isLessThan(before.makeItWorkByFindingTheSprintsNeededAtThePercentile(1));
+		}
+	}
+
+	@Nested
+	@DisplayName("Concurrent stress")
+	class ConcurrentStress {
+
+		private static final int THREADS = 8;
+		private static final int STORIES_PER_THREAD = 150;
+
+		@Test
+		@DisplayName("Should keep every invariant while create, status and block run in parallel")
+		void shouldKeepInvariantsUnderParallelLoad() throws Exception {
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch startingLine = new CountDownLatch(1);
+			Set<Long> createdIds = ConcurrentHashMap.newKeySet();
+			Map<Long, AtomicInteger> startWinnersPerStory = new ConcurrentHashMap<>();
+			AtomicInteger sprintsCompleted = new AtomicInteger();
+
+			// Phase 1: everybody creates stories at once
+			List<Future<?>> creators = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				creators.add(executor.submit(() -> {
+					startingLine.await();
+					for (int i = 0; i < STORIES_PER_THREAD; i++) {
+						createdIds.add(newStory("Story " + thread + "-" + i).getUserStoryIdentificationNumberForTrackingPurposes());
+					}
+					return null;
+				}));
+			}
+			startingLine.countDown();
+			for (Future<?> creator : creators) {
+				creator.get(30, TimeUnit.SECONDS);
+			}
+
+			List<Long> storyIds = new ArrayList<>(createdIds);
+			CountDownLatch secondStartingLine = new CountDownLatch(1);
+
+			// Phase 2: every thread races every other for every story, while some block and some complete sprints
+			List<Future<?>> workers = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				workers.add(executor.submit(() -> {
+					secondStartingLine.await();
+					for (Long storyId : storyIds) {
+						try {
+							agileSprintPlanningService.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(
+									storyId, StoryStatusForWorkflowTracking.BACKLOG, StoryStatusForWorkflowTracking.IN_PROGRESS);
+							startWinnersPerStory.computeIfAbsent(storyId, id -> new AtomicInteger()).incrementAndGet();
+						} catch (IllegalStateException lostTheRace) {
+							// Someone else moved it first (or it got blocked) - exactly what CAS is for
+						}
+						if (storyId % THREADS == thread) {
+							agileSprintPlanningService.doTheThingWhereWeMarkUserStoryAsBlocked(storyId, "Waiting on Bob " + thread);
+						}
+					}
+					for (int i = 0; i < 25; i++) {
+						agileSprintPlanningService.doTheThingWhereWeCompleteCurrentSprintAndStartNext(i);
+						sprintsCompleted.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			secondStartingLine.countDown();
+			for (Future<?> worker : workers) {
+				worker.get(60, TimeUnit.SECONDS);
+			}
+			executor.shutdown();
+
+			List<UserStoryForAgileSprintPlanning> allStories = agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog();
+
+			// No create was lost and no ID was handed out twice
+			assertThat(createdIds).hasSize(THREADS * STORIES_PER_THREAD);
+			assertThat(allStories).hasSize(THREADS * STORIES_PER_THREAD);
+			Set<Long> storedIds = new HashSet<>();
+			allStories.forEach(story -> storedIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes()));
+			assertThat(storedIds).isEqualTo(createdIds);
+
+			// At most one worker moved each story out of BACKLOG
+			assertThat(startWinnersPerStory.values()).allSatisfy(winners -> assertThat(winners.get()).isEqualTo(1));
+
+			// Every story was blocked by its owner thread, and blocking is all-or-nothing
+			assertThat(allStories).allSatisfy(story -> {
+				assertThat(story.getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.BLOCKED);
+				assertThat(story.getIsBlockedByDependenciesOrTechnicalDebt()).isTrue();
+				assertThat(story.getBlockageReasonIfApplicable()).startsWith("Waiting on Bob");
+			});
+
+			// The indexes agree with a full scan
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1)).isEmpty();
+			assertThat(agileSprintPlanningService.doTheThingWhereWeSimulateDailyStandupMeeting())
+					.containsEntry("storiesInProgress", 0L);
+
+			// No sprint increment was lost
+			assertThat(agileSprintPlanningService.makeItWorkByReportingTheCurrentSprintNumber())
+					.isEqualTo(1 + sprintsCompleted.get());
+		}
+
+		@Test
+		@DisplayName("Should never plan the same story into two parallel planning sessions")
+		void shouldNotDoublePlanStories() throws Exception {
+			for (int i = 0; i < 200; i++) {
+				newStory("Plannable " + i);
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch startingLine = new CountDownLatch(1);
+			List<Future<Map<String, Object>>> sessions = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				sessions.add(executor.submit(() -> {
+					startingLine.await();
+					return agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(90);
+				}));
+			}
+			startingLine.countDown();
+
+			int totalCommittedPoints = 0;
+			for (Future<Map<String, Object>> session : sessions) {
+				totalCommittedPoints += (Integer) session.get(30, TimeUnit.SECONDS).get("committedPoints");
+			}
+			executor.shutdown();
+
+			long plannedStories = agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog().stream()
+					.filter(story -> story.getAssignedToSprintNumberForIterativeDevelopment() != null)
+					.count();
+			assertThat(totalCommittedPoints).isEqualTo(plannedStories * 3);
+			assertThat(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1)).hasSize((int) plannedStories);
+		}
+
+		@Test
+		@DisplayName("Should list every story exactly once, in rank order, while stories are dragged and sprints planned")
+		void shouldListConsistentlyWhileStoriesMove() throws Exception {
+			List<Long> storyIds = new ArrayList<>();
+			for (int i = 0; i < 300; i++) {
+				storyIds.add(newStory("Dragged " + i).getUserStoryIdentificationNumberForTrackingPurposes());
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch startingLine = new CountDownLatch(1);
+			AtomicInteger writersDone = new AtomicInteger();
+			int draggers = THREADS - 4;
+			int planners = 3;
+			List<Future<?>> writers = new ArrayList<>();
+			for (int t = 0; t < draggers; t++) {
+				int thread = t;
+				writers.add(executor.submit(() -> {
+					startingLine.await();
+					try {
+						Random random = new Random(thread);
+						for (int i = 0; i < 5_000; i++) {
+							Long storyId = storyIds.get(random.nextInt(storyIds.size()));
+							Long afterStoryId = random.nextInt(10) == 0 ? null : storyIds.get(random.nextInt(storyIds.size()));
+							if (!storyId.equals(afterStoryId)) {
+								agileSprintPlanningService.doTheThingWhereWeReRankTheStoryInTheBacklog(storyId, afterStoryId);
+							}
+						}
+					} finally {
+						writersDone.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			List<Future<Set<Long>>> sessions = new ArrayList<>();
+			for (int t = 0; t < planners; t++) {
+				sessions.add(executor.submit(() -> {
+					startingLine.await();
+					try {
+						@SuppressWarnings("unchecked")
+						List<UserStoryForAgileSprintPlanning> committed = (List<UserStoryForAgileSprintPlanning>)
+								agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(30).get("selectedStories");
+						Set<Long> committedIds = new HashSet<>();
+						committed.forEach(story -> committedIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes()));
+						return committedIds;
+					} finally {
+						writersDone.incrementAndGet();
+					}
+				}));
+			}
+			Set<Set<Long>> plannedStoriesSeen = ConcurrentHashMap.newKeySet();
+			AtomicInteger listingsTaken = new AtomicInteger();
+			Future<?> lister = executor.submit(() -> {
+				startingLine.await();
+				do {
+					List<UserStoryForAgileSprintPlanning> listing = agileSprintPlanningService.doTheThingWhereWeGetAllUserStoriesFromBacklog();
+					Set<Long> listedIds = new HashSet<>();
+					Set<Long> plannedStories = new HashSet<>();
+					for (int i = 0; i < listing.size(); i++) {
+						UserStoryForAgileSprintPlanning story = listing.get(i);
+						listedIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes());
+						if (story.getAssignedToSprintNumberForIterativeDevelopment() != null) {
+							plannedStories.add(story.getUserStoryIdentificationNumberForTrackingPurposes());
+						}
+						if (i > 0) {
+							UserStoryForAgileSprintPlanning previous = listing.get(i - 1);
+							int byRank = previous.getBacklogRankForDragAndDropOrdering().compareTo(story.getBacklogRankForDragAndDropOrdering());
+							assertThat(byRank < 0 || byRank == 0 && previous.getUserStoryIdentificationNumberForTrackingPurposes()
+									< story.getUserStoryIdentificationNumberForTrackingPurposes())
+									.as("story #%s listed after #%s", story.getUserStoryIdentificationNumberForTrackingPurposes(),
+											previous.getUserStoryIdentificationNumberForTrackingPurposes())
+									.isTrue();
+						}
+					}
+					assertThat(listing).hasSize(storyIds.size());
+					assertThat(listedIds).hasSize(storyIds.size());
+					plannedStoriesSeen.add(plannedStories);
+					listingsTaken.incrementAndGet();
+				} while (writersDone.get() < draggers + planners);
+				return null;
+			});
+			startingLine.countDown();
+			for (Future<?> writer : writers) {
+				writer.get(60, TimeUnit.SECONDS);
+			}
+			List<Set<Long>> commitments = new ArrayList<>();
+			for (Future<Set<Long>> session : sessions) {
+				commitments.add(session.get(60, TimeUnit.SECONDS));
+			}
+			lister.get(60, TimeUnit.SECONDS);
+			executor.shutdown();
+
+			// Every listing held each planning session's commitment whole or not at all
+			Set<Set<Long>> wholeCommitments = new HashSet<>();
+			for (int subset = 0; subset < 1 << commitments.size(); subset++) {
+				Set<Long> union = new HashSet<>();
+				for (int session = 0; session < commitments.size(); session++) {
+					if ((subset & 1 << session) != 0) {
+						union.addAll(commitments.get(session));
+					}
+				}
+				wholeCommitments.add(union);
+			}
+			assertThat(listingsTaken.get()).isPositive();
+			assertThat(wholeCommitments).containsAll(plannedStoriesSeen);
+		}
+
+		@Test
+		@DisplayName("Should let snapshot readers see every planning session's commitment whole or not at all")
+		void shouldNeverShowHalfAPlanInASnapshot() throws Exception {
+			for (int i = 0; i < 200; i++) {
+				newStory("Snapshotted " + i);
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch startingLine = new CountDownLatch(1);
+			AtomicInteger sessionsDone = new AtomicInteger();
+			Set<Set<Long>> plannedStoriesSeen = ConcurrentHashMap.newKeySet();
+			Future<?> reader = executor.submit(() -> {
+				startingLine.await();
+				while (sessionsDone.get() < THREADS - 1) {
+					Set<Long> plannedStories = new HashSet<>();
+					agileSprintPlanningService.doTheThingWhereWeTakeASnapshotOfTheBacklog().doTheThingWhereWeVisitEveryStory(story -> {
+						if (story.getAssignedToSprintNumberForIterativeDevelopment() != null) {
+							plannedStories.add(story.getUserStoryIdentificationNumberForTrackingPurposes());
+						}
+					});
+					plannedStoriesSeen.add(plannedStories);
+				}
+				return null;
+			});
+			List<Future<Set<Long>>> sessions = new ArrayList<>();
+			for (int t = 0; t < THREADS - 1; t++) {
+				sessions.add(executor.submit(() -> {
+					startingLine.await();
+					try {
+						@SuppressWarnings("unchecked")
+						List<UserStoryForAgileSprintPlanning> committed = (List<UserStoryForAgileSprintPlanning>)
+								agileSprintPlanningService.doTheThingWhereWeSimulateSprintPlanningCeremony(30).get("selectedStories");
+						Set<Long> committedIds = new HashSet<>();
+						committed.forEach(story -> committedIds.add(story.getUserStoryIdentificationNumberForTrackingPurposes()));
+						return committedIds;
+					} finally {
+						sessionsDone.incrementAndGet();
+					}
+				}));
+			}
+			startingLine.countDown();
+			List<Set<Long>> commitments = new ArrayList<>();
+			for (Future<Set<Long>> session : sessions) {
+				commitments.add(session.get(30, TimeUnit.SECONDS));
+			}
+			reader.get(30, TimeUnit.SECONDS);
+			executor.shutdown();
+
+			// Every snapshot is the union of some sessions' whole commitments
+			Set<Set<Long>> wholeCommitments = new HashSet<>();
+			for (int subset = 0; subset < 1 << commitments.size(); subset++) {
+				Set<Long> union = new HashSet<>();
+				for (int session = 0; session < commitments.size(); session++) {
+					if ((subset & 1 << session) != 0) {
+						union.addAll(commitments.get(session));
+					}
+				}
+				wholeCommitments.add(union);
+			}
+			assertThat(wholeCommitments).containsAll(plannedStoriesSeen);
+
+			PersistentBacklogSnapshotForConsistentReads finalSnapshot = agileSprintPlanningService.doTheThingWhereWeTakeASnapshotOfTheBacklog();
+			assertThat(finalSnapshot.makeItWorkByCountingTheStories()).isEqualTo(200);
+			assertThat(commitments.stream().mapToInt(Set::size).sum())
+					.isEqualTo(agileSprintPlanningService.doTheThingWhereWeGetUserStoriesForSpecificSprint(1).size());
+		}
+	}
+}
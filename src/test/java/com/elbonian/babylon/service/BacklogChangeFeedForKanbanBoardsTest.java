@@ -0,0 +1,153 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryChangeFeedPageForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryChangeForKanbanBoards.ChangeTypeForKanbanBoards;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the backlog change feed behind the Kanban board long-poll and event stream.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Backlog Change Feed Tests")
+class BacklogChangeFeedForKanbanBoardsTest {
+
+	private final BacklogChangeFeedForKanbanBoards changeFeed = new BacklogChangeFeedForKanbanBoards(8, 2);
+
+	private final AgileSprintPlanningService service = new AgileSprintPlanningService(
+			new OptimalSprintPlanningEngineForCapacityPlanning(), new MonteCarloSprintForecastEngineForCapacityPlanning(), null, changeFeed);
+
+	private Long newStory(String title) {
+		return service.doTheThingWhereWeCreateNewUserStoryForBacklog(
+				title, "developer", "to ship", "the boss is happy", 3,
+				PriorityLevelForBacklogManagement.MEDIUM, "it works").getUserStoryIdentificationNumberForTrackingPurposes();
+	}
+
+	@Nested
+	@DisplayName("Reading")
+	class Reading {
+
+		@Test
+		@DisplayName("Should number every create and update and return only what comes after since")
+		void shouldReturnTheDeltas() {
+			Long storyId = newStory("Card");
+			service.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(storyId, StoryStatusForWorkflowTracking.IN_PROGRESS);
+			newStory("Another card");
+
+			UserStoryChangeFeedPageForKanbanBoards everything = changeFeed.doTheThingWhereWeReadTheChangesSince(0, 100);
+			assertThat(everything.getChanges()).extracting(UserStoryChangeForKanbanBoards::getSequence).containsExactly(1L, 2L, 3L);
+			assertThat(everything.getChanges()).extracting(UserStoryChangeForKanbanBoards::getChangeType).containsExactly(
+					ChangeTypeForKanbanBoards.CREATED, ChangeTypeForKanbanBoards.UPDATED, ChangeTypeForKanbanBoards.CREATED);
+			UserStoryChangeForKanbanBoards move = everything.getChanges().get(1);
+			assertThat(move.getPreviousStatus()).isEqualTo(StoryStatusForWorkflowTracking.BACKLOG);
+			assertThat(move.getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.IN_PROGRESS);
+			assertThat(move.getStory().getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.IN_PROGRESS);
+
+			UserStoryChangeFeedPageForKanbanBoards delta = changeFeed.doTheThingWhereWeReadTheChangesSince(1, 1);
+			assertThat(delta.getChanges()).extracting(UserStoryChangeForKanbanBoards::getSequence).containsExactly(2L);
+			assertThat(delta.getNextSince()).isEqualTo(2);
+			assertThat(delta.getHasMore()).isTrue();
+
+			UserStoryChangeFeedPageForKanbanBoards upToDate = changeFeed.doTheThingWhereWeReadTheChangesSince(3, 100);
+			assertThat(upToDate.getChanges()).isEmpty();
+			assertThat(upToDate.getNextSince()).isEqualTo(3);
+			assertThat(upToDate.getResyncRequired()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Should ask for a resync once the changes asked for have left the ring")
+		void shouldAskForAResync() {
+			for (int i = 0; i < 10; i++) {
+				newStory("Card " + i);
+			}
+
+			assertThat(changeFeed.doTheThingWhereWeReadTheChangesSince(2, 100).getChanges()).hasSize(8);
+			UserStoryChangeFeedPageForKanbanBoards tooOld = changeFeed.doTheThingWhereWeReadTheChangesSince(1, 100);
+			assertThat(tooOld.getResyncRequired()).isTrue();
+			assertThat(tooOld.getNextSince()).isEqualTo(10);
+			// A board that remembers a sequence from before a restart
+			assertThat(changeFeed.doTheThingWhereWeReadTheChangesSince(500, 100).getResyncRequired()).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("Subscribing")
+	class Subscribing {
+
+		@Test
+		@DisplayName("Should deliver what is already there, then every new change, until cancelled")
+		void shouldDeliverNewChanges() throws Exception {
+			newStory("Before subscribing");
+			BlockingQueue<UserStoryChangeFeedPageForKanbanBoards> delivered = new LinkedBlockingQueue<>();
+			BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards subscription =
+					changeFeed.makeItWorkBySubscribingToTheChanges(0, 100, delivered::add);
+
+			assertThat(delivered.poll(5, TimeUnit.SECONDS).getNextSince()).isEqualTo(1);
+			assertThat(delivered.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+			Long storyId = newStory("While subscribed");
+			service.doTheThingWhereWeMarkUserStoryAsBlocked(storyId, "Waiting on Bob");
+			long lastSequence = 1;
+			while (lastSequence < 3) {
+				UserStoryChangeFeedPageForKanbanBoards page = delivered.poll(5, TimeUnit.SECONDS);
+				assertThat(page.getChanges().get(0).getSequence()).isEqualTo(lastSequence + 1);
+				lastSequence = page.getNextSince();
+			}
+
+			subscription.makeItWorkByCancelling();
+			newStory("After cancelling");
+			assertThat(delivered.poll(100, TimeUnit.MILLISECONDS)).isNull();
+			assertThat(changeFeed.makeItWorkByCountingTheSubscribers()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should drop a subscriber whose connection fails and refuse subscribers over the limit")
+		void shouldDropFailedSubscribersAndEnforceTheLimit() throws Exception {
+			newStory("First");
+			BacklogChangeFeedForKanbanBoards.ChangeSubscriptionForKanbanBoards healthy =
+					changeFeed.makeItWorkBySubscribingToTheChanges(1, 100, page -> { });
+			changeFeed.makeItWorkBySubscribingToTheChanges(1, 100, page -> { });
+			assertThat(changeFeed.makeItWorkBySubscribingToTheChanges(1, 100, page -> { })).isNull();
+			healthy.makeItWorkByCancelling();
+			healthy.makeItWorkByCancelling();
+
+			changeFeed.makeItWorkBySubscribingToTheChanges(0, 100, page -> {
+				throw new IOException("Browser tab closed");
+			});
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (changeFeed.makeItWorkByCountingTheSubscribers() > 1 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(changeFeed.makeItWorkByCountingTheSubscribers()).isEqualTo(1);
+			assertThat(changeFeed.makeItWorkBySubscribingToTheChanges(1, 100, page -> { })).isNotNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should include stories from a bulk import as individual changes")
+	void shouldFeedBulkImports() throws IOException {
+		service.doTheThingWhereWeImportStoriesIntoTheBacklog(new StringReader("title,priority\nOne,LOW\nTwo,HIGH\n"),
+				StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration.CSV);
+
+		List<UserStoryChangeForKanbanBoards> changes = changeFeed.doTheThingWhereWeReadTheChangesSince(0, 100).getChanges();
+		assertThat(changes).extracting(UserStoryChangeForKanbanBoards::getStoryId).containsExactly(1L, 2L);
+	}
+}
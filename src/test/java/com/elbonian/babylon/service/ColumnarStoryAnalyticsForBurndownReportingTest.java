@@ -0,0 +1,220 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryColumnForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryFilterForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryGroupsForAnalytics;
+import com.elbonian.babylon.service.ColumnarStoryAnalyticsForBurndownReporting.StoryMeasureForAnalytics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the columnar analytics over user stories.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Columnar Story Analytics Tests")
+class ColumnarStoryAnalyticsForBurndownReportingTest {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 1, 19, 9, 0);
+
+	private final ColumnarStoryAnalyticsForBurndownReporting columns = new ColumnarStoryAnalyticsForBurndownReporting();
+
+	private static UserStoryForAgileSprintPlanning story(int storyPoints, Integer sprint, StoryStatusForWorkflowTracking status,
+			PriorityLevelForBacklogManagement priority, String developer, LocalDateTime completed) {
+		return UserStoryForAgileSprintPlanning.builder()
+				.storyPointsBasedOnFibonacciSequenceForComplexityEstimation(storyPoints)
+				.assignedToSprintNumberForIterativeDevelopment(sprint)
+				.currentStatus(status)
+				.priorityLevel(priority)
+				.assignedDeveloperNameOrEmailAddress(developer)
+				.createdTimestampForAuditTrail(MONDAY)
+				.completedTimestampForVelocityCalculation(completed)
+				.build();
+	}
+
+	@Nested
+	@DisplayName("Aggregating")
+	class Aggregating {
+
+		@Test
+		@DisplayName("Should filter, group by completion day and sum story points")
+		void shouldSumStoryPointsPerDay() {
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(1, null, story(3, 7, StoryStatusForWorkflowTracking.DONE,
+					PriorityLevelForBacklogManagement.HIGH, "alice", MONDAY.plusDays(1)));
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(2, null, story(5, 7, StoryStatusForWorkflowTracking.DONE,
+					PriorityLevelForBacklogManagement.LOW, "bob", MONDAY.plusDays(1).plusHours(3)));
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(3, null, story(8, 7, StoryStatusForWorkflowTracking.DONE,
+					PriorityLevelForBacklogManagement.HIGH, "alice", MONDAY.plusDays(3)));
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(4, null, story(13, 7, StoryStatusForWorkflowTracking.IN_PROGRESS,
+					PriorityLevelForBacklogManagement.HIGH, "bob", null));
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(5, null, story(21, 8, StoryStatusForWorkflowTracking.DONE,
+					PriorityLevelForBacklogManagement.HIGH, "carol", MONDAY.plusDays(1)));
+
+			StoryGroupsForAnalytics byDay = columns.doTheThingWhereWeAggregateTheStories(
+					StoryFilterForAnalytics.everyStory().inSprint(7).withStatus(StoryStatusForWorkflowTracking.DONE),
+					StoryColumnForAnalytics.COMPLETION_DAY, StoryMeasureForAnalytics.STORY_POINTS);
+
+			assertThat(byDay.getNumberOfGroups()).isEqualTo(2);
+			assertThat(byDay.getLabel(0)).isEqualTo("2026-01-20");
+			assertThat(byDay.getSum(0)).isEqualTo(8);
+			assertThat(byDay.getCount(0)).isEqualTo(2);
+			assertThat(byDay.getLabel(1)).isEqualTo("2026-01-22");
+			assertThat(byDay.getSum(1)).isEqualTo(8);
+
+			StoryGroupsForAnalytics everything = columns.doTheThingWhereWeAggregateTheStories(
+					StoryFilterForAnalytics.everyStory().withPriority(PriorityLevelForBacklogManagement.HIGH),
+					null, StoryMeasureForAnalytics.STORY_POINTS);
+			assertThat(everything.getNumberOfGroups()).isEqualTo(1);
+			assertThat(everything.getSum(0)).isEqualTo(3 + 8 + 13 + 21);
+		}
+
+		@Test
+		@DisplayName("Should report nearest-rank cycle time percentiles per developer, skipping unfinished stories")
+		void shouldReportCycleTimePercentiles() {
+			for (int hours = 1; hours <= 10; hours++) {
+				columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(hours, null, story(1, 1, StoryStatusForWorkflowTracking.DONE,
+						PriorityLevelForBacklogManagement.MEDIUM, "alice", MONDAY.plusHours(hours)));
+			}
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(11, null, story(1, 1, StoryStatusForWorkflowTracking.DONE,
+					PriorityLevelForBacklogManagement.MEDIUM, "bob", MONDAY.plusHours(100)));
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(12, null, story(1, 1, StoryStatusForWorkflowTracking.IN_REVIEW,
+					PriorityLevelForBacklogManagement.MEDIUM, "bob", null));
+
+			StoryGroupsForAnalytics byDeveloper = columns.doTheThingWhereWeAggregateTheStories(
+					StoryFilterForAnalytics.everyStory(), StoryColumnForAnalytics.DEVELOPER,
+					StoryMeasureForAnalytics.CYCLE_TIME_IN_SECONDS, 50, 85, 100);
+
+			assertThat(byDeveloper.getNumberOfGroups()).isEqualTo(2);
+			assertThat(byDeveloper.getLabel(0)).isEqualTo("alice");
+			assertThat(byDeveloper.getCount(0)).isEqualTo(10);
+			assertThat(byDeveloper.getPercentile(0, 0)).isEqualTo(5 * 3600L);
+			assertThat(byDeveloper.getPercentile(0, 1)).isEqualTo(9 * 3600L);
+			assertThat(byDeveloper.getPercentile(0, 2)).isEqualTo(10 * 3600L);
+			assertThat(byDeveloper.getLabel(1)).isEqualTo("bob");
+			assertThat(byDeveloper.getCount(1)).isEqualTo(1);
+			assertThat(byDeveloper.getPercentile(1, 0)).isEqualTo(100 * 3600L);
+		}
+
+		@Test
+		@DisplayName("Should move a story between groups when it changes")
+		void shouldOverwriteTheRow() {
+			UserStoryForAgileSprintPlanning inProgress = story(5, 3, StoryStatusForWorkflowTracking.IN_PROGRESS,
+					PriorityLevelForBacklogManagement.LOW, "alice", null);
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(1, null, inProgress);
+			columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(1, inProgress, inProgress.toBuilder()
+					.currentStatus(StoryStatusForWorkflowTracking.DONE)
+					.assignedToSprintNumberForIterativeDevelopment(4)
+					.build());
+
+			StoryGroupsForAnalytics bySprint = columns.doTheThingWhereWeAggregateTheStories(
+					StoryFilterForAnalytics.everyStory(), StoryColumnForAnalytics.SPRINT, StoryMeasureForAnalytics.STORY_POINTS);
+			assertThat(bySprint.getNumberOfGroups()).isEqualTo(1);
+			assertThat(bySprint.getKey(0)).isEqualTo(4);
+			assertThat(bySprint.getSum(0)).isEqualTo(5);
+		}
+
+		@Test
+		@DisplayName("Should select the same value a full sort puts at the rank, duplicates included")
+		void shouldSelectLikeASort() {
+			Random random = new Random(7);
+			for (int attempt = 0; attempt < 200; attempt++) {
+				long[] values = new long[1 + random.nextInt(500)];
+				for (int i = 0; i < values.length; i++) {
+					values[i] = random.nextInt(attempt % 2 == 0 ? 10 : 1_000_000);
+				}
+				long[] sorted = values.clone();
+				Arrays.sort(sorted);
+				int rank = random.nextInt(values.length);
+
+				ColumnarStoryAnalyticsForBurndownReporting.makeItWorkBySelectingTheRank(values, 0, values.length, rank);
+
+				assertThat(values[rank]).isEqualTo(sorted[rank]);
+			}
+		}
+
+		@Test
+		@DisplayName("Should reject percentiles outside 0-100")
+		void shouldRejectBadPercentiles() {
+			assertThatThrownBy(() -> columns.doTheThingWhereWeAggregateTheStories(
+					StoryFilterForAnalytics.everyStory(), null, StoryMeasureForAnalytics.STORY_POINTS, 101))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Parallel scans")
+	class ParallelScans {
+
+		@Test
+		@DisplayName("Should match a plain loop over the stories when the scan is split across threads")
+		void shouldMatchAPlainLoop() {
+			Random random = new Random(22);
+			StoryStatusForWorkflowTracking[] statuses = StoryStatusForWorkflowTracking.values();
+			PriorityLevelForBacklogManagement[] priorities = PriorityLevelForBacklogManagement.values();
+			int numberOfStories = 3 * ColumnarStoryAnalyticsForBurndownReporting.THE_ROWS_PER_SCAN_TASK + 17;
+			Map<Integer, long[]> expectedBySprint = new TreeMap<>();
+			Map<Integer, List<Long>> expectedCycleTimesBySprint = new TreeMap<>();
+
+			for (int storyId = 1; storyId <= numberOfStories; storyId++) {
+				StoryStatusForWorkflowTracking status = statuses[random.nextInt(statuses.length)];
+				Integer sprint = random.nextInt(10) == 0 ? null : 1 + random.nextInt(30);
+				LocalDateTime completed = status == StoryStatusForWorkflowTracking.DONE
+						? MONDAY.plusMinutes(random.nextInt(100_000)) : null;
+				int storyPoints = random.nextInt(14);
+				columns.doTheThingWhereWeWriteTheStoryIntoTheColumns(storyId, null, story(storyPoints, sprint, status,
+						priorities[random.nextInt(priorities.length)], "dev" + random.nextInt(7), completed));
+
+				if (sprint != null && status == StoryStatusForWorkflowTracking.DONE) {
+					long[] countAndSum = expectedBySprint.computeIfAbsent(sprint, key -> new long[2]);
+					countAndSum[0]++;
+					countAndSum[1] += storyPoints;
+					expectedCycleTimesBySprint.computeIfAbsent(sprint, key -> new ArrayList<>())
+							.add(completed.toEpochSecond(ZoneOffset.UTC) - MONDAY.toEpochSecond(ZoneOffset.UTC));
+				}
+			}
+
+			StoryFilterForAnalytics done = StoryFilterForAnalytics.everyStory().withStatus(StoryStatusForWorkflowTracking.DONE);
+			StoryGroupsForAnalytics points = columns.doTheThingWhereWeAggregateTheStories(
+					done, StoryColumnForAnalytics.SPRINT, StoryMeasureForAnalytics.STORY_POINTS);
+			StoryGroupsForAnalytics cycleTimes = columns.doTheThingWhereWeAggregateTheStories(
+					done, StoryColumnForAnalytics.SPRINT, StoryMeasureForAnalytics.CYCLE_TIME_IN_SECONDS, 95, 10, 50);
+
+			assertThat(points.getNumberOfGroups()).isEqualTo(expectedBySprint.size());
+			int group = 0;
+			for (Map.Entry<Integer, long[]> expected : expectedBySprint.entrySet()) {
+				assertThat(points.getKey(group)).isEqualTo(expected.getKey().longValue());
+				assertThat(points.getCount(group)).isEqualTo(expected.getValue()[0]);
+				assertThat(points.getSum(group)).isEqualTo(expected.getValue()[1]);
+
+				List<Long> expectedCycleTimes = expectedCycleTimesBySprint.get(expected.getKey());
+				expectedCycleTimes.sort(null);
+				double[] percentiles = {95, 10, 50};
+				for (int p = 0; p < percentiles.length; p++) {
+					int rank = Math.max(0, (int) Math.ceil(percentiles[p] / 100 * expectedCycleTimes.size()) - 1);
+					assertThat(cycleTimes.getPercentile(group, p)).isEqualTo(expectedCycleTimes.get(rank));
+				}
+				group++;
+			}
+		}
+	}
+}
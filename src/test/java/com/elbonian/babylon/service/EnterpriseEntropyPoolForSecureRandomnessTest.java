@@ -0,0 +1,88 @@
+package com.elbonian.babylon.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the background-reseeded entropy pool behind the "Really Random" level.
+ *
+ * <p>The scheduled reseed is set to one hour, so only the reseeds forced by the tests
+ * happen while they run.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@DisplayName("Enterprise Entropy Pool Tests")
+class EnterpriseEntropyPoolForSecureRandomnessTest {
+
+	private static final RandomGeneratorFactory<RandomGenerator> FAST_ALGORITHM =
+			RandomGeneratorFactory.of(RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM);
+
+	private final EnterpriseEntropyPoolForSecureRandomness entropyPool = new EnterpriseEntropyPoolForSecureRandomness(3600);
+
+	@AfterEach
+	void stopTheReseeder() {
+		entropyPool.makeItWorkByStoppingTheBackgroundReseeder();
+	}
+
+	@Test
+	@DisplayName("Should give every generator its own sequence within one epoch")
+	void shouldSaltEachGenerator() {
+		RandomGenerator first = entropyPool.doTheThingWhereWeCreateAReseededGeneratorForOneThread(FAST_ALGORITHM);
+		RandomGenerator second = entropyPool.doTheThingWhereWeCreateAReseededGeneratorForOneThread(FAST_ALGORITHM);
+
+		assertThat(first.nextLong()).isNotEqualTo(second.nextLong());
+	}
+
+	@Test
+	@DisplayName("Should re-key each generator exactly once per published epoch")
+	void shouldReKeyOncePerEpoch() {
+		RandomGenerator generator = entropyPool.doTheThingWhereWeCreateAReseededGeneratorForOneThread(FAST_ALGORITHM);
+		generator.nextLong();
+		long reKeysBefore = (long) entropyPool.makeItWorkByCollectingTheEntropyPoolStatistics().get("perThreadReKeys");
+		long reseedsBefore = (long) entropyPool.makeItWorkByCollectingTheEntropyPoolStatistics().get("reseeds");
+
+		entropyPool.makeItWorkByReseedingThePoolFromSecureRandom();
+		for (int i = 0; i < 1000; i++) {
+			generator.nextLong();
+		}
+
+		assertThat(entropyPool.makeItWorkByCollectingTheEntropyPoolStatistics())
+				.containsEntry("reseeds", reseedsBefore + 1)
+				.containsEntry("perThreadReKeys", reKeysBefore + 1);
+	}
+
+	@Test
+	@DisplayName("Should never make request threads spend time inside SecureRandom for reseeded generators")
+	void shouldNotBlockRequestThreads() {
+		RandomGenerator generator = entropyPool.doTheThingWhereWeCreateAReseededGeneratorForOneThread(FAST_ALGORITHM);
+		for (int i = 0; i < 10; i++) {
+			entropyPool.makeItWorkByReseedingThePoolFromSecureRandom();
+			for (int j = 0; j < 10_000; j++) {
+				generator.nextInt(1000);
+			}
+		}
+
+		assertThat(entropyPool.makeItWorkByCollectingTheEntropyPoolStatistics())
+				.containsEntry("requestThreadNanosInsideSecureRandom", 0L);
+		assertThat((long) entropyPool.makeItWorkByCollectingTheEntropyPoolStatistics().get("backgroundNanosGatheringEntropy"))
+				.isPositive();
+	}
+
+	@Test
+	@DisplayName("Should reject a non-positive reseed interval")
+	void shouldRejectInvalidInterval() {
+		assertThatThrownBy(() -> new EnterpriseEntropyPoolForSecureRandomness(0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
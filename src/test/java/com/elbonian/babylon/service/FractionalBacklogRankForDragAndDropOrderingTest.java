@@ -0,0 +1,118 @@
+package com.elbonian.babylon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the fractional rank keys behind drag-and-drop backlog ordering.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Fractional Backlog Rank Tests")
+class FractionalBacklogRankForDragAndDropOrderingTest {
+
+	private static String between(String lowerRank, String upperRank) {
+		String rank = FractionalBacklogRankForDragAndDropOrdering.doTheThingWhereWeFindARankBetween(lowerRank, upperRank);
+		if (lowerRank != null) {
+			assertThat(rank).isGreaterThan(lowerRank);
+		}
+		if (upperRank != null) {
+			assertThat(rank).isLessThan(upperRank);
+		}
+		return rank;
+	}
+
+	@Nested
+	@DisplayName("Appending and prepending")
+	class AppendingAndPrepending {
+
+		@Test
+		@DisplayName("Should count the integer part up when appending, growing one character per 62x")
+		void shouldStayShortWhenAppending() {
+			String rank = between(null, null);
+			assertThat(rank).isEqualTo("a0");
+			for (int i = 0; i < 1_000_000; i++) {
+				rank = between(rank, null);
+			}
+			assertThat(rank).hasSize(5);
+			assertThat(between("az", null)).isEqualTo("b00");
+			assertThat(between("Zz", null)).isEqualTo("a0");
+		}
+
+		@Test
+		@DisplayName("Should count the integer part down when prepending, into negative integers")
+		void shouldCountDownWhenPrepending() {
+			assertThat(between(null, "a0")).isEqualTo("Zz");
+			assertThat(between(null, "b00")).isEqualTo("az");
+			assertThat(between(null, "Z0")).isEqualTo("Yzz");
+			assertThat(between(null, "a0V")).isEqualTo("a0");
+
+			String rank = "a0";
+			for (int i = 0; i < 10_000; i++) {
+				rank = between(null, rank);
+			}
+			assertThat(rank).hasSizeLessThanOrEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("Should refuse bounds in the wrong order or that aren't ranks")
+		void shouldRefuseBadBounds() {
+			assertThatThrownBy(() -> between("a1", "a0")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> between("a1", "a1")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> between("!", null)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> between("b0", null)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Dropping between")
+	class DroppingBetween {
+
+		@Test
+		@DisplayName("Should find room between adjacent integers and between nested fractions")
+		void shouldFindRoomInEveryGap() {
+			assertThat(between("a0", "a1")).isEqualTo("a0V");
+			assertThat(between("a0", "a0V")).isEqualTo("a0G");
+			assertThat(between("a0V", "a1")).isEqualTo("a0l");
+			assertThat(between("a0", "a2")).isEqualTo("a1");
+			assertThat(between("az", "b00")).isEqualTo("azV");
+
+			// The same gap over and over: each drop stays between its neighbours
+			String lower = "a0";
+			String upper = "a1";
+			for (int i = 0; i < 200; i++) {
+				upper = between(lower, upper);
+			}
+			assertThat(upper.length()).isLessThan(60);
+		}
+
+		@Test
+		@DisplayName("Should keep a randomly dragged backlog in order with no rank reused")
+		void shouldKeepRandomDropsInOrder() {
+			Random random = new Random(25);
+			List<String> ranks = new ArrayList<>();
+			ranks.add(between(null, null));
+			for (int i = 0; i < 5_000; i++) {
+				int gap = random.nextInt(ranks.size() + 1);
+				String lower = gap == 0 ? null : ranks.get(gap - 1);
+				String upper = gap == ranks.size() ? null : ranks.get(gap);
+				ranks.add(gap, between(lower, upper));
+			}
+
+			assertThat(ranks).isSorted().doesNotHaveDuplicates();
+			assertThat(ranks).allSatisfy(rank -> assertThat(rank).hasSizeLessThan(16));
+		}
+	}
+}
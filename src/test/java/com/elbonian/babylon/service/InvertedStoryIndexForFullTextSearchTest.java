@@ -0,0 +1,149 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the inverted full-text index over user stories.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Inverted Story Index Tests")
+class InvertedStoryIndexForFullTextSearchTest {
+
+	private final InvertedStoryIndexForFullTextSearch index = new InvertedStoryIndexForFullTextSearch();
+
+	private static UserStoryForAgileSprintPlanning story(String title, String iWantTo, String acceptanceCriteria) {
+		return UserStoryForAgileSprintPlanning.builder()
+				.storyTitleForQuickIdentificationInStandupMeetings(title)
+				.asAUserPersonaOrStakeholderRole("As a compliance officer")
+				.iWantToHaveThisSpecificCapabilityOrFeature(iWantTo)
+				.soThatICanAchieveThisBusinessValueOrOutcome("so that the boss is happy")
+				.acceptanceCriteriaForDefinitionOfDone(acceptanceCriteria)
+				.currentStatus(StoryStatusForWorkflowTracking.BACKLOG)
+				.build();
+	}
+
+	private List<Long> idsFor(String query) {
+		List<Long> storyIds = new ArrayList<>();
+		index.doTheThingWhereWeSearchTheStories(query, 10).getHits().forEach(hit -> storyIds.add(hit.getStoryId()));
+		return storyIds;
+	}
+
+	@Nested
+	@DisplayName("Tokenizing")
+	class Tokenizing {
+
+		@Test
+		@DisplayName("Should lower-case, split on punctuation and drop stop words")
+		void shouldTokenize() {
+			List<String> terms = new ArrayList<>();
+			InvertedStoryIndexForFullTextSearch.makeItWorkByTokenizingTheText("As a VP, I want the TPS-Report v2 (ASAP)!", terms::add);
+
+			assertThat(terms).containsExactly("vp", "want", "tps", "report", "v2", "asap");
+		}
+	}
+
+	@Nested
+	@DisplayName("Ranking")
+	class Ranking {
+
+		@Test
+		@DisplayName("Should rank title matches and rarer words higher")
+		void shouldRankByBm25() {
+			index.doTheThingWhereWeReindexTheStory(1, null, story("Refactor the billing module", "to clean up TPS code", "tests pass"));
+			index.doTheThingWhereWeReindexTheStory(2, null, story("TPS report cover sheet", "to validate cover sheets", "every TPS report has one"));
+			index.doTheThingWhereWeReindexTheStory(3, null, story("Coffee machine", "more coffee", "coffee flows"));
+			index.doTheThingWhereWeReindexTheStory(4, null, story("Quarterly synergy review", "to review synergy", "slides exist"));
+
+			assertThat(idsFor("tps report")).containsExactly(2L, 1L);
+			assertThat(idsFor("COFFEE")).containsExactly(3L);
+			assertThat(idsFor("the a to")).isEmpty();
+			assertThat(idsFor("nothing matches this")).isEmpty();
+			assertThat(index.doTheThingWhereWeSearchTheStories("tps coffee synergy", 2).getTotalMatches()).isEqualTo(4);
+			assertThat(index.doTheThingWhereWeSearchTheStories("tps coffee synergy", 2).getHits()).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("Should break ties by the lower story ID")
+		void shouldBreakTiesByStoryId() {
+			for (long storyId = 10; storyId > 0; storyId--) {
+				index.doTheThingWhereWeReindexTheStory(storyId, null, story("Same title", "same wish", "same criteria"));
+			}
+
+			assertThat(idsFor("same")).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+		}
+
+		@Test
+		@DisplayName("Should refuse a non-positive limit")
+		void shouldRefuseABadLimit() {
+			assertThatThrownBy(() -> index.doTheThingWhereWeSearchTheStories("tps", 0))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("Incremental updates")
+	class IncrementalUpdates {
+
+		@Test
+		@DisplayName("Should move a story from its old words to its new ones")
+		void shouldReindexChangedText() {
+			UserStoryForAgileSprintPlanning before = story("Legacy mainframe export", "to export data", "a CSV file");
+			index.doTheThingWhereWeReindexTheStory(7, null, before);
+			UserStoryForAgileSprintPlanning after = before.toBuilder()
+					.storyTitleForQuickIdentificationInStandupMeetings("Cloud native export").build();
+
+			index.doTheThingWhereWeReindexTheStory(7, before, after);
+
+			assertThat(idsFor("mainframe")).isEmpty();
+			assertThat(idsFor("cloud")).containsExactly(7L);
+			assertThat(idsFor("export")).containsExactly(7L);
+			assertThat(index.makeItWorkByCountingTheIndexedStories()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should leave the index alone when only the status changed")
+		void shouldIgnoreStatusChanges() {
+			UserStoryForAgileSprintPlanning before = story("Status only", "to move", "it moves");
+			index.doTheThingWhereWeReindexTheStory(3, null, before);
+			int terms = index.makeItWorkByCountingTheTerms();
+
+			index.doTheThingWhereWeReindexTheStory(3, before, before.toBuilder().currentStatus(StoryStatusForWorkflowTracking.DONE).build());
+
+			assertThat(index.makeItWorkByCountingTheTerms()).isEqualTo(terms);
+			assertThat(idsFor("status")).containsExactly(3L);
+		}
+	}
+
+	@Test
+	@DisplayName("Should find stories created through the service")
+	void shouldIndexStoriesCreatedThroughTheService() {
+		AgileSprintPlanningService service = new AgileSprintPlanningService();
+		service.doTheThingWhereWeCreateNewUserStoryForBacklog("Add TPS Report Cover Sheet Validator", "As a compliance officer",
+				"automatically validate TPS report cover sheets", "we can ensure compliance", 5,
+				UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement.CRITICAL, "All TPS reports have cover sheets");
+		service.doTheThingWhereWeCreateNewUserStoryForBacklog("Buy a new coffee machine", "As a developer",
+				"better coffee", "I stay awake in standups", 2,
+				UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement.LOW, "Coffee is hot");
+		service.doTheThingWhereWeMarkUserStoryAsBlocked(1L, "Waiting on Bob");
+
+		assertThat(service.doTheThingWhereWeSearchUserStoriesInTheBacklog("cover sheet", 10).getHits())
+				.singleElement()
+				.satisfies(hit -> assertThat(hit.getStory().getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.BLOCKED));
+		assertThat(service.doTheThingWhereWeSearchUserStoriesInTheBacklog("coffee", 10).getTotalMatches()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,101 @@
+package com.elbonian.babylon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the seeded, jumpable random number stream.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@DisplayName("Jumpable Seeded Random Number Stream Tests")
+class JumpableSeededRandomNumberStreamForReproducibleLoadTestsTest {
+
+	@Test
+	@DisplayName("Should produce the same numbers for the same stream id and seed")
+	void shouldBeReproducible() {
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests first =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 42);
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests second =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 42);
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(first.nextLong()).isEqualTo(second.nextLong());
+		}
+	}
+
+	@Test
+	@DisplayName("Should produce different numbers for different stream ids or seeds")
+	void shouldSeparateStreams() {
+		long fromLoadTest = new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 42).nextLong();
+
+		assertThat(new JumpableSeededRandomNumberStreamForReproducibleLoadTests("other-test", 42).nextLong())
+				.isNotEqualTo(fromLoadTest);
+		assertThat(new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 43).nextLong())
+				.isNotEqualTo(fromLoadTest);
+	}
+
+	@Test
+	@DisplayName("Should reach any position by jumping exactly as by replaying")
+	void shouldJumpLikeReplaying() {
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests replayed =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 7);
+		for (int i = 0; i < 12_345; i++) {
+			replayed.nextLong();
+		}
+
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests jumped =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 7);
+		jumped.makeItWorkByJumpingToPosition(12_345);
+		assertThat(jumped.nextLong()).isEqualTo(replayed.nextLong());
+
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests byDistance =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 7);
+		byDistance.jump(12_346.0);
+		assertThat(byDistance.nextLong()).isEqualTo(replayed.nextLong());
+	}
+
+	@Test
+	@DisplayName("Should leave the original untouched when a copy jumps ahead")
+	void shouldCopyAndJumpIndependently() {
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests original =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("load-test", 1);
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests copy = original.copy();
+		copy.jump();
+
+		assertThat(copy.makeItWorkByReportingTheCurrentPosition()).isEqualTo(1L << 32);
+		assertThat(original.makeItWorkByReportingTheCurrentPosition()).isZero();
+
+		copy.jumpPowerOfTwo(64);
+		assertThat(copy.makeItWorkByReportingTheCurrentPosition()).isEqualTo(1L << 32);
+		assertThatThrownBy(() -> copy.jump(-1.0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> copy.jump(0.5)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("Should keep ranged numbers inside the requested range")
+	void shouldStayInRange() {
+		JumpableSeededRandomNumberStreamForReproducibleLoadTests stream =
+				new JumpableSeededRandomNumberStreamForReproducibleLoadTests("dice", 6);
+		int[] rolls = new int[10_000];
+		stream.doTheThingWhereWeFillABufferWithNumbersInTheRange(1, 6, rolls, rolls.length);
+
+		assertThat(Arrays.stream(rolls).min().getAsInt()).isEqualTo(1);
+		assertThat(Arrays.stream(rolls).max().getAsInt()).isEqualTo(6);
+		assertThat(rolls).contains(1, 2, 3, 4, 5, 6);
+
+		int[] extremes = new int[1000];
+		stream.doTheThingWhereWeFillABufferWithNumbersInTheRange(Integer.MIN_VALUE, Integer.MAX_VALUE,
+				extremes, extremes.length);
+		assertThat(Arrays.stream(extremes).anyMatch(value -> value < 0)).isTrue();
+	}
+}
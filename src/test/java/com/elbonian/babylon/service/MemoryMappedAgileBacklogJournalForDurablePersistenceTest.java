@@ -0,0 +1,192 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the memory-mapped backlog journal.
+ *
+ * <p>A "crash" is simulated by simply abandoning a service without closing its journal and
+ * starting a new service on the same directory: whatever the old one appended is in the mapped
+ * files, but no final snapshot was written, so recovery has to replay the journal.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Memory-Mapped Agile Backlog Journal Tests")
+class MemoryMappedAgileBacklogJournalForDurablePersistenceTest {
+
+	@TempDir
+	Path journalDirectory;
+
+	private MemoryMappedAgileBacklogJournalForDurablePersistence journal(int segmentSizeInBytes) {
+		return new MemoryMappedAgileBacklogJournalForDurablePersistence(journalDirectory, segmentSizeInBytes, true, Long.MAX_VALUE);
+	}
+
+	private AgileSprintPlanningService serviceOn(MemoryMappedAgileBacklogJournalForDurablePersistence journal) {
+		return new AgileSprintPlanningService(new OptimalSprintPlanningEngineForCapacityPlanning(), journal);
+	}
+
+	private static UserStoryForAgileSprintPlanning newStory(AgileSprintPlanningService service, String title, int points) {
+		return service.doTheThingWhereWeCreateNewUserStoryForBacklog(
+				title, "developer", "to ship", "the boss is happy", points,
+				PriorityLevelForBacklogManagement.HIGH, "it works");
+	}
+
+	private static List<UserStoryForAgileSprintPlanning> storiesOf(AgileSprintPlanningService service) {
+		return service.doTheThingWhereWeGetAllUserStoriesFromBacklog().stream()
+				.sorted(Comparator.comparing(UserStoryForAgileSprintPlanning::getUserStoryIdentificationNumberForTrackingPurposes))
+				.toList();
+	}
+
+	private List<Path> segmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(journalDirectory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+		}
+	}
+
+	@Nested
+	@DisplayName("Recovery")
+	class Recovery {
+
+		@Test
+		@DisplayName("Should replay every kind of change after a crash")
+		void shouldReplayEverythingAfterACrash() {
+			AgileSprintPlanningService before = serviceOn(journal(1 << 20));
+			for (int i = 0; i < 20; i++) {
+				newStory(before, "Story " + i, 3);
+			}
+			before.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(1L, StoryStatusForWorkflowTracking.IN_PROGRESS);
+			before.doTheThingWhereWeMarkUserStoryAsBlocked(2L, "Waiting on Bob");
+			before.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(3L, 4L);
+			before.doTheThingWhereWeReRankTheStoryInTheBacklog(20L, null);
+			before.doTheThingWhereWeReRankTheStoryInTheBacklog(5L, 6L);
+			before.doTheThingWhereWeSimulateSprintPlanningCeremony(9);
+			before.doTheThingWhereWeCompleteCurrentSprintAndStartNext(17);
+
+			AgileSprintPlanningService after = serviceOn(journal(1 << 20));
+
+			assertThat(storiesOf(after)).isEqualTo(storiesOf(before));
+			assertThat(after.doTheThingWhereWeGetAllUserStoriesFromBacklog())
+					.isEqualTo(before.doTheThingWhereWeGetAllUserStoriesFromBacklog());
+			assertThat(after.doTheThingWhereWeFindTheCriticalPathThroughTheBacklog())
+					.isEqualTo(before.doTheThingWhereWeFindTheCriticalPathThroughTheBacklog());
+			assertThat(after.makeItWorkByReportingTheCurrentSprintNumber()).isEqualTo(2);
+			assertThat(after.doTheThingWhereWeCalculateTeamVelocityForCapacityPlanning(1)).isEqualTo(17.0);
+			assertThat(newStory(after, "Next", 1).getUserStoryIdentificationNumberForTrackingPurposes()).isEqualTo(21L);
+			assertThat(after.doTheThingWhereWeGetAllUserStoriesFromBacklog()).last()
+					.extracting(UserStoryForAgileSprintPlanning::getStoryTitleForQuickIdentificationInStandupMeetings)
+					.isEqualTo("Next");
+		}
+
+		@Test
+		@DisplayName("Should load the snapshot and replay only the tail written after it")
+		void shouldCombineSnapshotAndTail() throws IOException {
+			MemoryMappedAgileBacklogJournalForDurablePersistence firstJournal = journal(4096);
+			AgileSprintPlanningService before = serviceOn(firstJournal);
+			for (int i = 0; i < 100; i++) {
+				newStory(before, "Before snapshot " + i, 5);
+			}
+			before.doTheThingWhereWeCompleteCurrentSprintAndStartNext(21);
+			int segmentsBeforeTheSnapshot = segmentFiles().size();
+
+			firstJournal.makeItWorkByWritingASnapshot();
+
+			assertThat(segmentFiles()).hasSizeLessThan(segmentsBeforeTheSnapshot);
+			assertThat(firstJournal.makeItWorkByReportingTheNumberOfRecordsSinceTheLastSnapshot()).isZero();
+
+			before.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(50L, StoryStatusForWorkflowTracking.DONE);
+			newStory(before, "After snapshot", 8);
+			before.doTheThingWhereWeCompleteCurrentSprintAndStartNext(13);
+
+			AgileSprintPlanningService after = serviceOn(journal(4096));
+
+			assertThat(storiesOf(after)).isEqualTo(storiesOf(before));
+			assertThat(after.makeItWorkByReportingTheCurrentSprintNumber()).isEqualTo(3);
+			assertThat(after.doTheThingWhereWeCalculateTeamVelocityForCapacityPlanning(2)).isEqualTo(17.0);
+		}
+
+		@Test
+		@DisplayName("Should start from the final snapshot after a clean shutdown")
+		void shouldRecoverFromTheFinalSnapshot() {
+			MemoryMappedAgileBacklogJournalForDurablePersistence firstJournal = journal(1 << 20);
+			AgileSprintPlanningService before = serviceOn(firstJournal);
+			for (int i = 0; i < 10; i++) {
+				newStory(before, "Story " + i, 2);
+			}
+			firstJournal.makeItWorkByClosingTheJournal();
+
+			MemoryMappedAgileBacklogJournalForDurablePersistence secondJournal = journal(1 << 20);
+			AgileSprintPlanningService after = serviceOn(secondJournal);
+
+			assertThat(storiesOf(after)).isEqualTo(storiesOf(before));
+			assertThat(secondJournal.makeItWorkByReportingTheNumberOfRecordsSinceTheLastSnapshot()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("Journal files")
+	class JournalFiles {
+
+		@Test
+		@DisplayName("Should drop a torn last record and keep appending after the intact ones")
+		void shouldDropATornTail() throws IOException {
+			AgileSprintPlanningService before = serviceOn(journal(1 << 20));
+			for (int i = 0; i < 10; i++) {
+				newStory(before, "Story " + i, 3);
+			}
+			List<UserStoryForAgileSprintPlanning> intactStories = storiesOf(before).subList(0, 9);
+
+			// Flip the last written byte, which is inside the tenth story's record
+			try (RandomAccessFile segment = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+				long lastWrittenByte = segment.length() - 1;
+				segment.seek(lastWrittenByte);
+				while (segment.read() == 0) {
+					segment.seek(--lastWrittenByte);
+				}
+				segment.seek(lastWrittenByte);
+				int flipped = segment.read() ^ 0xFF;
+				segment.seek(lastWrittenByte);
+				segment.write(flipped);
+			}
+
+			AgileSprintPlanningService afterTheCrash = serviceOn(journal(1 << 20));
+			assertThat(storiesOf(afterTheCrash)).isEqualTo(intactStories);
+			newStory(afterTheCrash, "Replacement", 5);
+
+			AgileSprintPlanningService afterTheRestart = serviceOn(journal(1 << 20));
+			assertThat(storiesOf(afterTheRestart)).isEqualTo(storiesOf(afterTheCrash));
+			assertThat(storiesOf(afterTheRestart)).hasSize(10);
+		}
+
+		@Test
+		@DisplayName("Should roll over to new segments and replay across all of them")
+		void shouldRollOverSegments() throws IOException {
+			AgileSprintPlanningService before = serviceOn(journal(4096));
+			for (int i = 0; i < 200; i++) {
+				newStory(before, "Story with a reasonably long title to fill segments quickly " + i, 1);
+			}
+
+			assertThat(segmentFiles().size()).isGreaterThan(5);
+			assertThat(storiesOf(serviceOn(journal(4096)))).isEqualTo(storiesOf(before));
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.service.MonteCarloSprintForecastEngineForCapacityPlanning.SprintForecastForCapacityPlanning;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the Monte Carlo sprint forecast.
+ *
+ * <p>Uses velocity histories whose outcome can be worked out by hand, so the parallel
+ * simulation must reproduce exact or known probabilities.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Monte Carlo Sprint Forecast Tests")
+class MonteCarloSprintForecastEngineForCapacityPlanningTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2026, 1, 26);
+
+	private final MonteCarloSprintForecastEngineForCapacityPlanning engine =
+			new MonteCarloSprintForecastEngineForCapacityPlanning(100_000, 60_000);
+
+	@Test
+	@DisplayName("Should need exactly the sprints a constant velocity needs")
+	void shouldForecastConstantVelocityExactly() {
+		SprintForecastForCapacityPlanning forecast = engine.doTheThingWhereWeForecastTheCompletion(
+				new int[]{10}, 35, 10_000, MONDAY, new SplittableRandom(1));
+
+		assertThat(forecast.getTrialsRun()).isEqualTo(10_000);
+		assertThat(forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(50)).isEqualTo(4);
+		assertThat(forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(95)).isEqualTo(4);
+		assertThat(forecast.makeItWorkByFindingTheCompletionDateAtThePercentile(95)).isEqualTo(MONDAY.plusDays(56));
+		assertThat(forecast.makeItWorkByCalculatingTheProbabilityOfFinishingWithin(3)).isZero();
+		assertThat(forecast.makeItWorkByCalculatingTheProbabilityOfFinishingWithin(4)).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Should converge on the probability worked out by hand")
+	void shouldConvergeOnTheKnownProbability() {
+		// 20 points with velocities 5 or 15: done in two sprints unless both draws are 5
+		SprintForecastForCapacityPlanning forecast = engine.doTheThingWhereWeForecastTheCompletion(
+				new int[]{5, 15}, 20, 100_000, MONDAY, new SplittableRandom(2));
+
+		assertThat(forecast.makeItWorkByCalculatingTheProbabilityOfFinishingWithin(2)).isCloseTo(0.75, within(0.01));
+		assertThat(forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(50)).isEqualTo(2);
+		assertThat(forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(85)).isEqualTo(3);
+		assertThat(forecast.makeItWorkByFindingTheSprintsNeededAtThePercentile(95)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("Should cap the trials, stop at the time budget and report beyond-horizon outcomes")
+	void shouldRespectLimits() {
+		SprintForecastForCapacityPlanning capped = new MonteCarloSprintForecastEngineForCapacityPlanning(5_000, 60_000)
+				.doTheThingWhereWeForecastTheCompletion(new int[]{10}, 100, 1_000_000, MONDAY);
+		assertThat(capped.getTrialsRequested()).isEqualTo(5_000);
+		assertThat(capped.getTrialsRun()).isEqualTo(5_000);
+
+		SprintForecastForCapacityPlanning outOfTime = new MonteCarloSprintForecastEngineForCapacityPlanning(1_000_000, 0)
+				.doTheThingWhereWeForecastTheCompletion(new int[]{1}, 10_000, 1_000_000, MONDAY);
+		assertThat(outOfTime.getTrialsRun()).isPositive().isLessThan(1_000_000);
+
+		SprintForecastForCapacityPlanning never = engine.doTheThingWhereWeForecastTheCompletion(
+				new int[]{0}, 10, 100, MONDAY);
+		assertThat(never.makeItWorkByFindingTheSprintsNeededAtThePercentile(50)).isNull();
+		assertThat(never.makeItWorkByFindingTheCompletionDateAtThePercentile(50)).isNull();
+	}
+}
@@ -0,0 +1,131 @@
+package com.elbonian.babylon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the non-uniform distribution engine, on the scalar kernels and, under
+ * {@code mvn -Pvector-api test}, on the Vector API kernels as well.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@DisplayName("Non-Uniform Distribution Engine Tests")
+class NonUniformDistributionEngineForSimulationWorkloadsTest {
+
+	private static final int SAMPLES = 200_001;
+
+	private final NonUniformDistributionEngineForSimulationWorkloads scalarEngine =
+			new NonUniformDistributionEngineForSimulationWorkloads(false);
+	private final NonUniformDistributionEngineForSimulationWorkloads preferredEngine =
+			new NonUniformDistributionEngineForSimulationWorkloads(true);
+
+	@Nested
+	@DisplayName("Continuous distributions")
+	class Continuous {
+
+		@Test
+		@DisplayName("Should produce Gaussians with the requested mean and standard deviation")
+		void shouldProduceGaussians() {
+			double[] values = new double[SAMPLES];
+			preferredEngine.doTheThingWhereWeFillGaussians(new SplittableRandom(1), values, SAMPLES, 100, 15);
+
+			double mean = Arrays.stream(values).average().orElseThrow();
+			double variance = Arrays.stream(values).map(v -> (v - mean) * (v - mean)).sum() / (SAMPLES - 1);
+			assertThat(mean).isCloseTo(100, within(0.2));
+			assertThat(Math.sqrt(variance)).isCloseTo(15, within(0.2));
+		}
+
+		@Test
+		@DisplayName("Should produce exponentials with mean 1 / rate")
+		void shouldProduceExponentials() {
+			double[] values = new double[SAMPLES];
+			preferredEngine.doTheThingWhereWeFillExponentials(new SplittableRandom(2), values, SAMPLES, 4);
+
+			assertThat(Arrays.stream(values).min().orElseThrow()).isGreaterThanOrEqualTo(0);
+			assertThat(Arrays.stream(values).average().orElseThrow()).isCloseTo(0.25, within(0.005));
+		}
+
+		@Test
+		@DisplayName("Should give the same numbers on scalar and vector kernels for the same seed")
+		void shouldAgreeBetweenScalarAndVectorKernels() {
+			double[] fromScalar = new double[1001];
+			double[] fromPreferred = new double[1001];
+			scalarEngine.doTheThingWhereWeFillGaussians(new SplittableRandom(3), fromScalar, 1001, 0, 1);
+			preferredEngine.doTheThingWhereWeFillGaussians(new SplittableRandom(3), fromPreferred, 1001, 0, 1);
+
+			for (int i = 0; i < fromScalar.length; i++) {
+				assertThat(fromPreferred[i]).isCloseTo(fromScalar[i], within(1e-9));
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("Discrete distributions")
+	class Discrete {
+
+		@Test
+		@DisplayName("Should produce Zipf ranks in range with rank 1 the most popular")
+		void shouldProduceZipfRanks() {
+			int[] ranks = new int[SAMPLES];
+			NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler sampler =
+					new NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler(10, 1.0);
+			scalarEngine.doTheThingWhereWeFillZipfRanks(new SplittableRandom(4), sampler, ranks, SAMPLES);
+
+			long[] counts = new long[11];
+			for (int rank : ranks) {
+				counts[rank]++;
+			}
+			assertThat(counts[0]).isZero();
+			// Zipf with s = 1: P(1) / P(2) = 2
+			assertThat((double) counts[1] / counts[2]).isCloseTo(2.0, within(0.05));
+			assertThat(counts[1]).isGreaterThan(counts[10] * 9);
+		}
+
+		@Test
+		@DisplayName("Should roll dice totals within the notation's range")
+		void shouldRollDice() {
+			int[] totals = new int[SAMPLES];
+			scalarEngine.doTheThingWhereWeFillDiceRolls(new SplittableRandom(5),
+					NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation("3d6+2"),
+					totals, SAMPLES);
+
+			assertThat(Arrays.stream(totals).min().getAsInt()).isEqualTo(5);
+			assertThat(Arrays.stream(totals).max().getAsInt()).isEqualTo(20);
+			assertThat(Arrays.stream(totals).average().orElseThrow()).isCloseTo(12.5, within(0.05));
+		}
+
+		@Test
+		@DisplayName("Should reject malformed or oversized dice notation and invalid Zipf parameters")
+		void shouldRejectInvalidParameters() {
+			assertThatThrownBy(() -> NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation("3x6"))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation("0d6"))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> NonUniformDistributionEngineForSimulationWorkloads.makeItWorkByParsingTheDiceNotation("99999999999d6"))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> new NonUniformDistributionEngineForSimulationWorkloads.RejectionInversionZipfSampler(10, 0))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	@DisplayName("Should load the Vector API kernels when the module is available")
+	void shouldPickTheBestAvailableKernels() {
+		assertThat(scalarEngine.makeItWorkByDescribingTheKernel()).isEqualTo("scalar");
+		if (NonUniformDistributionEngineForSimulationWorkloads.isTheVectorApiAvailable()) {
+			assertThat(preferredEngine.makeItWorkByDescribingTheKernel()).startsWith("vector");
+		}
+	}
+}
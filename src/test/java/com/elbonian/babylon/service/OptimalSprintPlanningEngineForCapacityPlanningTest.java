@@ -0,0 +1,211 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.service.OptimalSprintPlanningEngineForCapacityPlanning.SprintPlanForCapacityOptimization;
+import com.elbonian.babylon.service.OptimalSprintPlanningEngineForCapacityPlanning.SprintPlanningAlgorithmForCapacityOptimization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the knapsack sprint planning engine.
+ *
+ * <p>Small random backlogs are checked against brute force over every subset, so both exact
+ * algorithms must hit the true optimum and the heuristic must stay within capacity and reach
+ * at least half of it.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Optimal Sprint Planning Engine Tests")
+class OptimalSprintPlanningEngineForCapacityPlanningTest {
+
+	private static final int[] FIBONACCI_POINTS = {1, 2, 3, 5, 8, 13, 21};
+
+	private static long nextId = 1;
+
+	private static UserStoryForAgileSprintPlanning story(int points, PriorityLevelForBacklogManagement priority) {
+		return UserStoryForAgileSprintPlanning.builder()
+				.userStoryIdentificationNumberForTrackingPurposes(nextId++)
+				.storyPointsBasedOnFibonacciSequenceForComplexityEstimation(points)
+				.priorityLevel(priority)
+				.build();
+	}
+
+	private static List<UserStoryForAgileSprintPlanning> randomBacklog(SplittableRandom random, int size) {
+		PriorityLevelForBacklogManagement[] priorities = PriorityLevelForBacklogManagement.values();
+		List<UserStoryForAgileSprintPlanning> backlog = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			backlog.add(story(FIBONACCI_POINTS[random.nextInt(FIBONACCI_POINTS.length)],
+					priorities[random.nextInt(priorities.length)]));
+		}
+		return backlog;
+	}
+
+	private static long bruteForceOptimum(List<UserStoryForAgileSprintPlanning> backlog, int capacity) {
+		long best = 0;
+		for (int subset = 0; subset < 1 << backlog.size(); subset++) {
+			int points = 0;
+			long value = 0;
+			for (int i = 0; i < backlog.size(); i++) {
+				if ((subset & (1 << i)) != 0) {
+					points += backlog.get(i).getStoryPointsBasedOnFibonacciSequenceForComplexityEstimation();
+					value += OptimalSprintPlanningEngineForCapacityPlanning.doTheThingWhereWeCalculateThePriorityWeightedValue(backlog.get(i));
+				}
+			}
+			if (points <= capacity) {
+				best = Math.max(best, value);
+			}
+		}
+		return best;
+	}
+
+	@Nested
+	@DisplayName("Exact planning")
+	class ExactPlanning {
+
+		@Test
+		@DisplayName("Should use the capacity the greedy pass leaves on the table")
+		void shouldBeatTheGreedyPass() {
+			List<UserStoryForAgileSprintPlanning> backlog = List.of(
+					story(6, PriorityLevelForBacklogManagement.HIGH),
+					story(5, PriorityLevelForBacklogManagement.HIGH),
+					story(5, PriorityLevelForBacklogManagement.HIGH));
+
+			SprintPlanForCapacityOptimization plan = new OptimalSprintPlanningEngineForCapacityPlanning()
+					.doTheThingWhereWePlanTheSprint(backlog, 10);
+
+			assertThat(plan.getAlgorithmUsed()).isEqualTo(SprintPlanningAlgorithmForCapacityOptimization.EXACT);
+			assertThat(plan.getTotalStoryPoints()).isEqualTo(10);
+			assertThat(plan.getSelectedStories()).containsExactly(backlog.get(1), backlog.get(2));
+		}
+
+		@Test
+		@DisplayName("Should match brute force with both the table and the bounded-memory variant")
+		void shouldMatchBruteForce() {
+			SplittableRandom random = new SplittableRandom(42);
+			OptimalSprintPlanningEngineForCapacityPlanning engine = new OptimalSprintPlanningEngineForCapacityPlanning(60_000, Long.MAX_VALUE);
+			for (int round = 0; round < 200; round++) {
+				List<UserStoryForAgileSprintPlanning> backlog = randomBacklog(random, 1 + random.nextInt(14));
+				int capacity = random.nextInt(60);
+				long optimum = bruteForceOptimum(backlog, capacity);
+
+				for (SprintPlanningAlgorithmForCapacityOptimization algorithm : List.of(
+						SprintPlanningAlgorithmForCapacityOptimization.EXACT,
+						SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY)) {
+					SprintPlanForCapacityOptimization plan = engine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(backlog, capacity, algorithm);
+					assertThat(plan.getTotalStoryPoints()).isLessThanOrEqualTo(capacity);
+					assertThat(plan.getTotalPriorityWeightedValue()).as("%s round %d", algorithm, round).isEqualTo(optimum);
+				}
+			}
+		}
+
+		@Test
+		@DisplayName("Should agree between the table and the bounded-memory variant on a large backlog")
+		void shouldAgreeOnLargeBacklog() {
+			List<UserStoryForAgileSprintPlanning> backlog = randomBacklog(new SplittableRandom(7), 3_000);
+			OptimalSprintPlanningEngineForCapacityPlanning engine = new OptimalSprintPlanningEngineForCapacityPlanning(60_000, Long.MAX_VALUE);
+
+			SprintPlanForCapacityOptimization exact = engine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(
+					backlog, 500, SprintPlanningAlgorithmForCapacityOptimization.EXACT);
+			SprintPlanForCapacityOptimization boundedMemory = engine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(
+					backlog, 500, SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY);
+
+			assertThat(boundedMemory.getAlgorithmUsed()).isEqualTo(SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY);
+			assertThat(boundedMemory.getTotalPriorityWeightedValue()).isEqualTo(exact.getTotalPriorityWeightedValue());
+			assertThat(boundedMemory.getTotalStoryPoints()).isLessThanOrEqualTo(500);
+		}
+
+		@Test
+		@DisplayName("Should always commit zero-point stories and never stories bigger than the sprint")
+		void shouldHandleFreeAndOversizedStories() {
+			UserStoryForAgileSprintPlanning free = story(0, PriorityLevelForBacklogManagement.LOW);
+			UserStoryForAgileSprintPlanning huge = story(100, PriorityLevelForBacklogManagement.EXISTENTIAL_THREAT_TO_BUSINESS_CONTINUITY);
+			UserStoryForAgileSprintPlanning fits = story(3, PriorityLevelForBacklogManagement.LOW);
+
+			SprintPlanForCapacityOptimization plan = new OptimalSprintPlanningEngineForCapacityPlanning()
+					.doTheThingWhereWePlanTheSprint(List.of(free, huge, fits), 5);
+
+			assertThat(plan.getSelectedStories()).containsExactly(free, fits);
+		}
+	}
+
+	@Nested
+	@DisplayName("Fallbacks")
+	class Fallbacks {
+
+		@Test
+		@DisplayName("Should switch to bounded memory when the decision table is over the limit")
+		void shouldUseBoundedMemoryAboveTheTableLimit() {
+			List<UserStoryForAgileSprintPlanning> backlog = randomBacklog(new SplittableRandom(3), 500);
+
+			SprintPlanForCapacityOptimization plan = new OptimalSprintPlanningEngineForCapacityPlanning(60_000, 4096)
+					.doTheThingWhereWePlanTheSprint(backlog, 200);
+
+			assertThat(plan.getAlgorithmUsed()).isEqualTo(SprintPlanningAlgorithmForCapacityOptimization.BOUNDED_MEMORY);
+		}
+
+		@Test
+		@DisplayName("Should plan any velocity, however large, without sizing an array by it")
+		void shouldPlanAHugeVelocity() {
+			OptimalSprintPlanningEngineForCapacityPlanning engine = new OptimalSprintPlanningEngineForCapacityPlanning();
+			UserStoryForAgileSprintPlanning small = story(5, PriorityLevelForBacklogManagement.HIGH);
+
+			for (int velocity : new int[] {400_000_000, Integer.MAX_VALUE}) {
+				for (SprintPlanningAlgorithmForCapacityOptimization algorithm : SprintPlanningAlgorithmForCapacityOptimization.values()) {
+					assertThat(engine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(List.of(small), velocity, algorithm)
+							.getSelectedStories()).containsExactly(small);
+				}
+			}
+
+			// Not everything fits, and the DP rows alone would be gigabytes: the heuristic plans it
+			List<UserStoryForAgileSprintPlanning> giants = List.of(
+					story(300_000_000, PriorityLevelForBacklogManagement.LOW),
+					story(300_000_000, PriorityLevelForBacklogManagement.HIGH),
+					small);
+			SprintPlanForCapacityOptimization plan = engine.doTheThingWhereWePlanTheSprint(giants, 400_000_000);
+
+			assertThat(plan.getAlgorithmUsed()).isEqualTo(SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC);
+			assertThat(plan.getSelectedStories()).containsExactly(giants.get(1), small);
+		}
+
+		@Test
+		@DisplayName("Should hand over to the heuristic when the time budget is exhausted")
+		void shouldFallBackToHeuristicWhenOutOfTime() {
+			List<UserStoryForAgileSprintPlanning> backlog = randomBacklog(new SplittableRandom(5), 1_000);
+
+			SprintPlanForCapacityOptimization plan = new OptimalSprintPlanningEngineForCapacityPlanning(0, Long.MAX_VALUE)
+					.doTheThingWhereWePlanTheSprint(backlog, 100);
+
+			assertThat(plan.getAlgorithmUsed()).isEqualTo(SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC);
+			assertThat(plan.getTotalStoryPoints()).isLessThanOrEqualTo(100).isGreaterThan(90);
+		}
+
+		@Test
+		@DisplayName("Should keep the heuristic within capacity and at least half of the optimum")
+		void shouldKeepHeuristicWithinHalfOfOptimum() {
+			SplittableRandom random = new SplittableRandom(11);
+			OptimalSprintPlanningEngineForCapacityPlanning engine = new OptimalSprintPlanningEngineForCapacityPlanning();
+			for (int round = 0; round < 200; round++) {
+				List<UserStoryForAgileSprintPlanning> backlog = randomBacklog(random, 1 + random.nextInt(14));
+				int capacity = random.nextInt(60);
+
+				SprintPlanForCapacityOptimization plan = engine.doTheThingWhereWePlanTheSprintWithTheAlgorithm(
+						backlog, capacity, SprintPlanningAlgorithmForCapacityOptimization.HEURISTIC);
+
+				assertThat(plan.getTotalStoryPoints()).isLessThanOrEqualTo(capacity);
+				assertThat(2 * plan.getTotalPriorityWeightedValue()).isGreaterThanOrEqualTo(bruteForceOptimum(backlog, capacity));
+			}
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the persistent trie the backlog store publishes its versions in.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Persistent Backlog Snapshot Tests")
+class PersistentBacklogSnapshotForConsistentReadsTest {
+
+	private static UserStoryForAgileSprintPlanning story(long storyId, StoryStatusForWorkflowTracking status) {
+		return UserStoryForAgileSprintPlanning.builder()
+				.userStoryIdentificationNumberForTrackingPurposes(storyId)
+				.storyTitleForQuickIdentificationInStandupMeetings("Story " + storyId)
+				.currentStatus(status)
+				.build();
+	}
+
+	private static List<Long> idsOf(List<UserStoryForAgileSprintPlanning> stories) {
+		List<Long> ids = new ArrayList<>();
+		stories.forEach(story -> ids.add(story.getUserStoryIdentificationNumberForTrackingPurposes()));
+		return ids;
+	}
+
+	@Nested
+	@DisplayName("Versions")
+	class Versions {
+
+		@Test
+		@DisplayName("Should leave older versions exactly as they were when a story changes")
+		void shouldKeepOlderVersionsUnchanged() {
+			PersistentBacklogSnapshotForConsistentReads first = PersistentBacklogSnapshotForConsistentReads.EMPTY
+					.doTheThingWhereWeStoreTheStory(1, story(1, StoryStatusForWorkflowTracking.BACKLOG), 1);
+			PersistentBacklogSnapshotForConsistentReads second = first
+					.doTheThingWhereWeStoreTheStory(1, story(1, StoryStatusForWorkflowTracking.DONE), 2);
+			PersistentBacklogSnapshotForConsistentReads third = second
+					.doTheThingWhereWeStoreTheStory(2, story(2, StoryStatusForWorkflowTracking.READY), 3);
+
+			assertThat(first.makeItWorkByFindingTheStory(1).getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.BACKLOG);
+			assertThat(first.makeItWorkByFindingTheStory(2)).isNull();
+			assertThat(first.makeItWorkByCountingTheStories()).isEqualTo(1);
+			assertThat(second.makeItWorkByFindingTheStory(1).getCurrentStatus()).isEqualTo(StoryStatusForWorkflowTracking.DONE);
+			assertThat(second.makeItWorkByCountingTheStories()).isEqualTo(1);
+			assertThat(third.makeItWorkByCountingTheStories()).isEqualTo(2);
+			assertThat(third.getVersion()).isEqualTo(3);
+			assertThat(PersistentBacklogSnapshotForConsistentReads.EMPTY.makeItWorkByListingTheStories()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Should not find IDs that are negative or beyond the trie")
+		void shouldNotFindMissingIds() {
+			PersistentBacklogSnapshotForConsistentReads snapshot = PersistentBacklogSnapshotForConsistentReads.EMPTY
+					.doTheThingWhereWeStoreTheStory(5, story(5, StoryStatusForWorkflowTracking.BACKLOG), 1);
+
+			assertThat(snapshot.makeItWorkByFindingTheStory(-1)).isNull();
+			assertThat(snapshot.makeItWorkByFindingTheStory(4)).isNull();
+			assertThat(snapshot.makeItWorkByFindingTheStory(1L << 40)).isNull();
+		}
+	}
+
+	@Nested
+	@DisplayName("Growth")
+	class Growth {
+
+		@Test
+		@DisplayName("Should agree with a sorted map across many levels and list stories in ID order")
+		void shouldAgreeWithASortedMap() {
+			Random random = new Random(24);
+			TreeMap<Long, UserStoryForAgileSprintPlanning> expected = new TreeMap<>();
+			PersistentBacklogSnapshotForConsistentReads snapshot = PersistentBacklogSnapshotForConsistentReads.EMPTY;
+			PersistentBacklogSnapshotForConsistentReads halfway = null;
+			int halfwayCount = 0;
+
+			for (int i = 0; i < 5_000; i++) {
+				// Mostly dense IDs like the store hands out, plus a few far away to force extra levels
+				long storyId = i % 100 == 99 ? random.nextInt(5_000_000) : random.nextInt(20_000);
+				UserStoryForAgileSprintPlanning story = story(storyId, StoryStatusForWorkflowTracking.values()[i % 3]);
+				expected.put(storyId, story);
+				snapshot = snapshot.doTheThingWhereWeStoreTheStory(storyId, story, i + 1);
+				if (i == 2_500) {
+					halfway = snapshot;
+					halfwayCount = expected.size();
+				}
+			}
+
+			assertThat(snapshot.makeItWorkByCountingTheStories()).isEqualTo(expected.size());
+			assertThat(idsOf(snapshot.makeItWorkByListingTheStories())).containsExactlyElementsOf(expected.keySet());
+			for (var entry : expected.entrySet()) {
+				assertThat(snapshot.makeItWorkByFindingTheStory(entry.getKey())).isSameAs(entry.getValue());
+			}
+			assertThat(halfway.makeItWorkByCountingTheStories()).isEqualTo(halfwayCount);
+			assertThat(halfway.makeItWorkByListingTheStories()).hasSize(halfwayCount);
+		}
+	}
+}
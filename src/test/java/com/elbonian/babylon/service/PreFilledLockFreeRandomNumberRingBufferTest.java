@@ -0,0 +1,221 @@
+package com.elbonian.babylon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the pre-filled lock-free random number ring buffer.
+ *
+ * <p>The producer generator used here is a plain counter, so every value handed out by
+ * the buffer is unique and the tests can prove that no slot was served twice, even with
+ * several consumer threads racing each other.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@DisplayName("Pre-Filled Lock-Free Random Number Ring Buffer Tests")
+class PreFilledLockFreeRandomNumberRingBufferTest {
+
+	private static final long FALLBACK_VALUE = -1L;
+
+	private static PreFilledLockFreeRandomNumberRingBuffer newRingBuffer(int capacity, int lowWaterMark) {
+		AtomicLong counter = new AtomicLong();
+		RandomGenerator counterGenerator = counter::getAndIncrement;
+		RandomGenerator fallbackGenerator = () -> FALLBACK_VALUE;
+		return new PreFilledLockFreeRandomNumberRingBuffer("test", capacity, lowWaterMark,
+				counterGenerator, () -> fallbackGenerator);
+	}
+
+	@Nested
+	@DisplayName("Single-threaded behaviour")
+	class SingleThreaded {
+
+		@Test
+		@DisplayName("Should serve pre-generated values in order and count underruns when empty")
+		void shouldServeValuesInOrderAndCountUnderruns() {
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = newRingBuffer(8, 2);
+
+			assertThat(ringBuffer.doTheThingWhereWeRefillUntilFull()).isEqualTo(8);
+			assertThat(ringBuffer.makeItWorkByReportingTheCurrentFillLevel()).isEqualTo(8);
+
+			for (long expected = 0; expected < 8; expected++) {
+				assertThat(ringBuffer.nextLong()).isEqualTo(expected);
+			}
+			assertThat(ringBuffer.makeItWorkByReportingTheCurrentFillLevel()).isZero();
+			assertThat(ringBuffer.makeItWorkByReportingTheNumberOfUnderruns()).isZero();
+
+			assertThat(ringBuffer.nextLong()).isEqualTo(FALLBACK_VALUE);
+			assertThat(ringBuffer.makeItWorkByReportingTheNumberOfUnderruns()).isEqualTo(1);
+
+			assertThat(ringBuffer.doTheThingWhereWeRefillUntilFull()).isEqualTo(8);
+			assertThat(ringBuffer.nextLong()).isEqualTo(8);
+		}
+
+		@Test
+		@DisplayName("Should show the fill level rising while a refill is still running")
+		void shouldPublishTheFillLevelDuringARefill() throws Exception {
+			CountDownLatch halfwayThroughTheRefill = new CountDownLatch(1);
+			CountDownLatch letTheRefillFinish = new CountDownLatch(1);
+			AtomicLong counter = new AtomicLong();
+			RandomGenerator slowGenerator = () -> {
+				long value = counter.getAndIncrement();
+				if (value == 32) {
+					halfwayThroughTheRefill.countDown();
+					try {
+						letTheRefillFinish.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return value;
+			};
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = new PreFilledLockFreeRandomNumberRingBuffer(
+					"test", 64, 16, slowGenerator, () -> () -> FALLBACK_VALUE);
+
+			Thread refill = new Thread(ringBuffer::doTheThingWhereWeRefillUntilFull);
+			refill.start();
+			assertThat(halfwayThroughTheRefill.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThat(ringBuffer.makeItWorkByReportingTheCurrentFillLevel()).isEqualTo(32);
+
+			letTheRefillFinish.countDown();
+			refill.join();
+			assertThat(ringBuffer.makeItWorkByReportingTheCurrentFillLevel()).isEqualTo(64);
+		}
+
+		@Test
+		@DisplayName("Should round the capacity up to a power of two")
+		void shouldRoundCapacityUpToPowerOfTwo() {
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = newRingBuffer(100, 10);
+
+			assertThat(ringBuffer.doTheThingWhereWeRefillUntilFull()).isEqualTo(128);
+			assertThat(ringBuffer.makeItWorkByCollectingTheRingBufferStatistics())
+					.containsEntry("capacity", 128)
+					.containsEntry("lowWaterMark", 10);
+		}
+	}
+
+	@Nested
+	@DisplayName("Concurrent behaviour")
+	class Concurrent {
+
+		@Test
+		@DisplayName("Should never hand out the same pre-generated value twice")
+		void shouldNeverServeTheSameSlotTwice() throws Exception {
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = newRingBuffer(1024, 256);
+			ringBuffer.makeItWorkByStartingTheBackgroundRefill();
+
+			int consumers = 4;
+			int takesPerConsumer = 50_000;
+			ConcurrentLinkedQueue<long[]> takenByEachConsumer = new ConcurrentLinkedQueue<>();
+			CountDownLatch startSignal = new CountDownLatch(1);
+			CountDownLatch finished = new CountDownLatch(consumers);
+
+			for (int c = 0; c < consumers; c++) {
+				new Thread(() -> {
+					long[] taken = new long[takesPerConsumer];
+					try {
+						startSignal.await();
+						for (int i = 0; i < takesPerConsumer; i++) {
+							taken[i] = ringBuffer.nextLong();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						takenByEachConsumer.add(taken);
+						finished.countDown();
+					}
+				}).start();
+			}
+
+			startSignal.countDown();
+			finished.await();
+			ringBuffer.makeItWorkByStoppingTheBackgroundRefill();
+
+			Set<Long> servedFromBuffer = new HashSet<>();
+			long fallbacks = 0;
+			for (long[] taken : takenByEachConsumer) {
+				for (long value : taken) {
+					if (value == FALLBACK_VALUE) {
+						fallbacks++;
+					} else {
+						assertThat(servedFromBuffer.add(value)).as("value %d served twice", value).isTrue();
+					}
+				}
+			}
+
+			assertThat(fallbacks).isEqualTo(ringBuffer.makeItWorkByReportingTheNumberOfUnderruns());
+			assertThat(servedFromBuffer.size() + fallbacks).isEqualTo((long) consumers * takesPerConsumer);
+		}
+
+		@Test
+		@DisplayName("Should wake the parked producer at the low-water mark, not on a timer")
+		void shouldWakeTheProducerAtTheLowWaterMark() throws Exception {
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = newRingBuffer(256, 128);
+			ringBuffer.makeItWorkByStartingTheBackgroundRefill();
+			try {
+				// Idle and full: the producer stays parked and never counts a refill
+				Thread.sleep(50);
+				assertThat(ringBuffer.makeItWorkByCollectingTheRingBufferStatistics()).containsEntry("refillCycles", 0L);
+
+				for (int i = 0; i < 192; i++) {
+					ringBuffer.nextLong();
+				}
+
+				// Well inside the producer's safety-net nap, so only the consumer's unpark can explain it
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+				while (!Long.valueOf(1L).equals(ringBuffer.makeItWorkByCollectingTheRingBufferStatistics().get("refillCycles"))
+						&& System.nanoTime() < deadline) {
+					Thread.onSpinWait();
+				}
+				assertThat(ringBuffer.makeItWorkByCollectingTheRingBufferStatistics()).containsEntry("refillCycles", 1L);
+				// The take at position 128 woke it, so at least the 129 slots freed by then came back
+				assertThat(ringBuffer.makeItWorkByReportingTheCurrentFillLevel()).isGreaterThanOrEqualTo(64 + 129);
+				assertThat(ringBuffer.makeItWorkByReportingTheNumberOfUnderruns()).isZero();
+			} finally {
+				ringBuffer.makeItWorkByStoppingTheBackgroundRefill();
+			}
+		}
+
+		@Test
+		@DisplayName("Should never leave two producers running after a stop and a restart")
+		void shouldRunASingleProducerAfterARestart() {
+			PreFilledLockFreeRandomNumberRingBuffer ringBuffer = new PreFilledLockFreeRandomNumberRingBuffer(
+					"restart", 64, 16, new AtomicLong()::getAndIncrement, () -> () -> FALLBACK_VALUE);
+
+			for (int restart = 0; restart < 20; restart++) {
+				ringBuffer.makeItWorkByStartingTheBackgroundRefill();
+				ringBuffer.makeItWorkByStoppingTheBackgroundRefill();
+				assertThat(countTheLiveProducers("restart")).isZero();
+			}
+
+			ringBuffer.makeItWorkByStartingTheBackgroundRefill();
+			try {
+				assertThat(countTheLiveProducers("restart")).isEqualTo(1);
+			} finally {
+				ringBuffer.makeItWorkByStoppingTheBackgroundRefill();
+			}
+		}
+
+		private long countTheLiveProducers(String ringBufferName) {
+			return Thread.getAllStackTraces().keySet().stream()
+					.filter(thread -> thread.getName().equals("babylon-random-ring-refill-" + ringBufferName))
+					.filter(Thread::isAlive)
+					.count();
+		}
+	}
+}
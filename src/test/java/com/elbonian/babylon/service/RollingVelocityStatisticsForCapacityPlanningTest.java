@@ -0,0 +1,90 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.service.RollingVelocityStatisticsForCapacityPlanning.VelocityWindowStatisticsForCapacityPlanning;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the rolling velocity statistics.
+ *
+ * <p>Every window of a random history is checked against a plain sort-and-scan of the same
+ * sprints, so the prefix sums and the persistent counting tree must agree with the obvious
+ * implementation they replace.</p>
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Rolling Velocity Statistics Tests")
+class RollingVelocityStatisticsForCapacityPlanningTest {
+
+	private static double nearestRank(int[] sorted, double percentile) {
+		int rank = Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+		return sorted[rank];
+	}
+
+	@Test
+	@DisplayName("Should match a sort-and-scan for every window of a random history")
+	void shouldMatchSortAndScan() {
+		SplittableRandom random = new SplittableRandom(42);
+		RollingVelocityStatisticsForCapacityPlanning statistics = new RollingVelocityStatisticsForCapacityPlanning();
+		List<Integer> history = new ArrayList<>();
+		for (int sprint = 0; sprint < 300; sprint++) {
+			int velocity = random.nextInt(10) == 0 ? random.nextInt(RollingVelocityStatisticsForCapacityPlanning.THE_HIGHEST_POSSIBLE_VELOCITY + 1) : random.nextInt(60);
+			statistics.doTheThingWhereWeRecordTheSprintVelocity(velocity);
+			history.add(velocity);
+		}
+
+		for (int window = 1; window <= history.size(); window++) {
+			int[] sorted = history.subList(history.size() - window, history.size()).stream().mapToInt(Integer::intValue).sorted().toArray();
+			double mean = Arrays.stream(sorted).average().orElseThrow();
+			double variance = Arrays.stream(sorted).mapToDouble(velocity -> (velocity - mean) * (velocity - mean)).sum() / window;
+
+			VelocityWindowStatisticsForCapacityPlanning summary = statistics.doTheThingWhereWeSummarizeTheLastSprints(window);
+
+			assertThat(summary.getSprintsAnalyzed()).isEqualTo(window);
+			assertThat(summary.getMeanVelocity()).isCloseTo(mean, within(1e-6));
+			assertThat(summary.getStandardDeviation()).isCloseTo(Math.sqrt(variance), within(1e-3));
+			assertThat(summary.getMinimumVelocity()).isEqualTo(sorted[0]);
+			assertThat(summary.getMaximumVelocity()).isEqualTo(sorted[window - 1]);
+			assertThat(summary.getMedianVelocity()).isEqualTo(nearestRank(sorted, 50));
+			assertThat(statistics.makeItWorkByFindingThePercentileOfTheLastSprints(window, 85)).isEqualTo(nearestRank(sorted, 85));
+		}
+	}
+
+	@Test
+	@DisplayName("Should cap the window at the history and fall back to the default without history")
+	void shouldCapTheWindowAndFallBack() {
+		RollingVelocityStatisticsForCapacityPlanning statistics = new RollingVelocityStatisticsForCapacityPlanning();
+		assertThat(statistics.makeItWorkByCalculatingTheMeanOfTheLastSprints(3))
+				.isEqualTo(RollingVelocityStatisticsForCapacityPlanning.THE_OPTIMISTIC_DEFAULT_VELOCITY);
+		assertThat(statistics.doTheThingWhereWeSummarizeTheLastSprints(3).getSprintsAnalyzed()).isZero();
+
+		statistics.doTheThingWhereWeReplaceTheHistory(List.of(10, 20));
+		assertThat(statistics.makeItWorkByCalculatingTheMeanOfTheLastSprints(100)).isEqualTo(15.0);
+		assertThat(statistics.makeItWorkByCopyingTheHistory()).containsExactly(10, 20);
+	}
+
+	@Test
+	@DisplayName("Should reject impossible velocities")
+	void shouldRejectImpossibleVelocities() {
+		RollingVelocityStatisticsForCapacityPlanning statistics = new RollingVelocityStatisticsForCapacityPlanning();
+
+		assertThatThrownBy(() -> statistics.doTheThingWhereWeRecordTheSprintVelocity(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> statistics.doTheThingWhereWeRecordTheSprintVelocity(RollingVelocityStatisticsForCapacityPlanning.THE_HIGHEST_POSSIBLE_VELOCITY + 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(statistics.makeItWorkByCountingTheSprints()).isZero();
+	}
+}
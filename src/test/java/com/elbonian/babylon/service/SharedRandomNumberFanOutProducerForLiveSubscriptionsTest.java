@@ -0,0 +1,137 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.RandomnessLevelForEnterpriseRandomNumberGeneration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the shared fan-out producer behind live random number subscriptions.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-RANDOM-RELEASE
+ * @since 2026-01-25
+ *
+ * — Thank you Pointy-Haired Boss for insisting on test coverage! 🎲
+ */
+@DisplayName("Shared Random Number Fan-Out Producer Tests")
+class SharedRandomNumberFanOutProducerForLiveSubscriptionsTest {
+
+	private static final RandomnessLevelForEnterpriseRandomNumberGeneration LEVEL =
+			RandomnessLevelForEnterpriseRandomNumberGeneration.PRETTY_RANDOM;
+
+	private final SharedRandomNumberFanOutProducerForLiveSubscriptions fanOut = newFanOut(2);
+
+	private static SharedRandomNumberFanOutProducerForLiveSubscriptions newFanOut(int maximumSubscribers) {
+		RandomNumberGeneratorEngineForPerThreadRandomness engine = new RandomNumberGeneratorEngineForPerThreadRandomness(
+				RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+				RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM,
+				RandomNumberGeneratorEngineForPerThreadRandomness.THE_DEFAULT_RANDOM_GENERATOR_ALGORITHM);
+		RandomNumberGeneratorServiceManager serviceManager = new RandomNumberGeneratorServiceManager(engine,
+				new EnterpriseEntropyPoolForSecureRandomness(), new NonUniformDistributionEngineForSimulationWorkloads(false));
+		return new SharedRandomNumberFanOutProducerForLiveSubscriptions(serviceManager, engine, maximumSubscribers);
+	}
+
+	@AfterEach
+	void stopTheFanOut() {
+		fanOut.makeItWorkByStoppingTheFanOut();
+	}
+
+	@Test
+	@DisplayName("Should draw each number once and fan it out to every due subscriber")
+	void shouldShareGenerationAcrossSubscribers() throws InterruptedException {
+		CountDownLatch firstReceivedEnough = new CountDownLatch(20);
+		CountDownLatch secondReceivedEnough = new CountDownLatch(20);
+		fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 100, (n, sequence, skipped) -> firstReceivedEnough.countDown());
+		fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 100, (n, sequence, skipped) -> secondReceivedEnough.countDown());
+
+		assertThat(firstReceivedEnough.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(secondReceivedEnough.await(5, TimeUnit.SECONDS)).isTrue();
+
+		long generated = (long) fanOut.makeItWorkByCollectingTheFanOutStatistics().get("generated");
+		long delivered = (long) fanOut.makeItWorkByCollectingTheFanOutStatistics().get("delivered");
+		assertThat(generated).isLessThan(delivered * 3 / 4);
+	}
+
+	@Test
+	@DisplayName("Should coalesce numbers for a slow subscriber instead of queueing them")
+	void shouldCoalesceForSlowSubscribers() throws InterruptedException {
+		CountDownLatch stuckInFirstDelivery = new CountDownLatch(1);
+		CountDownLatch releaseTheClient = new CountDownLatch(1);
+		CountDownLatch secondDelivery = new CountDownLatch(1);
+		AtomicLong skippedOnSecondDelivery = new AtomicLong(-1);
+
+		SharedRandomNumberFanOutProducerForLiveSubscriptions.LiveRandomNumberSubscriptionForFanOutDelivery subscription =
+				fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 100, (n, sequence, skipped) -> {
+					if (sequence == 1) {
+						stuckInFirstDelivery.countDown();
+						try {
+							releaseTheClient.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					} else if (sequence == 2) {
+						skippedOnSecondDelivery.set(skipped);
+						secondDelivery.countDown();
+					}
+				});
+
+		assertThat(stuckInFirstDelivery.await(5, TimeUnit.SECONDS)).isTrue();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (subscription.makeItWorkByReportingTheNumberOfCoalescedNumbers() < 5 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		releaseTheClient.countDown();
+
+		assertThat(subscription.makeItWorkByReportingTheNumberOfCoalescedNumbers()).isGreaterThanOrEqualTo(5);
+		assertThat(secondDelivery.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(skippedOnSecondDelivery.get()).isPositive();
+	}
+
+	@Test
+	@DisplayName("Should enforce the subscriber limit and free slots on cancel and on broken connections")
+	void shouldEnforceTheSubscriberLimit() throws InterruptedException {
+		CountDownLatch limitChecked = new CountDownLatch(1);
+		CountDownLatch brokenConnectionNoticed = new CountDownLatch(1);
+		fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 100, (n, sequence, skipped) -> {
+			try {
+				limitChecked.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			brokenConnectionNoticed.countDown();
+			throw new IOException("Broken pipe");
+		});
+		SharedRandomNumberFanOutProducerForLiveSubscriptions.LiveRandomNumberSubscriptionForFanOutDelivery second =
+				fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 1, (n, sequence, skipped) -> { });
+
+		assertThat(fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 1, (n, sequence, skipped) -> { })).isNull();
+		limitChecked.countDown();
+
+		second.makeItWorkByCancelling();
+		second.makeItWorkByCancelling();
+		assertThat(brokenConnectionNoticed.await(5, TimeUnit.SECONDS)).isTrue();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while ((int) fanOut.makeItWorkByCollectingTheFanOutStatistics().get("subscribers") > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(fanOut.makeItWorkByCollectingTheFanOutStatistics()).containsEntry("subscribers", 0);
+	}
+
+	@Test
+	@DisplayName("Should reject rates outside 1 to 100 per second")
+	void shouldRejectInvalidRates() {
+		assertThatThrownBy(() -> fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 0, (n, sequence, skipped) -> { }))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fanOut.makeItWorkBySubscribingToTheSharedProducer(LEVEL, 101, (n, sequence, skipped) -> { }))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
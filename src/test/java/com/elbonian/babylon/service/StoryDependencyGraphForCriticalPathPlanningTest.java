@@ -0,0 +1,280 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the incremental story dependency graph and its critical path.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Story Dependency Graph Tests")
+class StoryDependencyGraphForCriticalPathPlanningTest {
+
+	private final StoryDependencyGraphForCriticalPathPlanning graph = new StoryDependencyGraphForCriticalPathPlanning();
+
+	/** The version of each story the graph was last told about. */
+	private final Map<Long, UserStoryForAgileSprintPlanning> currentVersions = new HashMap<>();
+
+	private void put(long storyId, int points, StoryStatusForWorkflowTracking status, Long... blockingStoryIds) {
+		UserStoryForAgileSprintPlanning newStory = UserStoryForAgileSprintPlanning.builder()
+				.userStoryIdentificationNumberForTrackingPurposes(storyId)
+				.storyPointsBasedOnFibonacciSequenceForComplexityEstimation(points)
+				.currentStatus(status)
+				.blockedByUserStoryIdentificationNumbers(blockingStoryIds.length == 0 ? null : List.of(blockingStoryIds))
+				.build();
+		graph.doTheThingWhereWeRelinkTheStory(storyId, currentVersions.get(storyId), newStory, () -> { });
+		currentVersions.put(storyId, newStory);
+	}
+
+	private List<Long> criticalPathIds() {
+		return Arrays.stream(graph.doTheThingWhereWeFindTheCriticalPath().getStoryIds()).boxed().toList();
+	}
+
+	@Nested
+	@DisplayName("Critical path")
+	class CriticalPath {
+
+		@Test
+		@DisplayName("Should follow the heaviest chain and move when statuses and estimates change")
+		void shouldFollowTheHeaviestChain() {
+			put(1, 5, StoryStatusForWorkflowTracking.BACKLOG);
+			put(2, 3, StoryStatusForWorkflowTracking.BACKLOG, 1L);
+			put(3, 8, StoryStatusForWorkflowTracking.BACKLOG, 2L);
+			put(4, 13, StoryStatusForWorkflowTracking.BACKLOG);
+			put(5, 1, StoryStatusForWorkflowTracking.BACKLOG, 4L, 2L);
+
+			assertThat(criticalPathIds()).containsExactly(1L, 2L, 3L);
+			assertThat(graph.doTheThingWhereWeFindTheCriticalPath().getLengthInStoryPoints()).isEqualTo(16);
+			assertThat(graph.doTheThingWhereWeFindTheCriticalPath().getNumberOfDependencies()).isEqualTo(4);
+
+			// A finished story weighs nothing and cuts the chain through it
+			put(2, 3, StoryStatusForWorkflowTracking.DONE, 1L);
+			assertThat(criticalPathIds()).containsExactly(4L, 5L);
+			assertThat(graph.doTheThingWhereWeFindTheCriticalPath().getLengthInStoryPoints()).isEqualTo(14);
+
+			put(3, 40, StoryStatusForWorkflowTracking.IN_PROGRESS, 2L);
+			assertThat(criticalPathIds()).containsExactly(3L);
+
+			put(3, 1, StoryStatusForWorkflowTracking.CANCELLED, 2L);
+			put(4, 13, StoryStatusForWorkflowTracking.DONE);
+			put(5, 1, StoryStatusForWorkflowTracking.DONE, 4L, 2L);
+			put(1, 5, StoryStatusForWorkflowTracking.DONE);
+			assertThat(criticalPathIds()).isEmpty();
+			assertThat(graph.doTheThingWhereWeFindTheCriticalPath().getLengthInStoryPoints()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should match a from-scratch longest path after every random change")
+		void shouldMatchAFromScratchComputation() {
+			Random random = new Random(42);
+			int numberOfStories = 200;
+			int[] points = new int[numberOfStories + 1];
+			boolean[] done = new boolean[numberOfStories + 1];
+			List<TreeSet<Long>> blockers = new ArrayList<>();
+			blockers.add(new TreeSet<>());
+			for (int storyId = 1; storyId <= numberOfStories; storyId++) {
+				points[storyId] = 1 + random.nextInt(13);
+				blockers.add(new TreeSet<>());
+				put(storyId, points[storyId], StoryStatusForWorkflowTracking.BACKLOG);
+			}
+
+			int refusedCycles = 0;
+			for (int change = 0; change < 3_000; change++) {
+				int storyId = 1 + random.nextInt(numberOfStories);
+				TreeSet<Long> newBlockers = new TreeSet<>(blockers.get(storyId));
+				int kind = random.nextInt(10);
+				if (kind < 6) {
+					newBlockers.add(1L + random.nextInt(numberOfStories));
+				} else if (kind < 8 && !newBlockers.isEmpty()) {
+					newBlockers.remove(newBlockers.first());
+				} else if (kind < 9) {
+					done[storyId] = !done[storyId];
+				} else {
+					points[storyId] = random.nextInt(21);
+				}
+
+				boolean wouldCloseACycle = false;
+				for (long blocker : newBlockers) {
+					if (!blockers.get(storyId).contains(blocker) && isReachable(blockers, storyId, (int) blocker)) {
+						wouldCloseACycle = true;
+					}
+				}
+				StoryStatusForWorkflowTracking status = done[storyId] ? StoryStatusForWorkflowTracking.DONE
+						: StoryStatusForWorkflowTracking.BACKLOG;
+				if (wouldCloseACycle) {
+					refusedCycles++;
+					assertThatThrownBy(() -> put(storyId, points[storyId], status, newBlockers.toArray(new Long[0])))
+							.isInstanceOf(IllegalStateException.class);
+					continue;
+				}
+				put(storyId, points[storyId], status, newBlockers.toArray(new Long[0]));
+				blockers.set(storyId, newBlockers);
+
+				long[] longestChains = new long[numberOfStories + 1];
+				Arrays.fill(longestChains, -1);
+				long expectedLength = 0;
+				for (int node = 1; node <= numberOfStories; node++) {
+					expectedLength = Math.max(expectedLength, longestChain(blockers, points, done, longestChains, node));
+				}
+				StoryDependencyGraphForCriticalPathPlanning.CriticalPathForDependencyPlanning criticalPath =
+						graph.doTheThingWhereWeFindTheCriticalPath();
+				assertThat(criticalPath.getLengthInStoryPoints()).as("after change %d", change).isEqualTo(expectedLength);
+				long pathPoints = 0;
+				long[] pathIds = criticalPath.getStoryIds();
+				for (int i = 0; i < pathIds.length; i++) {
+					assertThat(done[(int) pathIds[i]]).isFalse();
+					if (i > 0) {
+						assertThat(blockers.get((int) pathIds[i])).contains(pathIds[i - 1]);
+					}
+					pathPoints += points[(int) pathIds[i]];
+				}
+				assertThat(pathPoints).isEqualTo(expectedLength);
+			}
+			assertThat(refusedCycles).isPositive();
+		}
+
+		/** Does {@code to} already wait for {@code from}, directly or through other stories? */
+		private boolean isReachable(List<TreeSet<Long>> blockers, int from, int to) {
+			boolean[] seen = new boolean[blockers.size()];
+			List<Integer> toVisit = new ArrayList<>(List.of(to));
+			while (!toVisit.isEmpty()) {
+				int node = toVisit.remove(toVisit.size() - 1);
+				if (node == from) {
+					return true;
+				}
+				for (long blocker : blockers.get(node)) {
+					if (!seen[(int) blocker]) {
+						seen[(int) blocker] = true;
+						toVisit.add((int) blocker);
+					}
+				}
+			}
+			return false;
+		}
+
+		private long longestChain(List<TreeSet<Long>> blockers, int[] points, boolean[] done, long[] memo, int node) {
+			if (done[node]) {
+				return 0;
+			}
+			if (memo[node] < 0) {
+				long longestBlockerChain = 0;
+				for (long blocker : blockers.get(node)) {
+					longestBlockerChain = Math.max(longestBlockerChain, longestChain(blockers, points, done, memo, (int) blocker));
+				}
+				memo[node] = longestBlockerChain + points[node];
+			}
+			return memo[node];
+		}
+	}
+
+	@Nested
+	@DisplayName("Links")
+	class Links {
+
+		@Test
+		@DisplayName("Should refuse a link that closes a cycle and leave the graph as it was")
+		void shouldRefuseCycles() {
+			put(1, 2, StoryStatusForWorkflowTracking.BACKLOG);
+			put(2, 3, StoryStatusForWorkflowTracking.BACKLOG, 1L);
+			put(3, 5, StoryStatusForWorkflowTracking.BACKLOG, 2L);
+
+			assertThatThrownBy(() -> put(1, 2, StoryStatusForWorkflowTracking.BACKLOG, 3L))
+					.isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> put(2, 3, StoryStatusForWorkflowTracking.BACKLOG, 1L, 2L))
+					.isInstanceOf(IllegalStateException.class);
+
+			assertThat(graph.makeItWorkByCountingTheEdges()).isEqualTo(2);
+			assertThat(criticalPathIds()).containsExactly(1L, 2L, 3L);
+			// Dropping 2's link to 1 makes "1 waits for 3" legal
+			put(2, 3, StoryStatusForWorkflowTracking.BACKLOG);
+			put(1, 2, StoryStatusForWorkflowTracking.BACKLOG, 3L);
+			assertThat(criticalPathIds()).containsExactly(2L, 3L, 1L);
+		}
+
+		@Test
+		@DisplayName("Should take new links back out when publishing the change fails")
+		void shouldUndoLinksWhenPublishingFails() {
+			put(1, 5, StoryStatusForWorkflowTracking.BACKLOG);
+			put(2, 3, StoryStatusForWorkflowTracking.BACKLOG);
+			UserStoryForAgileSprintPlanning linked = currentVersions.get(2L).toBuilder()
+					.blockedByUserStoryIdentificationNumbers(List.of(1L)).build();
+
+			assertThatThrownBy(() -> graph.doTheThingWhereWeRelinkTheStory(2, currentVersions.get(2L), linked, () -> {
+				throw new IllegalStateException("Journal is full");
+			})).hasMessage("Journal is full");
+
+			assertThat(graph.makeItWorkByCountingTheEdges()).isZero();
+			assertThat(graph.makeItWorkByCheckingWhetherTheBlockersAreFinished(2)).isTrue();
+			assertThat(criticalPathIds()).containsExactly(1L);
+		}
+
+		@Test
+		@DisplayName("Should know whether all of a story's blockers are finished, even ones not seen yet")
+		void shouldTrackUnfinishedBlockers() {
+			put(3, 1, StoryStatusForWorkflowTracking.BACKLOG, 1L, 2L);
+			assertThat(graph.makeItWorkByCheckingWhetherTheBlockersAreFinished(3)).isFalse();
+
+			put(1, 1, StoryStatusForWorkflowTracking.DONE);
+			put(2, 1, StoryStatusForWorkflowTracking.IN_PROGRESS);
+			assertThat(graph.makeItWorkByCheckingWhetherTheBlockersAreFinished(3)).isFalse();
+
+			put(2, 1, StoryStatusForWorkflowTracking.CANCELLED);
+			assertThat(graph.makeItWorkByCheckingWhetherTheBlockersAreFinished(3)).isTrue();
+			assertThat(graph.makeItWorkByCheckingWhetherTheBlockersAreFinished(999_999)).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("Should keep stories waiting for unfinished ones out of sprint planning")
+	void shouldPlanOnlyStoriesWhoseBlockersAreDone() {
+		AgileSprintPlanningService service = new AgileSprintPlanningService();
+		Long schema = service.doTheThingWhereWeCreateNewUserStoryForBacklog("Design the schema", "As a developer",
+				"a schema", "data has a home", 3, PriorityLevelForBacklogManagement.LOW, "reviewed")
+				.getUserStoryIdentificationNumberForTrackingPurposes();
+		Long api = service.doTheThingWhereWeCreateNewUserStoryForBacklog("Build the API", "As a developer",
+				"an API", "clients can call it", 5, PriorityLevelForBacklogManagement.CRITICAL, "it answers")
+				.getUserStoryIdentificationNumberForTrackingPurposes();
+		service.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(api, schema);
+
+		assertThatThrownBy(() -> service.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(schema, api))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> service.doTheThingWhereWeMarkUserStoryAsBlockedByAnotherStory(api, 404L))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(service.doTheThingWhereWeFindTheCriticalPathThroughTheBacklog().getLengthInStoryPoints()).isEqualTo(8);
+
+		assertThat(plannedStoryIds(service)).containsExactly(schema);
+
+		service.doTheThingWhereWeMoveUserStoryToNewWorkflowStatus(schema, StoryStatusForWorkflowTracking.DONE);
+		service.doTheThingWhereWeCompleteCurrentSprintAndStartNext(3);
+		assertThat(plannedStoryIds(service)).containsExactly(api);
+
+		UserStoryForAgileSprintPlanning unlinked = service.doTheThingWhereWeRemoveTheBlockingStory(api, schema);
+		assertThat(unlinked.getBlockedByUserStoryIdentificationNumbers()).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Long> plannedStoryIds(AgileSprintPlanningService service) {
+		return ((List<UserStoryForAgileSprintPlanning>) service.doTheThingWhereWeSimulateSprintPlanningCeremony(20).get("selectedStories"))
+				.stream().map(UserStoryForAgileSprintPlanning::getUserStoryIdentificationNumberForTrackingPurposes).toList();
+	}
+}
@@ -0,0 +1,121 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning;
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.StoryStatusForWorkflowTracking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the pool the backlog store shares boilerplate story text through.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Story Text Interning Pool Tests")
+class StoryTextInterningPoolForLeanHeapUsageTest {
+
+	private final StoryTextInterningPoolForLeanHeapUsage pool = new StoryTextInterningPoolForLeanHeapUsage();
+
+	/** Copies the text, the way the JSON parser or the journal would hand it over. */
+	private static String freshCopy(String text) {
+		return new String(text.toCharArray());
+	}
+
+	private static UserStoryForAgileSprintPlanning story(long storyId, String persona, String developer) {
+		return UserStoryForAgileSprintPlanning.builder()
+				.userStoryIdentificationNumberForTrackingPurposes(storyId)
+				.storyTitleForQuickIdentificationInStandupMeetings(freshCopy("Story " + storyId))
+				.asAUserPersonaOrStakeholderRole(freshCopy(persona))
+				.acceptanceCriteriaForDefinitionOfDone(freshCopy("The TPS report has a cover sheet"))
+				.assignedDeveloperNameOrEmailAddress(developer == null ? null : freshCopy(developer))
+				.currentStatus(StoryStatusForWorkflowTracking.BACKLOG)
+				.build();
+	}
+
+	@Nested
+	@DisplayName("Pooling")
+	class Pooling {
+
+		@Test
+		@DisplayName("Should give equal text in different stories one shared String, and leave titles alone")
+		void shouldShareEqualText() {
+			UserStoryForAgileSprintPlanning first = pool.doTheThingWhereWePoolTheStoryText(null, story(1, "As a product owner", "alice"));
+			UserStoryForAgileSprintPlanning second = pool.doTheThingWhereWePoolTheStoryText(null, story(2, "As a product owner", "alice"));
+
+			assertThat(second).isNotSameAs(first);
+			assertThat(second.getAsAUserPersonaOrStakeholderRole()).isSameAs(first.getAsAUserPersonaOrStakeholderRole());
+			assertThat(second.getAcceptanceCriteriaForDefinitionOfDone()).isSameAs(first.getAcceptanceCriteriaForDefinitionOfDone());
+			assertThat(second.getAssignedDeveloperNameOrEmailAddress()).isSameAs(first.getAssignedDeveloperNameOrEmailAddress());
+			assertThat(second.getStoryTitleForQuickIdentificationInStandupMeetings()).isEqualTo("Story 2");
+			assertThat(pool.makeItWorkByCountingThePooledStrings()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Should return the same story when everything is already shared")
+		void shouldNotCopyWhenNothingChanges() {
+			UserStoryForAgileSprintPlanning pooled = pool.doTheThingWhereWePoolTheStoryText(null, story(1, "As the CEO", null));
+
+			assertThat(pool.doTheThingWhereWePoolTheStoryText(null, pooled)).isSameAs(pooled);
+			UserStoryForAgileSprintPlanning moved = pooled.toBuilder().currentStatus(StoryStatusForWorkflowTracking.READY).build();
+			assertThat(pool.doTheThingWhereWePoolTheStoryText(pooled, moved)).isSameAs(moved);
+		}
+
+		@Test
+		@DisplayName("Should share one timestamp instance between equal created, updated and completed timestamps")
+		void shouldShareEqualTimestamps() {
+			LocalDateTime created = LocalDateTime.of(2026, 1, 22, 9, 0);
+			UserStoryForAgileSprintPlanning decoded = story(1, "As the CEO", null).toBuilder()
+					.createdTimestampForAuditTrail(created)
+					.lastUpdatedTimestampForAuditTrail(LocalDateTime.of(2026, 1, 22, 9, 0))
+					.completedTimestampForVelocityCalculation(LocalDateTime.of(2026, 1, 22, 9, 0))
+					.build();
+
+			UserStoryForAgileSprintPlanning pooled = pool.doTheThingWhereWePoolTheStoryText(null, decoded);
+
+			assertThat(pooled.getLastUpdatedTimestampForAuditTrail()).isSameAs(created);
+			assertThat(pooled.getCompletedTimestampForVelocityCalculation()).isSameAs(created);
+			assertThat(pooled).isEqualTo(decoded);
+		}
+	}
+
+	@Nested
+	@DisplayName("Bounds")
+	class Bounds {
+
+		@Test
+		@DisplayName("Should not pool text longer than the limit")
+		void shouldSkipLongText() {
+			String essay = "x".repeat(StoryTextInterningPoolForLeanHeapUsage.THE_LONGEST_POOLED_STRING + 1);
+
+			pool.doTheThingWhereWePoolTheStoryText(null, story(1, essay, null));
+
+			assertThat(pool.doTheThingWhereWePoolTheStoryText(null, story(2, essay, null)).getAsAUserPersonaOrStakeholderRole())
+					.isEqualTo(essay);
+			assertThat(pool.makeItWorkByCountingThePooledStrings()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should stop admitting a field's strings when its pool is full, without touching the other fields")
+		void shouldStopAtTheBound() {
+			int bound = StoryTextInterningPoolForLeanHeapUsage.THE_MAXIMUM_NUMBER_OF_STRINGS_PER_FIELD;
+			for (int i = 0; i < bound + 10; i++) {
+				pool.doTheThingWhereWePoolTheStoryText(null, story(i, "As persona number " + i, null));
+			}
+
+			UserStoryForAgileSprintPlanning late = pool.doTheThingWhereWePoolTheStoryText(null, story(1, "As a latecomer", "alice"));
+			UserStoryForAgileSprintPlanning later = pool.doTheThingWhereWePoolTheStoryText(null, story(2, "As a latecomer", "alice"));
+
+			assertThat(later.getAsAUserPersonaOrStakeholderRole()).isNotSameAs(late.getAsAUserPersonaOrStakeholderRole());
+			assertThat(later.getAssignedDeveloperNameOrEmailAddress()).isSameAs(late.getAssignedDeveloperNameOrEmailAddress());
+			assertThat(pool.makeItWorkByCountingThePooledStrings()).isEqualTo(bound + 2);
+		}
+	}
+}
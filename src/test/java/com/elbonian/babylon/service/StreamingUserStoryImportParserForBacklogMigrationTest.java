@@ -0,0 +1,169 @@
+package com.elbonian.babylon.service;
+
+import com.elbonian.babylon.model.UserStoryForAgileSprintPlanning.PriorityLevelForBacklogManagement;
+import com.elbonian.babylon.model.UserStoryImportRecordForBacklogMigration;
+import com.elbonian.babylon.service.StreamingUserStoryImportParserForBacklogMigration.StoryImportFormatForBacklogMigration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the streaming NDJSON/CSV story import parser.
+ *
+ * @author The QA Engineer Who Finds All The Bugs
+ * @version 1.0.0-SYNERGY-RELEASE
+ * @since 2026-01-22
+ *
+ * — The Pointy-Haired Boss
+ */
+@DisplayName("Streaming User Story Import Parser Tests")
+class StreamingUserStoryImportParserForBacklogMigrationTest {
+
+	/** Collects everything the parser hands over, keyed by line number. */
+	private static class CollectingHandler
+			implements StreamingUserStoryImportParserForBacklogMigration.StoryImportHandlerForBacklogMigration {
+
+		private final Map<Long, UserStoryImportRecordForBacklogMigration> records = new TreeMap<>();
+		private final Map<Long, String> rejections = new TreeMap<>();
+
+		@Override
+		public void doTheThingWhereWeHandleTheRecord(long lineNumber, UserStoryImportRecordForBacklogMigration importRecord) {
+			records.put(lineNumber, importRecord);
+		}
+
+		@Override
+		public void doTheThingWhereWeHandleTheRejectedRecord(long lineNumber, String reason) {
+			rejections.put(lineNumber, reason);
+		}
+	}
+
+	private static CollectingHandler parse(String upload, StoryImportFormatForBacklogMigration format) throws IOException {
+		CollectingHandler handler = new CollectingHandler();
+		StreamingUserStoryImportParserForBacklogMigration.doTheThingWhereWeParseTheUpload(new StringReader(upload), format, handler);
+		return handler;
+	}
+
+	@Nested
+	@DisplayName("NDJSON")
+	class Ndjson {
+
+		@Test
+		@DisplayName("Should read every field and ignore unknown ones")
+		void shouldReadEveryField() throws IOException {
+			CollectingHandler handler = parse(
+					"{\"title\":\"Leverage synergies\",\"asAUser\":\"VP\",\"iWantTo\":\"a dashboard\",\"soThat\":\"I look busy\","
+							+ "\"storyPoints\":8,\"priority\":\"HIGH\",\"acceptanceCriteria\":\"charts\",\"legacyId\":\"JIRA-1\"}\n",
+					StoryImportFormatForBacklogMigration.NDJSON);
+
+			assertThat(handler.rejections).isEmpty();
+			assertThat(handler.records.get(1L)).isEqualTo(new UserStoryImportRecordForBacklogMigration(
+					"Leverage synergies", "VP", "a dashboard", "I look busy", 8, PriorityLevelForBacklogManagement.HIGH, "charts"));
+		}
+
+		@Test
+		@DisplayName("Should reject bad lines by number and keep going")
+		void shouldRejectBadLinesAndKeepGoing() throws IOException {
+			CollectingHandler handler = parse(String.join("\n",
+					"{\"title\":\"One\",\"priority\":\"LOW\"}",
+					"{not json",
+					"",
+					"{\"title\":\"No priority\"}",
+					"{\"title\":\"Negative\",\"priority\":\"LOW\",\"storyPoints\":-3}",
+					"{\"title\":\"Last\",\"priority\":\"CRITICAL\"}\r"),
+					StoryImportFormatForBacklogMigration.NDJSON);
+
+			assertThat(handler.records).containsOnlyKeys(1L, 6L);
+			assertThat(handler.records.get(6L).getTitle()).isEqualTo("Last");
+			assertThat(handler.rejections).containsOnlyKeys(2L, 4L, 5L);
+			assertThat(handler.rejections.get(2L)).startsWith("Invalid JSON");
+			assertThat(handler.rejections.get(4L)).startsWith("priority is required");
+		}
+
+		@Test
+		@DisplayName("Should reject an overlong line without buffering all of it")
+		void shouldRejectAnOverlongLine() throws IOException {
+			String hugeTitle = "x".repeat(StreamingUserStoryImportParserForBacklogMigration.THE_LONGEST_RECORD_IN_CHARACTERS + 1);
+			CollectingHandler handler = parse(
+					"{\"title\":\"" + hugeTitle + "\",\"priority\":\"LOW\"}\n{\"title\":\"Fine\",\"priority\":\"LOW\"}",
+					StoryImportFormatForBacklogMigration.NDJSON);
+
+			assertThat(handler.rejections).containsOnlyKeys(1L);
+			assertThat(handler.records).containsOnlyKeys(2L);
+		}
+	}
+
+	@Nested
+	@DisplayName("CSV")
+	class Csv {
+
+		@Test
+		@DisplayName("Should handle quoted commas, escaped quotes and embedded newlines")
+		void shouldHandleQuotedFields() throws IOException {
+			CollectingHandler handler = parse(String.join("\r\n",
+					"Priority,Title,storyPoints,acceptanceCriteria",
+					"high,\"Synergize, then leverage\",5,\"Say \"\"done\"\"",
+					"twice\"",
+					"LOW,Plain,,"),
+					StoryImportFormatForBacklogMigration.CSV);
+
+			assertThat(handler.rejections).isEmpty();
+			UserStoryImportRecordForBacklogMigration quoted = handler.records.get(2L);
+			assertThat(quoted.getTitle()).isEqualTo("Synergize, then leverage");
+			assertThat(quoted.getPriority()).isEqualTo(PriorityLevelForBacklogManagement.HIGH);
+			assertThat(quoted.getStoryPoints()).isEqualTo(5);
+			assertThat(quoted.getAcceptanceCriteria()).isEqualTo("Say \"done\"\r\ntwice");
+			assertThat(quoted.getAsAUser()).isNull();
+
+			UserStoryImportRecordForBacklogMigration plain = handler.records.get(4L);
+			assertThat(plain.getStoryPoints()).isNull();
+			assertThat(plain.getAcceptanceCriteria()).isNull();
+		}
+
+		@Test
+		@DisplayName("Should reject bad rows by the line they start on")
+		void shouldRejectBadRows() throws IOException {
+			CollectingHandler handler = parse(String.join("\n",
+					"title,priority,storyPoints",
+					"Eight,HIGH,eight",
+					"Unknown,URGENT,1",
+					"",
+					",LOW,1",
+					"Good,MEDIUM,2",
+					"Open,LOW,\"never closed"),
+					StoryImportFormatForBacklogMigration.CSV);
+
+			assertThat(handler.records).containsOnlyKeys(6L);
+			assertThat(handler.rejections).containsOnlyKeys(2L, 3L, 5L, 7L);
+			assertThat(handler.rejections.get(2L)).isEqualTo("storyPoints is not a whole number: eight");
+			assertThat(handler.rejections.get(7L)).isEqualTo("Unterminated quoted field");
+		}
+	}
+
+	@Test
+	@DisplayName("Should hand records over one at a time, in upload order")
+	void shouldStreamRecordsInOrder() throws IOException {
+		StringBuilder upload = new StringBuilder("title,priority\n");
+		for (int i = 0; i < 2_500; i++) {
+			upload.append("Story ").append(i).append(",LOW\n");
+		}
+		List<String> titles = new ArrayList<>();
+		StreamingUserStoryImportParserForBacklogMigration.doTheThingWhereWeParseTheUpload(new StringReader(upload.toString()),
+				StoryImportFormatForBacklogMigration.CSV, new CollectingHandler() {
+					@Override
+					public void doTheThingWhereWeHandleTheRecord(long lineNumber, UserStoryImportRecordForBacklogMigration importRecord) {
+						titles.add(importRecord.getTitle());
+					}
+				});
+
+		assertThat(titles).hasSize(2_500).startsWith("Story 0", "Story 1").endsWith("Story 2499");
+	}
+}
@@ -11,6 +11,7 @@
 #
 # USAGE:
 #   ./super_random.sh [randomness_level]
+#   ./super_random.sh batch [randomness_level] [count]
 #
 # RANDOMNESS LEVELS:
 #   - predictable    : Returns 4 (XKCD 221 compliant)
@@ -85,6 +86,16 @@ case "$RANDOMNESS_LEVEL" in
         echo "   (Always 4 - Chosen by fair dice roll - Mr. Catbert's favorite!)"
         curl -s "${BASE_URL}/xkcd" | jq '.'
         ;;
+    batch)
+        BATCH_LEVEL="${2:-Pretty Random}"
+        BATCH_COUNT="${3:-100}"
+        echo "📦 Generating a BATCH of ${BATCH_COUNT} random numbers (${BATCH_LEVEL})..."
+        echo "   (One curl call instead of thousands - Thank you Mr. Catbert!)"
+        curl -s -G "${BASE_URL}/batch" \
+            --data-urlencode "level=${BATCH_LEVEL}" \
+            --data-urlencode "count=${BATCH_COUNT}" \
+            --data-urlencode "format=ndjson"
+        ;;
     health)
         echo "❤️ Checking random number generator health..."
         echo "   (Thank you Mr. Catbert for emphasizing system health!)"
@@ -100,6 +111,7 @@ case "$RANDOMNESS_LEVEL" in
         echo "  - too-far        : Too far (circle back to 4)"
         echo "  - xkcd           : Classic XKCD 221"
         echo "  - health         : Health check"
+        echo "  - batch [level] [count] : Many numbers in one request (NDJSON)"
         echo ""
         echo "Example: ./super_random.sh predictable"
         echo ""